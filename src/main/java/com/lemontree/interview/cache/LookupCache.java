@@ -0,0 +1,176 @@
+package com.lemontree.interview.cache;
+
+import com.lemontree.interview.config.LookupCacheProperties;
+import com.lemontree.interview.event.MemberChangedEvent;
+import com.lemontree.interview.event.TradeChangedEvent;
+import com.lemontree.interview.response.MemberResponse;
+import com.lemontree.interview.response.TradeResponse;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 회원/거래 단건 조회 캐시입니다.
+ * <p>
+ * 회원과 거래의 조회 응답을 캐시하고, 회원/거래 변경 이벤트를 받아 트랜잭션이 커밋된 이후에 해당 항목을 무효화합니다.
+ * 커밋 이전에 무효화하면 다른 요청이 커밋 전의 값을 다시 캐시에 채울 수 있으므로, 반드시 커밋 이후에 무효화합니다.
+ * 롤백된 변경은 무효화하지 않습니다. 트랜잭션 밖에서 발행된 이벤트는 즉시 무효화합니다.
+ * 캐시별 조회 적중/실패, 제거, 무효화 횟수는 Micrometer 지표(cache.gets, cache.evictions, cache.invalidations, cache.size)로 노출합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Component
+public class LookupCache implements MeterBinder {
+
+    private final LookupCacheProperties properties;
+    private final ReadThroughCache<Long, MemberResponse> members;
+    private final ReadThroughCache<Long, TradeResponse> trades;
+
+    public LookupCache(LookupCacheProperties properties) {
+        this.properties = properties;
+        this.members = new ReadThroughCache<>(properties.getMemberSize(), properties.getTtl(), properties.getStripes());
+        this.trades = new ReadThroughCache<>(properties.getTradeSize(), properties.getTtl(), properties.getStripes());
+    }
+
+    /**
+     * 회원 조회 응답을 캐시에서 조회하고, 없으면 원본에서 조회하여 캐시에 저장합니다.
+     *
+     * @param memberId 회원 ID
+     * @param loader   원본 조회 함수
+     * @return 회원 응답 DTO
+     */
+    public MemberResponse getMember(Long memberId, Supplier<MemberResponse> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        return members.get(memberId, loader);
+    }
+
+    /**
+     * 거래 조회 응답을 캐시에서 조회하고, 없으면 원본에서 조회하여 캐시에 저장합니다.
+     *
+     * @param tradeId 거래 ID
+     * @param loader  원본 조회 함수
+     * @return 거래 응답 DTO
+     */
+    public TradeResponse getTrade(Long tradeId, Supplier<TradeResponse> loader) {
+        if (!properties.isEnabled()) {
+            return loader.get();
+        }
+        return trades.get(tradeId, loader);
+    }
+
+    /**
+     * 여러 회원의 조회 응답을 조회합니다. 캐시에 없는 회원만 원본에서 한 번에 조회합니다.
+     *
+     * @param memberIds 회원 ID 목록
+     * @param loader    원본 일괄 조회 함수
+     * @return 회원 ID별 회원 응답 DTO (존재하지 않는 회원은 포함되지 않습니다.)
+     */
+    public Map<Long, MemberResponse> getMembers(Collection<Long> memberIds,
+                                                Function<Set<Long>, Map<Long, MemberResponse>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(Set.copyOf(memberIds));
+        }
+        return members.getAll(memberIds, loader);
+    }
+
+    /**
+     * 여러 거래의 조회 응답을 조회합니다. 캐시에 없는 거래만 원본에서 한 번에 조회합니다.
+     *
+     * @param tradeIds 거래 ID 목록
+     * @param loader   원본 일괄 조회 함수
+     * @return 거래 ID별 거래 응답 DTO (존재하지 않는 거래는 포함되지 않습니다.)
+     */
+    public Map<Long, TradeResponse> getTrades(Collection<Long> tradeIds,
+                                              Function<Set<Long>, Map<Long, TradeResponse>> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(Set.copyOf(tradeIds));
+        }
+        return trades.getAll(tradeIds, loader);
+    }
+
+    /**
+     * 캐시에 있는 회원 조회 응답만 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 회원 응답 DTO (캐시에 없거나 캐시를 사용하지 않는 경우 null)
+     */
+    public MemberResponse findMember(Long memberId) {
+        return properties.isEnabled() ? members.getIfPresent(memberId) : null;
+    }
+
+    /**
+     * 캐시에 있는 거래 조회 응답만 조회합니다.
+     *
+     * @param tradeId 거래 ID
+     * @return 거래 응답 DTO (캐시에 없거나 캐시를 사용하지 않는 경우 null)
+     */
+    public TradeResponse findTrade(Long tradeId) {
+        return properties.isEnabled() ? trades.getIfPresent(tradeId) : null;
+    }
+
+    /**
+     * 회원 정보가 변경된 트랜잭션이 커밋되면 회원 캐시를 무효화합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        members.invalidate(event.memberId());
+    }
+
+    /**
+     * 거래 상태가 변경된 트랜잭션이 커밋되면 거래와 거래를 생성한 회원의 캐시를 무효화합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTradeChanged(TradeChangedEvent event) {
+        trades.invalidate(event.tradeId());
+        members.invalidate(event.memberId());
+    }
+
+    public ReadThroughCache<Long, MemberResponse> members() {
+        return members;
+    }
+
+    public ReadThroughCache<Long, TradeResponse> trades() {
+        return trades;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        bind(registry, "member", members);
+        bind(registry, "trade", trades);
+    }
+
+    private static void bind(MeterRegistry registry, String name, ReadThroughCache<?, ?> cache) {
+        FunctionCounter.builder("cache.gets", cache, ReadThroughCache::hitCount)
+                .tag("cache", name).tag("result", "hit")
+                .description("캐시 조회 적중 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.gets", cache, ReadThroughCache::missCount)
+                .tag("cache", name).tag("result", "miss")
+                .description("캐시 조회 실패 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.evictions", cache, ReadThroughCache::evictionCount)
+                .tag("cache", name)
+                .description("크기 초과 또는 만료로 제거된 횟수")
+                .register(registry);
+        FunctionCounter.builder("cache.invalidations", cache, ReadThroughCache::invalidationCount)
+                .tag("cache", name)
+                .description("변경 커밋 후 무효화된 횟수")
+                .register(registry);
+        Gauge.builder("cache.size", cache, ReadThroughCache::size)
+                .tag("cache", name)
+                .description("캐시에 보관 중인 항목 수")
+                .register(registry);
+    }
+}
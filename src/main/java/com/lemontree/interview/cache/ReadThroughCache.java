@@ -0,0 +1,156 @@
+package com.lemontree.interview.cache;
+
+import com.lemontree.interview.util.ExpiringLruCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * 캐시에 없으면 원본에서 조회하여 채우는(read-through) 캐시입니다.
+ * <p>
+ * 조회와 무효화가 동시에 일어나면, 무효화 이전의 값을 읽은 조회가 무효화 이후에 캐시를 채워 오래된 값이 남을 수 있습니다.
+ * 이를 막기 위해 키 스트라이프별 세대(epoch)를 두고, 원본 조회를 시작한 뒤 같은 스트라이프가 무효화되었다면 조회 결과를 캐시에 저장하지 않습니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입 (불변 객체)
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public class ReadThroughCache<K, V> {
+
+    private final ExpiringLruCache<K, V> cache;
+    private final long[] epochs;
+
+    private long invalidationCount;
+
+    public ReadThroughCache(int maxSize, Duration ttl, int stripes) {
+        this.cache = new ExpiringLruCache<>(maxSize, ttl);
+        this.epochs = new long[stripes];
+    }
+
+    /**
+     * 캐시에서 값을 조회하고, 없으면 원본에서 조회하여 캐시에 저장합니다.
+     *
+     * @param key    키
+     * @param loader 원본 조회 함수 (값이 없으면 예외를 발생시켜야 합니다.)
+     * @return 값
+     */
+    public V get(K key, Supplier<V> loader) {
+        V cached = cache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        long epoch = epochOf(key);
+        V loaded = loader.get();
+        if (loaded != null) {
+            putIfNotInvalidated(key, loaded, epoch);
+        }
+        return loaded;
+    }
+
+    /**
+     * 여러 키의 값을 조회합니다. 캐시에 없는 키만 모아 원본에서 한 번에 조회하고 캐시에 저장합니다.
+     *
+     * @param keys   키 목록
+     * @param loader 원본 일괄 조회 함수 (캐시에 없는 키 목록을 받아 존재하는 값만 반환합니다.)
+     * @return 키별 값 (원본에도 없는 키는 포함되지 않습니다.)
+     */
+    public Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        Map<K, V> result = new HashMap<>();
+        Map<K, Long> missingEpochs = new LinkedHashMap<>();
+        for (K key : keys) {
+            if (result.containsKey(key) || missingEpochs.containsKey(key)) {
+                continue;
+            }
+            V cached = cache.get(key);
+            if (cached != null) {
+                result.put(key, cached);
+            } else {
+                missingEpochs.put(key, epochOf(key));
+            }
+        }
+
+        if (!missingEpochs.isEmpty()) {
+            loader.apply(missingEpochs.keySet()).forEach((key, value) -> {
+                putIfNotInvalidated(key, value, missingEpochs.get(key));
+                result.put(key, value);
+            });
+        }
+        return result;
+    }
+
+    /**
+     * 캐시에 있는 값만 조회합니다. (원본을 조회하지 않습니다.)
+     *
+     * @param key 키
+     * @return 값 (없거나 만료된 경우 null)
+     */
+    public V getIfPresent(K key) {
+        return cache.get(key);
+    }
+
+    /**
+     * 키에 해당하는 값을 무효화합니다.
+     *
+     * @param key 키
+     */
+    public synchronized void invalidate(K key) {
+        epochs[stripeOf(key)]++;
+        cache.remove(key);
+        invalidationCount++;
+    }
+
+    /**
+     * 모든 값을 무효화합니다.
+     */
+    public synchronized void invalidateAll() {
+        for (int i = 0; i < epochs.length; i++) {
+            epochs[i]++;
+        }
+        cache.clear();
+        invalidationCount++;
+    }
+
+    private synchronized long epochOf(K key) {
+        return epochs[stripeOf(key)];
+    }
+
+    private synchronized void putIfNotInvalidated(K key, V value, long epoch) {
+        if (epochs[stripeOf(key)] == epoch) {
+            cache.put(key, value);
+        }
+    }
+
+    private int stripeOf(K key) {
+        int hash = key.hashCode();
+        hash ^= (hash >>> 16);
+        return Math.floorMod(hash, epochs.length);
+    }
+
+    public int size() {
+        return cache.size();
+    }
+
+    public long hitCount() {
+        return cache.hitCount();
+    }
+
+    public long missCount() {
+        return cache.missCount();
+    }
+
+    public long evictionCount() {
+        return cache.evictionCount();
+    }
+
+    public synchronized long invalidationCount() {
+        return invalidationCount;
+    }
+}
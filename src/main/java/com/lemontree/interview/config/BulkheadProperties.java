@@ -0,0 +1,61 @@
+package com.lemontree.interview.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 작업 유형별 DB 커넥션 격벽(bulkhead) 설정 클래스입니다.
+ * <p>
+ * 각 유형의 허가 수 합계는 커넥션 풀 크기보다 작게 설정합니다.
+ * (거래 ID 테이블 생성기처럼 작업 도중 별도 트랜잭션으로 얻는 추가 커넥션의 여유분)
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lemontree.bulkhead")
+public class BulkheadProperties {
+
+    /**
+     * 격벽 사용 여부 (비활성화 시 작업을 그대로 실행합니다.)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 결제/페이백 (잠금을 잡는 변경 작업)
+     */
+    private Compartment payment = new Compartment(8, Duration.ofSeconds(3));
+
+    /**
+     * 회원/거래 조회
+     */
+    private Compartment read = new Compartment(4, Duration.ofSeconds(1));
+
+    /**
+     * 스케줄러/일괄 처리 작업
+     */
+    private Compartment batch = new Compartment(1, Duration.ofMinutes(1));
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Compartment {
+
+        /**
+         * 동시에 DB 커넥션을 사용할 수 있는 최대 작업 수
+         */
+        private int permits;
+
+        /**
+         * 허가 획득 최대 대기 시간
+         */
+        private Duration waitTimeout;
+    }
+}
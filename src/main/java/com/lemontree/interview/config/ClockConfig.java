@@ -0,0 +1,27 @@
+package com.lemontree.interview.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Clock;
+import java.time.ZoneId;
+
+/**
+ * 업무 시각 설정 클래스입니다.
+ * <p>
+ * 회원 누적 금액의 기간(일/월)은 JVM 기본 시간대와 관계없이 한국 시간 자정을 기준으로 바뀌어야 하므로,
+ * 결제/페이백 일시와 누적 금액의 기간은 모두 이 Clock 으로 구합니다. (스케줄러의 zone 과 같은 시간대입니다.)
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Configuration
+public class ClockConfig {
+
+    public static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Bean
+    public Clock clock() {
+        return Clock.system(ZONE);
+    }
+}
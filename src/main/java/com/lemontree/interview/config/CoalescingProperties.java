@@ -0,0 +1,22 @@
+package com.lemontree.interview.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 중복 거래 요청 병합(Coalescing) 설정 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lemontree.coalescing")
+public class CoalescingProperties {
+
+    /**
+     * 처리 중인 동일 거래/동일 작업 요청을 하나로 병합할지 여부
+     */
+    private boolean enabled = true;
+}
@@ -0,0 +1,27 @@
+package com.lemontree.interview.config;
+
+/**
+ * 결제/페이백 처리 시 사용할 동시성 제어 방식입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public enum ConcurrencyMode {
+
+    /**
+     * 거래와 회원을 비관적 락(SELECT ... FOR UPDATE)으로 조회한 뒤 Java 에서 검증하고 Dirty Checking 으로 반영합니다.
+     */
+    PESSIMISTIC,
+
+    /**
+     * 거래와 회원을 락 없이 조회하고, 커밋 시점에 버전(@Version)을 비교하여 충돌을 감지합니다.
+     * 충돌이 발생하면 설정된 횟수만큼 트랜잭션 전체를 재시도합니다.
+     */
+    OPTIMISTIC,
+
+    /**
+     * 거래 상태는 조건부 UPDATE (Compare-And-Set) 로 전이하고,
+     * 회원 정보는 한도 및 잔액 조건을 포함한 단일 UPDATE 문으로 갱신합니다. (락 미사용)
+     */
+    ATOMIC
+}
@@ -0,0 +1,49 @@
+package com.lemontree.interview.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 결제/페이백 동시성 제어 설정 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lemontree.concurrency")
+public class ConcurrencyProperties {
+
+    /**
+     * 동시성 제어 방식 (배포 환경별로 설정)
+     */
+    private ConcurrencyMode mode = ConcurrencyMode.PESSIMISTIC;
+
+    /**
+     * 낙관적 락 충돌 시 재시도 설정 (OPTIMISTIC 모드에서만 사용)
+     */
+    private Retry retry = new Retry();
+
+    @Getter
+    @Setter
+    public static class Retry {
+
+        /**
+         * 최초 시도를 포함한 최대 시도 횟수
+         */
+        private int maxAttempts = 5;
+
+        /**
+         * 첫 번째 재시도 전 최대 대기 시간 (재시도마다 2배씩 증가)
+         */
+        private Duration initialBackoff = Duration.ofMillis(10);
+
+        /**
+         * 재시도 전 대기 시간의 상한
+         */
+        private Duration maxBackoff = Duration.ofMillis(200);
+    }
+}
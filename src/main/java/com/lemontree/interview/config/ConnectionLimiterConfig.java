@@ -0,0 +1,38 @@
+package com.lemontree.interview.config;
+
+import com.lemontree.interview.datasource.ConcurrencyLimitedDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+
+/**
+ * DB 커넥션 획득 동시성 제한 설정 클래스입니다.
+ * 활성화된 경우 애플리케이션의 DataSource 를 ConcurrencyLimitedDataSource 로 감쌉니다.
+ * 다른 DataSource 를 감싸는 DataSource(읽기 복제본 라우팅 등)는 감싸지 않고, 실제 커넥션 풀마다 따로 제한합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "lemontree.connection-limiter", name = "enabled", havingValue = "true")
+public class ConnectionLimiterConfig {
+
+    @Bean
+    public static BeanPostProcessor connectionLimiterPostProcessor(ObjectProvider<ConnectionLimiterProperties> properties) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof DelegatingDataSource)) {
+                    ConnectionLimiterProperties limiter = properties.getObject();
+                    return new ConcurrencyLimitedDataSource(dataSource, limiter.getPermits(), limiter.getAcquireTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+}
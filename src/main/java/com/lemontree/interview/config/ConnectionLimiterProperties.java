@@ -0,0 +1,34 @@
+package com.lemontree.interview.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * DB 커넥션 획득 동시성 제한(세마포어) 설정 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lemontree.connection-limiter")
+public class ConnectionLimiterProperties {
+
+    /**
+     * 커넥션 획득 제한 사용 여부 (가상 스레드 사용 시 활성화)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 동시에 커넥션을 점유할 수 있는 최대 요청 수 (추가 커넥션 여유분을 위해 커넥션 풀 크기보다 작게 설정)
+     */
+    private int permits = 12;
+
+    /**
+     * 커넥션 획득 최대 대기 시간 (HikariCP connection-timeout 과 동일한 3초)
+     */
+    private Duration acquireTimeout = Duration.ofSeconds(3);
+}
@@ -0,0 +1,30 @@
+package com.lemontree.interview.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lemontree.interview.filter.IdempotencyKeyFilter;
+import com.lemontree.interview.service.IdempotencyService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 멱등성 키(Idempotency-Key) 필터 등록 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "lemontree.idempotency", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyKeyFilter> idempotencyKeyFilter(IdempotencyService idempotencyService,
+                                                                             ObjectMapper objectMapper) {
+
+        FilterRegistrationBean<IdempotencyKeyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyKeyFilter(idempotencyService, objectMapper));
+        registration.addUrlPatterns("/api/*");
+        return registration;
+    }
+}
@@ -0,0 +1,34 @@
+package com.lemontree.interview.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 멱등성 키(Idempotency-Key) 설정 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lemontree.idempotency")
+public class IdempotencyProperties {
+
+    /**
+     * Idempotency-Key 헤더 처리 여부
+     */
+    private boolean enabled = true;
+
+    /**
+     * 멱등성 키 보관 기간 (이 기간이 지나면 같은 키로 새 요청을 처리합니다.)
+     */
+    private Duration ttl = Duration.ofHours(24);
+
+    /**
+     * 메모리 캐시에 보관할 최대 응답 수 (초과 시 가장 오래 사용되지 않은 응답부터 제거)
+     */
+    private int cacheSize = 10_000;
+}
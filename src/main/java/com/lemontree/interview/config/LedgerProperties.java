@@ -0,0 +1,36 @@
+package com.lemontree.interview.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 잔액 원장 및 잔액 스냅샷 설정 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lemontree.ledger")
+public class LedgerProperties {
+
+    /**
+     * 원장 항목 JDBC 배치 INSERT 크기
+     */
+    private int writeBatchSize = 100;
+
+    /**
+     * 스냅샷을 한 트랜잭션에서 만드는 회원 수
+     */
+    private int snapshotChunkSize = 1_000;
+
+    /**
+     * 스냅샷에 포함하지 않을 최근 원장 항목의 기간
+     * (항목 ID 는 INSERT 시점에 할당되므로, 아직 커밋되지 않은 트랜잭션이 더 작은 ID 의 항목을 나중에 커밋할 수 있습니다.
+     * 트랜잭션 제한 시간의 두 배보다 길어야 합니다.)
+     */
+    private Duration snapshotLag = Duration.ofMinutes(5);
+}
@@ -0,0 +1,44 @@
+package com.lemontree.interview.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 회원/거래 단건 조회 캐시 설정 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lemontree.lookup-cache")
+public class LookupCacheProperties {
+
+    /**
+     * 조회 캐시 사용 여부 (비활성화 시 항상 DB 에서 조회합니다.)
+     */
+    private boolean enabled = true;
+
+    /**
+     * 캐시에 보관할 최대 회원 수 (초과 시 가장 오래 사용되지 않은 회원부터 제거)
+     */
+    private int memberSize = 10_000;
+
+    /**
+     * 캐시에 보관할 최대 거래 수 (초과 시 가장 오래 사용되지 않은 거래부터 제거)
+     */
+    private int tradeSize = 10_000;
+
+    /**
+     * 캐시 보관 기간 (변경 시에는 커밋 직후 무효화되며, 보관 기간은 DB 를 직접 변경한 경우에 대한 안전장치입니다.)
+     */
+    private Duration ttl = Duration.ofMinutes(5);
+
+    /**
+     * 무효화 세대(epoch)를 나누어 관리할 스트라이프 수
+     */
+    private int stripes = 1024;
+}
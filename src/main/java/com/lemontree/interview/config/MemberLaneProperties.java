@@ -0,0 +1,43 @@
+package com.lemontree.interview.config;
+
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.validation.annotation.Validated;
+
+import java.time.Duration;
+
+/**
+ * 회원 단위 실행 레인(Member Lane) 설정 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Setter
+@Validated
+@ConfigurationProperties(prefix = "lemontree.member-lane")
+public class MemberLaneProperties {
+
+    /**
+     * 회원 단위 직렬화 사용 여부 (배포 환경별로 설정)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 락 스트라이프 개수 (서로 다른 회원이 같은 스트라이프를 공유할 확률을 결정, 1 이상)
+     */
+    @Min(1)
+    private int stripes = 1024;
+
+    /**
+     * 먼저 대기한 요청이 먼저 락을 획득하도록 공정(FIFO) 락을 사용할지 여부
+     */
+    private boolean fair = true;
+
+    /**
+     * 레인 진입 최대 대기 시간 (거래 제한 시간과 동일한 5초)
+     */
+    private Duration waitTimeout = Duration.ofSeconds(5);
+}
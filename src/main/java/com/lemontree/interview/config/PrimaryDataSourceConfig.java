@@ -0,0 +1,59 @@
+package com.lemontree.interview.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.AnyNestedCondition;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * 기본 DB 커넥션 풀(dataSource) 설정 클래스입니다.
+ * <p>
+ * DataSource 자동 구성을 사용할 수 없는 경우에만 spring.datasource 설정으로 기본 커넥션 풀을 직접 구성합니다.
+ * <ul>
+ *     <li>reactive 프로파일: R2DBC ConnectionFactory 가 존재하면 DataSource 자동 구성이 비활성화됩니다.</li>
+ *     <li>읽기 복제본 사용: 라우팅 DataSource(ReadReplicaConfig)가 존재하면 DataSource 자동 구성이 비활성화됩니다.</li>
+ * </ul>
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Configuration(proxyBeanMethods = false)
+@Conditional(PrimaryDataSourceConfig.OnManualDataSource.class)
+public class PrimaryDataSourceConfig {
+
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    public DataSourceProperties dataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties dataSourceProperties) {
+        return dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    static class OnManualDataSource extends AnyNestedCondition {
+
+        OnManualDataSource() {
+            super(ConfigurationPhase.REGISTER_BEAN);
+        }
+
+        @Profile("reactive")
+        static class Reactive {
+        }
+
+        @ConditionalOnProperty(prefix = "lemontree.read-replica", name = "enabled", havingValue = "true")
+        static class ReadReplica {
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.lemontree.interview.config;
+
+import io.r2dbc.spi.ConnectionFactory;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.annotation.Profile;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.r2dbc.connection.R2dbcTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.ReactiveTransactionManager;
+
+/**
+ * JPA(JDBC) 와 R2DBC 를 함께 사용하기 위한 설정 클래스입니다. (reactive 프로파일에서만 적용됩니다.)
+ * <p>
+ * 다른 프로파일에서는 R2DBC 자동 구성을 제외(spring.autoconfigure.exclude)하므로 DataSource 와 트랜잭션 매니저는 자동 구성을 그대로 사용합니다.
+ * R2DBC ConnectionFactory 가 존재하면 DataSource 자동 구성이 비활성화되므로, DataSource 는 PrimaryDataSourceConfig 에서 직접 구성합니다.
+ * 트랜잭션 매니저가 두 개이므로 기본(@Transactional) 트랜잭션 매니저는 JPA 트랜잭션 매니저로 지정하고,
+ * 리액티브 트랜잭션은 reactiveTransactionManager(TransactionalOperator) 로 처리합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Profile("reactive")
+@Configuration(proxyBeanMethods = false)
+public class R2dbcConfig {
+
+    @Bean
+    @Primary
+    public PlatformTransactionManager transactionManager(EntityManagerFactory entityManagerFactory) {
+        return new JpaTransactionManager(entityManagerFactory);
+    }
+
+    @Bean
+    public ReactiveTransactionManager reactiveTransactionManager(ConnectionFactory connectionFactory) {
+        return new R2dbcTransactionManager(connectionFactory);
+    }
+}
@@ -0,0 +1,54 @@
+package com.lemontree.interview.config;
+
+import com.lemontree.interview.datasource.ReadReplicaRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기 복제본 라우팅 설정 클래스입니다.
+ * <p>
+ * 활성화된 경우 기본 DB 커넥션 풀(dataSource, PrimaryDataSourceConfig)과 별도의 복제본 커넥션 풀을 만들고,
+ * JPA 가 사용하는 DataSource 를 두 커넥션 풀 사이의 라우팅 DataSource 로 지정합니다.
+ * 잠금을 잡는 결제 트랜잭션이 기본 DB 커넥션 풀을 모두 점유하더라도 읽기 전용 조회는 복제본 커넥션 풀에서 처리됩니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(prefix = "lemontree.read-replica", name = "enabled", havingValue = "true")
+public class ReadReplicaConfig {
+
+    @Bean
+    @ConfigurationProperties("lemontree.read-replica.datasource")
+    public DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    @Bean
+    @ConfigurationProperties("lemontree.read-replica.datasource.hikari")
+    public HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties replicaDataSourceProperties) {
+        return replicaDataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+    }
+
+    /**
+     * 트랜잭션이 시작될 때가 아닌 첫 쿼리 실행 시점에 커넥션을 획득하도록 지연 프록시로 감쌉니다.
+     * (읽기 전용 여부가 트랜잭션 동기화에 등록된 이후에 라우팅 대상을 결정하기 위함)
+     */
+    @Bean
+    @Primary
+    public DataSource routingDataSource(@Qualifier("dataSource") DataSource dataSource,
+                                        @Qualifier("replicaDataSource") DataSource replicaDataSource) {
+        return new LazyConnectionDataSourceProxy(new ReadReplicaRoutingDataSource(dataSource, replicaDataSource));
+    }
+}
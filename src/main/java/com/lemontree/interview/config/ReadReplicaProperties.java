@@ -0,0 +1,41 @@
+package com.lemontree.interview.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 읽기 전용 트랜잭션의 읽기 복제본(replica) 라우팅 설정 클래스입니다.
+ * 복제본 커넥션 정보는 lemontree.read-replica.datasource.*, 커넥션 풀 설정은 lemontree.read-replica.datasource.hikari.* 로 지정합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lemontree.read-replica")
+public class ReadReplicaProperties {
+
+    /**
+     * 읽기 복제본 사용 여부 (비활성화 시 모든 트랜잭션이 기본 DB 를 사용합니다.)
+     */
+    private boolean enabled = false;
+
+    /**
+     * 자신이 변경한 데이터 읽기(read-your-writes) 보장 여부
+     * 회원/거래가 변경된 후 sticky-window 동안 해당 회원/거래의 조회는 기본 DB 에서 처리합니다.
+     */
+    private boolean readYourWrites = true;
+
+    /**
+     * 변경 후 기본 DB 에서 조회하는 시간 (복제 지연보다 길게 설정)
+     */
+    private Duration stickyWindow = Duration.ofSeconds(5);
+
+    /**
+     * 기본 DB 에서 조회하도록 기억할 최대 회원/거래 수
+     */
+    private int stickySize = 100_000;
+}
@@ -0,0 +1,37 @@
+package com.lemontree.interview.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * 잔액/누적 금액 대사(reconciliation) 작업 설정 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lemontree.reconciliation")
+public class ReconciliationProperties {
+
+    /**
+     * 차이가 발견된 회원의 잔액/누적 금액을 계산한 값으로 보정할지 여부 (false 면 보고만 합니다.)
+     */
+    private boolean repair = false;
+
+    /**
+     * 동시에 대사하는 회원 ID 구간 수 (포크/조인 풀 크기, 배치 격벽의 허가 수보다 크면 허가를 기다립니다.)
+     */
+    private int parallelism = 2;
+
+    /**
+     * 한 트랜잭션에서 대사하는 회원 ID 구간의 크기 (구간의 회원 정보만 메모리에 올립니다.)
+     */
+    private int rangeSize = 10_000;
+
+    /**
+     * 거래 스트리밍 조회 시 한 번에 가져오는 행 수
+     */
+    private int fetchSize = 1_000;
+}
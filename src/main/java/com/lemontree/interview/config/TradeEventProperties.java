@@ -0,0 +1,44 @@
+package com.lemontree.interview.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 거래 상태 변경 스트림(SSE) 설정 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "lemontree.trade-events")
+public class TradeEventProperties {
+
+    /**
+     * 구독자별로 전송 대기 중인 이벤트를 보관할 최대 개수 (초과 시 느린 구독자로 보고 구독을 종료합니다.)
+     */
+    private int bufferSize = 32;
+
+    /**
+     * 구독 유지 시간 (만료 시 구독이 종료되며, 클라이언트는 다시 구독해야 합니다.)
+     */
+    private Duration timeout = Duration.ofMinutes(30);
+
+    /**
+     * 동시에 유지할 수 있는 최대 구독 수
+     */
+    private int maxSubscribers = 10_000;
+
+    /**
+     * 이벤트 조회 및 전송을 담당하는 스레드 수
+     */
+    private int senderThreads = 2;
+
+    /**
+     * 이벤트 조회 및 전송 작업의 최대 대기 개수 (초과 시 작업을 거부하며, 거부된 이벤트는 전송하지 않습니다.)
+     */
+    private int senderQueueSize = 10_000;
+}
@@ -4,10 +4,12 @@ import com.lemontree.interview.exception.GeneralException;
 import com.lemontree.interview.response.ErrorResponse;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
 
 import java.util.List;
 
@@ -41,6 +43,42 @@ public class ErrorController {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
     }
 
+    /**
+     * Request DTO Validation 에러 처리 (WebFlux - WebExchangeBindException)
+     *
+     * @param e WebExchangeBindException
+     * @return status: 400 (BAD_REQUEST), body: Validation Error Message
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(WebExchangeBindException e) {
+        ErrorResponse body = ErrorResponse.builder()
+                .status(HttpStatus.BAD_REQUEST)
+                .message("잘못된 요청입니다.")
+                .build();
+
+        for (FieldError fieldError : e.getFieldErrors()) {
+            body.addValidation(fieldError.getField(), fieldError.getDefaultMessage());
+        }
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
+
+    /**
+     * 요청 본문을 읽을 수 없는 경우 에러 처리 (JSON 형식 오류, 소수점 이하가 있는 금액 등)
+     *
+     * @param e HttpMessageNotReadableException
+     * @return status: 400 (BAD_REQUEST)
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ErrorResponse> handleNotReadableRequest(HttpMessageNotReadableException e) {
+        ErrorResponse body = ErrorResponse.builder()
+                .status(HttpStatus.BAD_REQUEST)
+                .message("잘못된 요청입니다.")
+                .build();
+
+        return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(body);
+    }
+
     /**
      * 전역 예외 처리 (GeneralException)
      *
@@ -1,14 +1,25 @@
 package com.lemontree.interview.controller;
 
 import com.lemontree.interview.request.MemberCreate;
+import com.lemontree.interview.request.MultiGetRequest;
+import com.lemontree.interview.response.MemberBalanceResponse;
+import com.lemontree.interview.response.MemberListResponse;
 import com.lemontree.interview.response.MemberResponse;
+import com.lemontree.interview.service.LedgerService;
 import com.lemontree.interview.service.MemberService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
 import java.util.Map;
 
 /**
@@ -19,9 +30,12 @@ import java.util.Map;
  */
 @RestController
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class MemberController {
 
     private final MemberService memberService;
+    private final LedgerService ledgerService;
+    private final Clock clock;
 
     /**
      * 유저 생성 요청 메서드입니다.
@@ -38,14 +52,56 @@ public class MemberController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 유저 일괄 조회 메서드입니다. (GET /api/v1/members?ids=1,2,3)
+     *
+     * @param request 조회할 유저 ID 목록
+     * @return 200 (OK), body: 요청한 ID 순서의 유저 목록과 존재하지 않는 유저 ID 목록
+     */
+    @GetMapping("/api/v1/members")
+    public ResponseEntity<MemberListResponse> getMembers(@Valid MultiGetRequest request) {
+        return ResponseEntity.ok(memberService.getMembers(request.getIds()));
+    }
+
     /**
      * 유저 조회 메서드입니다.
+     * 유저의 행 버전을 ETag 로 반환하며, If-None-Match 의 ETag 와 현재 버전이 같으면 본문 없이 304 를 반환합니다.
+     * 누적 금액은 날짜가 바뀌면 행 변경 없이 0 이 되므로, ETag 에 조회 일자를 함께 포함합니다.
      *
      * @param memberId 조회할 유저 ID
-     * @return 200 (OK), body: 유저 응답 DTO
+     * @return 200 (OK), body: 유저 응답 DTO / 304 (NOT_MODIFIED)
      */
     @GetMapping("/api/v1/members/{memberId}")
-    public ResponseEntity<MemberResponse> getMember(@PathVariable("memberId") Long memberId) {
-        return ResponseEntity.ok(memberService.getMember(memberId));
+    public ResponseEntity<MemberResponse> getMember(@PathVariable("memberId") Long memberId, WebRequest webRequest) {
+
+        // 버전만 확인하므로 변경이 없으면 유저를 조회하거나 응답을 직렬화하지 않습니다.
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(eTagOf(memberService.getMemberVersion(memberId)))) {
+            return null;
+        }
+
+        MemberResponse response = memberService.getMember(memberId);
+        return ResponseEntity.ok()
+                .eTag(eTagOf(response.getVersion()))
+                .body(response);
+    }
+
+    /**
+     * 원장 기준 유저 잔액 조회 메서드입니다.
+     * 결제 중인 유저 행을 읽지 않고, 잔액 스냅샷과 이후 원장 항목의 합계로 잔액을 계산합니다.
+     *
+     * @param memberId 조회할 유저 ID
+     * @return 200 (OK), body: 유저 잔액 응답 DTO
+     */
+    @GetMapping("/api/v1/members/{memberId}/balance")
+    public ResponseEntity<MemberBalanceResponse> getBalance(@PathVariable("memberId") Long memberId) {
+        return ResponseEntity.ok(ledgerService.getBalance(memberId));
+    }
+
+    /**
+     * 유저 조회 응답의 ETag 를 반환합니다. (행 버전-조회 일자, 조회 일자는 업무 시간대 기준)
+     */
+    private String eTagOf(Long version) {
+        return version + "-" + LocalDate.now(clock).format(DateTimeFormatter.BASIC_ISO_DATE);
     }
 }
@@ -1,7 +1,9 @@
 package com.lemontree.interview.controller;
 
-import com.lemontree.interview.service.PaybackService;
+import com.lemontree.interview.facade.PaybackFacade;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -16,9 +18,10 @@ import org.springframework.web.bind.annotation.RestController;
  */
 @RestController
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class PaybackController {
 
-    private final PaybackService paybackService;
+    private final PaybackFacade paybackFacade;
 
     /**
      * 완료된 결제건에 대해 페이백을 요청하는 메서드입니다.
@@ -29,7 +32,7 @@ public class PaybackController {
     @PostMapping("/api/v1/trades/{tradeId}/paybacks")
     public ResponseEntity<Void> requestPayback(@PathVariable("tradeId") Long tradeId) {
 
-        paybackService.processPayback(tradeId);
+        paybackFacade.processPayback(tradeId);
         return ResponseEntity.ok().build();
     }
 
@@ -42,7 +45,7 @@ public class PaybackController {
     @DeleteMapping("/api/v1/trades/{tradeId}/paybacks")
     public ResponseEntity<Void> cancelPayback(@PathVariable("tradeId") Long tradeId) {
 
-        paybackService.cancelPayback(tradeId);
+        paybackFacade.cancelPayback(tradeId);
         return ResponseEntity.ok().build();
     }
 }
@@ -1,13 +1,23 @@
 package com.lemontree.interview.controller;
 
-import com.lemontree.interview.service.PaymentService;
+import com.lemontree.interview.facade.PaymentFacade;
+import com.lemontree.interview.request.PaymentBatchRequest;
+import com.lemontree.interview.request.TradePaymentRequest;
+import com.lemontree.interview.response.PaymentBatchResponse;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.Map;
+
 /**
  * 결제 Controller 클래스입니다.
  *
@@ -16,9 +26,10 @@ import org.springframework.web.bind.annotation.RestController;
  */
 @RestController
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class PaymentController {
 
-    private final PaymentService paymentService;
+    private final PaymentFacade paymentFacade;
 
     /**
      * 결제를 처리하는 메서드입니다.
@@ -28,7 +39,7 @@ public class PaymentController {
      */
     @PostMapping("/api/v1/trades/{tradeId}/payments")
     public ResponseEntity<Void> processPayment(@PathVariable("tradeId") Long tradeId) {
-        paymentService.processPayment(tradeId);
+        paymentFacade.processPayment(tradeId);
         return ResponseEntity.ok().build();
     }
 
@@ -41,7 +52,34 @@ public class PaymentController {
      */
     @DeleteMapping("/api/v1/trades/{tradeId}/payments")
     public ResponseEntity<Void> cancelPayment(@PathVariable("tradeId") Long tradeId) {
-        paymentService.cancelPayment(tradeId);
+        paymentFacade.cancelPayment(tradeId);
         return ResponseEntity.ok().build();
     }
+
+    /**
+     * 거래 생성과 결제를 한 번에 처리하는 메서드입니다. (필요한 경우 페이백까지 완료합니다.)
+     *
+     * @param memberId 회원 ID
+     * @param request  거래 생성 및 결제 요청 정보
+     * @return 201 (CREATED), body: 생성된 거래 ID
+     */
+    @PostMapping("/api/v1/members/{memberId}/payments")
+    public ResponseEntity<Map<String, Long>> requestTradeAndPay(@PathVariable("memberId") Long memberId,
+                                                                @Valid @RequestBody TradePaymentRequest request) {
+
+        Long tradeId = paymentFacade.requestTradeAndPay(memberId, request);
+        Map<String, Long> response = Map.of("tradeId", tradeId);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * 결제 일괄 처리 메서드입니다. (정산 파트너의 대량 결제 등)
+     *
+     * @param request 결제할 거래 ID 목록
+     * @return 200 (OK), body: 거래별 결제 결과
+     */
+    @PostMapping("/api/v1/payments/batch")
+    public ResponseEntity<PaymentBatchResponse> processPayments(@Valid @RequestBody PaymentBatchRequest request) {
+        return ResponseEntity.ok(paymentFacade.processPayments(request.getTradeIds()));
+    }
 }
@@ -0,0 +1,38 @@
+package com.lemontree.interview.controller;
+
+import com.lemontree.interview.response.MemberResponse;
+import com.lemontree.interview.service.ReactiveMemberService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+/**
+ * 유저 리액티브 Controller 클래스입니다.
+ * reactive 프로파일에서만 등록되며, WebFlux 이벤트 루프에서 처리됩니다. (서블릿 환경에서는 비동기 요청으로 처리됩니다.)
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Profile("reactive")
+@RestController
+@RequiredArgsConstructor
+public class ReactiveMemberController {
+
+    private final ReactiveMemberService reactiveMemberService;
+
+    /**
+     * 유저 조회 메서드입니다.
+     *
+     * @param memberId 조회할 유저 ID
+     * @return 200 (OK), body: 유저 응답 DTO
+     */
+    @GetMapping("/api/v1/reactive/members/{memberId}")
+    public Mono<ResponseEntity<MemberResponse>> getMember(@PathVariable("memberId") Long memberId) {
+        return reactiveMemberService.getMember(memberId)
+                .map(ResponseEntity::ok);
+    }
+}
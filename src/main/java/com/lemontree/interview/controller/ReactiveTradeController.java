@@ -0,0 +1,54 @@
+package com.lemontree.interview.controller;
+
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.response.TradeResponse;
+import com.lemontree.interview.service.ReactiveTradeService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Mono;
+
+import java.util.Map;
+
+/**
+ * 거래 리액티브 Controller 클래스입니다.
+ * reactive 프로파일에서만 등록되며, WebFlux 이벤트 루프에서 처리됩니다. (서블릿 환경에서는 비동기 요청으로 처리됩니다.)
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Profile("reactive")
+@RestController
+@RequiredArgsConstructor
+public class ReactiveTradeController {
+
+    private final ReactiveTradeService reactiveTradeService;
+
+    /**
+     * 회원의 거래 생성 요청 메서드입니다.
+     *
+     * @param memberId 회원 ID
+     * @return 201 (CREATED), body: 생성된 거래 ID
+     */
+    @PostMapping("/api/v1/reactive/members/{memberId}/trades")
+    public Mono<ResponseEntity<Map<String, Long>>> requestTrade(@PathVariable("memberId") Long memberId,
+                                                                @Valid @RequestBody TradeRequest request) {
+        return reactiveTradeService.requestTrade(memberId, request)
+                .map(tradeId -> ResponseEntity.status(HttpStatus.CREATED).body(Map.of("tradeId", tradeId)));
+    }
+
+    /**
+     * 거래 조회 메서드입니다.
+     *
+     * @param tradeId 거래 ID
+     * @return 200 (OK), body: 거래 응답 DTO
+     */
+    @GetMapping("/api/v1/reactive/trades/{tradeId}")
+    public Mono<ResponseEntity<TradeResponse>> getTrade(@PathVariable("tradeId") Long tradeId) {
+        return reactiveTradeService.getTrade(tradeId)
+                .map(ResponseEntity::ok);
+    }
+}
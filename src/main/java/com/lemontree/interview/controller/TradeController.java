@@ -1,13 +1,23 @@
 package com.lemontree.interview.controller;
 
+import com.lemontree.interview.request.MultiGetRequest;
+import com.lemontree.interview.request.TradeBatchRequest;
+import com.lemontree.interview.request.TradeHistoryRequest;
 import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.response.TradeBatchResponse;
+import com.lemontree.interview.response.TradeHistoryResponse;
+import com.lemontree.interview.response.TradeListResponse;
 import com.lemontree.interview.response.TradeResponse;
 import com.lemontree.interview.service.TradeService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.Map;
 
@@ -19,6 +29,7 @@ import java.util.Map;
  */
 @RestController
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = Type.SERVLET)
 public class TradeController {
 
     private final TradeService tradeService;
@@ -38,14 +49,60 @@ public class TradeController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * 회원의 거래 내역 조회 메서드입니다. (결제 승인 일시 내림차순, 키셋 페이지네이션)
+     *
+     * @param memberId 회원 ID
+     * @param request  조회 조건 (상태, 기간, 조회 건수, 커서)
+     * @return 200 (OK), body: 거래 내역과 다음 페이지 커서
+     */
+    @GetMapping("/api/v1/members/{memberId}/trades")
+    public ResponseEntity<TradeHistoryResponse> getTradeHistory(@PathVariable("memberId") Long memberId,
+                                                                @Valid TradeHistoryRequest request) {
+        return ResponseEntity.ok(tradeService.getTradeHistory(memberId, request));
+    }
+
+    /**
+     * 거래 일괄 생성 요청 메서드입니다. (가맹점 주문 파일 등록 등)
+     *
+     * @param request 생성할 거래 목록
+     * @return 200 (OK), body: 요청 순서별 생성 결과
+     */
+    @PostMapping("/api/v1/trades/batch")
+    public ResponseEntity<TradeBatchResponse> requestTrades(@Valid @RequestBody TradeBatchRequest request) {
+        return ResponseEntity.ok(tradeService.requestTrades(request.getTrades()));
+    }
+
+    /**
+     * 거래 일괄 조회 메서드입니다. (GET /api/v1/trades?ids=1,2,3)
+     *
+     * @param request 조회할 거래 ID 목록
+     * @return 200 (OK), body: 요청한 ID 순서의 거래 목록과 존재하지 않는 거래 ID 목록
+     */
+    @GetMapping("/api/v1/trades")
+    public ResponseEntity<TradeListResponse> getTrades(@Valid MultiGetRequest request) {
+        return ResponseEntity.ok(tradeService.getTrades(request.getIds()));
+    }
+
     /**
      * 결제 조회 메서드입니다.
+     * 거래의 행 버전을 ETag 로 반환하며, If-None-Match 의 ETag 와 현재 버전이 같으면 본문 없이 304 를 반환합니다.
      *
      * @param tadeId 결제 ID
-     * @return 200 (OK), body: 결제 응답 DTO
+     * @return 200 (OK), body: 결제 응답 DTO / 304 (NOT_MODIFIED)
      */
     @GetMapping("/api/v1/trades/{tradeId}")
-    public ResponseEntity<TradeResponse> getTrade(@PathVariable("tradeId") Long tadeId) {
-        return ResponseEntity.ok(tradeService.getTrade(tadeId));
+    public ResponseEntity<TradeResponse> getTrade(@PathVariable("tradeId") Long tadeId, WebRequest webRequest) {
+
+        // 버전만 확인하므로 변경이 없으면 거래를 조회하거나 응답을 직렬화하지 않습니다.
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(String.valueOf(tradeService.getTradeVersion(tadeId)))) {
+            return null;
+        }
+
+        TradeResponse response = tradeService.getTrade(tadeId);
+        return ResponseEntity.ok()
+                .eTag(String.valueOf(response.getVersion()))
+                .body(response);
     }
 }
@@ -0,0 +1,47 @@
+package com.lemontree.interview.controller;
+
+import com.lemontree.interview.sse.TradeEventBroker;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication.Type;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 거래 상태 변경 스트림(SSE) Controller 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = Type.SERVLET)
+public class TradeEventController {
+
+    private final TradeEventBroker tradeEventBroker;
+
+    /**
+     * 거래의 결제/페이백 상태 변경을 구독합니다. 구독 직후 현재 상태를 먼저 전송합니다.
+     *
+     * @param tradeId 거래 ID
+     * @return 200 (OK), text/event-stream: 거래 상태 (event: trade-status)
+     */
+    @GetMapping(value = "/api/v1/trades/{tradeId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeTrade(@PathVariable("tradeId") Long tradeId) {
+        return tradeEventBroker.subscribeTrade(tradeId);
+    }
+
+    /**
+     * 회원이 생성한 모든 거래의 결제/페이백 상태 변경을 구독합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 200 (OK), text/event-stream: 거래 상태 (event: trade-status)
+     */
+    @GetMapping(value = "/api/v1/members/{memberId}/trades/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeMember(@PathVariable("memberId") Long memberId) {
+        return tradeEventBroker.subscribeMember(memberId);
+    }
+}
@@ -0,0 +1,28 @@
+package com.lemontree.interview.converter;
+
+import com.lemontree.interview.vo.Money;
+import jakarta.persistence.AttributeConverter;
+import jakarta.persistence.Converter;
+
+import java.math.BigDecimal;
+
+/**
+ * 금액(Money) 속성과 DECIMAL(12,0) 컬럼을 변환하는 JPA 컨버터입니다.
+ * 모든 Money 타입 속성에 자동 적용됩니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Converter(autoApply = true)
+public class MoneyConverter implements AttributeConverter<Money, BigDecimal> {
+
+    @Override
+    public BigDecimal convertToDatabaseColumn(Money attribute) {
+        return attribute != null ? attribute.toBigDecimal() : null;
+    }
+
+    @Override
+    public Money convertToEntityAttribute(BigDecimal dbData) {
+        return Money.of(dbData);
+    }
+}
@@ -0,0 +1,129 @@
+package com.lemontree.interview.datasource;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 커넥션을 동시에 점유할 수 있는 요청 수를 세마포어로 제한하는 DataSource 입니다.
+ * <p>
+ * 가상 스레드는 요청마다 생성되므로 수천 개의 스레드가 동시에 커넥션 풀로 몰릴 수 있습니다.
+ * 커넥션 풀에 진입하기 전에 공정(FIFO) 세마포어로 대기시키고, 대기 시간을 넘으면 즉시 실패시켜 풀 내부 경합과 타임아웃 폭증을 막습니다.
+ * 허가(permit)는 커넥션을 닫을 때(풀에 반납할 때) 한 번만 반환됩니다.
+ * <p>
+ * 이미 허가를 가진 스레드가 추가로 얻는 커넥션(거래 ID 테이블 생성기의 별도 트랜잭션 등)은 허가 없이 바로 풀에서 얻습니다.
+ * 그렇지 않으면 모든 허가를 가진 스레드가 두 번째 허가를 기다리며 교착 상태에 빠집니다.
+ * 이런 추가 커넥션을 위해 허가 수는 커넥션 풀 크기보다 작게 설정해야 합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public class ConcurrencyLimitedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+
+    /**
+     * 현재 스레드가 허가를 가지고 점유 중인 커넥션 수
+     */
+    private final ThreadLocal<int[]> holdCount = ThreadLocal.withInitial(() -> new int[1]);
+
+    public ConcurrencyLimitedDataSource(DataSource targetDataSource, int permits, Duration acquireTimeout) {
+        super(targetDataSource);
+        this.permits = new Semaphore(permits, true);
+        this.acquireTimeoutMillis = acquireTimeout.toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (holdCount.get()[0] > 0) {
+            return obtainTargetDataSource().getConnection();
+        }
+
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection());
+        } catch (SQLException | RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (holdCount.get()[0] > 0) {
+            return obtainTargetDataSource().getConnection(username, password);
+        }
+
+        acquire();
+        try {
+            return limited(obtainTargetDataSource().getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            release();
+            throw e;
+        }
+    }
+
+    /**
+     * 현재 사용 가능한 허가 수를 반환합니다.
+     */
+    public int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "커넥션 획득 대기 시간을 초과하였습니다. [대기 시간 = " + acquireTimeoutMillis + "ms]");
+            }
+            holdCount.get()[0]++;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("커넥션 획득 대기 중 인터럽트가 발생하였습니다.", e);
+        }
+    }
+
+    private void release() {
+        holdCount.get()[0]--;
+        permits.release();
+    }
+
+    /**
+     * 커넥션을 닫을 때 허가를 반환하도록 감쌉니다.
+     * 커넥션은 얻은 스레드에서 닫는다고 가정합니다. (트랜잭션 동기화는 스레드 단위로 이루어집니다.)
+     */
+    private Connection limited(Connection connection) {
+        AtomicBoolean released = new AtomicBoolean(false);
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                        try {
+                            connection.close();
+                        } finally {
+                            if (released.compareAndSet(false, true)) {
+                                release();
+                            }
+                        }
+                        return null;
+                    }
+
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
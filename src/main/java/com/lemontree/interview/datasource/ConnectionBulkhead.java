@@ -0,0 +1,160 @@
+package com.lemontree.interview.datasource;
+
+import com.lemontree.interview.config.BulkheadProperties;
+import com.lemontree.interview.exception.datasource.BulkheadFullException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 작업 유형(결제, 조회, 배치)별로 DB 커넥션을 사용할 수 있는 작업 수를 제한하는 격벽(bulkhead)입니다.
+ * <p>
+ * 하나의 커넥션 풀을 공유하되 유형마다 공정(FIFO) 세마포어를 두고, 트랜잭션을 시작하기 전에 허가를 얻습니다.
+ * 특정 회원에 결제가 몰려 잠금 대기가 길어지더라도 결제는 자신의 허가 수만큼만 커넥션을 점유하므로,
+ * 회원/거래 조회와 대사, 잔액 스냅샷 등의 배치 작업은 남은 커넥션으로 계속 처리됩니다.
+ * <p>
+ * 이미 허가를 가진 스레드가 실행하는 작업(일괄 결제 안의 결제 등)은 허가 없이 바로 실행합니다.
+ * 유형별 사용량, 대기열, 대기 시간, 거절 횟수는 bulkhead.* 지표로 확인할 수 있습니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Component
+public class ConnectionBulkhead implements MeterBinder {
+
+    private final BulkheadProperties properties;
+    private final Map<Workload, Compartment> compartments = new EnumMap<>(Workload.class);
+
+    /**
+     * 현재 스레드가 허가를 가지고 실행 중인 작업 유형
+     */
+    private final ThreadLocal<Workload> current = new ThreadLocal<>();
+
+    public ConnectionBulkhead(BulkheadProperties properties) {
+        this.properties = properties;
+        compartments.put(Workload.PAYMENT, new Compartment(properties.getPayment()));
+        compartments.put(Workload.READ, new Compartment(properties.getRead()));
+        compartments.put(Workload.BATCH, new Compartment(properties.getBatch()));
+    }
+
+    /**
+     * 작업 유형의 허가를 얻어 작업을 실행합니다.
+     *
+     * @param workload 작업 유형
+     * @param task     실행할 작업 (트랜잭션 경계를 포함해야 합니다.)
+     */
+    public void run(Workload workload, Runnable task) {
+        call(workload, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 작업 유형의 허가를 얻어 작업을 실행하고 결과를 반환합니다.
+     *
+     * @param workload 작업 유형
+     * @param task     실행할 작업 (트랜잭션 경계를 포함해야 합니다.)
+     * @return 작업 결과
+     */
+    public <T> T call(Workload workload, Supplier<T> task) {
+        if (!properties.isEnabled() || current.get() != null) {
+            return task.get();
+        }
+
+        Compartment compartment = compartments.get(workload);
+        compartment.acquire();
+        current.set(workload);
+        try {
+            return task.get();
+        } finally {
+            current.remove();
+            compartment.semaphore.release();
+        }
+    }
+
+    /**
+     * 작업 유형의 남은 허가 수를 반환합니다.
+     */
+    public int availablePermits(Workload workload) {
+        return compartments.get(workload).semaphore.availablePermits();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        compartments.forEach((workload, compartment) -> {
+            String name = workload.name().toLowerCase();
+            Gauge.builder("bulkhead.permits.max", compartment, c -> c.maxPermits)
+                    .tag("workload", name)
+                    .description("동시에 DB 커넥션을 사용할 수 있는 최대 작업 수")
+                    .register(registry);
+            Gauge.builder("bulkhead.permits.active", compartment, Compartment::active)
+                    .tag("workload", name)
+                    .description("DB 커넥션을 사용 중인 작업 수")
+                    .register(registry);
+            Gauge.builder("bulkhead.saturation", compartment, c -> (double) c.active() / c.maxPermits)
+                    .tag("workload", name)
+                    .description("허가 사용률 (1 이면 포화)")
+                    .register(registry);
+            Gauge.builder("bulkhead.queued", compartment, c -> c.semaphore.getQueueLength())
+                    .tag("workload", name)
+                    .description("허가를 기다리는 작업 수")
+                    .register(registry);
+            FunctionTimer.builder("bulkhead.wait", compartment,
+                            c -> c.acquisitions.sum(), c -> c.waitNanos.sum(), TimeUnit.NANOSECONDS)
+                    .tag("workload", name)
+                    .description("허가 획득까지 대기한 시간")
+                    .register(registry);
+            FunctionCounter.builder("bulkhead.rejections", compartment, c -> c.rejections.sum())
+                    .tag("workload", name)
+                    .description("대기 시간 초과로 거절된 작업 수")
+                    .register(registry);
+        });
+    }
+
+    private static class Compartment {
+
+        private final int maxPermits;
+        private final long waitTimeoutNanos;
+        private final Semaphore semaphore;
+        private final LongAdder acquisitions = new LongAdder();
+        private final LongAdder waitNanos = new LongAdder();
+        private final LongAdder rejections = new LongAdder();
+
+        private Compartment(BulkheadProperties.Compartment properties) {
+            this.maxPermits = properties.getPermits();
+            this.waitTimeoutNanos = properties.getWaitTimeout().toNanos();
+            this.semaphore = new Semaphore(maxPermits, true);
+        }
+
+        private void acquire() {
+            long start = System.nanoTime();
+            try {
+                if (!semaphore.tryAcquire(waitTimeoutNanos, TimeUnit.NANOSECONDS)) {
+                    rejections.increment();
+                    throw new BulkheadFullException();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                rejections.increment();
+                throw new BulkheadFullException();
+            }
+            acquisitions.increment();
+            waitNanos.add(System.nanoTime() - start);
+        }
+
+        private int active() {
+            return maxPermits - semaphore.availablePermits();
+        }
+    }
+}
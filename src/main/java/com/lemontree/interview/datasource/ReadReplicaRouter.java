@@ -0,0 +1,151 @@
+package com.lemontree.interview.datasource;
+
+import com.lemontree.interview.config.ReadReplicaProperties;
+import com.lemontree.interview.event.MemberChangedEvent;
+import com.lemontree.interview.event.TradeChangedEvent;
+import com.lemontree.interview.event.TradesCreatedEvent;
+import com.lemontree.interview.util.ExpiringLruCache;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.function.Supplier;
+
+/**
+ * 조회를 읽기 복제본과 기본 DB 중 어디에서 처리할지 정하는 클래스입니다. (read-your-writes)
+ * <p>
+ * 회원/거래를 변경한 트랜잭션이 커밋되기 직전에 해당 회원/거래를 기억하고, sticky-window 동안 그 회원/거래의 조회는 기본 DB 에서 처리합니다.
+ * 조회 캐시 무효화(커밋 이후)보다 먼저 기억하므로, 무효화 직후의 조회가 복제 지연된 값을 캐시에 다시 채우지 않습니다.
+ * 애플리케이션 인스턴스 단위로 기억하므로 다른 인스턴스에서 변경한 데이터는 복제 지연만큼 늦게 보일 수 있습니다.
+ * 읽기 복제본을 사용하지 않는 경우 작업을 그대로 실행합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Component
+public class ReadReplicaRouter {
+
+    private final ReadReplicaProperties properties;
+    private final ExpiringLruCache<Long, Boolean> recentMembers;
+    private final ExpiringLruCache<Long, Boolean> recentTrades;
+
+    @Autowired
+    public ReadReplicaRouter(ReadReplicaProperties properties) {
+        this(properties, Clock.systemUTC());
+    }
+
+    ReadReplicaRouter(ReadReplicaProperties properties, Clock clock) {
+        this.properties = properties;
+        this.recentMembers = new ExpiringLruCache<>(properties.getStickySize(), properties.getStickyWindow(), clock);
+        this.recentTrades = new ExpiringLruCache<>(properties.getStickySize(), properties.getStickyWindow(), clock);
+    }
+
+    /**
+     * 회원 조회를 실행합니다. 최근 변경된 회원이면 기본 DB 에서 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @param task     조회 작업
+     * @return 조회 결과
+     */
+    public <T> T readMember(Long memberId, Supplier<T> task) {
+        return isSticky() && isRecentMember(memberId) ? ReadReplicaRoutingDataSource.usePrimary(task) : task.get();
+    }
+
+    /**
+     * 여러 회원 조회를 실행합니다. 최근 변경된 회원이 하나라도 있으면 기본 DB 에서 조회합니다.
+     *
+     * @param memberIds 회원 ID 목록
+     * @param task      조회 작업
+     * @return 조회 결과
+     */
+    public <T> T readMembers(Collection<Long> memberIds, Supplier<T> task) {
+        return isSticky() && memberIds.stream().anyMatch(this::isRecentMember)
+                ? ReadReplicaRoutingDataSource.usePrimary(task) : task.get();
+    }
+
+    /**
+     * 거래 조회를 실행합니다. 최근 변경된 거래이면 기본 DB 에서 조회합니다.
+     *
+     * @param tradeId 거래 ID
+     * @param task    조회 작업
+     * @return 조회 결과
+     */
+    public <T> T readTrade(Long tradeId, Supplier<T> task) {
+        return isSticky() && recentTrades.get(tradeId) != null ? ReadReplicaRoutingDataSource.usePrimary(task) : task.get();
+    }
+
+    /**
+     * 여러 거래 조회를 실행합니다. 최근 변경된 거래가 하나라도 있으면 기본 DB 에서 조회합니다.
+     *
+     * @param tradeIds 거래 ID 목록
+     * @param task     조회 작업
+     * @return 조회 결과
+     */
+    public <T> T readTrades(Collection<Long> tradeIds, Supplier<T> task) {
+        return isSticky() && tradeIds.stream().anyMatch(tradeId -> recentTrades.get(tradeId) != null)
+                ? ReadReplicaRoutingDataSource.usePrimary(task) : task.get();
+    }
+
+    /**
+     * 복제 지연이 허용되지 않는 조회를 기본 DB 에서 실행합니다. (쓰기 경로의 사전 조회, 변경 직후 상태 전송 등)
+     *
+     * @param task 조회 작업
+     * @return 조회 결과
+     */
+    public <T> T primary(Supplier<T> task) {
+        return properties.isEnabled() ? ReadReplicaRoutingDataSource.usePrimary(task) : task.get();
+    }
+
+    /**
+     * 회원을 변경한 트랜잭션이 커밋되기 직전에 회원을 기억합니다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onMemberChanged(MemberChangedEvent event) {
+        if (!isSticky()) {
+            return;
+        }
+        recentMembers.put(event.memberId(), Boolean.TRUE);
+    }
+
+    /**
+     * 거래를 변경한 트랜잭션이 커밋되기 직전에 거래와 거래를 생성한 회원을 기억합니다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTradeChanged(TradeChangedEvent event) {
+        if (!isSticky()) {
+            return;
+        }
+        recentTrades.put(event.tradeId(), Boolean.TRUE);
+        if (event.memberId() != null) {
+            recentMembers.put(event.memberId(), Boolean.TRUE);
+        }
+    }
+
+    /**
+     * 거래를 생성한 트랜잭션이 커밋되기 직전에 생성된 거래와 거래를 생성한 회원을 기억합니다.
+     */
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+    public void onTradesCreated(TradesCreatedEvent event) {
+        if (!isSticky()) {
+            return;
+        }
+        event.tradeIds().forEach(tradeId -> recentTrades.put(tradeId, Boolean.TRUE));
+        event.memberIds().forEach(memberId -> recentMembers.put(memberId, Boolean.TRUE));
+    }
+
+    private boolean isSticky() {
+        return properties.isEnabled() && properties.isReadYourWrites();
+    }
+
+    private boolean isRecentMember(Long memberId) {
+        return recentMembers.get(memberId) != null;
+    }
+}
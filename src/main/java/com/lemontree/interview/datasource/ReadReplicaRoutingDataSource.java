@@ -0,0 +1,70 @@
+package com.lemontree.interview.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.function.Supplier;
+
+/**
+ * 읽기 전용 트랜잭션은 읽기 복제본으로, 나머지는 기본 DB 로 커넥션을 라우팅하는 DataSource 입니다.
+ * <p>
+ * 트랜잭션 매니저는 읽기 전용 여부를 트랜잭션 동기화에 등록하기 전에 커넥션을 획득하므로,
+ * 반드시 LazyConnectionDataSourceProxy 로 감싸 첫 쿼리 실행 시점에 커넥션을 획득해야 합니다.
+ * 읽기 전용 트랜잭션이라도 {@link #usePrimary(Supplier)} 안에서 시작한 경우에는 기본 DB 를 사용합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public class ReadReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Route {
+        PRIMARY, REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PRIMARY_FORCED = new ThreadLocal<>();
+
+    public ReadReplicaRoutingDataSource(DataSource primary, DataSource replica) {
+        setTargetDataSources(Map.of(Route.PRIMARY, primary, Route.REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    /**
+     * 읽기 전용 트랜잭션이라도 기본 DB 에서 작업을 실행합니다. (복제 지연이 허용되지 않는 조회)
+     *
+     * @param task 실행할 작업
+     * @return 작업 결과
+     */
+    public static <T> T usePrimary(Supplier<T> task) {
+        if (Boolean.TRUE.equals(PRIMARY_FORCED.get())) {
+            return task.get();
+        }
+
+        PRIMARY_FORCED.set(Boolean.TRUE);
+        try {
+            return task.get();
+        } finally {
+            PRIMARY_FORCED.remove();
+        }
+    }
+
+    /**
+     * 현재 스레드의 커넥션 라우팅 대상입니다.
+     *
+     * @return 기본 DB 또는 읽기 복제본
+     */
+    public static Route currentRoute() {
+        if (TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                && !Boolean.TRUE.equals(PRIMARY_FORCED.get())) {
+            return Route.REPLICA;
+        }
+        return Route.PRIMARY;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return currentRoute();
+    }
+}
@@ -0,0 +1,25 @@
+package com.lemontree.interview.datasource;
+
+/**
+ * DB 커넥션 격벽을 나누는 작업 유형입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public enum Workload {
+
+    /**
+     * 결제/페이백 (잠금을 잡는 변경 작업)
+     */
+    PAYMENT,
+
+    /**
+     * 회원/거래 조회
+     */
+    READ,
+
+    /**
+     * 스케줄러/일괄 처리 작업
+     */
+    BATCH
+}
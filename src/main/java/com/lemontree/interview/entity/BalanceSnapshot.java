@@ -0,0 +1,64 @@
+package com.lemontree.interview.entity;
+
+import com.lemontree.interview.vo.Money;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 잔액 스냅샷 Entity 입니다.
+ * <p>
+ * 원장 항목 ID(lastEntryId)까지의 금액 합계를 잔액으로 저장합니다.
+ * 현재 잔액은 가장 최근 스냅샷의 잔액에 lastEntryId 이후 항목의 금액 합계를 더해 계산하므로, 원장 전체를 합산하지 않습니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Entity
+@Table(name = "balance_snapshot",
+        indexes = {
+                @Index(name = "idx_balance_snapshot_member_id", columnList = "member_id, last_entry_id")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BalanceSnapshot {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "snapshot_id")
+    private Long id;
+
+    @Column(nullable = false, name = "member_id")
+    private Long memberId;
+
+    /**
+     * 스냅샷에 포함된 마지막 원장 항목 ID
+     */
+    @Column(nullable = false, name = "last_entry_id")
+    private Long lastEntryId;
+
+    @Column(nullable = false, name = "balance", precision = 12, scale = 0)
+    private Money balance;
+
+    @Column(nullable = false, name = "created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * 잔액 스냅샷을 생성합니다.
+     *
+     * @param memberId    회원 ID
+     * @param lastEntryId 스냅샷에 포함된 마지막 원장 항목 ID
+     * @param balance     lastEntryId 까지의 잔액
+     * @param createdAt   생성 일시
+     */
+    public BalanceSnapshot(Long memberId, Long lastEntryId, Money balance, LocalDateTime createdAt) {
+        this.memberId = memberId;
+        this.lastEntryId = lastEntryId;
+        this.balance = balance;
+        this.createdAt = createdAt;
+    }
+}
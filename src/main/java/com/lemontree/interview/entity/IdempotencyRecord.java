@@ -0,0 +1,102 @@
+package com.lemontree.interview.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키(Idempotency-Key)와 해당 키로 처리된 요청의 응답을 저장하는 Entity 입니다.
+ * <p>
+ * 요청 처리 전 키를 선점(completed = false)하고, 처리가 끝나면 응답을 함께 저장(completed = true)합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Entity
+@Table(name = "idempotency_key",
+        indexes = {
+                @Index(name = "idx_idempotency_key_created_at", columnList = "created_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class IdempotencyRecord implements Persistable<String> {
+
+    @Id
+    @Column(name = "idempotency_key", length = 100)
+    private String key;
+
+    @Column(nullable = false, name = "request_hash", length = 64)
+    private String requestHash;
+
+    @Column(nullable = false, name = "completed")
+    private Boolean completed;
+
+    @Column(nullable = true, name = "status_code")
+    private Integer statusCode;
+
+    @Column(nullable = true, name = "content_type", length = 100)
+    private String contentType;
+
+    @Lob
+    @Column(nullable = true, name = "response_body")
+    private String responseBody;
+
+    @Column(nullable = false, name = "created_at")
+    private LocalDateTime createdAt;
+
+    /**
+     * 키를 직접 할당하므로, 저장 시 merge(SELECT 후 UPDATE) 대신 INSERT 가 실행되도록 신규 여부를 관리합니다.
+     */
+    @Transient
+    @Getter(AccessLevel.NONE)
+    private boolean isNew = true;
+
+    /**
+     * 처리 중인 멱등성 키를 생성합니다.
+     *
+     * @param key         멱등성 키
+     * @param requestHash 요청(메서드, URI, 본문)의 해시 값
+     * @param createdAt   생성 일시
+     */
+    public IdempotencyRecord(String key, String requestHash, LocalDateTime createdAt) {
+        this.key = key;
+        this.requestHash = requestHash;
+        this.completed = Boolean.FALSE;
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 요청 처리가 완료되었을 때 응답을 저장합니다.
+     *
+     * @param statusCode   응답 상태 코드
+     * @param contentType  응답 Content-Type
+     * @param responseBody 응답 본문
+     */
+    public void complete(int statusCode, String contentType, String responseBody) {
+        this.completed = Boolean.TRUE;
+        this.statusCode = statusCode;
+        this.contentType = contentType;
+        this.responseBody = responseBody;
+    }
+
+    @Override
+    public String getId() {
+        return key;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+}
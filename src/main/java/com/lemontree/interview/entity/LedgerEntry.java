@@ -0,0 +1,106 @@
+package com.lemontree.interview.entity;
+
+import com.lemontree.interview.enums.LedgerEntryType;
+import com.lemontree.interview.vo.Money;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 잔액 원장 항목 Entity 입니다.
+ * <p>
+ * 잔액을 바꾸는 작업(개설, 결제, 페이백 및 각 취소, 대사 보정)마다 부호가 있는 금액을 한 행씩 추가하며, 수정하거나 삭제하지 않습니다.
+ * 회원의 잔액은 가장 최근 잔액 스냅샷의 잔액에 그 이후 항목의 금액 합계를 더한 값과 같습니다.
+ * 저장은 LedgerEntryWriter 가 트랜잭션 커밋 직전에 JDBC 배치 INSERT 로 수행합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Entity
+@Table(name = "ledger_entry",
+        indexes = {
+                @Index(name = "idx_ledger_entry_member_id", columnList = "member_id, entry_id"),
+                @Index(name = "idx_ledger_entry_created_at", columnList = "created_at")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class LedgerEntry {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "entry_id")
+    private Long id;
+
+    @Column(nullable = false, name = "member_id")
+    private Long memberId;
+
+    /**
+     * 항목을 만든 거래 ID (계좌 개설 항목은 null)
+     */
+    @Column(nullable = true, name = "trade_id")
+    private Long tradeId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, name = "entry_type", columnDefinition = "VARCHAR(20)")
+    private LedgerEntryType entryType;
+
+    /**
+     * 부호가 있는 금액 (잔액 증가: 양수, 잔액 감소: 음수)
+     */
+    @Column(nullable = false, name = "amount", precision = 12, scale = 0)
+    private Money amount;
+
+    @Column(nullable = false, name = "created_at")
+    private LocalDateTime createdAt;
+
+    private LedgerEntry(Long memberId, Long tradeId, LedgerEntryType entryType, Money amount, LocalDateTime createdAt) {
+        this.memberId = memberId;
+        this.tradeId = tradeId;
+        this.entryType = entryType;
+        this.amount = entryType.signed(amount);
+        this.createdAt = createdAt;
+    }
+
+    /**
+     * 거래의 원장 항목을 생성합니다.
+     *
+     * @param memberId  회원 ID
+     * @param tradeId   거래 ID
+     * @param entryType 항목 종류
+     * @param amount    금액 (0 이상, 부호는 항목 종류에 따라 붙습니다.)
+     * @param createdAt 기록 일시
+     * @return 원장 항목
+     */
+    public static LedgerEntry of(Long memberId, Long tradeId, LedgerEntryType entryType,
+                                 Money amount, LocalDateTime createdAt) {
+        return new LedgerEntry(memberId, tradeId, entryType, amount, createdAt);
+    }
+
+    /**
+     * 회원 생성 시의 보유 금액으로 계좌 개설 항목을 생성합니다.
+     *
+     * @param memberId  회원 ID
+     * @param balance   생성 시 보유 금액
+     * @param createdAt 기록 일시
+     * @return 원장 항목
+     */
+    public static LedgerEntry opening(Long memberId, Money balance, LocalDateTime createdAt) {
+        return new LedgerEntry(memberId, null, LedgerEntryType.OPENING, balance, createdAt);
+    }
+
+    /**
+     * 대사로 잔액을 보정한 금액으로 대사 보정 항목을 생성합니다.
+     *
+     * @param memberId  회원 ID
+     * @param delta     보정 금액 (계산한 잔액 - 보정 전 잔액, 부호 그대로 기록합니다.)
+     * @param createdAt 기록 일시
+     * @return 원장 항목
+     */
+    public static LedgerEntry adjustment(Long memberId, Money delta, LocalDateTime createdAt) {
+        return new LedgerEntry(memberId, null, LedgerEntryType.ADJUSTMENT, delta, createdAt);
+    }
+}
@@ -1,5 +1,6 @@
 package com.lemontree.interview.entity;
 
+import com.lemontree.interview.vo.Money;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
@@ -8,7 +9,7 @@ import lombok.NoArgsConstructor;
 import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 
 /**
  * 유저 Entity 입니다.
@@ -19,7 +20,7 @@ import java.math.BigDecimal;
 @Getter
 @Entity
 @Table(name = "member")
-@SQLDelete(sql = "UPDATE member SET is_deleted = true WHERE member_id = ?")
+@SQLDelete(sql = "UPDATE member SET is_deleted = true, version = version + 1 WHERE member_id = ? AND version = ?")
 @SQLRestriction("is_deleted = FALSE") // 삭제되지 않은 데이터만 조회
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Member {
@@ -32,30 +33,46 @@ public class Member {
     @Column(nullable = false, name = "name")
     private String name;
 
-    @Column(nullable = false, name = "balance")
-    private BigDecimal balance;
+    @Column(nullable = false, name = "balance", precision = 12, scale = 0)
+    private Money balance;
 
-    @Column(nullable = false, name = "balance_limit")
-    private BigDecimal balanceLimit;
+    @Column(nullable = false, name = "balance_limit", precision = 12, scale = 0)
+    private Money balanceLimit;
 
-    @Column(nullable = false, name = "once_limit")
-    private BigDecimal onceLimit;
+    @Column(nullable = false, name = "once_limit", precision = 12, scale = 0)
+    private Money onceLimit;
 
-    @Column(nullable = false, name = "daily_limit")
-    private BigDecimal dailyLimit;
+    @Column(nullable = false, name = "daily_limit", precision = 12, scale = 0)
+    private Money dailyLimit;
 
-    @Column(nullable = false, name = "monthly_limit")
-    private BigDecimal monthlyLimit;
+    @Column(nullable = false, name = "monthly_limit", precision = 12, scale = 0)
+    private Money monthlyLimit;
 
-    @Column(nullable = false, name = "daily_accumulate")
-    private BigDecimal dailyAccumulate;
+    @Column(nullable = false, name = "daily_accumulate", precision = 12, scale = 0)
+    private Money dailyAccumulate;
 
-    @Column(nullable = false, name = "monthly_accumulate")
-    private BigDecimal monthlyAccumulate;
+    /**
+     * 일간 누적 금액이 속한 일자 (결제한 적이 없으면 null)
+     */
+    @Column(nullable = true, name = "daily_period")
+    private LocalDate dailyPeriod;
+
+    @Column(nullable = false, name = "monthly_accumulate", precision = 12, scale = 0)
+    private Money monthlyAccumulate;
+
+    /**
+     * 월간 누적 금액이 속한 월의 1일 (결제한 적이 없으면 null)
+     */
+    @Column(nullable = true, name = "monthly_period")
+    private LocalDate monthlyPeriod;
 
     @Column(nullable = false, name = "is_deleted")
     private Boolean isDeleted;
 
+    @Version
+    @Column(nullable = false, name = "version")
+    private Long version;
+
     /**
      * 유저 생성자입니다. (Builder Pattern)
      *
@@ -67,8 +84,8 @@ public class Member {
      * @param monthlyLimit 유저가 한 달에 사용할 수 있는 금액
      */
     @Builder
-    public Member(String name, BigDecimal balance, BigDecimal balanceLimit,
-                  BigDecimal onceLimit, BigDecimal dailyLimit, BigDecimal monthlyLimit, Boolean isDeleted) {
+    public Member(String name, Money balance, Money balanceLimit,
+                  Money onceLimit, Money dailyLimit, Money monthlyLimit, Boolean isDeleted) {
 
         this.name = name;
         this.balance = balance;
@@ -76,8 +93,8 @@ public class Member {
         this.onceLimit = onceLimit;
         this.dailyLimit = dailyLimit;
         this.monthlyLimit = monthlyLimit;
-        this.dailyAccumulate = BigDecimal.ZERO;
-        this.monthlyAccumulate = BigDecimal.ZERO;
+        this.dailyAccumulate = Money.ZERO;
+        this.monthlyAccumulate = Money.ZERO;
         this.isDeleted = isDeleted != null ? isDeleted : Boolean.FALSE;
     }
 
@@ -87,8 +104,8 @@ public class Member {
      *
      * @param amount 추가할 금액
      */
-    private void addBalance(BigDecimal amount) {
-        this.balance = this.balance.add(amount);
+    private void addBalance(Money amount) {
+        this.balance = this.balance.plus(amount);
     }
 
     /**
@@ -96,55 +113,68 @@ public class Member {
      *
      * @param amount 차감할 금액
      */
-    private void subtractBalance(BigDecimal amount) {
-        this.balance = this.balance.subtract(amount);
+    private void subtractBalance(Money amount) {
+        this.balance = this.balance.minus(amount);
     }
 
     /**
-     * 유저의 일간 누적 금액을 업데이트합니다.
+     * 월간 누적 금액의 기간(해당 월의 1일)을 반환합니다.
      *
-     * @param amount 결제 금액
+     * @param date 기준 일자
+     * @return 기준 일자가 속한 월의 1일
      */
-    private void addDailyAccumulate(BigDecimal amount) {
-        this.dailyAccumulate = this.dailyAccumulate.add(amount);
+    public static LocalDate monthlyPeriodOf(LocalDate date) {
+        return date.withDayOfMonth(1);
     }
 
     /**
-     * 유저의 일간 누적 금액을 차감합니다.
+     * 기준 일자의 일간 누적 금액을 반환합니다. 누적 금액의 기간이 지난 경우 0 입니다.
      *
-     * @param amount 차감할 금액
+     * @param today 기준 일자
+     * @return 일간 누적 금액
      */
-    public void decreaseDailyAccumulate(BigDecimal amount) {
-        this.dailyAccumulate = this.dailyAccumulate.subtract(amount);
+    public Money getDailyAccumulate(LocalDate today) {
+        return today.equals(dailyPeriod) ? dailyAccumulate : Money.ZERO;
     }
 
     /**
-     * 유저의 월간 누적 금액을 업데이트합니다.
+     * 기준 일자의 월간 누적 금액을 반환합니다. 누적 금액의 기간이 지난 경우 0 입니다.
      *
-     * @param amount 결제 금액
+     * @param today 기준 일자
+     * @return 월간 누적 금액
      */
-    private void addMonthlyAccumulate(BigDecimal amount) {
-        this.monthlyAccumulate = this.monthlyAccumulate.add(amount);
+    public Money getMonthlyAccumulate(LocalDate today) {
+        return monthlyPeriodOf(today).equals(monthlyPeriod) ? monthlyAccumulate : Money.ZERO;
     }
 
     /**
-     * 유저의 월간 누적 금액을 차감합니다.
+     * 기간이 지난 누적 금액을 0 으로 하고, 누적 금액의 기간을 기준 일자로 옮깁니다.
      *
-     * @param amount 차감할 금액
+     * @param today 기준 일자
      */
-    public void decreaseMonthlyAccumulate(BigDecimal amount) {
-        this.monthlyAccumulate = this.monthlyAccumulate.subtract(amount);
+    private void rollAccumulates(LocalDate today) {
+        if (!today.equals(dailyPeriod)) {
+            this.dailyAccumulate = Money.ZERO;
+            this.dailyPeriod = today;
+        }
+
+        LocalDate month = monthlyPeriodOf(today);
+        if (!month.equals(monthlyPeriod)) {
+            this.monthlyAccumulate = Money.ZERO;
+            this.monthlyPeriod = month;
+        }
     }
 
-
     /**
      * 유저의 누적 금액을 올리고, 잔액을 차감합니다.
      *
      * @param amount 결제 금액
+     * @param today  결제 일자
      */
-    public void pay(BigDecimal amount) {
-        addDailyAccumulate(amount);
-        addMonthlyAccumulate(amount);
+    public void pay(Money amount, LocalDate today) {
+        rollAccumulates(today);
+        this.dailyAccumulate = this.dailyAccumulate.plus(amount);
+        this.monthlyAccumulate = this.monthlyAccumulate.plus(amount);
         subtractBalance(amount);
     }
 
@@ -153,17 +183,27 @@ public class Member {
      *
      * @param amount 페이백 금액
      */
-    public void payback(BigDecimal amount) {
+    public void payback(Money amount) {
         addBalance(amount);
     }
 
     /**
      * 결제 취소를 진행합니다.
+     * 누적 금액이 아직 결제한 일자/월의 기간인 경우에만 누적 금액을 차감합니다. (기간이 지난 누적 금액은 이미 0 으로 봅니다.)
      *
      * @param amount 결제 금액
+     * @param paidOn 결제 일자
      */
-    public void cancelPayment(BigDecimal amount) {
+    public void cancelPayment(Money amount, LocalDate paidOn) {
         addBalance(amount);
+
+        if (paidOn.equals(dailyPeriod)) {
+            this.dailyAccumulate = this.dailyAccumulate.minus(amount);
+        }
+
+        if (monthlyPeriodOf(paidOn).equals(monthlyPeriod)) {
+            this.monthlyAccumulate = this.monthlyAccumulate.minus(amount);
+        }
     }
 
     /**
@@ -171,7 +211,7 @@ public class Member {
      *
      * @param amount 페이백 금액
      */
-    public void cancelPayback(BigDecimal amount) {
+    public void cancelPayback(Money amount) {
         subtractBalance(amount);
     }
 
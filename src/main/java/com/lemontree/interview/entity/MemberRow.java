@@ -0,0 +1,52 @@
+package com.lemontree.interview.entity;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * 유저 R2DBC 매핑 클래스입니다. (리액티브 조회 전용)
+ * 변경은 JPA 엔티티(Member)를 통해서만 이루어집니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Table("member")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MemberRow {
+
+    @Id
+    @Column("member_id")
+    private Long id;
+
+    private String name;
+
+    private BigDecimal balance;
+
+    private BigDecimal balanceLimit;
+
+    private BigDecimal onceLimit;
+
+    private BigDecimal dailyLimit;
+
+    private BigDecimal monthlyLimit;
+
+    private BigDecimal dailyAccumulate;
+
+    private LocalDate dailyPeriod;
+
+    private BigDecimal monthlyAccumulate;
+
+    private LocalDate monthlyPeriod;
+
+    private Boolean isDeleted;
+
+    private Long version;
+}
@@ -2,13 +2,13 @@ package com.lemontree.interview.entity;
 
 import com.lemontree.interview.enums.PaybackStatus;
 import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.vo.Money;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
-import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 /**
@@ -21,29 +21,44 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "trade",
         indexes = {
-                @Index(name = "idx_payment_member_id", columnList = "member_id")
+                @Index(name = "idx_payment_member_id", columnList = "member_id"),
+                @Index(name = "idx_trade_member_approved_at",
+                        columnList = "member_id, payment_approved_at, trade_id, payment_status, payback_status")
         }
 )
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Trade {
 
+    /**
+     * IDENTITY 전략은 INSERT 후 ID 를 받아와야 하므로 JDBC 배치 INSERT 가 불가능합니다.
+     * 테이블 기반 생성기에서 ID 를 미리 할당(allocationSize 단위)받아 배치 INSERT 가 가능하도록 합니다.
+     */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "trade_id_generator")
+    @TableGenerator(
+            name = "trade_id_generator",
+            table = "id_generator",
+            pkColumnName = "sequence_name",
+            valueColumnName = "next_val",
+            pkColumnValue = "trade",
+            initialValue = 1,
+            allocationSize = 100
+    )
     @Column(name = "trade_id")
     private Long id;
 
     @Column(nullable = false, name = "member_id")
     private Long memberId;
 
-    @Column(nullable = false, name = "payment_amount")
-    private BigDecimal paymentAmount;
+    @Column(nullable = false, name = "payment_amount", precision = 12, scale = 0)
+    private Money paymentAmount;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, name = "payment_status", columnDefinition = "VARCHAR(10)")
     private PaymentStatus paymentStatus;
 
-    @Column(nullable = false, name = "payback_amount")
-    private BigDecimal paybackAmount;
+    @Column(nullable = false, name = "payback_amount", precision = 12, scale = 0)
+    private Money paybackAmount;
 
     @Enumerated(EnumType.STRING)
     @Column(nullable = false, name = "payback_status", columnDefinition = "VARCHAR(10)")
@@ -61,8 +76,12 @@ public class Trade {
     @Column(nullable = true, name = "payback_canceled_at")
     private LocalDateTime paybackCanceledAt;
 
+    @Version
+    @Column(nullable = false, name = "version")
+    private Long version;
+
     @Builder
-    public Trade(Long memberId, BigDecimal paymentAmount, BigDecimal paybackAmount) {
+    public Trade(Long memberId, Money paymentAmount, Money paybackAmount) {
         this.memberId = memberId;
         this.paymentAmount = paymentAmount;
         this.paymentStatus = PaymentStatus.WAIT;
@@ -72,10 +91,12 @@ public class Trade {
 
     /**
      * 결제가 정상적으로 완료되었을 때 결제 상태를 완료(DONE)으로 변경합니다.
+     *
+     * @param now 결제 승인 일시 (회원 누적 금액의 기간과 같은 시각을 사용합니다.)
      */
-    public void completePayment() {
+    public void completePayment(LocalDateTime now) {
         this.paymentStatus = PaymentStatus.DONE;
-        this.paymentApprovedAt = LocalDateTime.now();
+        this.paymentApprovedAt = now;
     }
 
 
@@ -90,16 +111,16 @@ public class Trade {
     /**
      * 페이백이 정상적으로 완료되었을 때 페이백 상태를 완료(DONE)으로 변경합니다.
      */
-    public void completePayback() {
+    public void completePayback(LocalDateTime now) {
         this.paybackStatus = PaybackStatus.DONE;
-        this.paybackApprovedAt = LocalDateTime.now();
+        this.paybackApprovedAt = now;
     }
 
     /**
      * 페이백 취소 요청에 따른 페이백 상태 변경
      */
-    public void cancelPayback() {
+    public void cancelPayback(LocalDateTime now) {
         this.paybackStatus = PaybackStatus.CANCEL;
-        this.paybackCanceledAt = LocalDateTime.now();
+        this.paybackCanceledAt = now;
     }
 }
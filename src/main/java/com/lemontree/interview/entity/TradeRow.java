@@ -0,0 +1,65 @@
+package com.lemontree.interview.entity;
+
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.relational.core.mapping.Column;
+import org.springframework.data.relational.core.mapping.Table;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * 거래 R2DBC 매핑 클래스입니다. (리액티브 조회 및 거래 생성 전용)
+ * <p>
+ * 거래 ID 는 ReactiveTradeIdGenerator 에서 미리 할당받으며, 버전이 없는(null) 경우 새 거래로 판단하여 INSERT 합니다.
+ * 결제/페이백 상태 변경은 JPA 엔티티(Trade)를 통해서만 이루어집니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Table("trade")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class TradeRow {
+
+    @Id
+    @Column("trade_id")
+    private Long id;
+
+    private Long memberId;
+
+    private BigDecimal paymentAmount;
+
+    private PaymentStatus paymentStatus;
+
+    private BigDecimal paybackAmount;
+
+    private PaybackStatus paybackStatus;
+
+    private LocalDateTime paymentApprovedAt;
+
+    private LocalDateTime paymentCanceledAt;
+
+    private LocalDateTime paybackApprovedAt;
+
+    private LocalDateTime paybackCanceledAt;
+
+    @Version
+    private Long version;
+
+    @Builder
+    public TradeRow(Long id, Long memberId, BigDecimal paymentAmount, BigDecimal paybackAmount) {
+        this.id = id;
+        this.memberId = memberId;
+        this.paymentAmount = paymentAmount;
+        this.paymentStatus = PaymentStatus.WAIT;
+        this.paybackAmount = paybackAmount;
+        this.paybackStatus = PaybackStatus.WAIT;
+    }
+}
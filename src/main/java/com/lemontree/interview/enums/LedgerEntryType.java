@@ -0,0 +1,46 @@
+package com.lemontree.interview.enums;
+
+import com.lemontree.interview.vo.Money;
+import lombok.AllArgsConstructor;
+
+/**
+ * 원장 항목 종류 ENUM.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@AllArgsConstructor
+public enum LedgerEntryType implements JsonEnum {
+
+    // 잔액이 늘어나는 항목은 양수, 줄어드는 항목은 음수로 기록합니다.
+    // 대사 보정 항목은 보정 금액(계산한 잔액 - 보정 전 잔액)을 부호 그대로 기록합니다.
+    OPENING("계좌 개설", 1),
+    PAYMENT("결제", -1),
+    PAYMENT_CANCEL("결제 취소", 1),
+    PAYBACK("페이백", 1),
+    PAYBACK_CANCEL("페이백 취소", -1),
+    ADJUSTMENT("대사 보정", 1);
+
+    private final String description;
+    private final int sign;
+
+    /**
+     * 금액에 항목 종류의 부호를 붙여 반환합니다.
+     *
+     * @param amount 금액 (0 이상, 대사 보정 항목은 부호가 있는 금액)
+     * @return 부호가 붙은 금액
+     */
+    public Money signed(Money amount) {
+        return sign < 0 ? amount.negate() : amount;
+    }
+
+    @Override
+    public String getStatus() {
+        return this.name();
+    }
+
+    @Override
+    public String getDescription() {
+        return this.description;
+    }
+}
@@ -0,0 +1,11 @@
+package com.lemontree.interview.event;
+
+/**
+ * 회원이 생성되었거나 회원 정보(잔액, 누적 금액 등)가 변경되었음을 알리는 이벤트입니다.
+ *
+ * @param memberId 변경된 회원 ID
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public record MemberChangedEvent(Long memberId) {
+}
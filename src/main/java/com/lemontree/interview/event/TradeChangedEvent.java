@@ -0,0 +1,13 @@
+package com.lemontree.interview.event;
+
+/**
+ * 거래의 결제/페이백 상태가 변경되었음을 알리는 이벤트입니다.
+ * 거래 상태 변경은 항상 거래를 생성한 회원의 잔액 변경을 동반하므로 회원 ID를 함께 전달합니다.
+ *
+ * @param tradeId  변경된 거래 ID
+ * @param memberId 거래를 생성한 회원 ID
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public record TradeChangedEvent(Long tradeId, Long memberId) {
+}
@@ -0,0 +1,24 @@
+package com.lemontree.interview.event;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 거래가 생성되었음을 알리는 이벤트입니다.
+ * 생성된 거래는 캐시되어 있지 않고 회원 정보도 바뀌지 않으므로, 생성 직후 조회를 기본 DB 에서 처리하기 위해서만(read-your-writes) 사용합니다.
+ * 일괄 생성은 요청마다 한 번만 발행합니다.
+ *
+ * @param tradeIds  생성된 거래 ID 목록
+ * @param memberIds 거래를 생성한 회원 ID 목록
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public record TradesCreatedEvent(Collection<Long> tradeIds, Collection<Long> memberIds) {
+
+    /**
+     * 거래 한 건의 생성 이벤트를 생성합니다.
+     */
+    public static TradesCreatedEvent of(Long tradeId, Long memberId) {
+        return new TradesCreatedEvent(List.of(tradeId), List.of(memberId));
+    }
+}
@@ -0,0 +1,23 @@
+package com.lemontree.interview.exception.datasource;
+
+import com.lemontree.interview.exception.GeneralException;
+
+/**
+ * 작업 유형(결제, 조회, 배치)별로 허용된 DB 커넥션을 모두 사용 중이어서 대기 시간 안에 작업을 시작하지 못한 경우 발생하는 예외입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public class BulkheadFullException extends GeneralException {
+
+    private static final String MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.";
+
+    public BulkheadFullException() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 503;
+    }
+}
@@ -0,0 +1,23 @@
+package com.lemontree.interview.exception.idempotency;
+
+import com.lemontree.interview.exception.GeneralException;
+
+/**
+ * 같은 멱등성 키(Idempotency-Key)의 요청이 처리 중일 때 발생하는 예외입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public class IdempotencyKeyInProgressException extends GeneralException {
+
+    private static final String MESSAGE = "같은 Idempotency-Key 의 요청이 처리 중입니다. 잠시 후 다시 시도해주세요.";
+
+    public IdempotencyKeyInProgressException() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 409;
+    }
+}
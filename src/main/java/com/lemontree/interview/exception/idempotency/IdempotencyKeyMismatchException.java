@@ -0,0 +1,23 @@
+package com.lemontree.interview.exception.idempotency;
+
+import com.lemontree.interview.exception.GeneralException;
+
+/**
+ * 이미 사용된 멱등성 키(Idempotency-Key)로 다른 요청을 보낸 경우 발생하는 예외입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public class IdempotencyKeyMismatchException extends GeneralException {
+
+    private static final String MESSAGE = "이미 다른 요청에 사용된 Idempotency-Key 입니다.";
+
+    public IdempotencyKeyMismatchException() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 422;
+    }
+}
@@ -0,0 +1,23 @@
+package com.lemontree.interview.exception.idempotency;
+
+import com.lemontree.interview.exception.GeneralException;
+
+/**
+ * 멱등성 키(Idempotency-Key) 형식이 올바르지 않은 경우 발생하는 예외입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public class InvalidIdempotencyKeyException extends GeneralException {
+
+    private static final String MESSAGE = "Idempotency-Key 는 1자 이상 100자 이하여야 합니다.";
+
+    public InvalidIdempotencyKeyException() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 400;
+    }
+}
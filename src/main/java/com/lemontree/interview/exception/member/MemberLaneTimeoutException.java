@@ -0,0 +1,23 @@
+package com.lemontree.interview.exception.member;
+
+import com.lemontree.interview.exception.GeneralException;
+
+/**
+ * 동일 회원의 거래 처리 대기 시간이 초과된 경우 발생하는 예외입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public class MemberLaneTimeoutException extends GeneralException {
+
+    private static final String MESSAGE = "동일 회원의 거래가 처리 중입니다. 잠시 후 다시 시도해주세요.";
+
+    public MemberLaneTimeoutException() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 409;
+    }
+}
@@ -0,0 +1,23 @@
+package com.lemontree.interview.exception.trade;
+
+import com.lemontree.interview.exception.GeneralException;
+
+/**
+ * 거래 내역 조회 커서(cursor)의 형식이 올바르지 않은 경우 발생하는 예외입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public class InvalidTradeCursorException extends GeneralException {
+
+    private static final String MESSAGE = "잘못된 거래 내역 조회 커서입니다.";
+
+    public InvalidTradeCursorException() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 400;
+    }
+}
@@ -0,0 +1,23 @@
+package com.lemontree.interview.exception.trade;
+
+import com.lemontree.interview.exception.GeneralException;
+
+/**
+ * 동시에 처리된 다른 거래와의 충돌이 재시도 후에도 해소되지 않은 경우 발생하는 예외입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public class TradeConflictException extends GeneralException {
+
+    private static final String MESSAGE = "다른 거래와 충돌이 발생하였습니다. 잠시 후 다시 시도해주세요.";
+
+    public TradeConflictException() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 409;
+    }
+}
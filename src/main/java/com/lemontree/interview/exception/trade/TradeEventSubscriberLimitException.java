@@ -0,0 +1,23 @@
+package com.lemontree.interview.exception.trade;
+
+import com.lemontree.interview.exception.GeneralException;
+
+/**
+ * 거래 상태 변경 스트림의 구독 수가 최대치에 도달한 경우 발생하는 예외입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public class TradeEventSubscriberLimitException extends GeneralException {
+
+    private static final String MESSAGE = "거래 상태 구독자가 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    public TradeEventSubscriberLimitException() {
+        super(MESSAGE);
+    }
+
+    @Override
+    public int getStatusCode() {
+        return 503;
+    }
+}
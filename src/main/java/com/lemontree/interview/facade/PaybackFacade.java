@@ -0,0 +1,60 @@
+package com.lemontree.interview.facade;
+
+import com.lemontree.interview.config.ConcurrencyProperties;
+import com.lemontree.interview.datasource.ConnectionBulkhead;
+import com.lemontree.interview.datasource.Workload;
+import com.lemontree.interview.facade.TradeRequestCoalescer.Operation;
+import com.lemontree.interview.lock.MemberLaneExecutor;
+import com.lemontree.interview.lock.OptimisticRetryExecutor;
+import com.lemontree.interview.service.PaybackService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 페이백 요청의 진입점 클래스입니다.
+ * 트랜잭션 바깥에서 처리되어야 하는 제어(중복 요청 병합, 회원 단위 직렬화, 작업 유형별 커넥션 격벽, 동시성 제어 방식 선택, 낙관적 락 충돌 재시도 등)를 담당하고, 실제 페이백은 PaybackService 에 위임합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Component
+@RequiredArgsConstructor
+public class PaybackFacade {
+
+    private final PaybackService paybackService;
+    private final TradeRequestCoalescer tradeRequestCoalescer;
+    private final MemberLaneExecutor memberLaneExecutor;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+    private final ConcurrencyProperties concurrencyProperties;
+    private final ConnectionBulkhead connectionBulkhead;
+
+    /**
+     * 페이백을 진행합니다.
+     *
+     * @param tradeId 거래 ID
+     */
+    public void processPayback(Long tradeId) {
+        tradeRequestCoalescer.execute(tradeId, Operation.PAYBACK, () -> memberLaneExecutor.executeByTrade(tradeId, () -> connectionBulkhead.run(Workload.PAYMENT, () -> {
+            switch (concurrencyProperties.getMode()) {
+                case ATOMIC -> paybackService.processPaybackAtomically(tradeId);
+                case OPTIMISTIC -> optimisticRetryExecutor.execute(() -> paybackService.processPaybackOptimistically(tradeId));
+                default -> paybackService.processPayback(tradeId);
+            }
+        })));
+    }
+
+    /**
+     * 페이백 취소를 진행합니다.
+     *
+     * @param tradeId 거래 ID
+     */
+    public void cancelPayback(Long tradeId) {
+        tradeRequestCoalescer.execute(tradeId, Operation.PAYBACK_CANCEL, () -> memberLaneExecutor.executeByTrade(tradeId, () -> connectionBulkhead.run(Workload.PAYMENT, () -> {
+            switch (concurrencyProperties.getMode()) {
+                case ATOMIC -> paybackService.cancelPaybackAtomically(tradeId);
+                case OPTIMISTIC -> optimisticRetryExecutor.execute(() -> paybackService.cancelPaybackOptimistically(tradeId));
+                default -> paybackService.cancelPayback(tradeId);
+            }
+        })));
+    }
+}
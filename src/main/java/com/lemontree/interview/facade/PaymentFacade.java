@@ -0,0 +1,112 @@
+package com.lemontree.interview.facade;
+
+import com.lemontree.interview.config.ConcurrencyProperties;
+import com.lemontree.interview.datasource.ConnectionBulkhead;
+import com.lemontree.interview.datasource.Workload;
+import com.lemontree.interview.facade.TradeRequestCoalescer.Operation;
+import com.lemontree.interview.lock.MemberLaneExecutor;
+import com.lemontree.interview.lock.OptimisticRetryExecutor;
+import com.lemontree.interview.request.TradePaymentRequest;
+import com.lemontree.interview.response.PaymentBatchResponse;
+import com.lemontree.interview.service.PaymentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 결제 요청의 진입점 클래스입니다.
+ * 트랜잭션 바깥에서 처리되어야 하는 제어(중복 요청 병합, 회원 단위 직렬화, 작업 유형별 커넥션 격벽, 동시성 제어 방식 선택, 낙관적 락 충돌 재시도 등)를 담당하고, 실제 결제는 PaymentService 에 위임합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PaymentFacade {
+
+    /**
+     * 결제 일괄 처리 시 하나의 트랜잭션에서 처리할 최대 거래 수
+     */
+    private static final int BATCH_CHUNK_SIZE = 1_000;
+
+    private final PaymentService paymentService;
+    private final TradeRequestCoalescer tradeRequestCoalescer;
+    private final MemberLaneExecutor memberLaneExecutor;
+    private final OptimisticRetryExecutor optimisticRetryExecutor;
+    private final ConcurrencyProperties concurrencyProperties;
+    private final ConnectionBulkhead connectionBulkhead;
+
+    /**
+     * 결제를 진행합니다.
+     *
+     * @param tradeId 거래 ID
+     */
+    public void processPayment(Long tradeId) {
+        tradeRequestCoalescer.execute(tradeId, Operation.PAYMENT, () -> memberLaneExecutor.executeByTrade(tradeId, () -> connectionBulkhead.run(Workload.PAYMENT, () -> {
+            switch (concurrencyProperties.getMode()) {
+                case ATOMIC -> paymentService.processPaymentAtomically(tradeId);
+                case OPTIMISTIC -> optimisticRetryExecutor.execute(() -> paymentService.processPaymentOptimistically(tradeId));
+                default -> paymentService.processPayment(tradeId);
+            }
+        })));
+    }
+
+    /**
+     * 결제 취소를 진행합니다.
+     *
+     * @param tradeId 거래 ID
+     */
+    public void cancelPayment(Long tradeId) {
+        tradeRequestCoalescer.execute(tradeId, Operation.PAYMENT_CANCEL, () -> memberLaneExecutor.executeByTrade(tradeId, () -> connectionBulkhead.run(Workload.PAYMENT, () -> {
+            switch (concurrencyProperties.getMode()) {
+                case ATOMIC -> paymentService.cancelPaymentAtomically(tradeId);
+                case OPTIMISTIC -> optimisticRetryExecutor.execute(() -> paymentService.cancelPaymentOptimistically(tradeId));
+                default -> paymentService.cancelPayment(tradeId);
+            }
+        })));
+    }
+
+    /**
+     * 거래를 생성하면서 결제를 함께 진행합니다.
+     * 새로 생성되는 거래이므로 중복 요청 병합 대상이 아니며, 동시성 제어 방식과 관계없이 회원을 비관적 락으로 한 번만 잠급니다.
+     *
+     * @param memberId 회원 ID
+     * @param request  거래 생성 및 결제 요청 정보
+     * @return 생성된 거래 ID
+     */
+    public Long requestTradeAndPay(Long memberId, TradePaymentRequest request) {
+        return memberLaneExecutor.callByMember(memberId,
+                () -> connectionBulkhead.call(Workload.PAYMENT, () -> paymentService.requestTradeAndPay(memberId, request)));
+    }
+
+    /**
+     * 여러 거래의 결제를 일괄 진행합니다. 요청을 일정 건수 단위로 나누어 각각 하나의 트랜잭션에서 처리합니다.
+     * 일괄 처리는 항상 비관적 락을 사용하며, 중복 요청 병합과 회원 단위 직렬화를 거치지 않습니다.
+     * 각 단위는 배치 격벽에서 처리되므로, 일괄 결제가 단건 결제/조회용 커넥션을 점유하지 않습니다.
+     *
+     * @param tradeIds 거래 ID 목록 (요청 순서)
+     * @return 거래별 결제 결과
+     */
+    public PaymentBatchResponse processPayments(List<Long> tradeIds) {
+        List<PaymentBatchResponse.Result> results = new ArrayList<>(tradeIds.size());
+
+        for (int from = 0; from < tradeIds.size(); from += BATCH_CHUNK_SIZE) {
+            List<Long> chunk = tradeIds.subList(from, Math.min(from + BATCH_CHUNK_SIZE, tradeIds.size()));
+            try {
+                results.addAll(connectionBulkhead.call(Workload.BATCH, () -> paymentService.processPayments(chunk)));
+            } catch (Exception e) {
+                // 트랜잭션이 롤백되었으므로 해당 단위의 거래는 모두 결제되지 않았습니다.
+                log.error("결제 일괄 처리 중 오류가 발생하였습니다. [거래 수 = {}]", chunk.size(), e);
+                chunk.forEach(tradeId -> results.add(PaymentBatchResponse.Result.failed(
+                        tradeId, HttpStatus.INTERNAL_SERVER_ERROR, e.getMessage())));
+            }
+        }
+
+        return new PaymentBatchResponse(results);
+    }
+}
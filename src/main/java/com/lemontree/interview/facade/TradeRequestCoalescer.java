@@ -0,0 +1,103 @@
+package com.lemontree.interview.facade;
+
+import com.lemontree.interview.config.CoalescingProperties;
+import com.lemontree.interview.exception.GeneralException;
+import com.lemontree.interview.exception.payback.PaybackAlreadyDoneException;
+import com.lemontree.interview.exception.payback.PaybackNotCompleteException;
+import com.lemontree.interview.exception.payment.PaymentAlreadyDoneException;
+import com.lemontree.interview.exception.payment.PaymentNotCompleteException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 동일 거래에 대한 동일 작업 요청이 동시에 들어온 경우, 먼저 들어온 요청(Leader)만 실행하고
+ * 나머지 요청(Follower)은 그 결과를 공유하도록 병합하는 클래스입니다.
+ * <p>
+ * Follower 는 DB 커넥션이나 락을 사용하지 않고 Leader 의 완료를 기다립니다.
+ * Leader 가 성공하면 Follower 는 중복 요청에 해당하는 예외(이미 완료된 결제 등)를, 실패하면 같은 예외를 받습니다.
+ * Leader 의 실행이 끝난 뒤 들어온 요청은 병합되지 않고 새로 실행됩니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Component
+@RequiredArgsConstructor
+public class TradeRequestCoalescer {
+
+    private final CoalescingProperties properties;
+    private final Map<Key, CompletableFuture<Void>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * 병합 대상 작업의 종류입니다.
+     */
+    @RequiredArgsConstructor
+    public enum Operation {
+        PAYMENT(PaymentAlreadyDoneException::new),
+        PAYMENT_CANCEL(PaymentNotCompleteException::new),
+        PAYBACK(PaybackAlreadyDoneException::new),
+        PAYBACK_CANCEL(PaybackNotCompleteException::new);
+
+        /**
+         * Leader 가 성공한 경우 Follower 에게 전달할 예외 (중복 요청을 직접 실행했을 때와 같은 예외)
+         */
+        private final Supplier<GeneralException> duplicateException;
+    }
+
+    private record Key(Long tradeId, Operation operation) {
+    }
+
+    /**
+     * 작업을 실행합니다. 동일 거래의 동일 작업이 이미 실행 중이라면 실행하지 않고 그 결과를 기다립니다.
+     *
+     * @param tradeId   거래 ID
+     * @param operation 작업 종류
+     * @param task      실행할 작업
+     */
+    public void execute(Long tradeId, Operation operation, Runnable task) {
+        if (!properties.isEnabled()) {
+            task.run();
+            return;
+        }
+
+        Key key = new Key(tradeId, operation);
+        CompletableFuture<Void> leader = new CompletableFuture<>();
+        CompletableFuture<Void> running = inFlight.putIfAbsent(key, leader);
+
+        if (running != null) {
+            awaitLeader(running, operation);
+            return;
+        }
+
+        // Error 나 검사 예외가 발생하더라도 Follower 가 무한히 기다리지 않도록 모든 예외를 전달합니다.
+        try {
+            task.run();
+            leader.complete(null);
+        } catch (Throwable e) {
+            leader.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, leader);
+        }
+    }
+
+    private void awaitLeader(CompletableFuture<Void> running, Operation operation) {
+        try {
+            running.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        throw operation.duplicateException.get();
+    }
+}
@@ -0,0 +1,237 @@
+package com.lemontree.interview.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lemontree.interview.exception.GeneralException;
+import com.lemontree.interview.exception.idempotency.IdempotencyKeyInProgressException;
+import com.lemontree.interview.exception.idempotency.IdempotencyKeyMismatchException;
+import com.lemontree.interview.exception.idempotency.InvalidIdempotencyKeyException;
+import com.lemontree.interview.response.ErrorResponse;
+import com.lemontree.interview.service.IdempotencyService;
+import com.lemontree.interview.service.IdempotencyService.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 변경 요청(POST, DELETE)의 Idempotency-Key 헤더를 처리하는 필터입니다.
+ * <p>
+ * 같은 키로 같은 요청이 다시 들어오면 요청을 처리하지 않고 저장된 응답을 그대로 반환합니다. (Idempotent-Replayed: true)
+ * 같은 키로 다른 요청이 들어오면 422, 같은 키의 요청이 처리 중이면 409 를 반환합니다.
+ * 응답은 성공(2xx)과 다시 요청해도 결과가 같은 요청 오류(4xx)만 저장합니다.
+ * 다시 요청하면 결과가 달라질 수 있는 응답(409 충돌/처리 중, 429, 5xx)으로 끝났거나 처리 중 예외가 발생한 요청은
+ * 응답을 저장하지 않고 키를 해제하므로 같은 키로 다시 처리할 수 있습니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@RequiredArgsConstructor
+public class IdempotencyKeyFilter extends OncePerRequestFilter {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyService idempotencyService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        String method = request.getMethod();
+        boolean mutating = HttpMethod.POST.matches(method) || HttpMethod.DELETE.matches(method);
+        return !mutating || request.getHeader(HEADER) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+
+        String key = request.getHeader(HEADER).trim();
+        if (key.isEmpty() || key.length() > MAX_KEY_LENGTH) {
+            writeError(response, new InvalidIdempotencyKeyException());
+            return;
+        }
+
+        CachedBodyRequest cachedRequest = new CachedBodyRequest(request);
+        String requestHash = hash(cachedRequest);
+
+        if (replay(key, requestHash, response)) {
+            return;
+        }
+
+        if (!idempotencyService.reserve(key, requestHash)) {
+            // 선점에 실패하는 사이 다른 요청의 처리가 끝났다면 그 응답을 반환합니다.
+            if (!replay(key, requestHash, response)) {
+                writeError(response, new IdempotencyKeyInProgressException());
+            }
+            return;
+        }
+
+        ContentCachingResponseWrapper cachedResponse = new ContentCachingResponseWrapper(response);
+
+        // Error 를 포함한 모든 예외에서 키를 해제하도록, 응답 저장/해제를 마친 경우에만 completed 를 표시합니다.
+        boolean completed = false;
+        try {
+            filterChain.doFilter(cachedRequest, cachedResponse);
+
+            int status = cachedResponse.getStatus();
+            if (isReplayable(status)) {
+                String body = new String(cachedResponse.getContentAsByteArray(), StandardCharsets.UTF_8);
+                idempotencyService.complete(key, new StoredResponse(requestHash, status, cachedResponse.getContentType(), body));
+            } else {
+                idempotencyService.release(key);
+            }
+            completed = true;
+        } finally {
+            if (!completed) {
+                idempotencyService.release(key);
+            }
+        }
+        cachedResponse.copyBodyToResponse();
+    }
+
+    /**
+     * 저장해 두었다가 같은 키의 재요청에 그대로 반환할 응답인지 판단합니다.
+     * 409(처리 중, 낙관적 락 재시도 초과, 회원 처리 대기 초과 등), 429, 5xx 는 잠시 후 다시 요청하면 처리될 수 있으므로 저장하지 않습니다.
+     */
+    static boolean isReplayable(int status) {
+        HttpStatus httpStatus = HttpStatus.resolve(status);
+        if (httpStatus == null) {
+            return false;
+        }
+        if (httpStatus == HttpStatus.CONFLICT || httpStatus == HttpStatus.TOO_MANY_REQUESTS) {
+            return false;
+        }
+        return httpStatus.is2xxSuccessful() || httpStatus.is4xxClientError();
+    }
+
+    /**
+     * 저장된 응답이 있다면 그대로 반환합니다.
+     *
+     * @return 응답을 반환한 경우 true
+     */
+    private boolean replay(String key, String requestHash, HttpServletResponse response) throws IOException {
+        Optional<StoredResponse> stored = idempotencyService.findCompleted(key);
+        if (stored.isEmpty()) {
+            return false;
+        }
+
+        StoredResponse storedResponse = stored.get();
+        if (!storedResponse.requestHash().equals(requestHash)) {
+            writeError(response, new IdempotencyKeyMismatchException());
+            return true;
+        }
+
+        response.setStatus(storedResponse.statusCode());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (storedResponse.contentType() != null) {
+            response.setContentType(storedResponse.contentType());
+        }
+        if (storedResponse.body() != null && !storedResponse.body().isEmpty()) {
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(storedResponse.body());
+        }
+        return true;
+    }
+
+    private void writeError(HttpServletResponse response, GeneralException e) throws IOException {
+        ErrorResponse body = ErrorResponse.builder()
+                .status(HttpStatus.valueOf(e.getStatusCode()))
+                .message(e.getMessage())
+                .build();
+
+        response.setStatus(e.getStatusCode());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        objectMapper.writeValue(response.getWriter(), body);
+    }
+
+    /**
+     * 같은 키로 다른 요청을 보냈는지 판단하기 위해 메서드, URI, 본문의 SHA-256 해시 값을 계산합니다.
+     */
+    private static String hash(CachedBodyRequest request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(request.getMethod().getBytes(StandardCharsets.UTF_8));
+            digest.update((byte) ' ');
+            digest.update(request.getRequestURI().getBytes(StandardCharsets.UTF_8));
+            if (request.getQueryString() != null) {
+                digest.update((byte) '?');
+                digest.update(request.getQueryString().getBytes(StandardCharsets.UTF_8));
+            }
+            digest.update((byte) '\n');
+            digest.update(request.body);
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * 요청 본문을 해시 계산과 실제 처리에서 모두 읽을 수 있도록 미리 읽어 보관하는 요청 래퍼입니다.
+     */
+    private static class CachedBodyRequest extends HttpServletRequestWrapper {
+
+        private final byte[] body;
+
+        CachedBodyRequest(HttpServletRequest request) throws IOException {
+            super(request);
+            this.body = request.getInputStream().readAllBytes();
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream input = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public boolean isFinished() {
+                    return input.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener readListener) {
+                    throw new UnsupportedOperationException();
+                }
+
+                @Override
+                public int read() {
+                    return input.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return input.read(b, off, len);
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            return new BufferedReader(new InputStreamReader(getInputStream(), StandardCharsets.UTF_8));
+        }
+    }
+}
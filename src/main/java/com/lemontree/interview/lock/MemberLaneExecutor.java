@@ -0,0 +1,118 @@
+package com.lemontree.interview.lock;
+
+import com.lemontree.interview.config.MemberLaneProperties;
+import com.lemontree.interview.datasource.ReadReplicaRouter;
+import com.lemontree.interview.exception.member.MemberLaneTimeoutException;
+import com.lemontree.interview.exception.trade.TradeNotFoundException;
+import com.lemontree.interview.repository.TradeRepository;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 동일 회원의 거래 요청을 JVM 내부에서 직렬화하는 실행 레인입니다.
+ * <p>
+ * 회원 ID 기준 스트라이프 락(공정 락, FIFO)을 DB 커넥션 획득 전에 잡기 때문에,
+ * 같은 회원에 대한 요청이 몰려도 커넥션을 점유한 채 SELECT ... FOR UPDATE 대기를 하지 않습니다.
+ * 비활성화된 경우 추가 조회 없이 작업을 그대로 실행합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Component
+public class MemberLaneExecutor {
+
+    private final MemberLaneProperties properties;
+    private final TradeRepository tradeRepository;
+    private final ReadReplicaRouter readReplicaRouter;
+    private final ReentrantLock[] stripes;
+
+    public MemberLaneExecutor(MemberLaneProperties properties, TradeRepository tradeRepository,
+                              ReadReplicaRouter readReplicaRouter) {
+        this.properties = properties;
+        this.tradeRepository = tradeRepository;
+        this.readReplicaRouter = readReplicaRouter;
+        this.stripes = new ReentrantLock[properties.getStripes()];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock(properties.isFair());
+        }
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    /**
+     * 거래를 생성한 회원의 레인에서 작업을 실행합니다.
+     *
+     * @param tradeId 거래 ID
+     * @param task    실행할 작업 (트랜잭션 경계를 포함해야 합니다.)
+     */
+    public void executeByTrade(Long tradeId, Runnable task) {
+        if (!isEnabled()) {
+            task.run();
+            return;
+        }
+
+        // 거래의 회원 ID는 변경되지 않으므로 락 없이 조회합니다. (조회 후 커넥션은 즉시 반납됩니다.)
+        // 생성 직후의 거래일 수 있으므로 읽기 복제본이 아닌 기본 DB 에서 조회합니다.
+        Long memberId = readReplicaRouter.primary(() -> tradeRepository.findMemberIdById(tradeId))
+                .orElseThrow(TradeNotFoundException::new);
+
+        executeByMember(memberId, task);
+    }
+
+    /**
+     * 회원의 레인에서 작업을 실행합니다.
+     *
+     * @param memberId 회원 ID
+     * @param task     실행할 작업 (트랜잭션 경계를 포함해야 합니다.)
+     */
+    public void executeByMember(Long memberId, Runnable task) {
+        callByMember(memberId, () -> {
+            task.run();
+            return null;
+        });
+    }
+
+    /**
+     * 회원의 레인에서 작업을 실행하고 결과를 반환합니다.
+     *
+     * @param memberId 회원 ID
+     * @param task     실행할 작업 (트랜잭션 경계를 포함해야 합니다.)
+     * @return 작업 결과
+     */
+    public <T> T callByMember(Long memberId, Supplier<T> task) {
+        if (!isEnabled()) {
+            return task.get();
+        }
+
+        ReentrantLock lock = stripeOf(memberId);
+        acquire(lock);
+        try {
+            return task.get();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void acquire(ReentrantLock lock) {
+        try {
+            // 공정 락의 tryLock(timeout)은 대기 순서(FIFO)를 따릅니다.
+            if (!lock.tryLock(properties.getWaitTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new MemberLaneTimeoutException();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new MemberLaneTimeoutException();
+        }
+    }
+
+    private ReentrantLock stripeOf(Long memberId) {
+        int hash = Long.hashCode(memberId);
+        hash ^= (hash >>> 16);
+        return stripes[Math.floorMod(hash, stripes.length)];
+    }
+}
@@ -0,0 +1,67 @@
+package com.lemontree.interview.lock;
+
+import com.lemontree.interview.config.ConcurrencyProperties;
+import com.lemontree.interview.exception.trade.TradeConflictException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 낙관적 락 충돌(OptimisticLockingFailureException) 시 작업을 재시도하는 클래스입니다.
+ * <p>
+ * 재시도 간 대기 시간은 지수적으로 증가하는 상한 안에서 무작위로 정하여(Full Jitter),
+ * 충돌한 요청들이 같은 시점에 다시 충돌하지 않도록 합니다.
+ * 작업은 매 시도마다 새로운 트랜잭션으로 실행되어야 하므로 트랜잭션 바깥에서 호출해야 합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OptimisticRetryExecutor {
+
+    private final ConcurrencyProperties concurrencyProperties;
+
+    /**
+     * 작업을 실행하고, 낙관적 락 충돌이 발생하면 최대 시도 횟수까지 재시도합니다.
+     *
+     * @param task 실행할 작업 (트랜잭션 경계를 포함해야 합니다.)
+     */
+    public void execute(Runnable task) {
+        ConcurrencyProperties.Retry retry = concurrencyProperties.getRetry();
+        int maxAttempts = Math.max(1, retry.getMaxAttempts());
+
+        for (int attempt = 1; ; attempt++) {
+            try {
+                task.run();
+                return;
+            } catch (OptimisticLockingFailureException e) {
+                if (attempt >= maxAttempts) {
+                    log.warn("낙관적 락 충돌로 재시도 횟수를 초과하였습니다. [시도 횟수 = {}]", attempt);
+                    throw new TradeConflictException();
+                }
+                backoff(retry, attempt);
+            }
+        }
+    }
+
+    private void backoff(ConcurrencyProperties.Retry retry, int attempt) {
+        long initial = retry.getInitialBackoff().toMillis();
+        long max = retry.getMaxBackoff().toMillis();
+        long ceiling = Math.min(max, initial << Math.min(attempt - 1, 20));
+        if (ceiling <= 0) {
+            return;
+        }
+
+        try {
+            Thread.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new TradeConflictException();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.lemontree.interview.repository;
+
+import com.lemontree.interview.entity.BalanceSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 잔액 스냅샷 레포지토리 인터페이스 입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public interface BalanceSnapshotRepository extends JpaRepository<BalanceSnapshot, Long> {
+
+    /**
+     * 회원의 가장 최근 잔액 스냅샷을 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 잔액 스냅샷 (스냅샷이 없으면 빈 값)
+     */
+    @Transactional(readOnly = true)
+    Optional<BalanceSnapshot> findFirstByMemberIdOrderByLastEntryIdDesc(Long memberId);
+
+    /**
+     * 회원별 가장 최근 잔액 스냅샷을 조회합니다.
+     *
+     * @param memberIds 회원 ID 목록
+     * @return 잔액 스냅샷 목록 (스냅샷이 없는 회원은 제외)
+     */
+    @Query("SELECT s FROM BalanceSnapshot s WHERE s.memberId IN :memberIds "
+            + "AND s.lastEntryId = (SELECT MAX(s2.lastEntryId) FROM BalanceSnapshot s2 WHERE s2.memberId = s.memberId)")
+    List<BalanceSnapshot> findLatestByMemberIdIn(@Param("memberIds") Collection<Long> memberIds);
+}
@@ -0,0 +1,28 @@
+package com.lemontree.interview.repository;
+
+import com.lemontree.interview.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+
+/**
+ * 멱등성 키 레포지토리 인터페이스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+
+    /**
+     * 보관 기간이 지난 멱등성 키를 삭제합니다.
+     *
+     * @param expiredAt 이 일시 이전에 생성된 키를 삭제
+     * @return 삭제된 행의 수
+     */
+    @Modifying
+    @Query("DELETE FROM IdempotencyRecord r WHERE r.createdAt < :expiredAt")
+    int deleteExpired(@Param("expiredAt") LocalDateTime expiredAt);
+}
@@ -0,0 +1,64 @@
+package com.lemontree.interview.repository;
+
+import com.lemontree.interview.entity.LedgerEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 원장 항목 레포지토리 인터페이스 입니다.
+ * 원장 항목의 저장은 LedgerEntryWriter 의 JDBC 배치 INSERT 로만 수행합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public interface LedgerEntryRepository extends JpaRepository<LedgerEntry, Long> {
+
+    /**
+     * 회원의 원장 항목 중 주어진 항목 ID 이후 항목의 합계를 조회합니다. (회원, 항목 ID 인덱스 범위 조회)
+     *
+     * @param memberId     회원 ID
+     * @param afterEntryId 합계에서 제외할 마지막 항목 ID (스냅샷이 없으면 0)
+     * @return 항목 합계 (이후 항목이 없으면 빈 값)
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.lemontree.interview.repository.LedgerTail(e.memberId, SUM(e.amount), MAX(e.id)) "
+            + "FROM LedgerEntry e WHERE e.memberId = :memberId AND e.id > :afterEntryId "
+            + "GROUP BY e.memberId")
+    Optional<LedgerTail> findTail(@Param("memberId") Long memberId, @Param("afterEntryId") Long afterEntryId);
+
+    /**
+     * 회원별로 가장 최근 스냅샷 이후, 기준 항목 ID 까지의 원장 항목 합계를 조회합니다.
+     * 스냅샷 이후 항목이 없는 회원은 조회되지 않습니다.
+     *
+     * @param memberIds   회원 ID 목록
+     * @param upToEntryId 합계에 포함할 마지막 항목 ID
+     * @return 회원별 항목 합계
+     */
+    @Query("SELECT new com.lemontree.interview.repository.LedgerTail(e.memberId, SUM(e.amount), MAX(e.id)) "
+            + "FROM LedgerEntry e WHERE e.memberId IN :memberIds AND e.id <= :upToEntryId "
+            + "AND e.id > COALESCE((SELECT MAX(s.lastEntryId) FROM BalanceSnapshot s WHERE s.memberId = e.memberId), 0) "
+            + "GROUP BY e.memberId")
+    List<LedgerTail> findTailsUpTo(@Param("memberIds") Collection<Long> memberIds, @Param("upToEntryId") Long upToEntryId);
+
+    /**
+     * 기준 일시 이전에 기록된 원장 항목 중 가장 큰 항목 ID 를 조회합니다.
+     *
+     * @param before 기준 일시
+     * @return 항목 ID (항목이 없으면 빈 값)
+     */
+    @Query("SELECT MAX(e.id) FROM LedgerEntry e WHERE e.createdAt < :before")
+    Optional<Long> findLastIdBefore(@Param("before") LocalDateTime before);
+
+    /**
+     * @param memberId 회원 ID
+     * @return 회원의 원장 항목 목록 (항목 ID 오름차순)
+     */
+    List<LedgerEntry> findByMemberIdOrderById(Long memberId);
+}
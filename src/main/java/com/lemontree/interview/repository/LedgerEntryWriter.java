@@ -0,0 +1,106 @@
+package com.lemontree.interview.repository;
+
+import com.lemontree.interview.config.LedgerProperties;
+import com.lemontree.interview.entity.LedgerEntry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 원장 항목을 JDBC 배치 INSERT 로 저장하는 클래스입니다.
+ * <p>
+ * 트랜잭션 안에서 추가한 항목은 트랜잭션마다 모아 두었다가 커밋 직전에 한 번의 배치 INSERT 로 저장합니다.
+ * 잔액 변경과 같은 커넥션(트랜잭션)에서 저장되므로, 트랜잭션이 롤백되면 항목도 저장되지 않습니다.
+ * IDENTITY 전략의 엔티티는 Hibernate 가 배치 INSERT 를 하지 않으므로 JPA 를 거치지 않습니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Repository
+@RequiredArgsConstructor
+public class LedgerEntryWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO ledger_entry (member_id, trade_id, entry_type, amount, created_at) "
+            + "VALUES (?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final LedgerProperties properties;
+
+    /**
+     * 원장 항목을 추가합니다. 트랜잭션 밖에서 호출한 경우 바로 저장합니다.
+     *
+     * @param entry 원장 항목
+     */
+    public void append(LedgerEntry entry) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            insert(List.of(entry));
+            return;
+        }
+
+        pendingEntries().entries.add(entry);
+    }
+
+    /**
+     * 원장 항목을 배치 INSERT 합니다.
+     *
+     * @param entries 원장 항목 목록
+     */
+    public void insert(List<LedgerEntry> entries) {
+        if (entries.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_SQL, entries, properties.getWriteBatchSize(), (ps, entry) -> {
+            ps.setLong(1, entry.getMemberId());
+            if (entry.getTradeId() != null) {
+                ps.setLong(2, entry.getTradeId());
+            } else {
+                ps.setNull(2, Types.BIGINT);
+            }
+            ps.setString(3, entry.getEntryType().name());
+            ps.setLong(4, entry.getAmount().toLong());
+            ps.setTimestamp(5, Timestamp.valueOf(entry.getCreatedAt()));
+        });
+    }
+
+    /**
+     * 현재 트랜잭션에 모아 둔 항목을 반환합니다. (없으면 새로 등록합니다.)
+     * 트랜잭션 동기화는 새 트랜잭션(REQUIRES_NEW)이 시작되면 보류되므로, 항목은 각자의 트랜잭션에서 커밋됩니다.
+     */
+    private PendingEntries pendingEntries() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof PendingEntries pending && pending.owner() == this) {
+                return pending;
+            }
+        }
+
+        PendingEntries pending = new PendingEntries();
+        TransactionSynchronizationManager.registerSynchronization(pending);
+        return pending;
+    }
+
+    /**
+     * 한 트랜잭션에서 추가한 원장 항목입니다.
+     */
+    private final class PendingEntries implements TransactionSynchronization {
+
+        private final List<LedgerEntry> entries = new ArrayList<>();
+
+        private LedgerEntryWriter owner() {
+            return LedgerEntryWriter.this;
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            insert(entries);
+            entries.clear();
+        }
+    }
+}
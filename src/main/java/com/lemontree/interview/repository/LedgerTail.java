@@ -0,0 +1,25 @@
+package com.lemontree.interview.repository;
+
+import com.lemontree.interview.vo.Money;
+
+import java.math.BigDecimal;
+
+/**
+ * 회원의 잔액 스냅샷 이후 원장 항목의 합계입니다.
+ *
+ * @param memberId    회원 ID
+ * @param amount      금액 합계
+ * @param lastEntryId 합계에 포함된 마지막 원장 항목 ID
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public record LedgerTail(Long memberId, Money amount, Long lastEntryId) {
+
+    /**
+     * 조회 쿼리의 생성자 표현식(SELECT new ...)에서 사용하는 생성자입니다.
+     * (SUM 결과에는 컨버터가 적용되지 않으므로 컬럼 타입인 BigDecimal 로 받습니다.)
+     */
+    public LedgerTail(Long memberId, BigDecimal amount, Long lastEntryId) {
+        this(memberId, Money.of(amount), lastEntryId);
+    }
+}
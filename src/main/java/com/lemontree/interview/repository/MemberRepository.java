@@ -1,12 +1,23 @@
 package com.lemontree.interview.repository;
 
 import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.response.MemberResponse;
+import com.lemontree.interview.vo.Money;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -18,19 +29,23 @@ import java.util.Optional;
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     /**
-     * 모든 유저의 일일 누적 금액(daily_accumulate)을 0으로 초기화합니다.
+     * 주어진 유저 ID 중 존재하는(삭제되지 않은) 유저의 ID만 조회합니다.
+     *
+     * @param ids 유저 ID 목록
+     * @return 존재하는 유저 ID 목록
      */
-    @Modifying(clearAutomatically = true)
-    @Query(value = "UPDATE Member m SET m.dailyAccumulate = 0")
-    void resetDailyLimit();
-
+    @Query("SELECT m.id FROM Member m WHERE m.id IN :ids")
+    List<Long> findExistingIds(@Param("ids") Collection<Long> ids);
 
     /**
-     * 모든 유저의 월간 누적 금액(monthly_accumulate)을 0으로 초기화합니다.
+     * 주어진 유저 ID 이후의 유저 ID를 오름차순으로 조회합니다. (키셋 페이지네이션)
+     *
+     * @param after 조회 시작 유저 ID (미포함)
+     * @param limit 최대 조회 건수
+     * @return 유저 ID 목록 (오름차순)
      */
-    @Modifying(clearAutomatically = true)
-    @Query(value = "UPDATE Member m SET m.monthlyAccumulate = 0")
-    void resetMonthlyLimit();
+    @Query("SELECT m.id FROM Member m WHERE m.id > :after ORDER BY m.id")
+    List<Long> findIdsAfter(@Param("after") long after, Limit limit);
 
     /**
      * 유저 ID로 유저 정보를 조회합니다. (비관적 락 사용)
@@ -40,4 +55,144 @@ public interface MemberRepository extends JpaRepository<Member, Long> {
      */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<Member> findWithPessimisticLockById(Long id);
+
+    /**
+     * 유저 ID 목록으로 유저 정보를 조회합니다. (비관적 락 사용)
+     * <p>
+     * 여러 트랜잭션이 같은 유저를 잠그더라도 교착 상태가 발생하지 않도록 항상 유저 ID 오름차순으로 잠급니다.
+     *
+     * @param ids 유저 ID 목록
+     * @return 유저 정보 목록 (유저 ID 오름차순)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT m FROM Member m WHERE m.id IN :ids ORDER BY m.id")
+    List<Member> findAllWithPessimisticLockByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 유저 ID로 유저 정보를 조회합니다. (낙관적 락 사용)
+     * <p>
+     * 락을 걸지 않고 조회하며, 커밋 시점에 버전이 변경되었다면 OptimisticLockingFailureException 이 발생합니다.
+     *
+     * @param id 유저 ID
+     * @return 유저 정보
+     */
+    @Lock(LockModeType.OPTIMISTIC)
+    Optional<Member> findWithOptimisticLockById(Long id);
+
+    /**
+     * 1회/1일/1달 한도와 잔액 조건을 모두 만족하는 경우에만 결제 금액을 반영합니다. (단일 UPDATE)
+     * <p>
+     * 잔액 차감과 일간/월간 누적 금액 증가를 한 문장으로 처리하므로 회원 정보를 미리 조회하거나 락을 걸 필요가 없습니다.
+     * 누적 금액의 기간이 결제 일자/월과 다르면 기존 누적 금액을 0 으로 보고, 결제 금액으로 새 기간의 누적 금액을 시작합니다.
+     * (MySQL 은 SET 절을 왼쪽부터 적용하므로, 누적 금액을 기간보다 먼저 갱신해야 이전 기간과 비교할 수 있습니다.)
+     * 영속성 컨텍스트에 회원 엔티티가 없는 상태에서 호출해야 합니다.
+     *
+     * @param id     유저 ID
+     * @param amount 결제 금액
+     * @param today  결제 일자
+     * @param month  결제 월의 1일
+     * @return 갱신된 행의 수 (0 인 경우 결제 불가)
+     */
+    @Modifying
+    @Query(value = "UPDATE Member m SET "
+            + "m.balance = m.balance - :amount, "
+            + "m.dailyAccumulate = CASE WHEN m.dailyPeriod = :today THEN m.dailyAccumulate + :amount ELSE :amount END, "
+            + "m.monthlyAccumulate = CASE WHEN m.monthlyPeriod = :month THEN m.monthlyAccumulate + :amount ELSE :amount END, "
+            + "m.dailyPeriod = :today, "
+            + "m.monthlyPeriod = :month, "
+            + "m.version = m.version + 1 "
+            + "WHERE m.id = :id "
+            + "AND :amount <= m.onceLimit "
+            + "AND (CASE WHEN m.dailyPeriod = :today THEN m.dailyAccumulate ELSE 0 END) + :amount <= m.dailyLimit "
+            + "AND (CASE WHEN m.monthlyPeriod = :month THEN m.monthlyAccumulate ELSE 0 END) + :amount <= m.monthlyLimit "
+            + "AND m.balance >= :amount")
+    int payIfAllowed(@Param("id") Long id, @Param("amount") Money amount,
+                     @Param("today") LocalDate today, @Param("month") LocalDate month);
+
+    /**
+     * 페이백 후 잔액이 최대 보유 금액을 넘지 않는 경우에만 페이백 금액을 지급합니다. (단일 UPDATE)
+     *
+     * @param id     유저 ID
+     * @param amount 페이백 금액
+     * @return 갱신된 행의 수 (0 인 경우 페이백 불가)
+     */
+    @Modifying
+    @Query(value = "UPDATE Member m SET m.balance = m.balance + :amount, m.version = m.version + 1 "
+            + "WHERE m.id = :id AND m.balance + :amount <= m.balanceLimit")
+    int paybackIfAllowed(@Param("id") Long id, @Param("amount") Money amount);
+
+    /**
+     * 잔액이 페이백 금액 이상인 경우에만 페이백 금액을 회수합니다. (단일 UPDATE)
+     *
+     * @param id     유저 ID
+     * @param amount 페이백 금액
+     * @return 갱신된 행의 수 (0 인 경우 페이백 취소 불가)
+     */
+    @Modifying
+    @Query(value = "UPDATE Member m SET m.balance = m.balance - :amount, m.version = m.version + 1 "
+            + "WHERE m.id = :id AND m.balance >= :amount")
+    int cancelPaybackIfAllowed(@Param("id") Long id, @Param("amount") Money amount);
+
+    /**
+     * 결제 금액을 환불하고, 일간/월간 누적 금액을 차감합니다. (단일 UPDATE)
+     * 누적 금액이 아직 결제한 일자/월의 기간인 경우에만 차감합니다. (기간이 지난 누적 금액은 이미 0 으로 봅니다.)
+     *
+     * @param id     유저 ID
+     * @param amount 환불 금액
+     * @param paidOn 결제 일자
+     * @param month  결제 월의 1일
+     * @return 갱신된 행의 수 (0 인 경우 유저 없음)
+     */
+    @Modifying
+    @Query(value = "UPDATE Member m SET "
+            + "m.balance = m.balance + :amount, "
+            + "m.dailyAccumulate = CASE WHEN m.dailyPeriod = :paidOn THEN m.dailyAccumulate - :amount ELSE m.dailyAccumulate END, "
+            + "m.monthlyAccumulate = CASE WHEN m.monthlyPeriod = :month THEN m.monthlyAccumulate - :amount ELSE m.monthlyAccumulate END, "
+            + "m.version = m.version + 1 "
+            + "WHERE m.id = :id")
+    int refundPayment(@Param("id") Long id,
+                      @Param("amount") Money amount,
+                      @Param("paidOn") LocalDate paidOn,
+                      @Param("month") LocalDate month);
+
+    /**
+     * 유저 ID로 행 버전만 조회합니다. (엔티티를 조회하지 않음, 조건부 조회(ETag)용)
+     *
+     * @param id 유저 ID
+     * @return 행 버전
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT m.version FROM Member m WHERE m.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * 유저 ID로 유저 응답 DTO를 바로 조회합니다. (엔티티를 영속성 컨텍스트에 올리지 않음)
+     * 필요한 컬럼만 조회하여 생성자 표현식으로 응답 DTO를 만들기 때문에, 엔티티 생성과 변경 감지용 스냅샷이 생기지 않습니다.
+     * 삭제된 유저는 조회되지 않습니다. (@SQLRestriction)
+     *
+     * @param id 유저 ID
+     * @return 유저 응답 DTO
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.lemontree.interview.response.MemberResponse("
+            + "m.id, m.name, m.balance, m.balanceLimit, m.onceLimit, m.dailyLimit, m.monthlyLimit, "
+            + "m.dailyAccumulate, m.dailyPeriod, m.monthlyAccumulate, m.monthlyPeriod, m.isDeleted, m.version) "
+            + "FROM Member m WHERE m.id = :id")
+    Optional<MemberResponse> findResponseById(@Param("id") Long id);
+
+    /**
+     * 유저 ID 목록으로 유저 응답 DTO를 한 번에 조회합니다. (IN 조회 1회, 엔티티를 영속성 컨텍스트에 올리지 않음)
+     * 삭제된 유저는 조회되지 않습니다. (@SQLRestriction)
+     *
+     * @param ids 유저 ID 목록
+     * @return 유저 응답 DTO 목록 (순서 보장 없음)
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.lemontree.interview.response.MemberResponse("
+            + "m.id, m.name, m.balance, m.balanceLimit, m.onceLimit, m.dailyLimit, m.monthlyLimit, "
+            + "m.dailyAccumulate, m.dailyPeriod, m.monthlyAccumulate, m.monthlyPeriod, m.isDeleted, m.version) "
+            + "FROM Member m WHERE m.id IN :ids")
+    List<MemberResponse> findResponsesByIdIn(@Param("ids") Collection<Long> ids);
 }
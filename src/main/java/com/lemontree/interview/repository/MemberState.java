@@ -0,0 +1,25 @@
+package com.lemontree.interview.repository;
+
+import com.lemontree.interview.vo.Money;
+
+import java.time.LocalDate;
+
+/**
+ * 대사 대상 회원의 현재 잔액/누적 금액입니다.
+ *
+ * @param memberId          회원 ID
+ * @param balance           잔액
+ * @param dailyAccumulate   일간 누적 금액
+ * @param dailyPeriod       일간 누적 금액이 속한 일자
+ * @param monthlyAccumulate 월간 누적 금액
+ * @param monthlyPeriod     월간 누적 금액이 속한 월의 1일
+ * @param version           행 버전
+ * @param openingBalance    원장의 계좌 개설 항목 금액 (원장 도입 전에 생성된 회원은 null)
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public record MemberState(Long memberId, Money balance,
+                          Money dailyAccumulate, LocalDate dailyPeriod,
+                          Money monthlyAccumulate, LocalDate monthlyPeriod,
+                          Long version, Money openingBalance) {
+}
@@ -0,0 +1,31 @@
+package com.lemontree.interview.repository;
+
+import com.lemontree.interview.entity.MemberRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+import reactor.core.publisher.Mono;
+
+/**
+ * 유저 리액티브(R2DBC) 레포지토리 인터페이스 입니다.
+ * MemberRepository 와 달리 삭제 여부 조건(@SQLRestriction)이 자동으로 붙지 않으므로 메서드에 직접 포함합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public interface ReactiveMemberRepository extends R2dbcRepository<MemberRow, Long> {
+
+    /**
+     * 삭제되지 않은 유저를 조회합니다.
+     *
+     * @param id 유저 ID
+     * @return 유저 정보
+     */
+    Mono<MemberRow> findByIdAndIsDeletedFalse(Long id);
+
+    /**
+     * 삭제되지 않은 유저가 존재하는지 확인합니다.
+     *
+     * @param id 유저 ID
+     * @return 존재 여부
+     */
+    Mono<Boolean> existsByIdAndIsDeletedFalse(Long id);
+}
@@ -0,0 +1,114 @@
+package com.lemontree.interview.repository;
+
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * R2DBC 로 생성하는 거래의 ID 를 할당하는 클래스입니다.
+ * <p>
+ * JPA 의 거래 ID 테이블 생성기(trade_id_generator, Hibernate pooled optimizer)와 같은 규칙으로 id_generator 테이블에서 ID 구간을 할당받습니다.
+ * next_val 에는 마지막으로 사용된 값이 저장되므로 (hibernate.id.generator.stored_last_used), 갱신 전 값이 s 인 경우
+ * next_val 을 s + 100 으로 변경하고 (s + 1 - 100, s + 1] 구간을 사용합니다. JPA 와 R2DBC 가 할당받는 구간은 겹치지 않습니다.
+ * 할당받은 구간은 메모리에 보관하며, 구간을 모두 사용한 경우에만 DB 에 접근합니다.
+ * <p>
+ * 이 계산은 Hibernate 의 pooled optimizer 구현에 의존하므로, application.properties 에서 관련 설정
+ * (hibernate.id.optimizer.pooled.preferred=pooled, hibernate.id.generator.stored_last_used=true)을 기본값에 기대지 않고 명시합니다.
+ * Hibernate 버전을 올리거나 설정을 바꾸는 경우 ReactiveApiTest 의 ID 중복 검증으로 구간이 겹치지 않는지 확인해야 합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Profile("reactive")
+@Component
+public class ReactiveTradeIdGenerator {
+
+    private static final String SEQUENCE_NAME = "trade";
+
+    /**
+     * Trade 엔티티의 @TableGenerator initialValue, allocationSize 와 같아야 합니다.
+     */
+    private static final long INITIAL_VALUE = 1L;
+    private static final long ALLOCATION_SIZE = 100L;
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+    private final AtomicReference<Block> current = new AtomicReference<>(new Block(new AtomicLong(1L), 0L));
+
+    private record Block(AtomicLong next, long hi) {
+    }
+
+    public ReactiveTradeIdGenerator(DatabaseClient databaseClient, TransactionalOperator transactionalOperator) {
+        this.databaseClient = databaseClient;
+        this.transactionalOperator = transactionalOperator;
+    }
+
+    /**
+     * 다음 거래 ID 를 할당합니다.
+     *
+     * @return 거래 ID
+     */
+    public Mono<Long> nextId() {
+        return Mono.defer(() -> {
+            Block block = current.get();
+            long id = block.next().getAndIncrement();
+            if (id <= block.hi()) {
+                return Mono.just(id);
+            }
+
+            // 동시에 여러 요청이 새 구간을 할당받은 경우 먼저 교체된 구간을 사용하고, 나머지 구간은 버립니다.
+            return allocateBlock().flatMap(allocated -> {
+                current.compareAndSet(block, allocated);
+                return nextId();
+            });
+        });
+    }
+
+    private Mono<Block> allocateBlock() {
+        return fetchLastUsedValue().flatMap(lastUsed -> {
+            long hi = lastUsed + 1;
+            long lo = hi - ALLOCATION_SIZE + 1;
+
+            // 초기 값을 읽은 경우 Hibernate 와 마찬가지로 다음 구간을 다시 할당받습니다.
+            if (lo <= INITIAL_VALUE) {
+                return allocateBlock();
+            }
+            return Mono.just(new Block(new AtomicLong(lo), hi));
+        });
+    }
+
+    /**
+     * next_val 을 ALLOCATION_SIZE 만큼 증가시키고 갱신 전 값을 반환합니다.
+     */
+    private Mono<Long> fetchLastUsedValue() {
+        Mono<Long> increment = databaseClient.sql(
+                        "UPDATE id_generator SET next_val = next_val + :size WHERE sequence_name = :name")
+                .bind("size", ALLOCATION_SIZE)
+                .bind("name", SEQUENCE_NAME)
+                .fetch()
+                .rowsUpdated()
+                .flatMap(updated -> updated == 0
+                        ? Mono.error(new IllegalStateException("거래 ID 생성기 행이 존재하지 않습니다."))
+                        : databaseClient.sql("SELECT next_val FROM id_generator WHERE sequence_name = :name")
+                        .bind("name", SEQUENCE_NAME)
+                        .map(row -> row.get("next_val", Long.class))
+                        .one()
+                        .map(nextVal -> nextVal - ALLOCATION_SIZE))
+                .as(transactionalOperator::transactional);
+
+        // 생성기 행이 없다면 (JPA 가 아직 ID 를 할당받은 적이 없는 경우) 초기 값으로 생성한 뒤 다시 시도합니다.
+        return increment.onErrorResume(IllegalStateException.class, e -> databaseClient.sql(
+                        "INSERT INTO id_generator (sequence_name, next_val) VALUES (:name, :initial)")
+                .bind("name", SEQUENCE_NAME)
+                .bind("initial", INITIAL_VALUE)
+                .then()
+                .onErrorResume(DataIntegrityViolationException.class, duplicate -> Mono.empty())
+                .then(Mono.defer(this::fetchLastUsedValue)));
+    }
+}
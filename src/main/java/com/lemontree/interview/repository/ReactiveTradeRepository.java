@@ -0,0 +1,13 @@
+package com.lemontree.interview.repository;
+
+import com.lemontree.interview.entity.TradeRow;
+import org.springframework.data.r2dbc.repository.R2dbcRepository;
+
+/**
+ * 거래 리액티브(R2DBC) 레포지토리 인터페이스 입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public interface ReactiveTradeRepository extends R2dbcRepository<TradeRow, Long> {
+}
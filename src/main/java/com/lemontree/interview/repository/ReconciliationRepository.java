@@ -0,0 +1,118 @@
+package com.lemontree.interview.repository;
+
+import com.lemontree.interview.config.ReconciliationProperties;
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.vo.Money;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 잔액/누적 금액 대사용 JDBC 레포지토리입니다.
+ * <p>
+ * 거래는 엔티티로 읽지 않고 필요한 컬럼만 전진 전용(forward-only) 커서로 스트리밍하므로,
+ * 거래 수와 관계없이 fetch size 만큼의 행만 메모리에 올라갑니다.
+ * (MySQL 은 접속 URL 에 useCursorFetch=true 가 있어야 fetch size 단위로 가져옵니다.)
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Repository
+public class ReconciliationRepository {
+
+    private static final String MEMBER_STATES_SQL = "SELECT m.member_id, m.balance, m.daily_accumulate, m.daily_period, "
+            + "m.monthly_accumulate, m.monthly_period, m.version, o.amount AS opening_balance "
+            + "FROM member m "
+            + "LEFT JOIN (SELECT member_id, MIN(entry_id) AS entry_id FROM ledger_entry "
+            + "WHERE entry_type = 'OPENING' AND member_id > ? AND member_id <= ? GROUP BY member_id) f "
+            + "ON f.member_id = m.member_id "
+            + "LEFT JOIN ledger_entry o ON o.entry_id = f.entry_id "
+            + "WHERE m.member_id > ? AND m.member_id <= ? AND m.is_deleted = FALSE "
+            + "ORDER BY m.member_id";
+
+    private static final String TRADES_SQL = "SELECT member_id, payment_amount, payment_status, "
+            + "payback_amount, payback_status, payment_approved_at "
+            + "FROM trade WHERE member_id > ? AND member_id <= ?";
+
+    private static final String REPAIR_SQL = "UPDATE member "
+            + "SET balance = ?, daily_accumulate = ?, monthly_accumulate = ?, version = version + 1 "
+            + "WHERE member_id = ? AND version = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JdbcTemplate streamingJdbcTemplate;
+
+    public ReconciliationRepository(JdbcTemplate jdbcTemplate, ReconciliationProperties properties) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.streamingJdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.streamingJdbcTemplate.setFetchSize(properties.getFetchSize());
+    }
+
+    /**
+     * @return 가장 큰 회원 ID (회원이 없으면 0)
+     */
+    public long findMaxMemberId() {
+        Long maxId = jdbcTemplate.queryForObject("SELECT MAX(member_id) FROM member", Long.class);
+        return maxId != null ? maxId : 0L;
+    }
+
+    /**
+     * 회원 ID 구간의 (삭제되지 않은) 회원 잔액/누적 금액을 조회합니다.
+     * 계좌 개설 항목은 회원마다 가장 먼저 기록된 한 건만 사용하므로, 개설 항목이 중복되어도 회원이 중복 조회되지 않습니다.
+     *
+     * @param after 구간 시작 회원 ID (미포함)
+     * @param upTo  구간 끝 회원 ID (포함)
+     * @return 회원 목록 (회원 ID 오름차순)
+     */
+    public List<MemberState> findMemberStates(long after, long upTo) {
+        return jdbcTemplate.query(MEMBER_STATES_SQL, (rs, rowNum) -> new MemberState(
+                rs.getLong("member_id"),
+                Money.of(rs.getLong("balance")),
+                Money.of(rs.getLong("daily_accumulate")),
+                rs.getObject("daily_period", LocalDate.class),
+                Money.of(rs.getLong("monthly_accumulate")),
+                rs.getObject("monthly_period", LocalDate.class),
+                rs.getLong("version"),
+                Money.of(rs.getBigDecimal("opening_balance"))
+        ), after, upTo, after, upTo);
+    }
+
+    /**
+     * 회원 ID 구간의 거래를 스트리밍 조회합니다. (정렬하지 않으며, 행마다 consumer 를 호출합니다.)
+     *
+     * @param after    구간 시작 회원 ID (미포함)
+     * @param upTo     구간 끝 회원 ID (포함)
+     * @param consumer 거래 처리 함수
+     */
+    public void streamTrades(long after, long upTo, Consumer<TradeAmounts> consumer) {
+        streamingJdbcTemplate.query(TRADES_SQL, rs -> {
+            consumer.accept(new TradeAmounts(
+                    rs.getLong("member_id"),
+                    Money.of(rs.getLong("payment_amount")),
+                    PaymentStatus.valueOf(rs.getString("payment_status")),
+                    Money.of(rs.getLong("payback_amount")),
+                    PaybackStatus.valueOf(rs.getString("payback_status")),
+                    rs.getObject("payment_approved_at", LocalDateTime.class)
+            ));
+        }, after, upTo);
+    }
+
+    /**
+     * 회원의 잔액/누적 금액을 보정합니다. 대사 이후 변경된(행 버전이 다른) 회원은 보정하지 않습니다.
+     *
+     * @param memberId          회원 ID
+     * @param version           대사 시점의 행 버전
+     * @param balance           보정할 잔액
+     * @param dailyAccumulate   보정할 일간 누적 금액
+     * @param monthlyAccumulate 보정할 월간 누적 금액
+     * @return 보정 여부
+     */
+    public boolean repair(Long memberId, Long version, Money balance,
+                          Money dailyAccumulate, Money monthlyAccumulate) {
+        return jdbcTemplate.update(REPAIR_SQL, balance.toLong(), dailyAccumulate.toLong(), monthlyAccumulate.toLong(), memberId, version) == 1;
+    }
+}
@@ -0,0 +1,23 @@
+package com.lemontree.interview.repository;
+
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.vo.Money;
+
+import java.time.LocalDateTime;
+
+/**
+ * 대사에 필요한 거래의 금액과 상태입니다.
+ *
+ * @param memberId          회원 ID
+ * @param paymentAmount     결제 금액
+ * @param paymentStatus     결제 상태
+ * @param paybackAmount     페이백 금액
+ * @param paybackStatus     페이백 상태
+ * @param paymentApprovedAt 결제 승인 일시
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public record TradeAmounts(Long memberId, Money paymentAmount, PaymentStatus paymentStatus,
+                           Money paybackAmount, PaybackStatus paybackStatus, LocalDateTime paymentApprovedAt) {
+}
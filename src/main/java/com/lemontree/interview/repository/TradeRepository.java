@@ -1,10 +1,26 @@
 package com.lemontree.interview.repository;
 
 import com.lemontree.interview.entity.Trade;
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.response.TradeHistoryItemResponse;
+import com.lemontree.interview.response.TradeResponse;
+import com.lemontree.interview.response.TradeStatusResponse;
 import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -23,4 +39,230 @@ public interface TradeRepository extends JpaRepository<Trade, Long> {
      */
     @Lock(LockModeType.PESSIMISTIC_WRITE)
     Optional<Trade> findWithPessimisticLockById(Long paymentId);
+
+    /**
+     * 거래 ID로 거래와 거래를 생성한 회원을 한 번에 조회합니다. (비관적 락 사용)
+     * <p>
+     * 거래와 회원 행을 하나의 SELECT ... FOR UPDATE 로 잠그므로 DB 왕복이 한 번으로 줄어듭니다.
+     * 락은 항상 거래 → 회원 순서로 획득하며(거래는 PK 로 먼저 조회되고, 회원은 거래의 member_id 로 조인됩니다.),
+     * 결제/페이백의 모든 비관적 락 경로가 이 메서드를 사용하므로 거래 → 회원 / 회원 → 거래 순서가 엇갈리는 교착 상태가 발생하지 않습니다.
+     * 회원이 삭제된 경우에도 거래는 조회되며, 이 때 회원은 null 입니다.
+     *
+     * @param tradeId 거래 ID
+     * @return 거래와 회원
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT new com.lemontree.interview.repository.TradeWithMember(t, m) "
+            + "FROM Trade t LEFT JOIN Member m ON m.id = t.memberId "
+            + "WHERE t.id = :tradeId")
+    Optional<TradeWithMember> findWithMemberAndPessimisticLockById(@Param("tradeId") Long tradeId);
+
+    /**
+     * 거래 ID 목록으로 거래 정보를 조회합니다. (비관적 락 사용)
+     * <p>
+     * 여러 트랜잭션이 같은 거래를 잠그더라도 교착 상태가 발생하지 않도록 항상 거래 ID 오름차순으로 잠급니다.
+     *
+     * @param tradeIds 거래 ID 목록
+     * @return 거래 정보 목록 (거래 ID 오름차순)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM Trade t WHERE t.id IN :tradeIds ORDER BY t.id")
+    List<Trade> findAllWithPessimisticLockByIdIn(@Param("tradeIds") Collection<Long> tradeIds);
+
+    /**
+     * 결제 ID로 결제 정보를 조회합니다. (낙관적 락 사용)
+     *
+     * @param paymentId 결제 ID
+     * @return 결제 정보
+     */
+    @Lock(LockModeType.OPTIMISTIC)
+    Optional<Trade> findWithOptimisticLockById(Long paymentId);
+
+    /**
+     * 거래 ID로 거래를 생성한 유저 ID만 조회합니다. (락 미사용)
+     *
+     * @param tradeId 거래 ID
+     * @return 유저 ID
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT t.memberId FROM Trade t WHERE t.id = :tradeId")
+    Optional<Long> findMemberIdById(@Param("tradeId") Long tradeId);
+
+    /**
+     * 거래 ID로 거래 응답 DTO를 바로 조회합니다. (엔티티를 영속성 컨텍스트에 올리지 않음)
+     * 필요한 컬럼만 조회하여 생성자 표현식으로 응답 DTO를 만들기 때문에, 엔티티 생성과 변경 감지용 스냅샷이 생기지 않습니다.
+     *
+     * @param tradeId 거래 ID
+     * @return 거래 응답 DTO
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.lemontree.interview.response.TradeResponse("
+            + "t.id, t.memberId, t.paymentAmount, t.paymentStatus, t.paybackAmount, t.paybackStatus, t.version) "
+            + "FROM Trade t WHERE t.id = :tradeId")
+    Optional<TradeResponse> findResponseById(@Param("tradeId") Long tradeId);
+
+    /**
+     * 거래 ID 목록으로 거래 응답 DTO를 한 번에 조회합니다. (IN 조회 1회, 엔티티를 영속성 컨텍스트에 올리지 않음)
+     *
+     * @param tradeIds 거래 ID 목록
+     * @return 거래 응답 DTO 목록 (순서 보장 없음)
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.lemontree.interview.response.TradeResponse("
+            + "t.id, t.memberId, t.paymentAmount, t.paymentStatus, t.paybackAmount, t.paybackStatus, t.version) "
+            + "FROM Trade t WHERE t.id IN :tradeIds")
+    List<TradeResponse> findResponsesByIdIn(@Param("tradeIds") Collection<Long> tradeIds);
+
+    /**
+     * 회원의 거래 내역 첫 페이지를 조회합니다. (결제 승인 일시, 거래 ID 내림차순)
+     * idx_trade_member_approved_at 인덱스를 역순으로 탐색하며 limit 건을 읽으면 멈춥니다.
+     *
+     * @param memberId        회원 ID
+     * @param from            결제 승인 일시 하한 (포함)
+     * @param to              결제 승인 일시 상한 (미포함)
+     * @param paymentStatuses 결제 상태 조건
+     * @param paybackStatuses 페이백 상태 조건
+     * @param limit           조회 건수
+     * @return 거래 내역
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.lemontree.interview.response.TradeHistoryItemResponse("
+            + "t.id, t.paymentAmount, t.paymentStatus, t.paybackAmount, t.paybackStatus, t.paymentApprovedAt) "
+            + "FROM Trade t "
+            + "WHERE t.memberId = :memberId "
+            + "AND t.paymentApprovedAt >= :from AND t.paymentApprovedAt < :to "
+            + "AND t.paymentStatus IN :paymentStatuses AND t.paybackStatus IN :paybackStatuses "
+            + "ORDER BY t.paymentApprovedAt DESC, t.id DESC")
+    List<TradeHistoryItemResponse> findHistory(@Param("memberId") Long memberId,
+                                               @Param("from") LocalDateTime from,
+                                               @Param("to") LocalDateTime to,
+                                               @Param("paymentStatuses") Collection<PaymentStatus> paymentStatuses,
+                                               @Param("paybackStatuses") Collection<PaybackStatus> paybackStatuses,
+                                               Limit limit);
+
+    /**
+     * 회원의 거래 내역 중 커서 (cursorApprovedAt, cursorTradeId) 이후 페이지를 조회합니다. (키셋 페이지네이션)
+     * <p>
+     * OFFSET 처럼 앞 페이지의 행을 읽고 버리지 않고, 인덱스에서 커서 위치를 바로 찾아 limit 건만 읽기 때문에
+     * 몇 번째 페이지이든 조회 비용이 같습니다.
+     * 커서 일시를 범위 상한(포함)으로 두어 인덱스 범위 탐색이 가능하도록 하고, 같은 일시의 거래는 거래 ID 로 구분합니다.
+     *
+     * @param memberId         회원 ID
+     * @param from             결제 승인 일시 하한 (포함)
+     * @param to               결제 승인 일시 상한 (미포함)
+     * @param cursorApprovedAt 이전 페이지 마지막 거래의 결제 승인 일시
+     * @param cursorTradeId    이전 페이지 마지막 거래 ID
+     * @param paymentStatuses  결제 상태 조건
+     * @param paybackStatuses  페이백 상태 조건
+     * @param limit            조회 건수
+     * @return 거래 내역
+     */
+    @Transactional(readOnly = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT new com.lemontree.interview.response.TradeHistoryItemResponse("
+            + "t.id, t.paymentAmount, t.paymentStatus, t.paybackAmount, t.paybackStatus, t.paymentApprovedAt) "
+            + "FROM Trade t "
+            + "WHERE t.memberId = :memberId "
+            + "AND t.paymentApprovedAt >= :from AND t.paymentApprovedAt < :to "
+            + "AND t.paymentApprovedAt <= :cursorApprovedAt "
+            + "AND (t.paymentApprovedAt < :cursorApprovedAt OR t.id < :cursorTradeId) "
+            + "AND t.paymentStatus IN :paymentStatuses AND t.paybackStatus IN :paybackStatuses "
+            + "ORDER BY t.paymentApprovedAt DESC, t.id DESC")
+    List<TradeHistoryItemResponse> findHistoryAfter(@Param("memberId") Long memberId,
+                                                    @Param("from") LocalDateTime from,
+                                                    @Param("to") LocalDateTime to,
+                                                    @Param("cursorApprovedAt") LocalDateTime cursorApprovedAt,
+                                                    @Param("cursorTradeId") Long cursorTradeId,
+                                                    @Param("paymentStatuses") Collection<PaymentStatus> paymentStatuses,
+                                                    @Param("paybackStatuses") Collection<PaybackStatus> paybackStatuses,
+                                                    Limit limit);
+
+    /**
+     * 거래 ID로 행 버전만 조회합니다. (엔티티를 조회하지 않음, 조건부 조회(ETag)용)
+     *
+     * @param tradeId 거래 ID
+     * @return 행 버전
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT t.version FROM Trade t WHERE t.id = :tradeId")
+    Optional<Long> findVersionById(@Param("tradeId") Long tradeId);
+
+    /**
+     * 거래 ID로 결제/페이백 상태만 조회합니다. (락 미사용, 영속성 컨텍스트를 거치지 않음)
+     *
+     * @param tradeId 거래 ID
+     * @return 결제/페이백 상태
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT t.paymentStatus AS paymentStatus, t.paybackStatus AS paybackStatus FROM Trade t WHERE t.id = :tradeId")
+    Optional<TradeStatusView> findStatusById(@Param("tradeId") Long tradeId);
+
+    /**
+     * 거래 ID로 거래 상태 변경 이벤트 응답을 조회합니다. (엔티티를 조회하지 않음)
+     *
+     * @param tradeId 거래 ID
+     * @return 거래 상태
+     */
+    @Transactional(readOnly = true)
+    @Query("SELECT new com.lemontree.interview.response.TradeStatusResponse(t.id, t.memberId, t.paymentStatus, t.paybackStatus, t.version) "
+            + "FROM Trade t WHERE t.id = :tradeId")
+    Optional<TradeStatusResponse> findStatusResponseById(@Param("tradeId") Long tradeId);
+
+    /**
+     * 결제 대기(WAIT) 상태인 경우에만 결제 완료(DONE)로 변경합니다. (Compare-And-Set)
+     *
+     * @param tradeId 거래 ID
+     * @param now     결제 승인 일시
+     * @return 갱신된 행의 수 (0 인 경우 상태 전이 실패)
+     */
+    @Modifying
+    @Query("UPDATE Trade t SET t.paymentStatus = com.lemontree.interview.enums.PaymentStatus.DONE, t.paymentApprovedAt = :now, t.version = t.version + 1 "
+            + "WHERE t.id = :tradeId AND t.paymentStatus = com.lemontree.interview.enums.PaymentStatus.WAIT")
+    int completePaymentIfWaiting(@Param("tradeId") Long tradeId, @Param("now") LocalDateTime now);
+
+    /**
+     * 결제 완료(DONE) 상태이고 페이백이 완료(DONE)되지 않은 경우에만 결제 취소(CANCEL)로 변경합니다. (Compare-And-Set)
+     * (페이백이 남은 채로 결제만 취소되지 않도록, 페이백 취소가 먼저 반영되어 있어야 합니다.)
+     *
+     * @param tradeId 거래 ID
+     * @param now     결제 취소 일시
+     * @return 갱신된 행의 수 (0 인 경우 상태 전이 실패)
+     */
+    @Modifying
+    @Query("UPDATE Trade t SET t.paymentStatus = com.lemontree.interview.enums.PaymentStatus.CANCEL, t.paymentCanceledAt = :now, t.version = t.version + 1 "
+            + "WHERE t.id = :tradeId "
+            + "AND t.paymentStatus = com.lemontree.interview.enums.PaymentStatus.DONE "
+            + "AND t.paybackStatus <> com.lemontree.interview.enums.PaybackStatus.DONE")
+    int cancelPaymentIfDone(@Param("tradeId") Long tradeId, @Param("now") LocalDateTime now);
+
+    /**
+     * 결제가 완료되었고 페이백이 완료(DONE) 상태가 아닌 경우에만 페이백 완료로 변경합니다. (Compare-And-Set)
+     *
+     * @param tradeId 거래 ID
+     * @param now     페이백 승인 일시
+     * @return 갱신된 행의 수 (0 인 경우 상태 전이 실패)
+     */
+    @Modifying
+    @Query("UPDATE Trade t SET t.paybackStatus = com.lemontree.interview.enums.PaybackStatus.DONE, t.paybackApprovedAt = :now, t.version = t.version + 1 "
+            + "WHERE t.id = :tradeId "
+            + "AND t.paymentStatus = com.lemontree.interview.enums.PaymentStatus.DONE "
+            + "AND t.paybackStatus <> com.lemontree.interview.enums.PaybackStatus.DONE")
+    int completePaybackIfAllowed(@Param("tradeId") Long tradeId, @Param("now") LocalDateTime now);
+
+    /**
+     * 결제와 페이백이 모두 완료(DONE) 상태인 경우에만 페이백 취소(CANCEL)로 변경합니다. (Compare-And-Set)
+     *
+     * @param tradeId 거래 ID
+     * @param now     페이백 취소 일시
+     * @return 갱신된 행의 수 (0 인 경우 상태 전이 실패)
+     */
+    @Modifying
+    @Query("UPDATE Trade t SET t.paybackStatus = com.lemontree.interview.enums.PaybackStatus.CANCEL, t.paybackCanceledAt = :now, t.version = t.version + 1 "
+            + "WHERE t.id = :tradeId "
+            + "AND t.paymentStatus = com.lemontree.interview.enums.PaymentStatus.DONE "
+            + "AND t.paybackStatus = com.lemontree.interview.enums.PaybackStatus.DONE")
+    int cancelPaybackIfDone(@Param("tradeId") Long tradeId, @Param("now") LocalDateTime now);
 }
@@ -0,0 +1,17 @@
+package com.lemontree.interview.repository;
+
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+
+/**
+ * 거래의 결제/페이백 상태만 조회하는 Projection 입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public interface TradeStatusView {
+
+    PaymentStatus getPaymentStatus();
+
+    PaybackStatus getPaybackStatus();
+}
@@ -0,0 +1,29 @@
+package com.lemontree.interview.repository;
+
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.entity.Trade;
+import com.lemontree.interview.exception.member.MemberNotFoundException;
+
+/**
+ * 한 번의 조회로 함께 잠근 거래와 거래를 생성한 회원입니다.
+ *
+ * @param trade  거래
+ * @param member 거래를 생성한 회원 (삭제된 회원인 경우 null)
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public record TradeWithMember(Trade trade, Member member) {
+
+    /**
+     * 거래를 생성한 회원을 반환합니다.
+     *
+     * @return 회원
+     * @throws MemberNotFoundException 회원이 존재하지 않는 경우
+     */
+    public Member getMemberOrThrow() {
+        if (member == null) {
+            throw new MemberNotFoundException();
+        }
+        return member;
+    }
+}
@@ -1,13 +1,12 @@
 package com.lemontree.interview.request;
 
+import com.lemontree.interview.vo.Money;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
 import lombok.Getter;
 
-import java.math.BigDecimal;
-
 /**
  * 유저 생성 Request 클래스입니다.
  *
@@ -23,23 +22,23 @@ public class MemberCreate {
 
     @PositiveOrZero(message = "잔액은 0 이상의 값으로 입력해주세요.")
     @NotNull(message = "잔액을 입력해주세요.")
-    private BigDecimal balance;
+    private Money balance;
 
     @PositiveOrZero(message = "잔액 한도는 0 이상의 값으로 입력해주세요.")
     @NotNull(message = "잔액 한도를 입력해주세요.")
-    private BigDecimal balanceLimit;
+    private Money balanceLimit;
 
     @PositiveOrZero(message = "1회 한도는 0 이상의 값으로 입력해주세요.")
     @NotNull(message = "1회 한도를 입력해주세요.")
-    private BigDecimal onceLimit;
+    private Money onceLimit;
 
     @PositiveOrZero(message = "1일 한도는 0 이상의 값으로 입력해주세요.")
     @NotNull(message = "1일 한도를 입력해주세요.")
-    private BigDecimal dailyLimit;
+    private Money dailyLimit;
 
     @PositiveOrZero(message = "1달 한도는 0 이상의 값으로 입력해주세요.")
     @NotNull(message = "1달 한도를 입력해주세요.")
-    private BigDecimal monthlyLimit;
+    private Money monthlyLimit;
 
     private Boolean isDeleted;
 }
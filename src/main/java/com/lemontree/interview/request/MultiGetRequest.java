@@ -0,0 +1,26 @@
+package com.lemontree.interview.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+
+/**
+ * ID 목록 일괄 조회 요청 정보입니다. (ids=1,2,3 또는 ids=1&amp;ids=2)
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Setter
+public class MultiGetRequest {
+
+    public static final int MAX_SIZE = 500;
+
+    @NotEmpty(message = "조회할 ID를 입력해주세요.")
+    @Size(max = MAX_SIZE, message = "한 번에 조회할 수 있는 ID는 최대 500개 입니다.")
+    private List<@NotNull(message = "ID를 입력해주세요.") Long> ids;
+}
@@ -0,0 +1,24 @@
+package com.lemontree.interview.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 결제 일괄 처리 요청 정보입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+public class PaymentBatchRequest {
+
+    public static final int MAX_SIZE = 10_000;
+
+    @NotEmpty(message = "결제할 거래 ID를 입력해주세요.")
+    @Size(max = MAX_SIZE, message = "한 번에 결제할 수 있는 거래는 최대 10,000건 입니다.")
+    private List<@NotNull(message = "거래 ID를 입력해주세요.") Long> tradeIds;
+}
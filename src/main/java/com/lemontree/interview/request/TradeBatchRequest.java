@@ -0,0 +1,47 @@
+package com.lemontree.interview.request;
+
+import com.lemontree.interview.vo.Money;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 거래 일괄 생성 요청 정보입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+public class TradeBatchRequest {
+
+    public static final int MAX_SIZE = 50_000;
+
+    @Valid
+    @NotEmpty(message = "생성할 거래를 입력해주세요.")
+    @Size(max = MAX_SIZE, message = "한 번에 생성할 수 있는 거래는 최대 50,000건 입니다.")
+    private List<Item> trades;
+
+    /**
+     * 일괄 생성할 거래 한 건의 정보입니다.
+     */
+    @Getter
+    public static class Item {
+
+        @NotNull(message = "회원 ID를 입력해주세요.")
+        private Long memberId;
+
+        @NotNull(message = "결제 금액을 입력해주세요.")
+        @Positive(message = "결제 금액을 0원 이상으로 입력해주세요.")
+        private Money paymentAmount;
+
+        @NotNull(message = "페이백 금액을 입력해주세요.")
+        @PositiveOrZero(message = "페이백 금액을 0원 이상으로 입력해주세요.")
+        private Money paybackAmount;
+    }
+}
@@ -0,0 +1,53 @@
+package com.lemontree.interview.request;
+
+import com.lemontree.interview.exception.trade.InvalidTradeCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 거래 내역 조회의 다음 페이지 위치(키셋 커서)입니다.
+ * <p>
+ * 이전 페이지 마지막 거래의 (결제 승인 일시, 거래 ID)를 담으며, 클라이언트에는 불투명한 문자열로 전달합니다.
+ *
+ * @param paymentApprovedAt 마지막 거래의 결제 승인 일시
+ * @param tradeId           마지막 거래 ID
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public record TradeHistoryCursor(LocalDateTime paymentApprovedAt, Long tradeId) {
+
+    private static final String DELIMITER = "|";
+
+    /**
+     * 커서를 URL 에 그대로 사용할 수 있는 문자열로 변환합니다.
+     *
+     * @return 커서 문자열
+     */
+    public String encode() {
+        String raw = paymentApprovedAt + DELIMITER + tradeId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 해석합니다.
+     *
+     * @param cursor 커서 문자열
+     * @return 커서
+     */
+    public static TradeHistoryCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            if (index < 0) {
+                throw new InvalidTradeCursorException();
+            }
+            return new TradeHistoryCursor(LocalDateTime.parse(raw.substring(0, index)),
+                    Long.valueOf(raw.substring(index + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidTradeCursorException();
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.lemontree.interview.request;
+
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+import jakarta.validation.constraints.AssertTrue;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDate;
+
+/**
+ * 회원 거래 내역 조회 조건입니다.
+ * 결제가 승인된 거래만 조회하며, 조회 기간은 결제 승인 일자 기준 [from, to) 입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+@Setter
+public class TradeHistoryRequest {
+
+    public static final int DEFAULT_SIZE = 20;
+    public static final int MAX_SIZE = 100;
+
+    /**
+     * 결제 상태 (DONE, CANCEL)
+     */
+    private PaymentStatus paymentStatus;
+
+    /**
+     * 페이백 상태 (WAIT, DONE, CANCEL)
+     */
+    private PaybackStatus paybackStatus;
+
+    /**
+     * 조회 시작일 (포함)
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate from;
+
+    /**
+     * 조회 종료일 (미포함)
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate to;
+
+    @Min(value = 1, message = "조회 건수는 1건 이상이어야 합니다.")
+    @Max(value = MAX_SIZE, message = "한 번에 조회할 수 있는 거래는 최대 100건 입니다.")
+    private int size = DEFAULT_SIZE;
+
+    /**
+     * 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     */
+    private String cursor;
+
+    @AssertTrue(message = "조회 종료일은 시작일 이후여야 합니다.")
+    public boolean isPeriodValid() {
+        return from == null || to == null || from.isBefore(to);
+    }
+}
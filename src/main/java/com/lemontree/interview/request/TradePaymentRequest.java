@@ -0,0 +1,30 @@
+package com.lemontree.interview.request;
+
+import com.lemontree.interview.vo.Money;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.PositiveOrZero;
+import lombok.Getter;
+
+/**
+ * 거래 생성과 결제를 함께 요청하는 정보입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+public class TradePaymentRequest {
+
+    @NotNull(message = "결제 금액을 입력해주세요.")
+    @Positive(message = "결제 금액을 0원 이상으로 입력해주세요.")
+    private Money paymentAmount;
+
+    @NotNull(message = "페이백 금액을 입력해주세요.")
+    @PositiveOrZero(message = "페이백 금액을 0원 이상으로 입력해주세요.")
+    private Money paybackAmount;
+
+    /**
+     * 결제와 함께 페이백까지 완료할지 여부 (기본값: false)
+     */
+    private boolean payback;
+}
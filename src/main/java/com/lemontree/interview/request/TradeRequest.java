@@ -1,12 +1,11 @@
 package com.lemontree.interview.request;
 
+import com.lemontree.interview.vo.Money;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
 import jakarta.validation.constraints.PositiveOrZero;
 import lombok.Getter;
 
-import java.math.BigDecimal;
-
 /**
  * 거래 요청 정보입니다.
  *
@@ -18,9 +17,9 @@ public class TradeRequest {
 
     @NotNull(message = "결제 금액을 입력해주세요.")
     @Positive(message = "결제 금액을 0원 이상으로 입력해주세요.")
-    private BigDecimal paymentAmount;
+    private Money paymentAmount;
 
     @NotNull(message = "페이백 금액을 입력해주세요.")
     @PositiveOrZero(message = "페이백 금액을 0원 이상으로 입력해주세요.")
-    private BigDecimal paybackAmount;
+    private Money paybackAmount;
 }
@@ -0,0 +1,24 @@
+package com.lemontree.interview.response;
+
+import com.lemontree.interview.vo.Money;
+import lombok.Getter;
+
+/**
+ * 원장 기준 회원 잔액 응답 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+public class MemberBalanceResponse {
+
+    private final Long memberId;
+    private final Money balance;
+    private final Long lastEntryId;
+
+    public MemberBalanceResponse(Long memberId, Money balance, Long lastEntryId) {
+        this.memberId = memberId;
+        this.balance = balance;
+        this.lastEntryId = lastEntryId;
+    }
+}
@@ -0,0 +1,30 @@
+package com.lemontree.interview.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 회원 일괄 조회 응답 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+public class MemberListResponse {
+
+    /**
+     * 조회된 회원 (요청한 ID 순서, 중복 ID는 한 번만 포함)
+     */
+    private final List<MemberResponse> members;
+
+    /**
+     * 존재하지 않는(또는 삭제된) 회원 ID (요청한 ID 순서)
+     */
+    private final List<Long> missingIds;
+
+    public MemberListResponse(final List<MemberResponse> members, final List<Long> missingIds) {
+        this.members = members;
+        this.missingIds = missingIds;
+    }
+}
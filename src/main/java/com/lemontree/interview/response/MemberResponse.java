@@ -1,12 +1,16 @@
 package com.lemontree.interview.response;
 
 import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.entity.MemberRow;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.lemontree.interview.vo.Money;
 import lombok.Getter;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
 
 /**
  * 회원 응답 클래스입니다.
+ * 누적 금액은 조회한 그대로 보관하며, 응답할 때 asOf 로 응답 일자를 적용합니다. (기간이 지난 누적 금액은 0, 캐시에 보관된 응답도 자정이 지나면 0 으로 응답합니다.)
  *
  * @author 정승조
  * @version 2024. 08. 08.
@@ -16,15 +20,47 @@ public class MemberResponse {
 
     private final Long memberId;
     private final String name;
-    private final BigDecimal balance;
-    private final BigDecimal balanceLimit;
-    private final BigDecimal onceLimit;
-    private final BigDecimal dailyLimit;
-    private final BigDecimal monthlyLimit;
-    private final BigDecimal dailyAccumulate;
-    private final BigDecimal monthlyAccumulate;
+    private final Money balance;
+    private final Money balanceLimit;
+    private final Money onceLimit;
+    private final Money dailyLimit;
+    private final Money monthlyLimit;
+    private final Money dailyAccumulate;
+    @JsonIgnore
+    private final LocalDate dailyPeriod;
+    private final Money monthlyAccumulate;
+    @JsonIgnore
+    private final LocalDate monthlyPeriod;
     private final Boolean isDeleted;
 
+    /**
+     * 조회 시점의 행 버전 (ETag 로 사용하며 응답 본문에는 포함하지 않습니다.)
+     */
+    @JsonIgnore
+    private final Long version;
+
+    /**
+     * 조회 쿼리의 생성자 표현식(SELECT new ...)에서 사용하는 생성자입니다.
+     */
+    public MemberResponse(Long memberId, String name, Money balance, Money balanceLimit,
+                          Money onceLimit, Money dailyLimit, Money monthlyLimit,
+                          Money dailyAccumulate, LocalDate dailyPeriod, Money monthlyAccumulate, LocalDate monthlyPeriod,
+                          Boolean isDeleted, Long version) {
+        this.memberId = memberId;
+        this.name = name;
+        this.balance = balance;
+        this.balanceLimit = balanceLimit;
+        this.onceLimit = onceLimit;
+        this.dailyLimit = dailyLimit;
+        this.monthlyLimit = monthlyLimit;
+        this.dailyAccumulate = dailyAccumulate;
+        this.dailyPeriod = dailyPeriod;
+        this.monthlyAccumulate = monthlyAccumulate;
+        this.monthlyPeriod = monthlyPeriod;
+        this.isDeleted = isDeleted;
+        this.version = version;
+    }
+
     public MemberResponse(final Member member) {
         this.memberId = member.getId();
         this.name = member.getName();
@@ -34,7 +70,43 @@ public class MemberResponse {
         this.dailyLimit = member.getDailyLimit();
         this.monthlyLimit = member.getMonthlyLimit();
         this.dailyAccumulate = member.getDailyAccumulate();
+        this.dailyPeriod = member.getDailyPeriod();
         this.monthlyAccumulate = member.getMonthlyAccumulate();
+        this.monthlyPeriod = member.getMonthlyPeriod();
         this.isDeleted = member.getIsDeleted();
+        this.version = member.getVersion();
+    }
+
+    public MemberResponse(final MemberRow member) {
+        this.memberId = member.getId();
+        this.name = member.getName();
+        this.balance = Money.of(member.getBalance());
+        this.balanceLimit = Money.of(member.getBalanceLimit());
+        this.onceLimit = Money.of(member.getOnceLimit());
+        this.dailyLimit = Money.of(member.getDailyLimit());
+        this.monthlyLimit = Money.of(member.getMonthlyLimit());
+        this.dailyAccumulate = Money.of(member.getDailyAccumulate());
+        this.dailyPeriod = member.getDailyPeriod();
+        this.monthlyAccumulate = Money.of(member.getMonthlyAccumulate());
+        this.monthlyPeriod = member.getMonthlyPeriod();
+        this.isDeleted = member.getIsDeleted();
+        this.version = member.getVersion();
+    }
+
+    /**
+     * 응답 일자 기준의 누적 금액으로 응답을 반환합니다. (기간이 지난 누적 금액은 0)
+     *
+     * @param today 응답 일자 (업무 시간대 기준)
+     * @return 응답 일자의 누적 금액을 가진 응답 (누적 금액이 그대로인 경우 자기 자신)
+     */
+    public MemberResponse asOf(LocalDate today) {
+        Money daily = today.equals(dailyPeriod) ? dailyAccumulate : Money.ZERO;
+        Money monthly = Member.monthlyPeriodOf(today).equals(monthlyPeriod) ? monthlyAccumulate : Money.ZERO;
+        if (daily.equals(dailyAccumulate) && monthly.equals(monthlyAccumulate)) {
+            return this;
+        }
+
+        return new MemberResponse(memberId, name, balance, balanceLimit, onceLimit, dailyLimit, monthlyLimit,
+                daily, dailyPeriod, monthly, monthlyPeriod, isDeleted, version);
     }
 }
@@ -0,0 +1,58 @@
+package com.lemontree.interview.response;
+
+import com.lemontree.interview.exception.GeneralException;
+import lombok.Getter;
+import org.springframework.http.HttpStatus;
+
+import java.util.List;
+
+/**
+ * 결제 일괄 처리 응답 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+public class PaymentBatchResponse {
+
+    private final int requested;
+    private final int succeeded;
+    private final int failed;
+    private final List<Result> results;
+
+    public PaymentBatchResponse(final List<Result> results) {
+        this.requested = results.size();
+        this.succeeded = (int) results.stream().filter(result -> result.getStatus() == HttpStatus.OK).count();
+        this.failed = requested - succeeded;
+        this.results = results;
+    }
+
+    /**
+     * 거래별 결제 결과입니다. 실패한 경우 단건 결제 API 의 에러 응답과 같은 상태와 메시지를 가집니다.
+     */
+    @Getter
+    public static class Result {
+
+        private final Long tradeId;
+        private final HttpStatus status;
+        private final String message;
+
+        private Result(Long tradeId, HttpStatus status, String message) {
+            this.tradeId = tradeId;
+            this.status = status;
+            this.message = message;
+        }
+
+        public static Result succeeded(Long tradeId) {
+            return new Result(tradeId, HttpStatus.OK, null);
+        }
+
+        public static Result failed(Long tradeId, GeneralException e) {
+            return new Result(tradeId, HttpStatus.valueOf(e.getStatusCode()), e.getMessage());
+        }
+
+        public static Result failed(Long tradeId, HttpStatus status, String message) {
+            return new Result(tradeId, status, message);
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package com.lemontree.interview.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 거래 일괄 생성 응답 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+public class TradeBatchResponse {
+
+    private final int requested;
+    private final int created;
+    private final int failed;
+    private final List<Result> results;
+
+    public TradeBatchResponse(final List<Result> results) {
+        this.requested = results.size();
+        this.created = (int) results.stream().filter(result -> result.getTradeId() != null).count();
+        this.failed = requested - created;
+        this.results = results;
+    }
+
+    /**
+     * 요청 순서(index)별 거래 생성 결과입니다. 생성에 실패한 경우 tradeId 대신 message 가 채워집니다.
+     */
+    @Getter
+    public static class Result {
+
+        private final int index;
+        private final Long tradeId;
+        private final String message;
+
+        private Result(int index, Long tradeId, String message) {
+            this.index = index;
+            this.tradeId = tradeId;
+            this.message = message;
+        }
+
+        public static Result created(int index, Long tradeId) {
+            return new Result(index, tradeId, null);
+        }
+
+        public static Result failed(int index, String message) {
+            return new Result(index, null, message);
+        }
+    }
+}
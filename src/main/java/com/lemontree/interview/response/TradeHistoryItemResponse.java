@@ -0,0 +1,39 @@
+package com.lemontree.interview.response;
+
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.vo.Money;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 회원 거래 내역의 거래 한 건 응답 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+public class TradeHistoryItemResponse {
+
+    private final Long tradeId;
+    private final Money paymentAmount;
+    private final PaymentStatus paymentStatus;
+    private final Money paybackAmount;
+    private final PaybackStatus paybackStatus;
+    private final LocalDateTime paymentApprovedAt;
+
+    /**
+     * 조회 쿼리의 생성자 표현식(SELECT new ...)에서 사용하는 생성자입니다.
+     */
+    public TradeHistoryItemResponse(Long tradeId, Money paymentAmount, PaymentStatus paymentStatus,
+                                    Money paybackAmount, PaybackStatus paybackStatus,
+                                    LocalDateTime paymentApprovedAt) {
+        this.tradeId = tradeId;
+        this.paymentAmount = paymentAmount;
+        this.paymentStatus = paymentStatus;
+        this.paybackAmount = paybackAmount;
+        this.paybackStatus = paybackStatus;
+        this.paymentApprovedAt = paymentApprovedAt;
+    }
+}
@@ -0,0 +1,37 @@
+package com.lemontree.interview.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 회원 거래 내역 조회 응답 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+public class TradeHistoryResponse {
+
+    /**
+     * 거래 목록 (결제 승인 일시 내림차순, 같은 일시는 거래 ID 내림차순)
+     */
+    private final List<TradeHistoryItemResponse> trades;
+
+    /**
+     * 다음 페이지 존재 여부
+     */
+    private final boolean hasNext;
+
+    /**
+     * 다음 페이지 조회 시 전달할 커서 (다음 페이지가 없으면 null)
+     */
+    private final String nextCursor;
+
+    public TradeHistoryResponse(final List<TradeHistoryItemResponse> trades, final boolean hasNext,
+                                final String nextCursor) {
+        this.trades = trades;
+        this.hasNext = hasNext;
+        this.nextCursor = nextCursor;
+    }
+}
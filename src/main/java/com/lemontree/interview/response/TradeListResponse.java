@@ -0,0 +1,30 @@
+package com.lemontree.interview.response;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 거래 일괄 조회 응답 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+public class TradeListResponse {
+
+    /**
+     * 조회된 거래 (요청한 ID 순서, 중복 ID는 한 번만 포함)
+     */
+    private final List<TradeResponse> trades;
+
+    /**
+     * 존재하지 않는 거래 ID (요청한 ID 순서)
+     */
+    private final List<Long> missingIds;
+
+    public TradeListResponse(final List<TradeResponse> trades, final List<Long> missingIds) {
+        this.trades = trades;
+        this.missingIds = missingIds;
+    }
+}
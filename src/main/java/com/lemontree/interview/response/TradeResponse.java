@@ -1,11 +1,13 @@
 package com.lemontree.interview.response;
 
 import com.lemontree.interview.entity.Trade;
+import com.lemontree.interview.entity.TradeRow;
 import com.lemontree.interview.enums.PaybackStatus;
 import com.lemontree.interview.enums.PaymentStatus;
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.lemontree.interview.vo.Money;
 import lombok.Getter;
 
-import java.math.BigDecimal;
 
 /**
  * 거래 응답 클래스입니다.
@@ -18,11 +20,31 @@ public class TradeResponse {
 
     private final Long tradeId;
     private final Long memberId;
-    private final BigDecimal paymentAmount;
+    private final Money paymentAmount;
     private final PaymentStatus paymentStatus;
-    private final BigDecimal paybackAmount;
+    private final Money paybackAmount;
     private final PaybackStatus paybackStatus;
 
+    /**
+     * 조회 시점의 행 버전 (ETag 로 사용하며 응답 본문에는 포함하지 않습니다.)
+     */
+    @JsonIgnore
+    private final Long version;
+
+    /**
+     * 조회 쿼리의 생성자 표현식(SELECT new ...)에서 사용하는 생성자입니다.
+     */
+    public TradeResponse(Long tradeId, Long memberId, Money paymentAmount, PaymentStatus paymentStatus,
+                         Money paybackAmount, PaybackStatus paybackStatus, Long version) {
+        this.tradeId = tradeId;
+        this.memberId = memberId;
+        this.paymentAmount = paymentAmount;
+        this.paymentStatus = paymentStatus;
+        this.paybackAmount = paybackAmount;
+        this.paybackStatus = paybackStatus;
+        this.version = version;
+    }
+
     public TradeResponse(final Trade trade) {
         this.tradeId = trade.getId();
         this.memberId = trade.getMemberId();
@@ -30,6 +52,17 @@ public class TradeResponse {
         this.paymentStatus = trade.getPaymentStatus();
         this.paybackAmount = trade.getPaybackAmount();
         this.paybackStatus = trade.getPaybackStatus();
+        this.version = trade.getVersion();
+    }
+
+    public TradeResponse(final TradeRow trade) {
+        this.tradeId = trade.getId();
+        this.memberId = trade.getMemberId();
+        this.paymentAmount = Money.of(trade.getPaymentAmount());
+        this.paymentStatus = trade.getPaymentStatus();
+        this.paybackAmount = Money.of(trade.getPaybackAmount());
+        this.paybackStatus = trade.getPaybackStatus();
+        this.version = trade.getVersion();
     }
 
 }
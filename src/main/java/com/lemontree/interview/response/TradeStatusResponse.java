@@ -0,0 +1,30 @@
+package com.lemontree.interview.response;
+
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+import lombok.Getter;
+
+/**
+ * 거래 상태 변경 이벤트 응답 클래스입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Getter
+public class TradeStatusResponse {
+
+    private final Long tradeId;
+    private final Long memberId;
+    private final PaymentStatus paymentStatus;
+    private final PaybackStatus paybackStatus;
+    private final Long version;
+
+    public TradeStatusResponse(Long tradeId, Long memberId, PaymentStatus paymentStatus,
+                               PaybackStatus paybackStatus, Long version) {
+        this.tradeId = tradeId;
+        this.memberId = memberId;
+        this.paymentStatus = paymentStatus;
+        this.paybackStatus = paybackStatus;
+        this.version = version;
+    }
+}
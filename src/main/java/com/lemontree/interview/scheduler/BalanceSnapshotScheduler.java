@@ -0,0 +1,69 @@
+package com.lemontree.interview.scheduler;
+
+import com.lemontree.interview.datasource.ConnectionBulkhead;
+import com.lemontree.interview.datasource.Workload;
+import com.lemontree.interview.service.LedgerService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * 회원 잔액 스냅샷 스케줄러입니다.
+ * <p>
+ * 회원 ID 오름차순으로 청크를 나누어, 청크마다 짧은 트랜잭션으로 스냅샷을 만듭니다.
+ * 원장 기준 잔액 조회는 가장 최근 스냅샷 이후의 항목만 합산하므로, 스냅샷 주기만큼의 항목만 읽습니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceSnapshotScheduler {
+
+    private final LedgerService ledgerService;
+    private final ConnectionBulkhead connectionBulkhead;
+
+    /**
+     * 매시 30분에 잔액 스냅샷을 만듭니다.
+     */
+    @Scheduled(cron = "0 30 * * * *", zone = "Asia/Seoul")
+    public void takeSnapshots() {
+        try {
+            snapshotAll();
+        } catch (Exception e) {
+            log.error("잔액 스냅샷 생성에 실패하였습니다. [{}]", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 회원의 잔액 스냅샷을 만듭니다.
+     *
+     * @return 처리한 청크 수
+     */
+    public int snapshotAll() {
+        Optional<Long> upToEntryId = connectionBulkhead.call(Workload.BATCH, ledgerService::findSnapshotUpToEntryId);
+        if (upToEntryId.isEmpty()) {
+            return 0;
+        }
+
+        int chunks = 0;
+        long afterMemberId = 0L;
+        while (true) {
+            long after = afterMemberId;
+            Optional<Long> last = connectionBulkhead.call(Workload.BATCH,
+                    () -> ledgerService.snapshotNextChunk(after, upToEntryId.get()));
+            if (last.isEmpty()) {
+                break;
+            }
+            afterMemberId = last.get();
+            chunks++;
+        }
+
+        log.info("잔액 스냅샷 생성이 완료되었습니다. [원장 항목 ID = {}, 청크 수 = {}]", upToEntryId.get(), chunks);
+        return chunks;
+    }
+}
@@ -0,0 +1,36 @@
+package com.lemontree.interview.scheduler;
+
+import com.lemontree.interview.datasource.ConnectionBulkhead;
+import com.lemontree.interview.datasource.Workload;
+import com.lemontree.interview.service.IdempotencyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관 기간이 지난 멱등성 키 삭제 스케줄러입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdempotencyKeyCleanupScheduler {
+
+    private final IdempotencyService idempotencyService;
+    private final ConnectionBulkhead connectionBulkhead;
+
+    /**
+     * 매시 정각에 보관 기간이 지난 멱등성 키를 삭제합니다.
+     */
+    @Scheduled(cron = "0 0 * * * *", zone = "Asia/Seoul")
+    public void purgeExpired() {
+        try {
+            connectionBulkhead.run(Workload.BATCH, idempotencyService::purgeExpired);
+        } catch (Exception e) {
+            log.error("멱등성 키 삭제에 실패하였습니다. [{}]", e.getMessage());
+        }
+    }
+}
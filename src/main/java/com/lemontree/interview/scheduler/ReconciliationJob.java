@@ -0,0 +1,183 @@
+package com.lemontree.interview.scheduler;
+
+import com.lemontree.interview.config.ReconciliationProperties;
+import com.lemontree.interview.datasource.ConnectionBulkhead;
+import com.lemontree.interview.datasource.Workload;
+import com.lemontree.interview.repository.ReconciliationRepository;
+import com.lemontree.interview.service.ReconciliationService;
+import com.lemontree.interview.service.ReconciliationService.MemberDrift;
+import com.lemontree.interview.service.ReconciliationService.RangeResult;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 잔액/누적 금액 대사(reconciliation) 작업입니다.
+ * <p>
+ * 회원 ID 범위를 구간 크기(range-size) 이하가 될 때까지 반으로 나누어 포크/조인 풀에서 병렬로 대사합니다.
+ * 구간마다 배치 격벽의 허가를 얻고, 구간의 회원만 메모리에 올린 채 거래를 스트리밍하므로 거래 수와 관계없이 메모리 사용량이 일정합니다.
+ * 차이가 발견된 회원은 로그로 보고하며, 보정(repair)이 활성화된 경우 계산한 값으로 보정합니다.
+ * 누적 지표는 reconciliation.members, reconciliation.trades, reconciliation.drifts, reconciliation.repaired 로 확인할 수 있습니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Slf4j
+@Component
+public class ReconciliationJob implements MeterBinder {
+
+    private final ReconciliationService reconciliationService;
+    private final ReconciliationRepository reconciliationRepository;
+    private final ConnectionBulkhead connectionBulkhead;
+    private final ReconciliationProperties properties;
+
+    private final ReentrantLock running = new ReentrantLock();
+    private final LongAdder members = new LongAdder();
+    private final LongAdder trades = new LongAdder();
+    private final LongAdder drifts = new LongAdder();
+    private final LongAdder repaired = new LongAdder();
+
+    public ReconciliationJob(ReconciliationService reconciliationService, ReconciliationRepository reconciliationRepository,
+                             ConnectionBulkhead connectionBulkhead, ReconciliationProperties properties) {
+        this.reconciliationService = reconciliationService;
+        this.reconciliationRepository = reconciliationRepository;
+        this.connectionBulkhead = connectionBulkhead;
+        this.properties = properties;
+    }
+
+    /**
+     * 대사 결과 요약입니다.
+     *
+     * @param members            대사한 회원 수
+     * @param trades             읽은 거래 수
+     * @param unverifiedBalances 잔액을 검증하지 않은 회원 수 (계좌 개설 항목 없음)
+     * @param drifts             차이가 발견된 회원 수
+     * @param repaired           보정한 회원 수
+     */
+    public record Summary(long members, long trades, long unverifiedBalances, long drifts, long repaired) {
+
+        private static final Summary EMPTY = new Summary(0L, 0L, 0L, 0L, 0L);
+
+        private Summary plus(Summary other) {
+            return new Summary(members + other.members, trades + other.trades,
+                    unverifiedBalances + other.unverifiedBalances, drifts + other.drifts, repaired + other.repaired);
+        }
+    }
+
+    /**
+     * 매일 새벽 4시에 대사를 진행합니다.
+     */
+    @Scheduled(cron = "0 0 4 * * *", zone = "Asia/Seoul")
+    public void reconcile() {
+        try {
+            run();
+        } catch (Exception e) {
+            log.error("잔액/누적 금액 대사에 실패하였습니다. [{}]", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 회원을 대사합니다. 이미 진행 중이면 아무것도 하지 않습니다.
+     *
+     * @return 대사 결과 요약
+     */
+    public Summary run() {
+        if (!running.tryLock()) {
+            log.info("잔액/누적 금액 대사가 이미 진행 중입니다.");
+            return Summary.EMPTY;
+        }
+
+        ForkJoinPool pool = new ForkJoinPool(properties.getParallelism());
+        try {
+            long start = System.nanoTime();
+            long maxMemberId = connectionBulkhead.call(Workload.BATCH, reconciliationRepository::findMaxMemberId);
+            Summary summary = pool.invoke(new RangeTask(0L, maxMemberId));
+
+            log.info("잔액/누적 금액 대사를 완료하였습니다. [회원 수 = {}, 거래 수 = {}, 잔액 미검증 = {}, 차이 = {}, 보정 = {}, 소요 시간 = {}ms]",
+                    summary.members(), summary.trades(), summary.unverifiedBalances(), summary.drifts(), summary.repaired(),
+                    Duration.ofNanos(System.nanoTime() - start).toMillis());
+            return summary;
+        } finally {
+            pool.shutdown();
+            running.unlock();
+        }
+    }
+
+    /**
+     * 회원 ID 구간 (after, upTo] 를 대사합니다.
+     */
+    private Summary reconcileRange(long after, long upTo) {
+        RangeResult result = connectionBulkhead.call(Workload.BATCH, () -> reconciliationService.reconcileRange(after, upTo));
+        members.add(result.members());
+        trades.add(result.trades());
+        drifts.add(result.drifts().size());
+
+        for (MemberDrift drift : result.drifts()) {
+            log.warn("잔액/누적 금액 차이가 발견되었습니다. [회원 ID = {}, 잔액 = {} (계산 {}), 일간 누적 = {} (계산 {}), 월간 누적 = {} (계산 {}), 결제 미완료 페이백 거래 = {}]",
+                    drift.memberId(), drift.balance(), drift.expectedBalance(),
+                    drift.dailyAccumulate(), drift.expectedDailyAccumulate(),
+                    drift.monthlyAccumulate(), drift.expectedMonthlyAccumulate(),
+                    drift.invalidTrades());
+        }
+
+        int repairedCount = 0;
+        if (properties.isRepair() && !result.drifts().isEmpty()) {
+            repairedCount = connectionBulkhead.call(Workload.BATCH, () -> reconciliationService.repair(result.drifts()));
+            repaired.add(repairedCount);
+        }
+
+        return new Summary(result.members(), result.trades(), result.unverifiedBalances(), result.drifts().size(), repairedCount);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("reconciliation.members", members, LongAdder::sum)
+                .description("대사한 회원 수")
+                .register(registry);
+        FunctionCounter.builder("reconciliation.trades", trades, LongAdder::sum)
+                .description("대사에서 읽은 거래 수")
+                .register(registry);
+        FunctionCounter.builder("reconciliation.drifts", drifts, LongAdder::sum)
+                .description("잔액/누적 금액 차이가 발견된 회원 수")
+                .register(registry);
+        FunctionCounter.builder("reconciliation.repaired", repaired, LongAdder::sum)
+                .description("잔액/누적 금액을 보정한 회원 수")
+                .register(registry);
+    }
+
+    /**
+     * 회원 ID 구간을 구간 크기 이하가 될 때까지 반으로 나누어 대사하는 작업입니다.
+     */
+    private class RangeTask extends RecursiveTask<Summary> {
+
+        private final long after;
+        private final long upTo;
+
+        private RangeTask(long after, long upTo) {
+            this.after = after;
+            this.upTo = upTo;
+        }
+
+        @Override
+        protected Summary compute() {
+            if (upTo - after <= properties.getRangeSize()) {
+                return reconcileRange(after, upTo);
+            }
+
+            long middle = after + (upTo - after) / 2;
+            RangeTask left = new RangeTask(after, middle);
+            left.fork();
+            Summary right = new RangeTask(middle, upTo).compute();
+            return left.join().plus(right);
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package com.lemontree.interview.service;
+
+import com.lemontree.interview.config.IdempotencyProperties;
+import com.lemontree.interview.entity.IdempotencyRecord;
+import com.lemontree.interview.repository.IdempotencyRecordRepository;
+import com.lemontree.interview.util.ExpiringLruCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 멱등성 키(Idempotency-Key) Service 클래스입니다.
+ * <p>
+ * 처리가 끝난 요청의 응답은 DB 에 저장하고, 최근 응답은 메모리 캐시(LRU/TTL)에도 보관하여
+ * 재요청(Replay) 시 DB 조회 없이 저장된 응답을 반환할 수 있도록 합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Slf4j
+@Service
+public class IdempotencyService {
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final IdempotencyProperties properties;
+    private final ExpiringLruCache<String, StoredResponse> cache;
+
+    public IdempotencyService(IdempotencyRecordRepository idempotencyRecordRepository,
+                              IdempotencyProperties properties) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.properties = properties;
+        this.cache = new ExpiringLruCache<>(properties.getCacheSize(), properties.getTtl());
+    }
+
+    /**
+     * 처리가 완료된 요청의 응답입니다.
+     *
+     * @param requestHash 요청(메서드, URI, 본문)의 해시 값
+     * @param statusCode  응답 상태 코드
+     * @param contentType 응답 Content-Type
+     * @param body        응답 본문
+     */
+    public record StoredResponse(String requestHash, int statusCode, String contentType, String body) {
+    }
+
+    /**
+     * 처리가 완료된 요청의 응답을 조회합니다. 메모리 캐시를 먼저 조회하고, 없으면 DB 를 조회합니다.
+     *
+     * @param key 멱등성 키
+     * @return 저장된 응답 (처리 중이거나 없는 경우 empty)
+     */
+    @Transactional(readOnly = true)
+    public Optional<StoredResponse> findCompleted(String key) {
+        StoredResponse cached = cache.get(key);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        Optional<StoredResponse> stored = idempotencyRecordRepository.findById(key)
+                .filter(record -> record.getCompleted() && !isExpired(record))
+                .map(record -> new StoredResponse(record.getRequestHash(), record.getStatusCode(),
+                        record.getContentType(), record.getResponseBody()));
+
+        stored.ifPresent(response -> cache.put(key, response));
+        return stored;
+    }
+
+    /**
+     * 요청을 처리하기 전 멱등성 키를 선점합니다.
+     * 보관 기간이 지난 키는 삭제 후 다시 선점합니다.
+     *
+     * @param key         멱등성 키
+     * @param requestHash 요청(메서드, URI, 본문)의 해시 값
+     * @return 선점에 성공한 경우 true, 다른 요청이 이미 선점한 경우 false
+     */
+    public boolean reserve(String key, String requestHash) {
+        Optional<IdempotencyRecord> existing = idempotencyRecordRepository.findById(key);
+        if (existing.isPresent()) {
+            if (!isExpired(existing.get())) {
+                return false;
+            }
+            idempotencyRecordRepository.delete(existing.get());
+        }
+
+        try {
+            // 같은 키로 동시에 선점하는 경우 PK 제약 조건으로 하나만 성공합니다.
+            idempotencyRecordRepository.saveAndFlush(new IdempotencyRecord(key, requestHash, LocalDateTime.now()));
+            return true;
+        } catch (DataIntegrityViolationException e) {
+            return false;
+        }
+    }
+
+    /**
+     * 요청 처리가 완료된 응답을 저장합니다.
+     *
+     * @param key      멱등성 키
+     * @param response 저장할 응답
+     */
+    @Transactional
+    public void complete(String key, StoredResponse response) {
+        idempotencyRecordRepository.findById(key).ifPresent(record ->
+                record.complete(response.statusCode(), response.contentType(), response.body()));
+        cache.put(key, response);
+    }
+
+    /**
+     * 선점한 멱등성 키를 해제합니다. (요청이 예외, 서버 오류 또는 일시적인 오류(409, 429)로 끝나, 같은 키로 다시 처리할 수 있어야 하는 경우)
+     *
+     * @param key 멱등성 키
+     */
+    @Transactional
+    public void release(String key) {
+        cache.remove(key);
+        idempotencyRecordRepository.deleteById(key);
+    }
+
+    /**
+     * 보관 기간이 지난 멱등성 키를 삭제합니다.
+     *
+     * @return 삭제된 키의 수
+     */
+    @Transactional
+    public int purgeExpired() {
+        int deleted = idempotencyRecordRepository.deleteExpired(LocalDateTime.now().minus(properties.getTtl()));
+        log.info("보관 기간이 지난 멱등성 키를 삭제하였습니다. [삭제 건수 = {}]", deleted);
+        return deleted;
+    }
+
+    private boolean isExpired(IdempotencyRecord record) {
+        return record.getCreatedAt().isBefore(LocalDateTime.now().minus(properties.getTtl()));
+    }
+}
@@ -0,0 +1,119 @@
+package com.lemontree.interview.service;
+
+import com.lemontree.interview.config.LedgerProperties;
+import com.lemontree.interview.datasource.ConnectionBulkhead;
+import com.lemontree.interview.datasource.ReadReplicaRouter;
+import com.lemontree.interview.datasource.Workload;
+import com.lemontree.interview.entity.BalanceSnapshot;
+import com.lemontree.interview.exception.member.MemberNotFoundException;
+import com.lemontree.interview.repository.BalanceSnapshotRepository;
+import com.lemontree.interview.repository.LedgerEntryRepository;
+import com.lemontree.interview.repository.LedgerTail;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.response.MemberBalanceResponse;
+import com.lemontree.interview.vo.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 잔액 원장 Service 클래스입니다.
+ * <p>
+ * 원장 기준 잔액은 가장 최근 잔액 스냅샷의 잔액에 스냅샷 이후 원장 항목의 합계를 더해 계산합니다.
+ * 결제 트랜잭션이 잠그는 회원 행을 읽지 않으므로, 잔액 조회가 결제와 경합하지 않습니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Service
+@RequiredArgsConstructor
+public class LedgerService {
+
+    private final LedgerEntryRepository ledgerEntryRepository;
+    private final BalanceSnapshotRepository balanceSnapshotRepository;
+    private final MemberRepository memberRepository;
+    private final LedgerProperties properties;
+    private final ReadReplicaRouter readReplicaRouter;
+    private final ConnectionBulkhead connectionBulkhead;
+    private final Clock clock;
+
+    /**
+     * 원장 기준 회원 잔액을 조회합니다.
+     *
+     * @param memberId 회원 ID
+     * @return 회원 잔액 응답 DTO
+     */
+    public MemberBalanceResponse getBalance(Long memberId) {
+        return connectionBulkhead.call(Workload.READ, () -> readReplicaRouter.readMember(memberId, () -> loadBalance(memberId)));
+    }
+
+    private MemberBalanceResponse loadBalance(Long memberId) {
+        Optional<BalanceSnapshot> snapshot = balanceSnapshotRepository.findFirstByMemberIdOrderByLastEntryIdDesc(memberId);
+        long afterEntryId = snapshot.map(BalanceSnapshot::getLastEntryId).orElse(0L);
+        Optional<LedgerTail> tail = ledgerEntryRepository.findTail(memberId, afterEntryId);
+
+        // 회원 생성 시 개설 항목을 기록하므로, 스냅샷과 항목이 모두 없으면 존재하지 않는 회원입니다.
+        if (snapshot.isEmpty() && tail.isEmpty()) {
+            throw new MemberNotFoundException();
+        }
+
+        Money balance = snapshot.map(BalanceSnapshot::getBalance).orElse(Money.ZERO)
+                .plus(tail.map(LedgerTail::amount).orElse(Money.ZERO));
+        return new MemberBalanceResponse(memberId, balance, tail.map(LedgerTail::lastEntryId).orElse(afterEntryId));
+    }
+
+    /**
+     * 스냅샷에 포함할 수 있는 마지막 원장 항목 ID 를 조회합니다.
+     * 스냅샷 지연 기간보다 오래된 항목까지만 포함하여, 그보다 작은 ID 의 항목이 나중에 커밋되지 않도록 합니다.
+     *
+     * @return 원장 항목 ID (포함할 항목이 없으면 빈 값)
+     */
+    @Transactional(readOnly = true)
+    public Optional<Long> findSnapshotUpToEntryId() {
+        return ledgerEntryRepository.findLastIdBefore(LocalDateTime.now(clock).minus(properties.getSnapshotLag()));
+    }
+
+    /**
+     * 회원 ID 기준 다음 청크의 잔액 스냅샷을 만듭니다.
+     * 직전 스냅샷 이후 원장 항목이 있는 회원만 새 스냅샷을 추가합니다.
+     *
+     * @param afterMemberId 청크 시작 회원 ID (미포함)
+     * @param upToEntryId   스냅샷에 포함할 마지막 원장 항목 ID
+     * @return 청크의 마지막 회원 ID (더 이상 회원이 없으면 빈 값)
+     */
+    @Transactional
+    public Optional<Long> snapshotNextChunk(long afterMemberId, long upToEntryId) {
+        List<Long> memberIds = memberRepository.findIdsAfter(afterMemberId, Limit.of(properties.getSnapshotChunkSize()));
+        if (memberIds.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<LedgerTail> tails = ledgerEntryRepository.findTailsUpTo(memberIds, upToEntryId);
+        if (!tails.isEmpty()) {
+            Map<Long, BalanceSnapshot> latest = balanceSnapshotRepository.findLatestByMemberIdIn(
+                            tails.stream().map(LedgerTail::memberId).toList()).stream()
+                    .collect(Collectors.toMap(BalanceSnapshot::getMemberId, Function.identity()));
+
+            LocalDateTime now = LocalDateTime.now(clock);
+            List<BalanceSnapshot> snapshots = new ArrayList<>(tails.size());
+            for (LedgerTail tail : tails) {
+                BalanceSnapshot previous = latest.get(tail.memberId());
+                Money balance = previous != null ? previous.getBalance().plus(tail.amount()) : tail.amount();
+                snapshots.add(new BalanceSnapshot(tail.memberId(), tail.lastEntryId(), balance, now));
+            }
+            balanceSnapshotRepository.saveAll(snapshots);
+        }
+
+        return Optional.of(memberIds.get(memberIds.size() - 1));
+    }
+}
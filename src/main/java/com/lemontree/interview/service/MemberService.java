@@ -1,19 +1,36 @@
 package com.lemontree.interview.service;
 
+import com.lemontree.interview.cache.LookupCache;
+import com.lemontree.interview.datasource.ConnectionBulkhead;
+import com.lemontree.interview.datasource.ReadReplicaRouter;
+import com.lemontree.interview.datasource.Workload;
+import com.lemontree.interview.entity.LedgerEntry;
 import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.event.MemberChangedEvent;
 import com.lemontree.interview.exception.member.BalanceExceededException;
 import com.lemontree.interview.exception.member.DailyLimitExceedsMonthlyLimitException;
 import com.lemontree.interview.exception.member.MemberNotFoundException;
 import com.lemontree.interview.exception.member.OnceLimitExceedsDailyLimitException;
+import com.lemontree.interview.repository.LedgerEntryWriter;
 import com.lemontree.interview.repository.MemberRepository;
 import com.lemontree.interview.request.MemberCreate;
+import com.lemontree.interview.response.MemberListResponse;
 import com.lemontree.interview.response.MemberResponse;
-import com.lemontree.interview.util.BigDecimalUtils;
+import com.lemontree.interview.vo.Money;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 유저 Service 입니다.
@@ -26,26 +43,15 @@ import java.math.BigDecimal;
 public class MemberService {
 
     private final MemberRepository memberRepository;
+    private final LookupCache lookupCache;
+    private final ReadReplicaRouter readReplicaRouter;
+    private final ConnectionBulkhead connectionBulkhead;
+    private final LedgerEntryWriter ledgerEntryWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
     /**
-     * 모든 유저의 일일 누적 금액(daily_accumulate)을 0으로 초기화합니다.
-     */
-    @Transactional
-    public void resetDailyLimit() {
-        memberRepository.resetDailyLimit();
-    }
-
-    /**
-     * 모든 유저의 월간 누적 금액(monthly_accumulate)을 0으로 초기화합니다.
-     */
-    @Transactional
-    public void resetMonthlyLimit() {
-        memberRepository.resetMonthlyLimit();
-    }
-
-
-    /**
-     * 유저를 생성합니다.
+     * 유저를 생성합니다. 생성 시 보유 금액은 원장의 개설 항목으로 함께 기록합니다.
      *
      * @param request 유저 생성 요청 DTO
      */
@@ -66,21 +72,73 @@ public class MemberService {
 
         Member savedMember = memberRepository.save(member);
 
+        // 생성 시 보유 금액을 원장의 개설 항목으로 기록합니다. (보유 금액이 0 이어도 기록합니다.)
+        ledgerEntryWriter.append(LedgerEntry.opening(savedMember.getId(), savedMember.getBalance(), LocalDateTime.now(clock)));
+
+        // 생성 직후 조회가 복제 지연으로 누락되지 않도록 새 회원도 변경 이벤트로 알립니다.
+        eventPublisher.publishEvent(new MemberChangedEvent(savedMember.getId()));
+
         return savedMember.getId();
     }
 
     /**
      * 유저의 ID로 유저를 조회합니다.
+     * 조회 캐시를 먼저 확인하며, 캐시에 있는 경우 DB 커넥션을 사용하지 않도록 트랜잭션 밖에서 조회합니다.
+     * 캐시에 없으면 엔티티를 거치지 않고 응답 DTO로 바로 조회합니다.
      *
      * @param memberId 조회할 유저 ID
      * @return 유저 응답 DTO
      */
-    @Transactional(readOnly = true)
     public MemberResponse getMember(Long memberId) {
-        Member member = memberRepository.findById(memberId)
-                .orElseThrow(MemberNotFoundException::new);
+        return lookupCache.getMember(memberId, () -> connectionBulkhead.call(Workload.READ, () -> readReplicaRouter.readMember(memberId,
+                () -> memberRepository.findResponseById(memberId))).orElseThrow(MemberNotFoundException::new))
+                .asOf(LocalDate.now(clock));
+    }
 
-        return new MemberResponse(member);
+    /**
+     * 여러 유저를 한 번에 조회합니다.
+     * 캐시에 없는 유저만 모아 IN 조회 1회로 조회하며, 결과는 요청한 ID 순서(중복 제외)로 반환합니다.
+     *
+     * @param memberIds 조회할 유저 ID 목록
+     * @return 조회된 유저와 존재하지 않는 유저 ID 목록
+     */
+    public MemberListResponse getMembers(List<Long> memberIds) {
+        Map<Long, MemberResponse> found = lookupCache.getMembers(memberIds, missingIds ->
+                connectionBulkhead.call(Workload.READ,
+                                () -> readReplicaRouter.readMembers(missingIds, () -> memberRepository.findResponsesByIdIn(missingIds))).stream()
+                        .collect(Collectors.toMap(MemberResponse::getMemberId, Function.identity())));
+
+        LocalDate today = LocalDate.now(clock);
+        List<MemberResponse> members = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long memberId : new LinkedHashSet<>(memberIds)) {
+            MemberResponse member = found.get(memberId);
+            if (member != null) {
+                members.add(member.asOf(today));
+            } else {
+                missingIds.add(memberId);
+            }
+        }
+
+        return new MemberListResponse(members, missingIds);
+    }
+
+    /**
+     * 유저의 현재 행 버전을 조회합니다. (조건부 조회(If-None-Match) 용)
+     * 캐시에 조회 응답이 있으면 그 버전을 사용하고, 없으면 엔티티를 조회하지 않고 버전 컬럼만 조회합니다.
+     *
+     * @param memberId 조회할 유저 ID
+     * @return 행 버전
+     */
+    public Long getMemberVersion(Long memberId) {
+        MemberResponse cached = lookupCache.findMember(memberId);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+
+        return connectionBulkhead.call(Workload.READ,
+                        () -> readReplicaRouter.readMember(memberId, () -> memberRepository.findVersionById(memberId)))
+                .orElseThrow(MemberNotFoundException::new);
     }
 
     /**
@@ -99,9 +157,9 @@ public class MemberService {
      * @param balance      유저 보유 금액
      * @param balanceLimit 유저 최대 보유 금액
      */
-    private void validateBalance(BigDecimal balance, BigDecimal balanceLimit) {
+    private void validateBalance(Money balance, Money balanceLimit) {
 
-        if (BigDecimalUtils.is(balance).greaterThan(balanceLimit)) {
+        if (balance.isGreaterThan(balanceLimit)) {
             throw new BalanceExceededException();
         }
     }
@@ -113,13 +171,13 @@ public class MemberService {
      * @param dailyLimit   하루에 사용할 수 있는 금액
      * @param monthlyLimit 한 달에 사용할 수 있는 금액
      */
-    private void validateLimit(BigDecimal onceLimit, BigDecimal dailyLimit, BigDecimal monthlyLimit) {
+    private void validateLimit(Money onceLimit, Money dailyLimit, Money monthlyLimit) {
 
-        if (BigDecimalUtils.is(onceLimit).greaterThan(dailyLimit)) {
+        if (onceLimit.isGreaterThan(dailyLimit)) {
             throw new OnceLimitExceedsDailyLimitException();
         }
 
-        if (BigDecimalUtils.is(dailyLimit).greaterThan(monthlyLimit)) {
+        if (dailyLimit.isGreaterThan(monthlyLimit)) {
             throw new DailyLimitExceedsMonthlyLimitException();
         }
     }
@@ -1,25 +1,32 @@
 package com.lemontree.interview.service;
 
+import com.lemontree.interview.entity.LedgerEntry;
 import com.lemontree.interview.entity.Member;
 import com.lemontree.interview.entity.Trade;
+import com.lemontree.interview.enums.LedgerEntryType;
 import com.lemontree.interview.enums.PaybackStatus;
 import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.event.TradeChangedEvent;
 import com.lemontree.interview.exception.member.MemberNotFoundException;
 import com.lemontree.interview.exception.payback.PaybackAlreadyDoneException;
 import com.lemontree.interview.exception.payback.PaybackCancelNotAllowedException;
 import com.lemontree.interview.exception.payback.PaybackNotCompleteException;
 import com.lemontree.interview.exception.payment.PaymentNotCompleteException;
 import com.lemontree.interview.exception.trade.TradeNotFoundException;
+import com.lemontree.interview.repository.LedgerEntryWriter;
 import com.lemontree.interview.repository.MemberRepository;
 import com.lemontree.interview.repository.TradeRepository;
-import com.lemontree.interview.util.BigDecimalUtils;
+import com.lemontree.interview.repository.TradeWithMember;
+import com.lemontree.interview.vo.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDateTime;
 
 /**
  * 페이백 Service 클래스 입니다.
@@ -34,6 +41,10 @@ public class PaybackService {
 
     private final TradeRepository tradeRepository;
     private final MemberRepository memberRepository;
+    private final TradeStateMachine tradeStateMachine;
+    private final LedgerEntryWriter ledgerEntryWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
     /**
      * 페이백 처리를 진행합니다.
@@ -43,9 +54,12 @@ public class PaybackService {
     @Transactional(timeout = 5, isolation = Isolation.REPEATABLE_READ)
     public void processPayback(Long tradeId) {
 
-        Trade trade = tradeRepository.findWithPessimisticLockById(tradeId)
+        // 비관적 락을 사용하여 거래와 회원 정보를 한 번에 조회합니다.
+        TradeWithMember locked = tradeRepository.findWithMemberAndPessimisticLockById(tradeId)
                 .orElseThrow(TradeNotFoundException::new);
 
+        Trade trade = locked.trade();
+
         if (trade.getPaymentStatus() != PaymentStatus.DONE) {
             throw new PaymentNotCompleteException();
         }
@@ -54,26 +68,108 @@ public class PaybackService {
             throw new PaybackAlreadyDoneException();
         }
 
-        BigDecimal paybackAmount = trade.getPaybackAmount();
-        if (BigDecimalUtils.is(paybackAmount).greaterThan(BigDecimal.ZERO)) {
-            Long memberId = trade.getMemberId();
-            Member member = memberRepository.findWithPessimisticLockById(memberId)
+        LocalDateTime now = LocalDateTime.now(clock);
+        Money paybackAmount = trade.getPaybackAmount();
+        if (paybackAmount.isPositive()) {
+            Member member = locked.getMemberOrThrow();
+
+            // 페이백 후 잔액이 한도를 초과하면 페이백이 불가능합니다.
+            Money addedPayback = member.getBalance().plus(paybackAmount);
+            if (addedPayback.isGreaterThan(member.getBalanceLimit())) {
+                throw new PaybackCancelNotAllowedException();
+            }
+
+            member.payback(paybackAmount);
+            ledgerEntryWriter.append(LedgerEntry.of(member.getId(), tradeId, LedgerEntryType.PAYBACK, paybackAmount, now));
+        }
+
+        trade.completePayback(now);
+        eventPublisher.publishEvent(new TradeChangedEvent(tradeId, trade.getMemberId()));
+
+        log.info("페이백이 완료되었습니다. [결제 ID = {}]", trade.getId());
+    }
+
+    /**
+     * 페이백 처리를 진행합니다. 이 때, 낙관적 락을 사용하여 거래와 회원 정보를 조회합니다.
+     *
+     * @param tradeId 거래 ID
+     */
+    @Transactional(timeout = 5, isolation = Isolation.READ_COMMITTED)
+    public void processPaybackOptimistically(Long tradeId) {
+
+        Trade trade = tradeRepository.findWithOptimisticLockById(tradeId)
+                .orElseThrow(TradeNotFoundException::new);
+
+        if (trade.getPaymentStatus() != PaymentStatus.DONE) {
+            throw new PaymentNotCompleteException();
+        }
+
+        if (trade.getPaybackStatus() == PaybackStatus.DONE) {
+            throw new PaybackAlreadyDoneException();
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        Money paybackAmount = trade.getPaybackAmount();
+        if (paybackAmount.isPositive()) {
+            Member member = memberRepository.findWithOptimisticLockById(trade.getMemberId())
                     .orElseThrow(MemberNotFoundException::new);
 
             // 페이백 후 잔액이 한도를 초과하면 페이백이 불가능합니다.
-            BigDecimal addedPayback = member.getBalance().add(paybackAmount);
-            if (BigDecimalUtils.is(addedPayback).greaterThan(member.getBalanceLimit())) {
+            Money addedPayback = member.getBalance().plus(paybackAmount);
+            if (addedPayback.isGreaterThan(member.getBalanceLimit())) {
                 throw new PaybackCancelNotAllowedException();
             }
 
             member.payback(paybackAmount);
+            ledgerEntryWriter.append(LedgerEntry.of(member.getId(), tradeId, LedgerEntryType.PAYBACK, paybackAmount, now));
         }
 
-        trade.completePayback();
+        trade.completePayback(now);
+        eventPublisher.publishEvent(new TradeChangedEvent(tradeId, trade.getMemberId()));
 
         log.info("페이백이 완료되었습니다. [결제 ID = {}]", trade.getId());
     }
 
+    /**
+     * 페이백 처리를 진행합니다. 이 때, 락을 사용하지 않고 조건부 UPDATE 로 거래 상태와 회원 정보를 반영합니다.
+     *
+     * @param tradeId 거래 ID
+     */
+    @Transactional(timeout = 5, isolation = Isolation.READ_COMMITTED)
+    public void processPaybackAtomically(Long tradeId) {
+
+        Trade trade = tradeRepository.findById(tradeId)
+                .orElseThrow(TradeNotFoundException::new);
+
+        // 페이백 상태를 먼저 전이합니다. (중복 요청은 여기서 PaybackAlreadyDoneException 발생)
+        LocalDateTime now = LocalDateTime.now(clock);
+        tradeStateMachine.completePayback(tradeId, now);
+
+        Money paybackAmount = trade.getPaybackAmount();
+        if (paybackAmount.isPositive()
+                && memberRepository.paybackIfAllowed(trade.getMemberId(), paybackAmount) == 0) {
+
+            // 실패한 경우에만 최신 회원 정보를 잠그고 조회하여 실패 원인을 판단합니다.
+            Member member = memberRepository.findWithPessimisticLockById(trade.getMemberId())
+                    .orElseThrow(MemberNotFoundException::new);
+
+            // 페이백 후 잔액이 한도를 초과하면 페이백이 불가능합니다.
+            Money addedPayback = member.getBalance().plus(paybackAmount);
+            if (addedPayback.isGreaterThan(member.getBalanceLimit())) {
+                throw new PaybackCancelNotAllowedException();
+            }
+
+            member.payback(paybackAmount);
+        }
+
+        if (paybackAmount.isPositive()) {
+            ledgerEntryWriter.append(LedgerEntry.of(trade.getMemberId(), tradeId, LedgerEntryType.PAYBACK, paybackAmount, now));
+        }
+
+        eventPublisher.publishEvent(new TradeChangedEvent(tradeId, trade.getMemberId()));
+        log.info("페이백이 완료되었습니다. [결제 ID = {}]", tradeId);
+    }
+
     /**
      * 페이백 취소를 진행합니다.
      *
@@ -82,9 +178,12 @@ public class PaybackService {
     @Transactional(timeout = 5, isolation = Isolation.REPEATABLE_READ)
     public void cancelPayback(Long tradeId) {
 
-        Trade trade = tradeRepository.findWithPessimisticLockById(tradeId)
+        // 비관적 락을 사용하여 거래와 회원 정보를 한 번에 조회합니다.
+        TradeWithMember locked = tradeRepository.findWithMemberAndPessimisticLockById(tradeId)
                 .orElseThrow(TradeNotFoundException::new);
 
+        Trade trade = locked.trade();
+
         if (trade.getPaymentStatus() != PaymentStatus.DONE) {
             throw new PaymentNotCompleteException();
         }
@@ -93,23 +192,102 @@ public class PaybackService {
             throw new PaybackNotCompleteException();
         }
 
-        BigDecimal paybackAmount = trade.getPaybackAmount();
-        if (BigDecimalUtils.is(paybackAmount).greaterThan(BigDecimal.ZERO)) {
-            Long memberId = trade.getMemberId();
-            Member member = memberRepository.findWithPessimisticLockById(memberId)
-                    .orElseThrow(MemberNotFoundException::new);
+        LocalDateTime now = LocalDateTime.now(clock);
+        Money paybackAmount = trade.getPaybackAmount();
+        if (paybackAmount.isPositive()) {
+            Member member = locked.getMemberOrThrow();
 
             // 페이백 금액을 회수해야 하는데 회원이 보유한 금액이 부족하면 페이백 취소가 불가능합니다.
-            if (BigDecimalUtils.is(member.getBalance()).lessThan(paybackAmount)) {
+            if (member.getBalance().isLessThan(paybackAmount)) {
                 throw new PaybackCancelNotAllowedException();
             }
 
             member.cancelPayback(paybackAmount);
+            ledgerEntryWriter.append(LedgerEntry.of(member.getId(), tradeId, LedgerEntryType.PAYBACK_CANCEL, paybackAmount, now));
         }
 
-        trade.cancelPayback();
+        trade.cancelPayback(now);
+        eventPublisher.publishEvent(new TradeChangedEvent(tradeId, trade.getMemberId()));
         log.info("페이백 취소가 완료되었습니다. [결제 ID = {}]", trade.getId());
 
         // throw new RuntimeException("상위 트랜잭션이 roll-back 되는 문제가 존재함");
     }
+
+    /**
+     * 페이백 취소를 진행합니다. 이 때, 낙관적 락을 사용하여 거래와 회원 정보를 조회합니다.
+     *
+     * @param tradeId 거래 ID
+     */
+    @Transactional(timeout = 5, isolation = Isolation.READ_COMMITTED)
+    public void cancelPaybackOptimistically(Long tradeId) {
+
+        Trade trade = tradeRepository.findWithOptimisticLockById(tradeId)
+                .orElseThrow(TradeNotFoundException::new);
+
+        if (trade.getPaymentStatus() != PaymentStatus.DONE) {
+            throw new PaymentNotCompleteException();
+        }
+
+        if (trade.getPaybackStatus() != PaybackStatus.DONE) {
+            throw new PaybackNotCompleteException();
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        Money paybackAmount = trade.getPaybackAmount();
+        if (paybackAmount.isPositive()) {
+            Member member = memberRepository.findWithOptimisticLockById(trade.getMemberId())
+                    .orElseThrow(MemberNotFoundException::new);
+
+            // 페이백 금액을 회수해야 하는데 회원이 보유한 금액이 부족하면 페이백 취소가 불가능합니다.
+            if (member.getBalance().isLessThan(paybackAmount)) {
+                throw new PaybackCancelNotAllowedException();
+            }
+
+            member.cancelPayback(paybackAmount);
+            ledgerEntryWriter.append(LedgerEntry.of(member.getId(), tradeId, LedgerEntryType.PAYBACK_CANCEL, paybackAmount, now));
+        }
+
+        trade.cancelPayback(now);
+        eventPublisher.publishEvent(new TradeChangedEvent(tradeId, trade.getMemberId()));
+        log.info("페이백 취소가 완료되었습니다. [결제 ID = {}]", trade.getId());
+    }
+
+    /**
+     * 페이백 취소를 진행합니다. 이 때, 락을 사용하지 않고 조건부 UPDATE 로 거래 상태와 회원 정보를 반영합니다.
+     *
+     * @param tradeId 거래 ID
+     */
+    @Transactional(timeout = 5, isolation = Isolation.READ_COMMITTED)
+    public void cancelPaybackAtomically(Long tradeId) {
+
+        Trade trade = tradeRepository.findById(tradeId)
+                .orElseThrow(TradeNotFoundException::new);
+
+        // 페이백 상태를 먼저 전이합니다. (중복 요청은 여기서 PaybackNotCompleteException 발생)
+        LocalDateTime now = LocalDateTime.now(clock);
+        tradeStateMachine.cancelPayback(tradeId, now);
+
+        Money paybackAmount = trade.getPaybackAmount();
+        if (paybackAmount.isPositive()
+                && memberRepository.cancelPaybackIfAllowed(trade.getMemberId(), paybackAmount) == 0) {
+
+            // 실패한 경우에만 최신 회원 정보를 잠그고 조회하여 실패 원인을 판단합니다.
+            Member member = memberRepository.findWithPessimisticLockById(trade.getMemberId())
+                    .orElseThrow(MemberNotFoundException::new);
+
+            // 페이백 금액을 회수해야 하는데 회원이 보유한 금액이 부족하면 페이백 취소가 불가능합니다.
+            if (member.getBalance().isLessThan(paybackAmount)) {
+                throw new PaybackCancelNotAllowedException();
+            }
+
+            member.cancelPayback(paybackAmount);
+        }
+
+        if (paybackAmount.isPositive()) {
+            ledgerEntryWriter.append(LedgerEntry.of(trade.getMemberId(), tradeId, LedgerEntryType.PAYBACK_CANCEL, paybackAmount, now));
+        }
+
+        eventPublisher.publishEvent(new TradeChangedEvent(tradeId, trade.getMemberId()));
+        log.info("페이백 취소가 완료되었습니다. [결제 ID = {}]", tradeId);
+    }
 }
@@ -1,26 +1,42 @@
 package com.lemontree.interview.service;
 
+import com.lemontree.interview.entity.LedgerEntry;
 import com.lemontree.interview.entity.Member;
 import com.lemontree.interview.entity.Trade;
+import com.lemontree.interview.enums.LedgerEntryType;
 import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.event.TradeChangedEvent;
 import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.exception.GeneralException;
 import com.lemontree.interview.exception.member.*;
+import com.lemontree.interview.exception.payback.PaybackCancelNotAllowedException;
 import com.lemontree.interview.exception.payment.PaymentAlreadyDoneException;
+import com.lemontree.interview.exception.payment.PaymentCancelNotAllowedException;
 import com.lemontree.interview.exception.payment.PaymentNotCompleteException;
 import com.lemontree.interview.exception.trade.TradeNotFoundException;
+import com.lemontree.interview.repository.LedgerEntryWriter;
 import com.lemontree.interview.repository.MemberRepository;
 import com.lemontree.interview.repository.TradeRepository;
-import com.lemontree.interview.util.BigDecimalUtils;
+import com.lemontree.interview.repository.TradeWithMember;
+import com.lemontree.interview.request.TradePaymentRequest;
+import com.lemontree.interview.response.PaymentBatchResponse;
+import com.lemontree.interview.vo.Money;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * 결제 Service 클래스 입니다.
@@ -33,9 +49,18 @@ import java.time.YearMonth;
 @RequiredArgsConstructor
 public class PaymentService {
 
+    /**
+     * 조건부 UPDATE 결제 취소 중 페이백이 동시에 완료된 경우, 페이백 취소부터 다시 시도하는 최대 횟수입니다.
+     */
+    private static final int MAX_CANCEL_ATTEMPTS = 3;
+
     private final PaybackService paybackService;
     private final TradeRepository tradeRepository;
     private final MemberRepository memberRepository;
+    private final TradeStateMachine tradeStateMachine;
+    private final LedgerEntryWriter ledgerEntryWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
 
 
     /**
@@ -46,25 +71,199 @@ public class PaymentService {
     @Transactional(timeout = 5, isolation = Isolation.REPEATABLE_READ)
     public void processPayment(Long tradeId) {
 
-        // 비관적 락을 사용하여 거래 정보를 조회합니다. (결제 상태 및 결제 금액 변경을 막기 위함)
-        Trade trade = tradeRepository.findWithPessimisticLockById(tradeId)
+        // 비관적 락을 사용하여 거래와 회원 정보를 한 번에 조회합니다. (결제 상태, 결제 금액 및 잔액 변경을 막기 위함)
+        TradeWithMember locked = tradeRepository.findWithMemberAndPessimisticLockById(tradeId)
+                .orElseThrow(TradeNotFoundException::new);
+
+        Trade trade = locked.trade();
+        Member member = locked.getMemberOrThrow();
+
+        if (trade.getPaymentStatus() != PaymentStatus.WAIT) {
+            throw new PaymentAlreadyDoneException();
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        checkLimitAndBalance(member, trade.getPaymentAmount(), now.toLocalDate());
+        member.pay(trade.getPaymentAmount(), now.toLocalDate());
+        ledgerEntryWriter.append(LedgerEntry.of(member.getId(), tradeId, LedgerEntryType.PAYMENT, trade.getPaymentAmount(), now));
+
+        trade.completePayment(now);
+        eventPublisher.publishEvent(new TradeChangedEvent(tradeId, trade.getMemberId()));
+        log.info("결제가 완료되었습니다. [결제 ID = {}]", trade.getId());
+    }
+
+    /**
+     * 거래를 생성하면서 결제를 함께 진행합니다. (필요한 경우 페이백까지 완료합니다.)
+     * <p>
+     * 회원을 한 번만 잠그고 한도 및 잔액을 검증한 뒤, 거래를 결제 완료(DONE) 상태로 바로 저장합니다.
+     * 거래 생성과 결제(및 페이백)가 하나의 트랜잭션으로 커밋되므로, 결제에 실패하면 거래도 생성되지 않습니다.
+     *
+     * @param memberId 회원 ID
+     * @param request  거래 생성 및 결제 요청 정보
+     * @return 생성된 거래 ID
+     */
+    @Transactional(timeout = 5, isolation = Isolation.REPEATABLE_READ)
+    public Long requestTradeAndPay(Long memberId, TradePaymentRequest request) {
+
+        // 비관적 락을 사용하여 회원 정보를 조회합니다. (회원 존재 여부 확인을 겸합니다.)
+        Member member = memberRepository.findWithPessimisticLockById(memberId)
+                .orElseThrow(MemberNotFoundException::new);
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        Money paymentAmount = request.getPaymentAmount();
+        checkLimitAndBalance(member, paymentAmount, now.toLocalDate());
+        member.pay(paymentAmount, now.toLocalDate());
+
+        Trade trade = Trade.builder()
+                .memberId(memberId)
+                .paymentAmount(paymentAmount)
+                .paybackAmount(request.getPaybackAmount())
+                .build();
+        trade.completePayment(now);
+
+        if (request.isPayback()) {
+            Money paybackAmount = request.getPaybackAmount();
+
+            // 페이백 후 잔액이 한도를 초과하면 페이백이 불가능합니다.
+            Money addedPayback = member.getBalance().plus(paybackAmount);
+            if (addedPayback.isGreaterThan(member.getBalanceLimit())) {
+                throw new PaybackCancelNotAllowedException();
+            }
+
+            member.payback(paybackAmount);
+            trade.completePayback(now);
+        }
+
+        Trade savedTrade = tradeRepository.save(trade);
+        ledgerEntryWriter.append(LedgerEntry.of(memberId, savedTrade.getId(), LedgerEntryType.PAYMENT, paymentAmount, now));
+        if (request.isPayback()) {
+            ledgerEntryWriter.append(LedgerEntry.of(memberId, savedTrade.getId(), LedgerEntryType.PAYBACK, request.getPaybackAmount(), now));
+        }
+        eventPublisher.publishEvent(new TradeChangedEvent(savedTrade.getId(), memberId));
+
+        log.info("거래 생성 및 결제가 완료되었습니다. [결제 ID = {}, 페이백 여부 = {}]", savedTrade.getId(), request.isPayback());
+        return savedTrade.getId();
+    }
+
+    /**
+     * 여러 거래의 결제를 하나의 트랜잭션에서 진행합니다.
+     * <p>
+     * 거래를 모두 잠근 뒤 거래의 회원을 모두 잠그므로(각각 ID 오름차순), 같은 회원의 거래가 여러 건이어도 회원 행은 한 번만 잠급니다.
+     * 결제는 요청 순서대로 메모리에서 한도 및 잔액을 검증하고 반영하며, 변경 내용은 커밋 시점에 함께 반영됩니다.
+     * 검증에 실패한 거래는 반영하지 않고 단건 결제와 같은 예외 정보를 결과로 반환합니다.
+     *
+     * @param tradeIds 거래 ID 목록 (요청 순서)
+     * @return 거래별 결제 결과 (요청 순서)
+     */
+    @Transactional(timeout = 30, isolation = Isolation.REPEATABLE_READ)
+    public List<PaymentBatchResponse.Result> processPayments(List<Long> tradeIds) {
+
+        Map<Long, Trade> trades = tradeRepository.findAllWithPessimisticLockByIdIn(new LinkedHashSet<>(tradeIds)).stream()
+                .collect(Collectors.toMap(Trade::getId, Function.identity()));
+
+        List<Long> memberIds = trades.values().stream().map(Trade::getMemberId).distinct().toList();
+        Map<Long, Member> members = memberRepository.findAllWithPessimisticLockByIdIn(memberIds).stream()
+                .collect(Collectors.toMap(Member::getId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        List<PaymentBatchResponse.Result> results = new ArrayList<>(tradeIds.size());
+        for (Long tradeId : tradeIds) {
+            try {
+                Trade trade = trades.get(tradeId);
+                if (trade == null) {
+                    throw new TradeNotFoundException();
+                }
+
+                Member member = members.get(trade.getMemberId());
+                if (member == null) {
+                    throw new MemberNotFoundException();
+                }
+
+                // 같은 거래 ID가 중복된 경우 두 번째 요청부터 이미 완료된 결제로 처리됩니다.
+                if (trade.getPaymentStatus() != PaymentStatus.WAIT) {
+                    throw new PaymentAlreadyDoneException();
+                }
+
+                checkLimitAndBalance(member, trade.getPaymentAmount(), now.toLocalDate());
+                member.pay(trade.getPaymentAmount(), now.toLocalDate());
+                trade.completePayment(now);
+                ledgerEntryWriter.append(LedgerEntry.of(member.getId(), tradeId, LedgerEntryType.PAYMENT, trade.getPaymentAmount(), now));
+                eventPublisher.publishEvent(new TradeChangedEvent(tradeId, trade.getMemberId()));
+
+                results.add(PaymentBatchResponse.Result.succeeded(tradeId));
+            } catch (GeneralException e) {
+                results.add(PaymentBatchResponse.Result.failed(tradeId, e));
+            }
+        }
+
+        log.info("결제 일괄 처리가 완료되었습니다. [요청 건수 = {}, 회원 수 = {}]", tradeIds.size(), members.size());
+        return results;
+    }
+
+    /**
+     * 결제를 진행합니다. 이 때, 낙관적 락을 사용하여 거래와 회원 정보를 조회하고 결제를 진행합니다.
+     * 다른 트랜잭션이 먼저 거래 또는 회원 정보를 변경한 경우 커밋 시점에 OptimisticLockingFailureException 이 발생합니다.
+     *
+     * @param tradeId 거래 ID
+     */
+    @Transactional(timeout = 5, isolation = Isolation.READ_COMMITTED)
+    public void processPaymentOptimistically(Long tradeId) {
+
+        Trade trade = tradeRepository.findWithOptimisticLockById(tradeId)
                 .orElseThrow(TradeNotFoundException::new);
 
-        // 비관적 락을 사용하여 멤버 정보를 조회합니다. (잔액 변경을 막기 위함)
-        Member member = memberRepository.findWithPessimisticLockById(trade.getMemberId())
+        Member member = memberRepository.findWithOptimisticLockById(trade.getMemberId())
                 .orElseThrow(MemberNotFoundException::new);
 
         if (trade.getPaymentStatus() != PaymentStatus.WAIT) {
             throw new PaymentAlreadyDoneException();
         }
 
-        checkLimitAndBalance(member, trade.getPaymentAmount());
-        member.pay(trade.getPaymentAmount());
+        LocalDateTime now = LocalDateTime.now(clock);
+        checkLimitAndBalance(member, trade.getPaymentAmount(), now.toLocalDate());
+        member.pay(trade.getPaymentAmount(), now.toLocalDate());
+        ledgerEntryWriter.append(LedgerEntry.of(member.getId(), tradeId, LedgerEntryType.PAYMENT, trade.getPaymentAmount(), now));
 
-        trade.completePayment();
+        trade.completePayment(now);
+        eventPublisher.publishEvent(new TradeChangedEvent(tradeId, trade.getMemberId()));
         log.info("결제가 완료되었습니다. [결제 ID = {}]", trade.getId());
     }
 
+    /**
+     * 결제를 진행합니다. 이 때, 락을 사용하지 않고 조건부 UPDATE 로 거래 상태와 회원 정보를 반영합니다.
+     * 회원 정보 갱신에 실패한 경우에만 회원 정보를 다시 조회하여 실패 원인에 맞는 예외를 발생시킵니다.
+     *
+     * @param tradeId 거래 ID
+     */
+    @Transactional(timeout = 5, isolation = Isolation.READ_COMMITTED)
+    public void processPaymentAtomically(Long tradeId) {
+
+        // 거래의 회원 ID와 결제 금액은 변경되지 않으므로 락 없이 조회합니다.
+        Trade trade = tradeRepository.findById(tradeId)
+                .orElseThrow(TradeNotFoundException::new);
+
+        // 결제 상태를 먼저 전이합니다. (중복 요청은 여기서 PaymentAlreadyDoneException 발생)
+        LocalDateTime now = LocalDateTime.now(clock);
+        tradeStateMachine.completePayment(tradeId, now);
+
+        Money amount = trade.getPaymentAmount();
+        LocalDate today = now.toLocalDate();
+        int updated = memberRepository.payIfAllowed(trade.getMemberId(), amount, today, Member.monthlyPeriodOf(today));
+
+        if (updated == 0) {
+            // 실패한 경우에만 최신 회원 정보를 잠그고 조회하여 실패 원인을 판단합니다.
+            // 그 사이 다른 트랜잭션이 상태를 바꿔 결제가 가능해졌다면, 잠근 상태 그대로 결제를 진행합니다.
+            Member member = memberRepository.findWithPessimisticLockById(trade.getMemberId())
+                    .orElseThrow(MemberNotFoundException::new);
+
+            checkLimitAndBalance(member, amount, today);
+            member.pay(amount, today);
+        }
+
+        ledgerEntryWriter.append(LedgerEntry.of(trade.getMemberId(), tradeId, LedgerEntryType.PAYMENT, amount, now));
+        eventPublisher.publishEvent(new TradeChangedEvent(tradeId, trade.getMemberId()));
+        log.info("결제가 완료되었습니다. [결제 ID = {}]", tradeId);
+    }
 
     /**
      * 결제 취소를 진행합니다. 만약 페이백 정보가 존재한다면, 페이백도 동시에 취소합니다.
@@ -74,107 +273,147 @@ public class PaymentService {
     @Transactional(timeout = 5, isolation = Isolation.REPEATABLE_READ)
     public void cancelPayment(Long tradeId) {
 
-        // 비관적 락을 사용하여 거래 정보 조회 (결제 상태를 다른 트랜잭션에서 변경하지 못하도록)
-        Trade payment = tradeRepository.findWithPessimisticLockById(tradeId)
+        // 비관적 락을 사용하여 거래와 회원 정보를 한 번에 조회 (결제 상태와 유저 잔액을 다른 트랜잭션에서 변경하지 못하도록)
+        TradeWithMember locked = tradeRepository.findWithMemberAndPessimisticLockById(tradeId)
                 .orElseThrow(TradeNotFoundException::new);
 
-        // 비관적 락을 사용하여 회원 정보 조회 (유저 잔액 수정을 막아야 함.)
-        Member member = memberRepository.findWithPessimisticLockById(payment.getMemberId())
-                .orElseThrow(MemberNotFoundException::new);
+        Trade payment = locked.trade();
+        Member member = locked.getMemberOrThrow();
 
         if (payment.getPaymentStatus() != PaymentStatus.DONE) {
             throw new PaymentNotCompleteException();
         }
 
         // 페이백도 진행되었을 경우 우선적으로 취소 진행
+        // (페이백 취소에 실패하면 결제 취소도 함께 롤백합니다. 페이백을 남긴 채 결제만 취소되지 않도록 합니다.)
         if (payment.getPaybackStatus() == PaybackStatus.DONE) {
-            // TODO: 여기서 오류가 발생한다고 하더라도 결제 취소는 진행되어야 합니다. (미구현)
-            try {
-                paybackService.cancelPayback(tradeId);
-            } catch (Exception e) {
-                log.error("페이백 취소 중 오류가 발생하였습니다. [결제 ID = {}]", tradeId, e);
-            }
+            paybackService.cancelPayback(tradeId);
         }
 
-        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime now = LocalDateTime.now(clock);
         payment.cancelPayment(now);
-        member.cancelPayment(payment.getPaymentAmount());
-
-        // 1. 결제한 일자와 취소하는 일자(오늘)이 같은 날짜인가?
-        LocalDateTime approvedAt = payment.getPaymentApprovedAt();
-        if (compareDay(now, approvedAt) == 0) {
-            BigDecimal paymentAmount = payment.getPaymentAmount();
-            member.decreaseDailyAccumulate(paymentAmount);
-        }
 
-        // 2. 결제한 일자와 취소하는 일자(오늘)이 같은 달인가?
-        if (compareMonth(now, approvedAt) == 0) {
-            BigDecimal paymentAmount = payment.getPaymentAmount();
-            member.decreaseMonthlyAccumulate(paymentAmount);
-        }
+        // 누적 금액이 아직 결제한 일자/월의 기간인 경우에만 누적 금액을 차감합니다.
+        member.cancelPayment(payment.getPaymentAmount(), payment.getPaymentApprovedAt().toLocalDate());
+        ledgerEntryWriter.append(LedgerEntry.of(member.getId(), tradeId, LedgerEntryType.PAYMENT_CANCEL, payment.getPaymentAmount(), now));
 
+        eventPublisher.publishEvent(new TradeChangedEvent(tradeId, payment.getMemberId()));
         log.info("결제 취소가 완료되었습니다. [결제 ID = {}]", tradeId);
     }
 
-
     /**
-     * 두 날짜의 일자를 비교합니다.
+     * 결제 취소를 진행합니다. 이 때, 낙관적 락을 사용하여 거래와 회원 정보를 조회합니다.
+     * 만약 페이백 정보가 존재한다면, 페이백도 동시에 취소합니다.
      *
-     * @param aDateTime 날짜 A
-     * @param bDateTime 날짜 B
-     * @return 같은 경우 0, aDate가 더 큰 경우 1, bDate가 더 큰 경우 -1
+     * @param tradeId 거래 ID
      */
-    private static int compareDay(LocalDateTime aDateTime, LocalDateTime bDateTime) {
-        LocalDate aDate = aDateTime.toLocalDate();
-        LocalDate bDate = bDateTime.toLocalDate();
-        return aDate.compareTo(bDate);
+    @Transactional(timeout = 5, isolation = Isolation.READ_COMMITTED)
+    public void cancelPaymentOptimistically(Long tradeId) {
+
+        Trade payment = tradeRepository.findWithOptimisticLockById(tradeId)
+                .orElseThrow(TradeNotFoundException::new);
+
+        Member member = memberRepository.findWithOptimisticLockById(payment.getMemberId())
+                .orElseThrow(MemberNotFoundException::new);
+
+        if (payment.getPaymentStatus() != PaymentStatus.DONE) {
+            throw new PaymentNotCompleteException();
+        }
+
+        // 페이백도 진행되었을 경우 우선적으로 취소 진행 (같은 영속성 컨텍스트의 거래/회원 엔티티를 함께 변경합니다.)
+        // (페이백 취소에 실패하면 결제 취소도 함께 롤백합니다.)
+        if (payment.getPaybackStatus() == PaybackStatus.DONE) {
+            paybackService.cancelPaybackOptimistically(tradeId);
+        }
+
+        LocalDateTime now = LocalDateTime.now(clock);
+        payment.cancelPayment(now);
+        member.cancelPayment(payment.getPaymentAmount(), payment.getPaymentApprovedAt().toLocalDate());
+        ledgerEntryWriter.append(LedgerEntry.of(member.getId(), tradeId, LedgerEntryType.PAYMENT_CANCEL, payment.getPaymentAmount(), now));
+
+        eventPublisher.publishEvent(new TradeChangedEvent(tradeId, payment.getMemberId()));
+        log.info("결제 취소가 완료되었습니다. [결제 ID = {}]", tradeId);
     }
 
     /**
-     * 두 날짜의 월을 비교합니다.
+     * 결제 취소를 진행합니다. 이 때, 락을 사용하지 않고 조건부 UPDATE 로 거래 상태와 회원 정보를 반영합니다.
+     * 만약 페이백 정보가 존재한다면, 페이백도 동시에 취소합니다.
      *
-     * @param aDateTime 날짜 A
-     * @param bDateTime 날짜 B
-     * @return 같은 경우 0, aDate가 더 큰 경우 1, bDate가 더 큰 경우 -1
+     * @param tradeId 거래 ID
      */
-    private static int compareMonth(LocalDateTime aDateTime, LocalDateTime bDateTime) {
-        YearMonth aYearMonth = YearMonth.from(aDateTime);
-        YearMonth bYearMonth = YearMonth.from(bDateTime);
-        return aYearMonth.compareTo(bYearMonth);
+    @Transactional(timeout = 5, isolation = Isolation.READ_COMMITTED)
+    public void cancelPaymentAtomically(Long tradeId) {
+
+        LocalDateTime now = LocalDateTime.now(clock);
+
+        // 페이백 취소는 결제 완료 상태를 전제로 하므로, 결제 상태 전이 전에 먼저 진행합니다. (실패하면 결제 취소도 함께 롤백합니다.)
+        // 페이백 완료 여부 조회와 결제 취소 사이에 페이백이 완료될 수 있으므로, 결제 취소 상태 전이는 페이백이 완료되지 않은 경우에만 성공하며
+        // 실패하면 페이백 취소부터 다시 시도합니다.
+        for (int attempt = 1; ; attempt++) {
+            if (tradeStateMachine.isPaybackDone(tradeId)) {
+                paybackService.cancelPaybackAtomically(tradeId);
+            }
+            try {
+                tradeStateMachine.cancelPayment(tradeId, now);
+                break;
+            } catch (PaymentCancelNotAllowedException e) {
+                if (attempt >= MAX_CANCEL_ATTEMPTS) {
+                    throw e;
+                }
+                log.warn("결제 취소 중 페이백이 완료되어 다시 시도합니다. [결제 ID = {}, 시도 = {}]", tradeId, attempt);
+            }
+        }
+
+        // 상태 전이에 성공한 뒤 조회하므로 결제 승인 일시가 반드시 존재합니다.
+        Trade payment = tradeRepository.findById(tradeId)
+                .orElseThrow(TradeNotFoundException::new);
+
+        // 누적 금액이 아직 결제한 일자/월의 기간인 경우에만 누적 금액을 차감합니다.
+        LocalDate paidOn = payment.getPaymentApprovedAt().toLocalDate();
+        if (memberRepository.refundPayment(payment.getMemberId(), payment.getPaymentAmount(),
+                paidOn, Member.monthlyPeriodOf(paidOn)) == 0) {
+            throw new MemberNotFoundException();
+        }
+        ledgerEntryWriter.append(LedgerEntry.of(payment.getMemberId(), tradeId, LedgerEntryType.PAYMENT_CANCEL, payment.getPaymentAmount(), now));
+
+        eventPublisher.publishEvent(new TradeChangedEvent(tradeId, payment.getMemberId()));
+        log.info("결제 취소가 완료되었습니다. [결제 ID = {}]", tradeId);
     }
 
 
     /**
      * 한도 초과 및 잔액 부족 체크
+     * 누적 금액의 기간이 지난 경우(어제 또는 지난달의 누적 금액) 0 으로 보고 검증합니다.
      *
      * @param member 결제를 진행한 회원
      * @param amount 결제 금액
+     * @param today  결제 일자
      */
-    private void checkLimitAndBalance(Member member, BigDecimal amount) {
+    private void checkLimitAndBalance(Member member, Money amount, LocalDate today) {
 
-        if (BigDecimalUtils.is(amount).greaterThan(member.getOnceLimit())) {
+        if (amount.isGreaterThan(member.getOnceLimit())) {
             throw new OnceLimitExceedException();
         }
 
-        BigDecimal expectedDailyAccum = member.getDailyAccumulate().add(amount);
-        if (BigDecimalUtils.is(expectedDailyAccum).greaterThan(member.getDailyLimit())) {
+        Money expectedDailyAccum = member.getDailyAccumulate(today).plus(amount);
+        if (expectedDailyAccum.isGreaterThan(member.getDailyLimit())) {
             throw new DailyLimitExceedException();
         }
 
 
-        BigDecimal expectedMonthlyAccum = member.getMonthlyAccumulate().add(amount);
-        if (BigDecimalUtils.is(expectedMonthlyAccum).greaterThan(member.getMonthlyLimit())) {
+        Money expectedMonthlyAccum = member.getMonthlyAccumulate(today).plus(amount);
+        if (expectedMonthlyAccum.isGreaterThan(member.getMonthlyLimit())) {
             throw new MonthlyLimitExceedException();
         }
 
-        BigDecimal balance = member.getBalance();
-        if (BigDecimalUtils.is(balance).lessThan(amount)) {
+        Money balance = member.getBalance();
+        if (balance.isLessThan(amount)) {
             throw new BalanceLackException();
         }
 
         // 결제 후 잔액이 음수가 되는지 체크
-        BigDecimal expectedBalance = balance.subtract(amount);
-        if (BigDecimalUtils.is(expectedBalance).lessThan(BigDecimal.ZERO)) {
+        Money expectedBalance = balance.minus(amount);
+        if (expectedBalance.isNegative()) {
             throw new BalanceLackException();
         }
     }
@@ -0,0 +1,40 @@
+package com.lemontree.interview.service;
+
+import com.lemontree.interview.exception.member.MemberNotFoundException;
+import com.lemontree.interview.repository.ReactiveMemberRepository;
+import com.lemontree.interview.response.MemberResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Clock;
+import java.time.LocalDate;
+
+/**
+ * 유저 리액티브 Service 클래스 입니다.
+ * MemberService 의 조회 기능을 R2DBC 로 제공합니다. (reactive 프로파일에서만 등록됩니다.)
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor
+public class ReactiveMemberService {
+
+    private final ReactiveMemberRepository reactiveMemberRepository;
+    private final Clock clock;
+
+    /**
+     * 유저 정보를 조회합니다.
+     *
+     * @param memberId 유저 ID
+     * @return 유저 응답 DTO
+     */
+    public Mono<MemberResponse> getMember(Long memberId) {
+        return reactiveMemberRepository.findByIdAndIsDeletedFalse(memberId)
+                .map(member -> new MemberResponse(member).asOf(LocalDate.now(clock)))
+                .switchIfEmpty(Mono.error(MemberNotFoundException::new));
+    }
+}
@@ -0,0 +1,65 @@
+package com.lemontree.interview.service;
+
+import com.lemontree.interview.entity.TradeRow;
+import com.lemontree.interview.exception.member.MemberNotFoundException;
+import com.lemontree.interview.exception.trade.TradeNotFoundException;
+import com.lemontree.interview.repository.ReactiveMemberRepository;
+import com.lemontree.interview.repository.ReactiveTradeIdGenerator;
+import com.lemontree.interview.repository.ReactiveTradeRepository;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.response.TradeResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+/**
+ * 거래 리액티브 Service 클래스 입니다.
+ * TradeService 의 거래 생성 및 조회 기능을 R2DBC 로 제공합니다. (reactive 프로파일에서만 등록됩니다.)
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Profile("reactive")
+@Service
+@RequiredArgsConstructor
+public class ReactiveTradeService {
+
+    private final ReactiveTradeRepository reactiveTradeRepository;
+    private final ReactiveMemberRepository reactiveMemberRepository;
+    private final ReactiveTradeIdGenerator reactiveTradeIdGenerator;
+
+    /**
+     * 거래를 생성합니다. (결제가 진행되는 것이 아닌, 진행해야되는 거래를 생성합니다.)
+     *
+     * @param memberId 거래를 생성할 유저 ID
+     * @param request  거래 요청 정보
+     * @return 생성된 거래 ID
+     */
+    public Mono<Long> requestTrade(Long memberId, TradeRequest request) {
+        return reactiveMemberRepository.existsByIdAndIsDeletedFalse(memberId)
+                .flatMap(exists -> exists
+                        ? reactiveTradeIdGenerator.nextId()
+                        : Mono.error(new MemberNotFoundException()))
+                .map(tradeId -> TradeRow.builder()
+                        .id(tradeId)
+                        .memberId(memberId)
+                        .paymentAmount(request.getPaymentAmount().toBigDecimal())
+                        .paybackAmount(request.getPaybackAmount().toBigDecimal())
+                        .build())
+                .flatMap(reactiveTradeRepository::save)
+                .map(TradeRow::getId);
+    }
+
+    /**
+     * 거래를 조회합니다.
+     *
+     * @param tradeId 거래 ID
+     * @return 거래 응답 DTO
+     */
+    public Mono<TradeResponse> getTrade(Long tradeId) {
+        return reactiveTradeRepository.findById(tradeId)
+                .map(TradeResponse::new)
+                .switchIfEmpty(Mono.error(TradeNotFoundException::new));
+    }
+}
@@ -0,0 +1,230 @@
+package com.lemontree.interview.service;
+
+import com.lemontree.interview.entity.LedgerEntry;
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.event.MemberChangedEvent;
+import com.lemontree.interview.repository.LedgerEntryWriter;
+import com.lemontree.interview.repository.MemberState;
+import com.lemontree.interview.repository.ReconciliationRepository;
+import com.lemontree.interview.repository.TradeAmounts;
+import com.lemontree.interview.vo.Money;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 잔액/누적 금액 대사(reconciliation) Service 클래스입니다.
+ * <p>
+ * 회원의 잔액과 누적 금액을 거래 테이블로부터 다시 계산하여 현재 값과 비교합니다.
+ * <ul>
+ *     <li>잔액: 계좌 개설 금액 - 결제 완료(DONE) 금액 + 페이백 완료(DONE) 금액 (결제가 완료되지 않은 거래의 페이백은 제외)</li>
+ *     <li>일간/월간 누적 금액: 결제 승인 일시가 누적 금액의 기간(일/월)에 속하는 결제 완료(DONE) 금액</li>
+ * </ul>
+ * 원장 도입 전에 생성되어 계좌 개설 항목이 없는 회원은 잔액을 검증하지 않습니다.
+ * 결제가 완료되지 않았는데 페이백이 완료된 거래(결제 취소와 페이백의 경합 등)가 있는 회원은 금액이 같아도 차이로 보고합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Service
+@RequiredArgsConstructor
+public class ReconciliationService {
+
+    private final ReconciliationRepository reconciliationRepository;
+    private final LedgerEntryWriter ledgerEntryWriter;
+    private final ApplicationEventPublisher eventPublisher;
+    private final Clock clock;
+
+    /**
+     * 현재 값과 계산한 값이 다른 회원입니다.
+     *
+     * @param memberId                  회원 ID
+     * @param version                   대사 시점의 행 버전
+     * @param balance                   현재 잔액
+     * @param expectedBalance           계산한 잔액 (검증하지 않은 경우 현재 잔액)
+     * @param dailyAccumulate           현재 일간 누적 금액
+     * @param expectedDailyAccumulate   계산한 일간 누적 금액
+     * @param monthlyAccumulate         현재 월간 누적 금액
+     * @param expectedMonthlyAccumulate 계산한 월간 누적 금액
+     * @param invalidTrades             결제가 완료되지 않았는데 페이백이 완료된 거래 수
+     */
+    public record MemberDrift(Long memberId, Long version,
+                              Money balance, Money expectedBalance,
+                              Money dailyAccumulate, Money expectedDailyAccumulate,
+                              Money monthlyAccumulate, Money expectedMonthlyAccumulate,
+                              int invalidTrades) {
+
+        /**
+         * @return 잔액 또는 누적 금액이 계산한 값과 다른지 여부 (거래 상태만 어긋난 경우 false)
+         */
+        public boolean hasAmountDrift() {
+            return !balance.equals(expectedBalance)
+                    || !dailyAccumulate.equals(expectedDailyAccumulate)
+                    || !monthlyAccumulate.equals(expectedMonthlyAccumulate);
+        }
+    }
+
+    /**
+     * 회원 ID 구간의 대사 결과입니다.
+     *
+     * @param members            대사한 회원 수
+     * @param trades             읽은 거래 수
+     * @param unverifiedBalances 잔액을 검증하지 않은 회원 수 (계좌 개설 항목 없음)
+     * @param drifts             차이가 발견된 회원 목록
+     */
+    public record RangeResult(int members, long trades, int unverifiedBalances, List<MemberDrift> drifts) {
+    }
+
+    /**
+     * 회원 ID 구간을 대사합니다.
+     * 회원과 거래를 같은 스냅샷(REPEATABLE READ, 읽기 전용)에서 읽으므로, 대사 도중의 결제로 차이가 생긴 것처럼 보이지 않습니다.
+     *
+     * @param after 구간 시작 회원 ID (미포함)
+     * @param upTo  구간 끝 회원 ID (포함)
+     * @return 대사 결과
+     */
+    @Transactional(readOnly = true, isolation = Isolation.REPEATABLE_READ)
+    public RangeResult reconcileRange(long after, long upTo) {
+        List<MemberState> members = reconciliationRepository.findMemberStates(after, upTo);
+        if (members.isEmpty()) {
+            return new RangeResult(0, 0L, 0, List.of());
+        }
+
+        Map<Long, Expected> expectations = new HashMap<>(members.size() * 2);
+        for (MemberState member : members) {
+            expectations.put(member.memberId(), new Expected(member));
+        }
+
+        long[] trades = {0L};
+        reconciliationRepository.streamTrades(after, upTo, trade -> {
+            trades[0]++;
+            Expected expected = expectations.get(trade.memberId());
+            if (expected != null) {
+                expected.apply(trade);
+            }
+        });
+
+        int unverified = 0;
+        List<MemberDrift> drifts = new ArrayList<>();
+        for (MemberState member : members) {
+            Expected expected = expectations.get(member.memberId());
+            if (expected.balance == null) {
+                unverified++;
+            }
+
+            MemberDrift drift = expected.drift();
+            if (drift != null) {
+                drifts.add(drift);
+            }
+        }
+
+        return new RangeResult(members.size(), trades[0], unverified, drifts);
+    }
+
+    /**
+     * 차이가 발견된 회원의 잔액/누적 금액을 계산한 값으로 보정합니다.
+     * 잔액을 보정한 경우 보정 금액을 원장의 대사 보정 항목으로 같은 트랜잭션에서 기록하여, 원장 합계가 잔액과 계속 일치하도록 합니다.
+     * 대사 이후 변경된(행 버전이 다른) 회원은 보정하지 않고 다음 대사에서 다시 확인합니다.
+     * 금액은 같고 거래 상태만 어긋난 회원은 보정할 금액이 없으므로 보고만 합니다.
+     *
+     * @param drifts 차이가 발견된 회원 목록
+     * @return 보정한 회원 수
+     */
+    @Transactional
+    public int repair(List<MemberDrift> drifts) {
+        int repaired = 0;
+        LocalDateTime now = LocalDateTime.now(clock);
+        for (MemberDrift drift : drifts) {
+            if (!drift.hasAmountDrift()) {
+                continue;
+            }
+
+            if (reconciliationRepository.repair(drift.memberId(), drift.version(), drift.expectedBalance(),
+                    drift.expectedDailyAccumulate(), drift.expectedMonthlyAccumulate())) {
+                Money delta = drift.expectedBalance().minus(drift.balance());
+                if (!delta.isZero()) {
+                    ledgerEntryWriter.append(LedgerEntry.adjustment(drift.memberId(), delta, now));
+                }
+                eventPublisher.publishEvent(new MemberChangedEvent(drift.memberId()));
+                repaired++;
+            }
+        }
+        return repaired;
+    }
+
+    /**
+     * 거래로부터 계산하는 회원의 잔액/누적 금액입니다.
+     */
+    private static class Expected {
+
+        private final MemberState member;
+        private Money balance;
+        private Money dailyAccumulate = Money.ZERO;
+        private Money monthlyAccumulate = Money.ZERO;
+        private int invalidTrades;
+
+        private Expected(MemberState member) {
+            this.member = member;
+            this.balance = member.openingBalance();
+        }
+
+        private void apply(TradeAmounts trade) {
+            if (trade.paymentStatus() == PaymentStatus.DONE) {
+                if (balance != null) {
+                    balance = balance.minus(trade.paymentAmount());
+                }
+
+                // 결제 승인 일시는 업무 시간대(ClockConfig)의 시각으로 기록하므로, 그 일자가 결제 시점의 누적 금액 기간입니다.
+                LocalDate paidOn = trade.paymentApprovedAt().toLocalDate();
+                if (paidOn.equals(member.dailyPeriod())) {
+                    dailyAccumulate = dailyAccumulate.plus(trade.paymentAmount());
+                }
+                if (Member.monthlyPeriodOf(paidOn).equals(member.monthlyPeriod())) {
+                    monthlyAccumulate = monthlyAccumulate.plus(trade.paymentAmount());
+                }
+            }
+
+            if (trade.paybackStatus() != PaybackStatus.DONE) {
+                return;
+            }
+
+            // 결제가 완료되지 않은 거래의 페이백은 잔액에 포함하지 않고 차이로 보고합니다. (결제 취소 후 남은 페이백 등)
+            if (trade.paymentStatus() != PaymentStatus.DONE) {
+                invalidTrades++;
+                return;
+            }
+
+            if (balance != null) {
+                balance = balance.plus(trade.paybackAmount());
+            }
+        }
+
+        private MemberDrift drift() {
+            Money expectedBalance = balance != null ? balance : member.balance();
+            if (expectedBalance.equals(member.balance())
+                    && dailyAccumulate.equals(member.dailyAccumulate())
+                    && monthlyAccumulate.equals(member.monthlyAccumulate())
+                    && invalidTrades == 0) {
+                return null;
+            }
+
+            return new MemberDrift(member.memberId(), member.version(),
+                    member.balance(), expectedBalance,
+                    member.dailyAccumulate(), dailyAccumulate,
+                    member.monthlyAccumulate(), monthlyAccumulate,
+                    invalidTrades);
+        }
+    }
+}
@@ -1,16 +1,38 @@
 package com.lemontree.interview.service;
 
+import com.lemontree.interview.cache.LookupCache;
+import com.lemontree.interview.datasource.ConnectionBulkhead;
+import com.lemontree.interview.datasource.ReadReplicaRouter;
+import com.lemontree.interview.datasource.Workload;
 import com.lemontree.interview.entity.Trade;
+import com.lemontree.interview.event.TradesCreatedEvent;
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
 import com.lemontree.interview.exception.member.MemberNotFoundException;
 import com.lemontree.interview.exception.trade.TradeNotFoundException;
 import com.lemontree.interview.repository.MemberRepository;
 import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.TradeBatchRequest;
+import com.lemontree.interview.request.TradeHistoryCursor;
+import com.lemontree.interview.request.TradeHistoryRequest;
 import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.response.TradeBatchResponse;
+import com.lemontree.interview.response.TradeHistoryItemResponse;
+import com.lemontree.interview.response.TradeHistoryResponse;
+import com.lemontree.interview.response.TradeListResponse;
 import com.lemontree.interview.response.TradeResponse;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
 /**
  * 거래 Service 클래스 입니다.
  *
@@ -23,6 +45,27 @@ public class TradeService {
 
     private final TradeRepository tradeRepository;
     private final MemberRepository memberRepository;
+    private final EntityManager entityManager;
+    private final LookupCache lookupCache;
+    private final ReadReplicaRouter readReplicaRouter;
+    private final ConnectionBulkhead connectionBulkhead;
+    private final ApplicationEventPublisher eventPublisher;
+
+    /**
+     * 일괄 생성 시 한 번에 INSERT 하고 영속성 컨텍스트를 비우는 단위 (hibernate.jdbc.batch_size 의 배수)
+     */
+    private static final int BATCH_CHUNK_SIZE = 1_000;
+
+    /**
+     * 거래 내역 조회 기간이 지정되지 않은 경우의 하한/상한 (조건을 항상 범위로 두어 인덱스 범위 탐색을 유지합니다.)
+     */
+    private static final LocalDateTime HISTORY_MIN = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final LocalDateTime HISTORY_MAX = LocalDateTime.of(9999, 12, 31, 0, 0);
+
+    /**
+     * 결제가 승인된 적이 있는 거래의 결제 상태 (결제 대기 거래는 결제 승인 일시가 없으므로 내역에 포함되지 않습니다.)
+     */
+    private static final Set<PaymentStatus> HISTORY_PAYMENT_STATUSES = EnumSet.of(PaymentStatus.DONE, PaymentStatus.CANCEL);
 
     /**
      * 거래를 생성합니다. (결제가 진행되는 것이 아닌, 진행해야되는 거래를 생성합니다.)
@@ -46,21 +89,189 @@ public class TradeService {
 
         Trade savedTrade = tradeRepository.save(trade);
 
+        // 생성 직후 조회가 복제 지연으로 누락되지 않도록 생성 이벤트를 발행합니다.
+        eventPublisher.publishEvent(TradesCreatedEvent.of(savedTrade.getId(), memberId));
+
         return savedTrade.getId();
     }
 
+    /**
+     * 거래를 일괄 생성합니다.
+     * 회원 존재 여부는 서로 다른 회원 ID 별로 한 번만 (IN 조회 1회) 확인하고, 거래는 JDBC 배치 INSERT 로 저장합니다.
+     * 존재하지 않는 회원의 거래는 생성하지 않고 실패 결과로 반환합니다.
+     * 생성 이벤트는 생성된 거래를 모아 요청마다 한 번만 발행합니다.
+     *
+     * @param items 생성할 거래 목록
+     * @return 요청 순서별 생성 결과
+     */
+    @Transactional
+    public TradeBatchResponse requestTrades(List<TradeBatchRequest.Item> items) {
+
+        Set<Long> memberIds = new HashSet<>();
+        items.forEach(item -> memberIds.add(item.getMemberId()));
+        Set<Long> existingMemberIds = new HashSet<>(memberRepository.findExistingIds(memberIds));
+
+        List<TradeBatchResponse.Result> results = new ArrayList<>(items.size());
+        List<Trade> chunk = new ArrayList<>(BATCH_CHUNK_SIZE);
+        List<Integer> chunkIndexes = new ArrayList<>(BATCH_CHUNK_SIZE);
+        List<Long> createdTradeIds = new ArrayList<>(items.size());
+
+        for (int index = 0; index < items.size(); index++) {
+            TradeBatchRequest.Item item = items.get(index);
+
+            if (!existingMemberIds.contains(item.getMemberId())) {
+                results.add(TradeBatchResponse.Result.failed(index, new MemberNotFoundException().getMessage()));
+                continue;
+            }
+
+            results.add(null);
+            chunkIndexes.add(index);
+            chunk.add(Trade.builder()
+                    .memberId(item.getMemberId())
+                    .paymentAmount(item.getPaymentAmount())
+                    .paybackAmount(item.getPaybackAmount())
+                    .build());
+
+            if (chunk.size() == BATCH_CHUNK_SIZE) {
+                saveChunk(chunk, chunkIndexes, results, createdTradeIds);
+            }
+        }
+        saveChunk(chunk, chunkIndexes, results, createdTradeIds);
+
+        if (!createdTradeIds.isEmpty()) {
+            eventPublisher.publishEvent(new TradesCreatedEvent(createdTradeIds, existingMemberIds));
+        }
+
+        return new TradeBatchResponse(results);
+    }
+
+    /**
+     * 모아둔 거래를 배치 INSERT 하고 영속성 컨텍스트를 비웁니다.
+     */
+    private void saveChunk(List<Trade> chunk, List<Integer> chunkIndexes, List<TradeBatchResponse.Result> results,
+                           List<Long> createdTradeIds) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        tradeRepository.saveAll(chunk);
+        tradeRepository.flush();
+
+        for (int i = 0; i < chunk.size(); i++) {
+            int index = chunkIndexes.get(i);
+            Long tradeId = chunk.get(i).getId();
+            results.set(index, TradeBatchResponse.Result.created(index, tradeId));
+            createdTradeIds.add(tradeId);
+        }
+
+        entityManager.clear();
+        chunk.clear();
+        chunkIndexes.clear();
+    }
+
     /**
      * 거래 조회 메서드입니다.
+     * 조회 캐시를 먼저 확인하며, 캐시에 있는 경우 DB 커넥션을 사용하지 않도록 트랜잭션 밖에서 조회합니다.
+     * 캐시에 없으면 엔티티를 거치지 않고 응답 DTO로 바로 조회합니다.
      *
      * @param tradeId 거래 ID
      * @return 결제 응답 DTO
      */
-    @Transactional(readOnly = true)
     public TradeResponse getTrade(Long tradeId) {
+        return lookupCache.getTrade(tradeId, () -> connectionBulkhead.call(Workload.READ, () -> readReplicaRouter.readTrade(tradeId,
+                () -> tradeRepository.findResponseById(tradeId))).orElseThrow(TradeNotFoundException::new));
+    }
 
-        Trade trade = tradeRepository.findById(tradeId)
-                .orElseThrow(TradeNotFoundException::new);
+    /**
+     * 여러 거래를 한 번에 조회합니다.
+     * 캐시에 없는 거래만 모아 IN 조회 1회로 조회하며, 결과는 요청한 ID 순서(중복 제외)로 반환합니다.
+     *
+     * @param tradeIds 거래 ID 목록
+     * @return 조회된 거래와 존재하지 않는 거래 ID 목록
+     */
+    public TradeListResponse getTrades(List<Long> tradeIds) {
+        Map<Long, TradeResponse> found = lookupCache.getTrades(tradeIds, missingIds ->
+                connectionBulkhead.call(Workload.READ,
+                                () -> readReplicaRouter.readTrades(missingIds, () -> tradeRepository.findResponsesByIdIn(missingIds))).stream()
+                        .collect(Collectors.toMap(TradeResponse::getTradeId, Function.identity())));
+
+        List<TradeResponse> trades = new ArrayList<>(found.size());
+        List<Long> missingIds = new ArrayList<>();
+        for (Long tradeId : new LinkedHashSet<>(tradeIds)) {
+            TradeResponse trade = found.get(tradeId);
+            if (trade != null) {
+                trades.add(trade);
+            } else {
+                missingIds.add(tradeId);
+            }
+        }
+
+        return new TradeListResponse(trades, missingIds);
+    }
+
+    /**
+     * 회원의 거래 내역을 결제 승인 일시 내림차순으로 조회합니다. (키셋 페이지네이션)
+     * 한 건을 더 조회하여 다음 페이지 존재 여부를 판단하고, 마지막 거래의 위치를 다음 페이지 커서로 반환합니다.
+     * 조회 격벽의 허가를 얻기 전에 커넥션을 점유하지 않도록, 트랜잭션은 각 조회 쿼리(읽기 전용) 단위로 시작합니다.
+     *
+     * @param memberId 회원 ID
+     * @param request  조회 조건
+     * @return 거래 내역과 다음 페이지 커서
+     */
+    public TradeHistoryResponse getTradeHistory(Long memberId, TradeHistoryRequest request) {
+        return connectionBulkhead.call(Workload.READ,
+                () -> readReplicaRouter.readMember(memberId, () -> findTradeHistory(memberId, request)));
+    }
+
+    private TradeHistoryResponse findTradeHistory(Long memberId, TradeHistoryRequest request) {
+
+        if (!memberRepository.existsById(memberId)) {
+            throw new MemberNotFoundException();
+        }
 
-        return new TradeResponse(trade);
+        LocalDateTime from = request.getFrom() != null ? request.getFrom().atStartOfDay() : HISTORY_MIN;
+        LocalDateTime to = request.getTo() != null ? request.getTo().atStartOfDay() : HISTORY_MAX;
+        Set<PaymentStatus> paymentStatuses = request.getPaymentStatus() != null
+                ? EnumSet.of(request.getPaymentStatus()) : HISTORY_PAYMENT_STATUSES;
+        Set<PaybackStatus> paybackStatuses = request.getPaybackStatus() != null
+                ? EnumSet.of(request.getPaybackStatus()) : EnumSet.allOf(PaybackStatus.class);
+        Limit limit = Limit.of(request.getSize() + 1);
+
+        List<TradeHistoryItemResponse> trades;
+        if (request.getCursor() == null) {
+            trades = tradeRepository.findHistory(memberId, from, to, paymentStatuses, paybackStatuses, limit);
+        } else {
+            TradeHistoryCursor cursor = TradeHistoryCursor.decode(request.getCursor());
+            trades = tradeRepository.findHistoryAfter(memberId, from, to,
+                    cursor.paymentApprovedAt(), cursor.tradeId(), paymentStatuses, paybackStatuses, limit);
+        }
+
+        boolean hasNext = trades.size() > request.getSize();
+        if (!hasNext) {
+            return new TradeHistoryResponse(trades, false, null);
+        }
+
+        List<TradeHistoryItemResponse> page = trades.subList(0, request.getSize());
+        TradeHistoryItemResponse last = page.get(page.size() - 1);
+        String nextCursor = new TradeHistoryCursor(last.getPaymentApprovedAt(), last.getTradeId()).encode();
+        return new TradeHistoryResponse(page, true, nextCursor);
+    }
+
+    /**
+     * 거래의 현재 행 버전을 조회합니다. (조건부 조회(If-None-Match) 용)
+     * 캐시에 조회 응답이 있으면 그 버전을 사용하고, 없으면 엔티티를 조회하지 않고 버전 컬럼만 조회합니다.
+     *
+     * @param tradeId 거래 ID
+     * @return 행 버전
+     */
+    public Long getTradeVersion(Long tradeId) {
+        TradeResponse cached = lookupCache.findTrade(tradeId);
+        if (cached != null) {
+            return cached.getVersion();
+        }
+
+        return connectionBulkhead.call(Workload.READ,
+                        () -> readReplicaRouter.readTrade(tradeId, () -> tradeRepository.findVersionById(tradeId)))
+                .orElseThrow(TradeNotFoundException::new);
     }
 }
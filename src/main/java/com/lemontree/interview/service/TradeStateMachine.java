@@ -0,0 +1,110 @@
+package com.lemontree.interview.service;
+
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.exception.payback.PaybackAlreadyDoneException;
+import com.lemontree.interview.exception.payback.PaybackNotCompleteException;
+import com.lemontree.interview.exception.payment.PaymentAlreadyDoneException;
+import com.lemontree.interview.exception.payment.PaymentCancelNotAllowedException;
+import com.lemontree.interview.exception.payment.PaymentNotCompleteException;
+import com.lemontree.interview.exception.trade.TradeNotFoundException;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.repository.TradeStatusView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 거래 상태 전이를 조건부 UPDATE (Compare-And-Set) 로 처리하는 클래스입니다.
+ * <p>
+ * 거래 행을 미리 잠그지 않고, 기대하는 현재 상태를 WHERE 조건에 포함하여 상태를 변경합니다.
+ * 중복/동시 요청은 상태 전이에 실패하며, 이 때만 현재 상태를 조회하여 원인에 맞는 예외를 발생시킵니다.
+ * 호출하는 쪽의 트랜잭션 안에서 실행되어야 합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Component
+@RequiredArgsConstructor
+public class TradeStateMachine {
+
+    private final TradeRepository tradeRepository;
+
+    /**
+     * 결제 상태를 대기(WAIT)에서 완료(DONE)로 변경합니다.
+     *
+     * @param tradeId 거래 ID
+     * @param now     결제 승인 일시
+     */
+    public void completePayment(Long tradeId, LocalDateTime now) {
+        if (tradeRepository.completePaymentIfWaiting(tradeId, now) == 0) {
+            findStatus(tradeId);
+            throw new PaymentAlreadyDoneException();
+        }
+    }
+
+    /**
+     * 결제 상태를 완료(DONE)에서 취소(CANCEL)로 변경합니다. 페이백이 완료(DONE)된 거래는 변경하지 않습니다.
+     *
+     * @param tradeId 거래 ID
+     * @param now     결제 취소 일시
+     * @throws PaymentCancelNotAllowedException 페이백이 완료된 상태인 경우 (페이백 취소 후 다시 시도해야 합니다.)
+     */
+    public void cancelPayment(Long tradeId, LocalDateTime now) {
+        if (tradeRepository.cancelPaymentIfDone(tradeId, now) == 0) {
+            TradeStatusView status = findStatus(tradeId);
+            if (status.getPaymentStatus() == PaymentStatus.DONE) {
+                throw new PaymentCancelNotAllowedException();
+            }
+            throw new PaymentNotCompleteException();
+        }
+    }
+
+    /**
+     * 페이백 상태를 완료(DONE)로 변경합니다. 결제가 완료된 거래만 가능합니다.
+     *
+     * @param tradeId 거래 ID
+     * @param now     페이백 승인 일시
+     */
+    public void completePayback(Long tradeId, LocalDateTime now) {
+        if (tradeRepository.completePaybackIfAllowed(tradeId, now) == 0) {
+            TradeStatusView status = findStatus(tradeId);
+            if (status.getPaymentStatus() != PaymentStatus.DONE) {
+                throw new PaymentNotCompleteException();
+            }
+            throw new PaybackAlreadyDoneException();
+        }
+    }
+
+    /**
+     * 페이백 상태를 완료(DONE)에서 취소(CANCEL)로 변경합니다. 결제가 완료된 거래만 가능합니다.
+     *
+     * @param tradeId 거래 ID
+     * @param now     페이백 취소 일시
+     */
+    public void cancelPayback(Long tradeId, LocalDateTime now) {
+        if (tradeRepository.cancelPaybackIfDone(tradeId, now) == 0) {
+            TradeStatusView status = findStatus(tradeId);
+            if (status.getPaymentStatus() != PaymentStatus.DONE) {
+                throw new PaymentNotCompleteException();
+            }
+            throw new PaybackNotCompleteException();
+        }
+    }
+
+    /**
+     * 페이백이 완료(DONE) 상태인지 조회합니다.
+     *
+     * @param tradeId 거래 ID
+     * @return 페이백 완료 여부
+     */
+    public boolean isPaybackDone(Long tradeId) {
+        return findStatus(tradeId).getPaybackStatus() == PaybackStatus.DONE;
+    }
+
+    private TradeStatusView findStatus(Long tradeId) {
+        return tradeRepository.findStatusById(tradeId)
+                .orElseThrow(TradeNotFoundException::new);
+    }
+}
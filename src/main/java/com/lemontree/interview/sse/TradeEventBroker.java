@@ -0,0 +1,272 @@
+package com.lemontree.interview.sse;
+
+import com.lemontree.interview.config.TradeEventProperties;
+import com.lemontree.interview.datasource.ReadReplicaRouter;
+import com.lemontree.interview.event.TradeChangedEvent;
+import com.lemontree.interview.exception.member.MemberNotFoundException;
+import com.lemontree.interview.exception.trade.TradeEventSubscriberLimitException;
+import com.lemontree.interview.exception.trade.TradeNotFoundException;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.response.TradeStatusResponse;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 거래 상태 변경을 SSE(Server-Sent Events)로 전달하는 클래스입니다.
+ * <p>
+ * 결제/페이백 상태를 변경한 트랜잭션이 커밋되면(TradeChangedEvent), 해당 거래 또는 거래를 생성한 회원의 구독자에게 현재 거래 상태를 전송합니다.
+ * 구독자가 없으면 아무 일도 하지 않으며, 구독자가 있는 경우에도 상태 조회와 전송은 별도 스레드에서 진행하므로 결제 요청의 응답 시간에 영향을 주지 않습니다.
+ * <p>
+ * 구독자마다 크기가 제한된 버퍼를 두고, 버퍼가 가득 찰 만큼 수신이 느린 구독자는 구독을 종료합니다. (클라이언트는 다시 구독해야 합니다.)
+ * 이벤트 ID는 "거래 ID-버전" 이며, 같은 거래의 이전 버전 이벤트는 전송하지 않습니다.
+ * 변경 직후의 상태를 전송하므로 거래 조회는 읽기 복제본이 아닌 기본 DB 에서 처리합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@Slf4j
+@Component
+public class TradeEventBroker {
+
+    static final String EVENT_NAME = "trade-status";
+
+    private final TradeEventProperties properties;
+    private final TradeRepository tradeRepository;
+    private final MemberRepository memberRepository;
+    private final ReadReplicaRouter readReplicaRouter;
+    private final Executor senderExecutor;
+
+    private final ConcurrentMap<Long, Set<Subscriber>> tradeSubscribers = new ConcurrentHashMap<>();
+    private final ConcurrentMap<Long, Set<Subscriber>> memberSubscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    @Autowired
+    public TradeEventBroker(TradeEventProperties properties, TradeRepository tradeRepository, MemberRepository memberRepository,
+                            ReadReplicaRouter readReplicaRouter) {
+        this(properties, tradeRepository, memberRepository, readReplicaRouter, newSenderExecutor(properties));
+    }
+
+    TradeEventBroker(TradeEventProperties properties, TradeRepository tradeRepository,
+                     MemberRepository memberRepository, ReadReplicaRouter readReplicaRouter, Executor senderExecutor) {
+        this.properties = properties;
+        this.tradeRepository = tradeRepository;
+        this.memberRepository = memberRepository;
+        this.readReplicaRouter = readReplicaRouter;
+        this.senderExecutor = senderExecutor;
+    }
+
+    /**
+     * 이벤트 조회 및 전송 스레드 풀을 생성합니다.
+     * 대기열의 크기를 제한하여, 전송이 밀리면 대기열이 계속 늘어나지 않고 새 작업을 거부(RejectedExecutionException)합니다.
+     */
+    static ThreadPoolExecutor newSenderExecutor(TradeEventProperties properties) {
+        return new ThreadPoolExecutor(properties.getSenderThreads(), properties.getSenderThreads(),
+                0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getSenderQueueSize()), runnable -> {
+            Thread thread = new Thread(runnable, "trade-event-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 거래의 상태 변경을 구독합니다. 구독 직후 현재 거래 상태를 먼저 전송합니다.
+     *
+     * @param tradeId 거래 ID
+     * @return SSE 연결
+     */
+    public SseEmitter subscribeTrade(Long tradeId) {
+        if (!readReplicaRouter.primary(() -> tradeRepository.existsById(tradeId))) {
+            throw new TradeNotFoundException();
+        }
+
+        Subscriber subscriber = register(tradeSubscribers, tradeId);
+
+        // 구독 등록 이후의 상태를 조회하므로, 조회와 커밋이 엇갈려도 최신 상태가 누락되지 않습니다.
+        try {
+            senderExecutor.execute(() -> readReplicaRouter.primary(() -> tradeRepository.findStatusResponseById(tradeId))
+                    .ifPresent(status -> deliver(subscriber, status)));
+        } catch (RejectedExecutionException e) {
+            log.warn("거래 상태 초기 전송이 거부되었습니다. [거래 ID = {}]", tradeId);
+        }
+        return subscriber.emitter;
+    }
+
+    /**
+     * 회원이 생성한 모든 거래의 상태 변경을 구독합니다.
+     *
+     * @param memberId 회원 ID
+     * @return SSE 연결
+     */
+    public SseEmitter subscribeMember(Long memberId) {
+        if (!readReplicaRouter.primary(() -> memberRepository.existsById(memberId))) {
+            throw new MemberNotFoundException();
+        }
+
+        return register(memberSubscribers, memberId).emitter;
+    }
+
+    /**
+     * 거래 상태를 변경한 트랜잭션이 커밋되면 구독자에게 현재 거래 상태를 전송합니다.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onTradeChanged(TradeChangedEvent event) {
+        List<Subscriber> targets = new ArrayList<>();
+        targets.addAll(tradeSubscribers.getOrDefault(event.tradeId(), Set.of()));
+        targets.addAll(memberSubscribers.getOrDefault(event.memberId(), Set.of()));
+        if (targets.isEmpty()) {
+            return;
+        }
+
+        try {
+            senderExecutor.execute(() -> readReplicaRouter.primary(() -> tradeRepository.findStatusResponseById(event.tradeId()))
+                    .ifPresent(status -> targets.forEach(subscriber -> deliver(subscriber, status))));
+        } catch (RejectedExecutionException e) {
+            log.warn("거래 상태 이벤트 전송이 거부되었습니다. [거래 ID = {}]", event.tradeId());
+        }
+    }
+
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (senderExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+        tradeSubscribers.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+        memberSubscribers.values().forEach(subscribers -> subscribers.forEach(subscriber -> subscriber.emitter.complete()));
+    }
+
+    private Subscriber register(ConcurrentMap<Long, Set<Subscriber>> registry, Long key) {
+        if (subscriberCount.incrementAndGet() > properties.getMaxSubscribers()) {
+            subscriberCount.decrementAndGet();
+            throw new TradeEventSubscriberLimitException();
+        }
+
+        Subscriber subscriber = new Subscriber(new SseEmitter(properties.getTimeout().toMillis()),
+                properties.getBufferSize(), registry, key);
+        registry.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(subscriber);
+
+        subscriber.emitter.onCompletion(() -> unregister(subscriber));
+        subscriber.emitter.onTimeout(subscriber.emitter::complete);
+        subscriber.emitter.onError(e -> unregister(subscriber));
+        return subscriber;
+    }
+
+    private void unregister(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) {
+            return;
+        }
+
+        subscriber.registry.computeIfPresent(subscriber.key, (k, subscribers) -> {
+            subscribers.remove(subscriber);
+            return subscribers.isEmpty() ? null : subscribers;
+        });
+        subscriberCount.decrementAndGet();
+    }
+
+    /**
+     * 구독자의 버퍼에 이벤트를 추가하고 전송을 예약합니다. 버퍼가 가득 찬 구독자는 구독을 종료합니다.
+     */
+    private void deliver(Subscriber subscriber, TradeStatusResponse status) {
+        if (subscriber.closed.get()) {
+            return;
+        }
+
+        if (!subscriber.buffer.offer(status)) {
+            log.info("수신이 느린 거래 상태 구독자의 구독을 종료합니다. [구독 키 = {}]", subscriber.key);
+            unregister(subscriber);
+            subscriber.emitter.complete();
+            return;
+        }
+        scheduleDrain(subscriber);
+    }
+
+    private void scheduleDrain(Subscriber subscriber) {
+        if (!subscriber.draining.compareAndSet(false, true)) {
+            return;
+        }
+
+        try {
+            senderExecutor.execute(() -> drain(subscriber));
+        } catch (RejectedExecutionException e) {
+            subscriber.draining.set(false);
+        }
+    }
+
+    /**
+     * 구독자의 버퍼에 쌓인 이벤트를 순서대로 전송합니다. 구독자별로 한 번에 하나의 스레드만 전송합니다.
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            TradeStatusResponse status;
+            while ((status = subscriber.buffer.poll()) != null) {
+                if (subscriber.isStale(status)) {
+                    continue;
+                }
+
+                subscriber.emitter.send(SseEmitter.event()
+                        .name(EVENT_NAME)
+                        .id(status.getTradeId() + "-" + status.getVersion())
+                        .data(status, MediaType.APPLICATION_JSON));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // 클라이언트 연결이 끊어졌거나 이미 종료된 구독입니다.
+            unregister(subscriber);
+            subscriber.buffer.clear();
+        } finally {
+            subscriber.draining.set(false);
+        }
+
+        if (!subscriber.buffer.isEmpty() && !subscriber.closed.get()) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    /**
+     * 구독자(SSE 연결)와 전송 대기 버퍼입니다.
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<TradeStatusResponse> buffer;
+        private final ConcurrentMap<Long, Set<Subscriber>> registry;
+        private final Long key;
+        private final AtomicBoolean draining = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        /**
+         * 거래별로 마지막으로 전송한 버전 (전송 스레드에서만 접근합니다.)
+         */
+        private final Map<Long, Long> sentVersions = new HashMap<>();
+
+        private Subscriber(SseEmitter emitter, int bufferSize, ConcurrentMap<Long, Set<Subscriber>> registry, Long key) {
+            this.emitter = emitter;
+            this.buffer = new ArrayBlockingQueue<>(bufferSize);
+            this.registry = registry;
+            this.key = key;
+        }
+
+        private boolean isStale(TradeStatusResponse status) {
+            Long sent = sentVersions.get(status.getTradeId());
+            if (sent != null && sent >= status.getVersion()) {
+                return true;
+            }
+            sentVersions.put(status.getTradeId(), status.getVersion());
+            return false;
+        }
+    }
+}
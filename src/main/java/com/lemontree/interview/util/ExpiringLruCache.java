@@ -0,0 +1,122 @@
+package com.lemontree.interview.util;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 최대 크기(LRU)와 만료 시간(TTL)을 함께 가지는 메모리 캐시입니다.
+ * <p>
+ * 최대 크기를 넘으면 가장 오래 사용되지 않은 항목부터 제거하고, 만료된 항목은 조회 시점에 제거합니다.
+ * 모든 연산은 동기화되어 있으며, 캐시에 보관하는 값은 불변 객체여야 합니다.
+ * 조회 적중/실패 횟수와 제거(크기 초과 및 만료) 횟수를 누적합니다.
+ *
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public class ExpiringLruCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlMillis;
+    private final Clock clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    public ExpiringLruCache(int maxSize, Duration ttl) {
+        this(maxSize, ttl, Clock.systemUTC());
+    }
+
+    public ExpiringLruCache(int maxSize, Duration ttl, Clock clock) {
+        this.maxSize = maxSize;
+        this.ttlMillis = ttl.toMillis();
+        this.clock = clock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > ExpiringLruCache.this.maxSize) {
+                    evictionCount++;
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 키에 해당하는 값을 조회합니다.
+     *
+     * @param key 키
+     * @return 값 (없거나 만료된 경우 null)
+     */
+    public synchronized V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if (entry == null) {
+            missCount++;
+            return null;
+        }
+
+        if (entry.expiresAt() <= clock.millis()) {
+            entries.remove(key);
+            evictionCount++;
+            missCount++;
+            return null;
+        }
+
+        hitCount++;
+        return entry.value();
+    }
+
+    /**
+     * 값을 저장합니다.
+     *
+     * @param key   키
+     * @param value 값
+     */
+    public synchronized void put(K key, V value) {
+        if (maxSize <= 0) {
+            return;
+        }
+        entries.put(key, new Entry<>(value, clock.millis() + ttlMillis));
+    }
+
+    /**
+     * 값을 제거합니다.
+     *
+     * @param key 키
+     */
+    public synchronized void remove(K key) {
+        entries.remove(key);
+    }
+
+    /**
+     * 모든 값을 제거합니다.
+     */
+    public synchronized void clear() {
+        entries.clear();
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public synchronized long hitCount() {
+        return hitCount;
+    }
+
+    public synchronized long missCount() {
+        return missCount;
+    }
+
+    public synchronized long evictionCount() {
+        return evictionCount;
+    }
+}
@@ -0,0 +1,21 @@
+package com.lemontree.interview.validator;
+
+import com.lemontree.interview.vo.Money;
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.constraints.Positive;
+
+/**
+ * 금액(Money) 타입에 @Positive 검증을 적용하는 Validator 입니다.
+ * (META-INF/services/jakarta.validation.ConstraintValidator 로 등록합니다.)
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public class MoneyPositiveValidator implements ConstraintValidator<Positive, Money> {
+
+    @Override
+    public boolean isValid(Money value, ConstraintValidatorContext context) {
+        return value == null || value.isPositive();
+    }
+}
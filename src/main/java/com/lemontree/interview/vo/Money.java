@@ -0,0 +1,115 @@
+package com.lemontree.interview.vo;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.math.BigDecimal;
+
+/**
+ * 금액 값 타입입니다.
+ * <p>
+ * 모든 금액 컬럼이 DECIMAL(12,0) (원 단위 정수) 이므로 long 으로 보관합니다.
+ * 불변 객체이며, 연산 결과가 long 범위를 넘으면 ArithmeticException 을 던집니다.
+ * JSON 에서는 기존 BigDecimal 과 같은 숫자(예: 10000)로 직렬화하며, 소수점 이하가 있는 금액은 역직렬화하지 않습니다.
+ * DB 컬럼과의 변환은 MoneyConverter 가 담당합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+public final class Money implements Comparable<Money> {
+
+    public static final Money ZERO = new Money(0L);
+
+    private final long amount;
+
+    private Money(long amount) {
+        this.amount = amount;
+    }
+
+    /**
+     * @param amount 금액 (원)
+     * @return 금액
+     */
+    public static Money of(long amount) {
+        return amount == 0L ? ZERO : new Money(amount);
+    }
+
+    /**
+     * BigDecimal 금액을 변환합니다. (JSON 역직렬화, DB 조회 결과 변환에 사용합니다.)
+     *
+     * @param amount 금액 (원, null 이면 null 을 반환합니다.)
+     * @return 금액
+     * @throws ArithmeticException 소수점 이하가 있거나 long 범위를 넘는 경우
+     */
+    @JsonCreator(mode = JsonCreator.Mode.DELEGATING)
+    public static Money of(BigDecimal amount) {
+        return amount != null ? of(amount.longValueExact()) : null;
+    }
+
+    /**
+     * @return 금액 (원)
+     */
+    @JsonValue
+    public long toLong() {
+        return amount;
+    }
+
+    /**
+     * @return BigDecimal 금액 (DB 컬럼 바인딩에 사용합니다.)
+     */
+    public BigDecimal toBigDecimal() {
+        return BigDecimal.valueOf(amount);
+    }
+
+    public Money plus(Money other) {
+        return of(Math.addExact(amount, other.amount));
+    }
+
+    public Money minus(Money other) {
+        return of(Math.subtractExact(amount, other.amount));
+    }
+
+    public Money negate() {
+        return of(Math.negateExact(amount));
+    }
+
+    public boolean isGreaterThan(Money other) {
+        return amount > other.amount;
+    }
+
+    public boolean isLessThan(Money other) {
+        return amount < other.amount;
+    }
+
+    public boolean isPositive() {
+        return amount > 0L;
+    }
+
+    public boolean isNegative() {
+        return amount < 0L;
+    }
+
+    public boolean isZero() {
+        return amount == 0L;
+    }
+
+    @Override
+    public int compareTo(Money other) {
+        return Long.compare(amount, other.amount);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return this == o || (o instanceof Money other && amount == other.amount);
+    }
+
+    @Override
+    public int hashCode() {
+        return Long.hashCode(amount);
+    }
+
+    @Override
+    public String toString() {
+        return Long.toString(amount);
+    }
+}
@@ -1,6 +1,10 @@
 -- DB: lemontree
 
+DROP TABLE IF EXISTS balance_snapshot;
+DROP TABLE IF EXISTS ledger_entry;
+DROP TABLE IF EXISTS idempotency_key;
 DROP TABLE IF EXISTS trade;
+DROP TABLE IF EXISTS id_generator;
 DROP TABLE IF EXISTS member;
 
 CREATE TABLE `member`
@@ -13,14 +17,29 @@ CREATE TABLE `member`
     daily_limit        DECIMAL(12, 0) NOT NULL,
     monthly_limit      DECIMAL(12, 0) NOT NULL,
     daily_accumulate   DECIMAL(12, 0) NOT NULL,
+    -- 누적 금액이 속한 기간 (일: 결제일, 월: 결제월의 1일), 기간이 지난 누적 금액은 0 으로 보고 다음 결제 시 새 기간으로 갱신
+    daily_period       DATE           NULL,
     monthly_accumulate DECIMAL(12, 0) NOT NULL,
-    is_deleted         BOOLEAN        NOT NULL DEFAULT FALSE
+    monthly_period     DATE           NULL,
+    is_deleted         BOOLEAN        NOT NULL DEFAULT FALSE,
+    version            BIGINT         NOT NULL DEFAULT 0
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4;
 
+-- 거래 ID 생성기 (JDBC 배치 INSERT 를 위해 IDENTITY 대신 테이블 기반 생성기 사용)
+CREATE TABLE `id_generator`
+(
+    sequence_name VARCHAR(255) PRIMARY KEY,
+    next_val      BIGINT       NOT NULL
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+INSERT INTO id_generator (sequence_name, next_val)
+VALUES ('trade', 1);
+
 CREATE TABLE `trade`
 (
-    trade_id            BIGINT AUTO_INCREMENT PRIMARY KEY,
+    trade_id            BIGINT PRIMARY KEY,
     member_id           BIGINT         NOT NULL,
     payment_amount      DECIMAL(12, 0) NOT NULL,
     payment_status      VARCHAR(10)    NOT NULL,
@@ -30,9 +49,54 @@ CREATE TABLE `trade`
     payment_canceled_at DATETIME       NULL,
     payback_approved_at DATETIME       NULL,
     payback_canceled_at DATETIME       NULL,
+    version             BIGINT         NOT NULL DEFAULT 0,
 
     FOREIGN KEY (member_id) REFERENCES member (member_id) ON DELETE CASCADE,
-    INDEX idx_payment_member_id (member_id)
+    INDEX idx_payment_member_id (member_id),
+    -- 회원 거래 내역 키셋 페이지네이션 (member_id = ? 범위 안에서 결제 승인 일시, 거래 ID 순으로 탐색, 상태 필터는 인덱스에서 처리)
+    INDEX idx_trade_member_approved_at (member_id, payment_approved_at, trade_id, payment_status, payback_status)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+CREATE TABLE `idempotency_key`
+(
+    idempotency_key VARCHAR(100) PRIMARY KEY,
+    request_hash    VARCHAR(64)  NOT NULL,
+    completed       BOOLEAN      NOT NULL,
+    status_code     INT          NULL,
+    content_type    VARCHAR(100) NULL,
+    response_body   LONGTEXT     NULL,
+    created_at      DATETIME     NOT NULL,
+
+    INDEX idx_idempotency_key_created_at (created_at)
 ) ENGINE = InnoDB
   DEFAULT CHARSET = utf8mb4;
 
+-- 회원 잔액 원장 (추가만 하는 부호 있는 항목, 결제/페이백 트랜잭션 커밋 직전에 JDBC 배치 INSERT)
+CREATE TABLE `ledger_entry`
+(
+    entry_id   BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id  BIGINT         NOT NULL,
+    trade_id   BIGINT         NULL,
+    entry_type VARCHAR(20)    NOT NULL,
+    amount     DECIMAL(12, 0) NOT NULL,
+    created_at DATETIME       NOT NULL,
+
+    -- 스냅샷 이후 항목 합계 (member_id = ? AND entry_id > ?)
+    INDEX idx_ledger_entry_member_id (member_id, entry_id),
+    INDEX idx_ledger_entry_created_at (created_at)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
+
+-- 회원 잔액 스냅샷 (last_entry_id 까지의 원장 항목 합계, 현재 잔액 = 최근 스냅샷 + 이후 항목 합계)
+CREATE TABLE `balance_snapshot`
+(
+    snapshot_id   BIGINT AUTO_INCREMENT PRIMARY KEY,
+    member_id     BIGINT         NOT NULL,
+    last_entry_id BIGINT         NOT NULL,
+    balance       DECIMAL(12, 0) NOT NULL,
+    created_at    DATETIME       NOT NULL,
+
+    INDEX idx_balance_snapshot_member_id (member_id, last_entry_id)
+) ENGINE = InnoDB
+  DEFAULT CHARSET = utf8mb4;
@@ -0,0 +1,294 @@
+package com.lemontree.interview;
+
+import com.lemontree.interview.config.ClockConfig;
+import com.lemontree.interview.config.ConcurrencyMode;
+import com.lemontree.interview.config.ConcurrencyProperties;
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.entity.Trade;
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.facade.PaybackFacade;
+import com.lemontree.interview.facade.PaymentFacade;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * 동시성 제어 방식(비관적 락 / 낙관적 락 / 조건부 UPDATE)별 정합성 테스트입니다.
+ * 회원별로 거래가 분산된 경우(저경합)와 한 회원에게 거래가 몰린 경우(고경합)의 소요 시간 비교는 benchmark.ConcurrencyModeBenchmark 에서 측정합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class ConcurrencyModeTest {
+
+    static final int THREAD_COUNT = 100;
+    static final Money PAYMENT_AMOUNT = Money.of(5L);
+    static final Money INITIAL_BALANCE = Money.of(100_000L);
+    static final int RACE_ROUNDS = 30;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TradeRepository tradeRepository;
+
+    @Autowired
+    TradeService tradeService;
+
+    @Autowired
+    PaymentFacade paymentFacade;
+
+    @Autowired
+    PaybackFacade paybackFacade;
+
+    @Autowired
+    ConcurrencyProperties concurrencyProperties;
+
+    @AfterEach
+    void tearDown() {
+        concurrencyProperties.setMode(ConcurrencyMode.PESSIMISTIC);
+        tradeRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ConcurrencyMode.class, names = {"PESSIMISTIC", "OPTIMISTIC"})
+    @DisplayName("(저경합) 서로 다른 회원의 결제를 동시에 요청하면 모두 성공한다.")
+    void low_contention(ConcurrencyMode mode) throws Exception {
+
+        // given
+        List<Long> tradeIds = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            Member member = memberRepository.save(createMember());
+            tradeIds.add(tradeService.requestTrade(member.getId(), createRequest()));
+        }
+
+        // when
+        AtomicInteger success = new AtomicInteger(0);
+        runPayments(mode, tradeIds, success);
+
+        // then
+        assertEquals(THREAD_COUNT, success.intValue());
+        memberRepository.findAll().forEach(member ->
+                assertEquals(0, member.getBalance().compareTo(INITIAL_BALANCE.minus(PAYMENT_AMOUNT))));
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = ConcurrencyMode.class, names = {"PESSIMISTIC", "OPTIMISTIC"})
+    @DisplayName("(고경합) 한 회원의 서로 다른 결제를 동시에 요청해도 성공한 결제만큼만 잔액이 차감된다.")
+    void hot_member(ConcurrencyMode mode) throws Exception {
+
+        // given
+        Member member = memberRepository.save(createMember());
+        List<Long> tradeIds = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            tradeIds.add(tradeService.requestTrade(member.getId(), createRequest()));
+        }
+
+        // when
+        AtomicInteger success = new AtomicInteger(0);
+        runPayments(mode, tradeIds, success);
+
+        // then (낙관적 락은 재시도 횟수를 초과한 요청이, H2 의 비관적 락은 교착 상태 감지로 일부 요청이 실패할 수 있습니다.)
+        Member findMember = memberRepository.findById(member.getId()).get();
+        Money paid = Money.of(PAYMENT_AMOUNT.toLong() * success.intValue());
+        assertEquals(0, findMember.getBalance().compareTo(INITIAL_BALANCE.minus(paid)));
+        assertEquals(0, findMember.getDailyAccumulate().compareTo(paid));
+    }
+
+    @Test
+    @DisplayName("(낙관적 락) 동일 거래의 결제를 동시에 요청해도 1번만 결제된다.")
+    void optimistic_duplicate_payment() throws Exception {
+
+        // given
+        Member member = memberRepository.save(createMember());
+        Long tradeId = tradeService.requestTrade(member.getId(), createRequest());
+
+        List<Long> tradeIds = new ArrayList<>();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            tradeIds.add(tradeId);
+        }
+
+        // when
+        AtomicInteger success = new AtomicInteger(0);
+        runPayments(ConcurrencyMode.OPTIMISTIC, tradeIds, success);
+
+        // then
+        assertEquals(1, success.intValue());
+
+        Member findMember = memberRepository.findById(member.getId()).get();
+        assertEquals(0, findMember.getBalance().compareTo(INITIAL_BALANCE.minus(PAYMENT_AMOUNT)));
+    }
+
+    @ParameterizedTest
+    @EnumSource(ConcurrencyMode.class)
+    @DisplayName("결제 취소와 페이백을 동시에 요청해도 결제 취소 + 페이백 완료 상태로 남지 않으며, 잔액은 최종 상태와 일치한다.")
+    void cancel_payment_and_payback_race(ConcurrencyMode mode) throws Exception {
+
+        // given
+        concurrencyProperties.setMode(mode);
+        List<Long> tradeIds = new ArrayList<>();
+        for (int i = 0; i < RACE_ROUNDS; i++) {
+            Member member = memberRepository.save(createMember());
+            Long tradeId = tradeService.requestTrade(member.getId(), createRequest());
+            paymentFacade.processPayment(tradeId);
+            tradeIds.add(tradeId);
+        }
+
+        // when
+        ExecutorService executorService = Executors.newFixedThreadPool(2);
+        for (Long tradeId : tradeIds) {
+            CountDownLatch startLatch = new CountDownLatch(1);
+            Future<?> cancel = executorService.submit(() -> {
+                startLatch.await();
+                paymentFacade.cancelPayment(tradeId);
+                return null;
+            });
+            Future<?> payback = executorService.submit(() -> {
+                startLatch.await();
+                paybackFacade.processPayback(tradeId);
+                return null;
+            });
+            startLatch.countDown();
+            awaitQuietly(cancel);
+            awaitQuietly(payback);
+        }
+        executorService.shutdown();
+
+        // then
+        for (Long tradeId : tradeIds) {
+            Trade trade = tradeRepository.findById(tradeId).get();
+            boolean paymentDone = trade.getPaymentStatus() == PaymentStatus.DONE;
+            boolean paybackDone = trade.getPaybackStatus() == PaybackStatus.DONE;
+            assertFalse(trade.getPaymentStatus() == PaymentStatus.CANCEL && paybackDone);
+
+            Money expected = INITIAL_BALANCE
+                    .minus(paymentDone ? PAYMENT_AMOUNT : Money.ZERO)
+                    .plus(paybackDone ? trade.getPaybackAmount() : Money.ZERO);
+            Member member = memberRepository.findById(trade.getMemberId()).get();
+            assertEquals(expected, member.getBalance());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(ConcurrencyMode.class)
+    @DisplayName("누적 금액의 기간(일/월)이 지났으면 0 으로 보고 결제하며, 결제 일자 기간으로 새로 누적한 뒤 취소 시 차감한다.")
+    void stale_period_accumulate(ConcurrencyMode mode) {
+
+        // given (어제/지난달 한도를 모두 사용한 회원)
+        LocalDate today = LocalDate.now(ClockConfig.ZONE);
+        Member member = createMember();
+        ReflectionTestUtils.setField(member, "dailyAccumulate", member.getDailyLimit());
+        ReflectionTestUtils.setField(member, "dailyPeriod", today.minusDays(1));
+        ReflectionTestUtils.setField(member, "monthlyAccumulate", member.getMonthlyLimit());
+        ReflectionTestUtils.setField(member, "monthlyPeriod", Member.monthlyPeriodOf(today.minusMonths(1)));
+        Long memberId = memberRepository.save(member).getId();
+        Long tradeId = tradeService.requestTrade(memberId, createRequest());
+        concurrencyProperties.setMode(mode);
+
+        // when
+        paymentFacade.processPayment(tradeId);
+
+        // then
+        Member paid = memberRepository.findById(memberId).get();
+        assertEquals(0, paid.getDailyAccumulate(today).compareTo(PAYMENT_AMOUNT));
+        assertEquals(0, paid.getMonthlyAccumulate(today).compareTo(PAYMENT_AMOUNT));
+        assertEquals(today, paid.getDailyPeriod());
+        assertEquals(Member.monthlyPeriodOf(today), paid.getMonthlyPeriod());
+
+        paymentFacade.cancelPayment(tradeId);
+        Member canceled = memberRepository.findById(memberId).get();
+        assertEquals(0, canceled.getDailyAccumulate(today).compareTo(Money.ZERO));
+        assertEquals(0, canceled.getMonthlyAccumulate(today).compareTo(Money.ZERO));
+        assertEquals(0, canceled.getBalance().compareTo(INITIAL_BALANCE));
+    }
+
+    /**
+     * 거래 ID 목록의 결제를 동시에 요청합니다.
+     */
+    private void runPayments(ConcurrencyMode mode, List<Long> tradeIds, AtomicInteger success) throws InterruptedException {
+
+        concurrencyProperties.setMode(mode);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(tradeIds.size());
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(tradeIds.size());
+
+        for (Long tradeId : tradeIds) {
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    paymentFacade.processPayment(tradeId);
+                    success.incrementAndGet();
+                } catch (Exception e) {
+                    // 실패한 요청은 성공 횟수에 포함하지 않습니다.
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        latch.await();
+
+        executorService.shutdown();
+    }
+
+    /**
+     * 요청의 완료를 기다립니다. (경합으로 실패한 요청은 무시합니다.)
+     */
+    private void awaitQuietly(Future<?> future) throws InterruptedException {
+        try {
+            future.get();
+        } catch (ExecutionException e) {
+            // 경합에서 진 요청은 실패할 수 있습니다.
+        }
+    }
+
+    private Member createMember() {
+        return Member.builder()
+                .name("정승조")
+                .balance(INITIAL_BALANCE)
+                .balanceLimit(Money.of(1_000_000L))
+                .onceLimit(Money.of(10_000L))
+                .dailyLimit(Money.of(100_000L))
+                .monthlyLimit(Money.of(100_000L))
+                .isDeleted(Boolean.FALSE)
+                .build();
+    }
+
+    private TradeRequest createRequest() {
+        TradeRequest request = new TradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", PAYMENT_AMOUNT);
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(1L));
+        return request;
+    }
+}
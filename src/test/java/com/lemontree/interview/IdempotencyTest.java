@@ -0,0 +1,166 @@
+package com.lemontree.interview;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.entity.Trade;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.filter.IdempotencyKeyFilter;
+import com.lemontree.interview.repository.IdempotencyRecordRepository;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Idempotency-Key 처리 테스트입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+class IdempotencyTest {
+
+    @Autowired
+    MockMvc mockMvc;
+
+    @Autowired
+    ObjectMapper objectMapper;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TradeRepository tradeRepository;
+
+    @Autowired
+    IdempotencyRecordRepository idempotencyRecordRepository;
+
+    Member savedMember;
+
+    @BeforeEach
+    void setUp() {
+        Member member = Member.builder()
+                .name("정승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(100_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(15_000L))
+                .isDeleted(Boolean.FALSE)
+                .build();
+
+        savedMember = memberRepository.save(member);
+    }
+
+    @AfterEach
+    void tearDown() {
+        idempotencyRecordRepository.deleteAll();
+        tradeRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 거래 생성을 다시 요청하면 거래를 새로 만들지 않고 저장된 응답을 반환한다.")
+    void request_trade_replay() throws Exception {
+
+        // given
+        String json = tradeRequestJson(Money.of(1_000L));
+
+        // when
+        MvcResult first = mockMvc.perform(post("/api/v1/members/{memberId}/trades", savedMember.getId())
+                        .header(IdempotencyKeyFilter.HEADER, "trade-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andReturn();
+
+        MvcResult replay = mockMvc.perform(post("/api/v1/members/{memberId}/trades", savedMember.getId())
+                        .header(IdempotencyKeyFilter.HEADER, "trade-key-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(IdempotencyKeyFilter.REPLAYED_HEADER, "true"))
+                .andReturn();
+
+        // then
+        assertEquals(first.getResponse().getContentAsString(), replay.getResponse().getContentAsString());
+        assertEquals(1, tradeRepository.count());
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 다른 요청을 보내면 422 를 반환한다.")
+    void request_trade_mismatch() throws Exception {
+
+        mockMvc.perform(post("/api/v1/members/{memberId}/trades", savedMember.getId())
+                        .header(IdempotencyKeyFilter.HEADER, "trade-key-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(tradeRequestJson(Money.of(1_000L))))
+                .andExpect(status().isCreated());
+
+        mockMvc.perform(post("/api/v1/members/{memberId}/trades", savedMember.getId())
+                        .header(IdempotencyKeyFilter.HEADER, "trade-key-2")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(tradeRequestJson(Money.of(2_000L))))
+                .andExpect(status().isUnprocessableEntity());
+
+        assertEquals(1, tradeRepository.count());
+    }
+
+    @Test
+    @DisplayName("같은 Idempotency-Key 로 결제를 다시 요청하면 결제를 다시 처리하지 않고 성공 응답을 반환한다.")
+    void payment_replay() throws Exception {
+
+        // given
+        Trade trade = tradeRepository.save(Trade.builder()
+                .memberId(savedMember.getId())
+                .paymentAmount(Money.of(1_000L))
+                .paybackAmount(Money.of(100L))
+                .build());
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(post("/api/v1/trades/{tradeId}/payments", trade.getId())
+                            .header(IdempotencyKeyFilter.HEADER, "payment-key-1"))
+                    .andExpect(status().isOk());
+        }
+
+        // then (키 없이 다시 요청하면 기존과 같이 이미 완료된 결제 예외가 발생합니다.)
+        mockMvc.perform(post("/api/v1/trades/{tradeId}/payments", trade.getId()))
+                .andExpect(status().isBadRequest());
+
+        List<Trade> trades = tradeRepository.findAll();
+        assertEquals(PaymentStatus.DONE, trades.get(0).getPaymentStatus());
+
+        Member findMember = memberRepository.findById(savedMember.getId()).get();
+        assertEquals(0, findMember.getBalance().compareTo(Money.of(9_000L)));
+    }
+
+    private String tradeRequestJson(Money paymentAmount) throws Exception {
+        TradeRequest request = new TradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", paymentAmount);
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(100L));
+        return objectMapper.writeValueAsString(request);
+    }
+}
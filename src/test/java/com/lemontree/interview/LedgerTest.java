@@ -0,0 +1,204 @@
+package com.lemontree.interview;
+
+import com.lemontree.interview.config.ConcurrencyMode;
+import com.lemontree.interview.config.ConcurrencyProperties;
+import com.lemontree.interview.config.LedgerProperties;
+import com.lemontree.interview.entity.BalanceSnapshot;
+import com.lemontree.interview.entity.LedgerEntry;
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.enums.LedgerEntryType;
+import com.lemontree.interview.exception.member.OnceLimitExceedException;
+import com.lemontree.interview.facade.PaybackFacade;
+import com.lemontree.interview.facade.PaymentFacade;
+import com.lemontree.interview.repository.BalanceSnapshotRepository;
+import com.lemontree.interview.repository.LedgerEntryRepository;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.MemberCreate;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.response.MemberBalanceResponse;
+import com.lemontree.interview.scheduler.BalanceSnapshotScheduler;
+import com.lemontree.interview.service.LedgerService;
+import com.lemontree.interview.service.MemberService;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 잔액 원장 및 잔액 스냅샷 테스트입니다.
+ * 결제/페이백/취소 후 원장 기준 잔액(스냅샷 + 이후 항목 합계)이 회원 행의 잔액과 같은지 확인합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class LedgerTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TradeRepository tradeRepository;
+
+    @Autowired
+    LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    BalanceSnapshotRepository balanceSnapshotRepository;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    TradeService tradeService;
+
+    @Autowired
+    LedgerService ledgerService;
+
+    @Autowired
+    PaymentFacade paymentFacade;
+
+    @Autowired
+    PaybackFacade paybackFacade;
+
+    @Autowired
+    BalanceSnapshotScheduler balanceSnapshotScheduler;
+
+    @Autowired
+    ConcurrencyProperties concurrencyProperties;
+
+    @Autowired
+    LedgerProperties ledgerProperties;
+
+    @AfterEach
+    void tearDown() {
+        concurrencyProperties.setMode(ConcurrencyMode.PESSIMISTIC);
+        ledgerProperties.setSnapshotLag(Duration.ofMinutes(5));
+        balanceSnapshotRepository.deleteAll();
+        ledgerEntryRepository.deleteAll();
+        tradeRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ConcurrencyMode.class)
+    @DisplayName("결제, 페이백, 결제 취소(페이백 취소 포함)마다 원장 항목이 기록되고 원장 기준 잔액이 회원 잔액과 같다.")
+    void ledger_follows_balance(ConcurrencyMode mode) {
+
+        // given
+        concurrencyProperties.setMode(mode);
+        Long memberId = memberService.createMember(createMemberRequest());
+        Long tradeId = tradeService.requestTrade(memberId, createTradeRequest());
+
+        // when
+        paymentFacade.processPayment(tradeId);
+        paybackFacade.processPayback(tradeId);
+        assertLedgerBalance(memberId, Money.of(9_100L));
+
+        paymentFacade.cancelPayment(tradeId);
+
+        // then
+        assertLedgerBalance(memberId, Money.of(10_000L));
+
+        List<LedgerEntry> entries = ledgerEntryRepository.findByMemberIdOrderById(memberId);
+        assertEquals(List.of(LedgerEntryType.OPENING, LedgerEntryType.PAYMENT, LedgerEntryType.PAYBACK,
+                        LedgerEntryType.PAYBACK_CANCEL, LedgerEntryType.PAYMENT_CANCEL),
+                entries.stream().map(LedgerEntry::getEntryType).toList());
+        assertEquals(0, entries.get(1).getAmount().compareTo(Money.of(-1_000L)));
+        assertEquals(tradeId, entries.get(1).getTradeId());
+    }
+
+    @Test
+    @DisplayName("결제에 실패하여 롤백되면 원장 항목도 기록되지 않는다.")
+    void rollback_discards_entries() {
+
+        // given
+        Long memberId = memberService.createMember(createMemberRequest());
+        TradeRequest request = createTradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(6_000L));
+        Long tradeId = tradeService.requestTrade(memberId, request);
+
+        // expected
+        assertThrows(OnceLimitExceedException.class, () -> paymentFacade.processPayment(tradeId));
+
+        List<LedgerEntry> entries = ledgerEntryRepository.findByMemberIdOrderById(memberId);
+        assertEquals(1, entries.size());
+        assertEquals(LedgerEntryType.OPENING, entries.get(0).getEntryType());
+        assertLedgerBalance(memberId, Money.of(10_000L));
+    }
+
+    @Test
+    @DisplayName("잔액 스냅샷 이후에는 스냅샷 잔액에 이후 원장 항목만 더해 잔액을 계산한다.")
+    void snapshot_plus_tail() {
+
+        // given
+        ledgerProperties.setSnapshotLag(Duration.ZERO);
+        Long memberId = memberService.createMember(createMemberRequest());
+        Long firstTradeId = tradeService.requestTrade(memberId, createTradeRequest());
+        paymentFacade.processPayment(firstTradeId);
+
+        // when
+        balanceSnapshotScheduler.snapshotAll();
+
+        Long secondTradeId = tradeService.requestTrade(memberId, createTradeRequest());
+        paymentFacade.processPayment(secondTradeId);
+
+        // then
+        BalanceSnapshot snapshot = balanceSnapshotRepository.findFirstByMemberIdOrderByLastEntryIdDesc(memberId).get();
+        assertEquals(0, snapshot.getBalance().compareTo(Money.of(9_000L)));
+
+        MemberBalanceResponse balance = assertLedgerBalance(memberId, Money.of(8_000L));
+        assertTrue(balance.getLastEntryId() > snapshot.getLastEntryId());
+
+        // 변경이 없는 회원은 스냅샷을 다시 만들지 않습니다.
+        balanceSnapshotScheduler.snapshotAll();
+        balanceSnapshotScheduler.snapshotAll();
+        assertEquals(2, balanceSnapshotRepository.count());
+        assertLedgerBalance(memberId, Money.of(8_000L));
+    }
+
+    private MemberBalanceResponse assertLedgerBalance(Long memberId, Money expected) {
+        Member member = memberRepository.findById(memberId).get();
+        MemberBalanceResponse balance = ledgerService.getBalance(memberId);
+
+        assertEquals(0, member.getBalance().compareTo(expected));
+        assertEquals(0, balance.getBalance().compareTo(expected));
+        return balance;
+    }
+
+    private MemberCreate createMemberRequest() {
+        MemberCreate request = new MemberCreate();
+        ReflectionTestUtils.setField(request, "name", "정승조");
+        ReflectionTestUtils.setField(request, "balance", Money.of(10_000L));
+        ReflectionTestUtils.setField(request, "balanceLimit", Money.of(100_000L));
+        ReflectionTestUtils.setField(request, "onceLimit", Money.of(5_000L));
+        ReflectionTestUtils.setField(request, "dailyLimit", Money.of(10_000L));
+        ReflectionTestUtils.setField(request, "monthlyLimit", Money.of(15_000L));
+        ReflectionTestUtils.setField(request, "isDeleted", Boolean.FALSE);
+        return request;
+    }
+
+    private TradeRequest createTradeRequest() {
+        TradeRequest request = new TradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(1_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(100L));
+        return request;
+    }
+}
@@ -0,0 +1,230 @@
+package com.lemontree.interview;
+
+import com.lemontree.interview.cache.LookupCache;
+import com.lemontree.interview.config.ConcurrencyMode;
+import com.lemontree.interview.config.ConcurrencyProperties;
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.exception.member.OnceLimitExceedException;
+import com.lemontree.interview.facade.PaybackFacade;
+import com.lemontree.interview.facade.PaymentFacade;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.service.MemberService;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 회원/거래 조회 캐시 테스트입니다.
+ * 결제/페이백/취소가 커밋된 직후의 조회가 변경된 값을 반환하는지 확인합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class LookupCacheTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TradeRepository tradeRepository;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    TradeService tradeService;
+
+    @Autowired
+    PaymentFacade paymentFacade;
+
+    @Autowired
+    PaybackFacade paybackFacade;
+
+    @Autowired
+    ConcurrencyProperties concurrencyProperties;
+
+    @Autowired
+    LookupCache lookupCache;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    Member savedMember;
+
+    @BeforeEach
+    void setUp() {
+        Member member = Member.builder()
+                .name("정승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(100_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(15_000L))
+                .isDeleted(Boolean.FALSE)
+                .build();
+
+        savedMember = memberRepository.save(member);
+    }
+
+    @AfterEach
+    void tearDown() {
+        concurrencyProperties.setMode(ConcurrencyMode.PESSIMISTIC);
+        tradeRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @EnumSource(ConcurrencyMode.class)
+    @DisplayName("결제/페이백/취소가 커밋되면 캐시된 회원과 거래 정보가 무효화된다.")
+    void invalidate_after_commit(ConcurrencyMode mode) {
+
+        // given
+        concurrencyProperties.setMode(mode);
+        Long memberId = savedMember.getId();
+        Long tradeId = tradeService.requestTrade(memberId, createRequest(1_000L, 100L));
+
+        assertBalance(10_000L);
+        assertEquals(PaymentStatus.WAIT, tradeService.getTrade(tradeId).getPaymentStatus());
+
+        // when & then
+        paymentFacade.processPayment(tradeId);
+        assertBalance(9_000L);
+        assertEquals(PaymentStatus.DONE, tradeService.getTrade(tradeId).getPaymentStatus());
+
+        paybackFacade.processPayback(tradeId);
+        assertBalance(9_100L);
+        assertEquals(PaybackStatus.DONE, tradeService.getTrade(tradeId).getPaybackStatus());
+
+        paymentFacade.cancelPayment(tradeId);
+        assertBalance(10_000L);
+        assertEquals(PaymentStatus.CANCEL, tradeService.getTrade(tradeId).getPaymentStatus());
+        assertEquals(PaybackStatus.CANCEL, tradeService.getTrade(tradeId).getPaybackStatus());
+    }
+
+    @Test
+    @DisplayName("결제가 커밋되면 회원과 거래의 버전(ETag)이 바뀐다.")
+    void version_changes_after_commit() {
+
+        // given
+        Long memberId = savedMember.getId();
+        Long tradeId = tradeService.requestTrade(memberId, createRequest(1_000L, 0L));
+
+        Long memberVersion = memberService.getMemberVersion(memberId);
+        Long tradeVersion = tradeService.getTradeVersion(tradeId);
+        assertEquals(memberVersion, memberService.getMember(memberId).getVersion());
+        assertEquals(tradeVersion, tradeService.getTrade(tradeId).getVersion());
+
+        // when
+        paymentFacade.processPayment(tradeId);
+
+        // then
+        assertNotEquals(memberVersion, memberService.getMemberVersion(memberId));
+        assertNotEquals(tradeVersion, tradeService.getTradeVersion(tradeId));
+        assertEquals(memberService.getMemberVersion(memberId), memberService.getMember(memberId).getVersion());
+    }
+
+    @Test
+    @DisplayName("롤백된 결제는 캐시를 무효화하지 않는다.")
+    void keep_cache_on_rollback() {
+
+        // given
+        Long memberId = savedMember.getId();
+        Long tradeId = tradeService.requestTrade(memberId, createRequest(5_001L, 0L));
+        memberService.getMember(memberId);
+        long invalidations = lookupCache.members().invalidationCount();
+
+        // when
+        assertThrows(OnceLimitExceedException.class, () -> paymentFacade.processPayment(tradeId));
+
+        // then
+        assertEquals(invalidations, lookupCache.members().invalidationCount());
+        assertBalance(10_000L);
+    }
+
+    @Test
+    @DisplayName("결제와 조회가 동시에 일어나도 결제가 끝난 뒤에는 커밋된 잔액을 조회한다.")
+    void no_stale_balance_under_concurrent_reads() throws Exception {
+
+        // given
+        Long memberId = savedMember.getId();
+        AtomicBoolean running = new AtomicBoolean(true);
+        ExecutorService readers = Executors.newFixedThreadPool(4);
+        for (int i = 0; i < 4; i++) {
+            readers.execute(() -> {
+                while (running.get()) {
+                    memberService.getMember(memberId);
+                }
+            });
+        }
+
+        // when & then
+        try {
+            for (int i = 1; i <= 20; i++) {
+                Long tradeId = tradeService.requestTrade(memberId, createRequest(10L, 0L));
+                paymentFacade.processPayment(tradeId);
+                assertBalance(10_000L - 10L * i);
+            }
+        } finally {
+            running.set(false);
+            readers.shutdown();
+            assertTrue(readers.awaitTermination(10, TimeUnit.SECONDS));
+        }
+
+        Member findMember = memberRepository.findById(memberId).get();
+        assertEquals(0, findMember.getBalance().compareTo(memberService.getMember(memberId).getBalance()));
+    }
+
+    @Test
+    @DisplayName("캐시 조회 적중/실패 횟수가 지표로 노출된다.")
+    void expose_metrics() {
+
+        // given
+        Long memberId = savedMember.getId();
+        double hits = meterRegistry.get("cache.gets").tag("cache", "member").tag("result", "hit").functionCounter().count();
+
+        // when
+        memberService.getMember(memberId);
+        memberService.getMember(memberId);
+
+        // then
+        double actual = meterRegistry.get("cache.gets").tag("cache", "member").tag("result", "hit").functionCounter().count();
+        assertTrue(actual >= hits + 1);
+        assertNotNull(meterRegistry.find("cache.evictions").tag("cache", "trade").functionCounter());
+    }
+
+    private void assertBalance(long expected) {
+        Money actual = memberService.getMember(savedMember.getId()).getBalance();
+        assertEquals(0, actual.compareTo(Money.of(expected)), "balance = " + actual);
+    }
+
+    private TradeRequest createRequest(long paymentAmount, long paybackAmount) {
+        TradeRequest request = new TradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(paymentAmount));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(paybackAmount));
+        return request;
+    }
+}
@@ -0,0 +1,154 @@
+package com.lemontree.interview;
+
+import com.lemontree.interview.config.MemberLaneProperties;
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.facade.PaymentFacade;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+/**
+ * 회원 단위 실행 레인 테스트입니다.
+ * TradeTest 의 100/1000 스레드 시나리오를 기존 비관적 락 경로와 레인 경로에서 각각 실행합니다.
+ * (두 경로의 소요 시간 비교는 benchmark.MemberLaneBenchmark 에서 측정합니다.)
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class MemberLaneTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TradeRepository tradeRepository;
+
+    @Autowired
+    TradeService tradeService;
+
+    @Autowired
+    PaymentFacade paymentFacade;
+
+    @Autowired
+    MemberLaneProperties memberLaneProperties;
+
+    Member savedMember;
+
+    @BeforeEach
+    void setUp() {
+        Member member = Member.builder()
+                .name("정승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(100_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(15_000L))
+                .isDeleted(Boolean.FALSE)
+                .build();
+
+        savedMember = memberRepository.save(member);
+        memberLaneProperties.setWaitTimeout(Duration.ofSeconds(30));
+    }
+
+    @AfterEach
+    void tearDown() {
+        memberLaneProperties.setEnabled(false);
+        tradeRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 1000})
+    @DisplayName("레인 사용 여부와 관계없이 동시에 결제해도 1번만 결제된다.")
+    void payment_lane(int threadCount) throws Exception {
+
+        // when
+        runPayments(threadCount, false);
+        runPayments(threadCount, true);
+
+        // then
+        Member findMember = memberRepository.findById(savedMember.getId()).get();
+        assertEquals(0, findMember.getBalance().compareTo(Money.of(9_990L)));
+    }
+
+    @Test
+    @DisplayName("락 스트라이프 개수가 1 미만이면 애플리케이션이 시작되지 않는다.")
+    void stripes_must_be_positive() {
+        new ApplicationContextRunner()
+                .withUserConfiguration(MemberLanePropertiesConfig.class)
+                .withPropertyValues("lemontree.member-lane.stripes=0")
+                .run(context -> assertNotNull(context.getStartupFailure()));
+    }
+
+    /**
+     * 동일 거래에 대해 동시에 결제를 요청합니다.
+     */
+    private void runPayments(int threadCount, boolean laneEnabled) throws InterruptedException {
+
+        memberLaneProperties.setEnabled(laneEnabled);
+
+        TradeRequest paymentRequest = new TradeRequest();
+        ReflectionTestUtils.setField(paymentRequest, "paymentAmount", Money.of(5L));
+        ReflectionTestUtils.setField(paymentRequest, "paybackAmount", Money.of(1L));
+
+        Long tradeId = tradeService.requestTrade(savedMember.getId(), paymentRequest);
+
+        AtomicInteger success = new AtomicInteger(0);
+        AtomicInteger fail = new AtomicInteger(0);
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    paymentFacade.processPayment(tradeId);
+                    success.incrementAndGet();
+                } catch (Exception e) {
+                    fail.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        latch.await();
+
+        executorService.shutdown();
+
+        assertEquals(1, success.intValue());
+        assertEquals(threadCount - 1, fail.intValue());
+    }
+
+    @EnableConfigurationProperties(MemberLaneProperties.class)
+    static class MemberLanePropertiesConfig {
+    }
+}
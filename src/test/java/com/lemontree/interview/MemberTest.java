@@ -3,6 +3,7 @@ package com.lemontree.interview;
 import com.lemontree.interview.entity.Member;
 import com.lemontree.interview.repository.MemberRepository;
 import com.lemontree.interview.service.PaymentService;
+import com.lemontree.interview.vo.Money;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -10,7 +11,6 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 
-import java.math.BigDecimal;
 import java.util.List;
 import java.util.Optional;
 
@@ -44,11 +44,11 @@ class MemberTest {
         // given
         Member member = Member.builder()
                 .name("정승조")
-                .balance(BigDecimal.valueOf(50000L))
-                .balanceLimit(BigDecimal.valueOf(100000L))
-                .onceLimit(BigDecimal.valueOf(1000L))
-                .dailyLimit(BigDecimal.valueOf(10000L))
-                .monthlyLimit(BigDecimal.valueOf(300000L))
+                .balance(Money.of(50000L))
+                .balanceLimit(Money.of(100000L))
+                .onceLimit(Money.of(1000L))
+                .dailyLimit(Money.of(10000L))
+                .monthlyLimit(Money.of(300000L))
                 .isDeleted(Boolean.FALSE)
                 .build();
 
@@ -67,11 +67,11 @@ class MemberTest {
         // given
         Member member = Member.builder()
                 .name("정승조")
-                .balance(BigDecimal.valueOf(50000L))
-                .balanceLimit(BigDecimal.valueOf(100000L))
-                .onceLimit(BigDecimal.valueOf(1000L))
-                .dailyLimit(BigDecimal.valueOf(10000L))
-                .monthlyLimit(BigDecimal.valueOf(300000L))
+                .balance(Money.of(50000L))
+                .balanceLimit(Money.of(100000L))
+                .onceLimit(Money.of(1000L))
+                .dailyLimit(Money.of(10000L))
+                .monthlyLimit(Money.of(300000L))
                 .build();
 
         // when
@@ -0,0 +1,107 @@
+package com.lemontree.interview;
+
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.response.MemberResponse;
+import com.lemontree.interview.response.TradeResponse;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 응답 DTO 직접 조회(생성자 표현식) 테스트입니다.
+ * 엔티티 조회 후 응답 DTO로 변환하는 방식과 결과가 같은지 확인합니다.
+ * 요청당 할당량과 소요 시간 비교는 benchmark.ProjectionReadBenchmark 에서 측정합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class ProjectionReadTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TradeRepository tradeRepository;
+
+    @Autowired
+    TradeService tradeService;
+
+    Member savedMember;
+    Long tradeId;
+
+    @BeforeEach
+    void setUp() {
+        Member member = Member.builder()
+                .name("정승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(100_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(15_000L))
+                .isDeleted(Boolean.FALSE)
+                .build();
+
+        savedMember = memberRepository.save(member);
+
+        TradeRequest request = new TradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(1_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(100L));
+        tradeId = tradeService.requestTrade(savedMember.getId(), request);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tradeRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("응답 DTO 직접 조회 결과는 엔티티를 변환한 결과와 같다.")
+    void same_as_entity_read() {
+
+        // when
+        MemberResponse fromEntity = new MemberResponse(memberRepository.findById(savedMember.getId()).get());
+        MemberResponse projected = memberRepository.findResponseById(savedMember.getId()).get();
+        TradeResponse tradeFromEntity = new TradeResponse(tradeRepository.findById(tradeId).get());
+        TradeResponse tradeProjected = tradeRepository.findResponseById(tradeId).get();
+
+        // then
+        assertAll(
+                () -> assertEquals(fromEntity.getMemberId(), projected.getMemberId()),
+                () -> assertEquals(fromEntity.getName(), projected.getName()),
+                () -> assertEquals(0, fromEntity.getBalance().compareTo(projected.getBalance())),
+                () -> assertEquals(0, fromEntity.getMonthlyAccumulate().compareTo(projected.getMonthlyAccumulate())),
+                () -> assertEquals(fromEntity.getIsDeleted(), projected.getIsDeleted()),
+                () -> assertEquals(fromEntity.getVersion(), projected.getVersion()),
+                () -> assertEquals(tradeFromEntity.getPaymentStatus(), tradeProjected.getPaymentStatus()),
+                () -> assertEquals(tradeFromEntity.getPaybackStatus(), tradeProjected.getPaybackStatus()),
+                () -> assertEquals(0, tradeFromEntity.getPaymentAmount().compareTo(tradeProjected.getPaymentAmount())),
+                () -> assertEquals(tradeFromEntity.getVersion(), tradeProjected.getVersion())
+        );
+    }
+
+    @Test
+    @DisplayName("삭제된 유저는 응답 DTO 직접 조회에서도 조회되지 않는다.")
+    void deleted_member() {
+
+        // when
+        memberRepository.delete(memberRepository.findById(savedMember.getId()).get());
+
+        // then
+        assertTrue(memberRepository.findResponseById(savedMember.getId()).isEmpty());
+    }
+}
@@ -0,0 +1,152 @@
+package com.lemontree.interview;
+
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.exception.member.MemberNotFoundException;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.service.ReactiveMemberService;
+import com.lemontree.interview.service.ReactiveTradeService;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import reactor.core.publisher.Flux;
+import reactor.test.StepVerifier;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 리액티브(R2DBC) 조회 및 거래 생성 테스트입니다. (reactive 프로파일)
+ * JPA 와 같은 DB 를 사용하는지, 거래 ID 할당이 JPA 와 겹치지 않는지 확인합니다.
+ * 조회 처리량의 MVC(JPA) 경로와의 비교는 benchmark.ReactiveReadBenchmark 에서 측정합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles({"test", "reactive"})
+@SpringBootTest
+class ReactiveApiTest {
+
+    private static final int READ_COUNT = 1_000;
+    private static final int CONCURRENCY = 64;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TradeRepository tradeRepository;
+
+    @Autowired
+    TradeService tradeService;
+
+    @Autowired
+    ReactiveMemberService reactiveMemberService;
+
+    @Autowired
+    ReactiveTradeService reactiveTradeService;
+
+    Member savedMember;
+
+    @BeforeEach
+    void setUp() {
+        Member member = Member.builder()
+                .name("정승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(100_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(15_000L))
+                .isDeleted(Boolean.FALSE)
+                .build();
+
+        savedMember = memberRepository.save(member);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tradeRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("JPA 와 R2DBC 로 번갈아 생성한 거래의 ID 는 겹치지 않으며, 각각 서로의 거래를 조회할 수 있다.")
+    void request_trade_mixed() {
+
+        // given
+        TradeRequest request = new TradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(1_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(100L));
+
+        // when
+        Set<Long> tradeIds = new HashSet<>();
+        for (int i = 0; i < 150; i++) {
+            tradeIds.add(tradeService.requestTrade(savedMember.getId(), request));
+            tradeIds.add(reactiveTradeService.requestTrade(savedMember.getId(), request).block());
+        }
+
+        // then
+        assertEquals(300, tradeIds.size());
+        assertEquals(300, tradeRepository.count());
+
+        Long reactiveTradeId = reactiveTradeService.requestTrade(savedMember.getId(), request).block();
+        assertEquals(PaymentStatus.WAIT, tradeService.getTrade(reactiveTradeId).getPaymentStatus());
+
+        StepVerifier.create(reactiveTradeService.getTrade(reactiveTradeId))
+                .assertNext(trade -> assertEquals(savedMember.getId(), trade.getMemberId()))
+                .verifyComplete();
+    }
+
+    @Test
+    @DisplayName("삭제된 회원은 리액티브 조회 및 거래 생성 시 MemberNotFoundException 이 발생한다.")
+    void deleted_member() {
+
+        // given
+        memberRepository.delete(savedMember);
+
+        TradeRequest request = new TradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(1_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(100L));
+
+        // expected
+        StepVerifier.create(reactiveMemberService.getMember(savedMember.getId()))
+                .expectError(MemberNotFoundException.class)
+                .verify();
+
+        StepVerifier.create(reactiveTradeService.requestTrade(savedMember.getId(), request))
+                .expectError(MemberNotFoundException.class)
+                .verify();
+    }
+
+    @Test
+    @DisplayName("리액티브 조회를 동시에 요청해도 모두 같은 회원을 반환한다.")
+    void concurrent_read() {
+
+        // given
+        Long memberId = savedMember.getId();
+
+        // when
+        List<Long> ids = Flux.fromStream(IntStream.range(0, READ_COUNT).boxed())
+                .flatMap(i -> reactiveMemberService.getMember(memberId), CONCURRENCY)
+                .map(member -> member.getMemberId())
+                .collectList()
+                .block();
+
+        // then
+        assertEquals(READ_COUNT, ids.size());
+        assertTrue(ids.stream().allMatch(memberId::equals));
+    }
+}
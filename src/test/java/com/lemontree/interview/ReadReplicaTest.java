@@ -0,0 +1,233 @@
+package com.lemontree.interview;
+
+import com.lemontree.interview.config.ReadReplicaProperties;
+import com.lemontree.interview.datasource.ReadReplicaRoutingDataSource;
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.exception.member.MemberNotFoundException;
+import com.lemontree.interview.facade.PaymentFacade;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.MemberCreate;
+import com.lemontree.interview.request.TradeBatchRequest;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.service.MemberService;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 읽기 복제본 라우팅 테스트입니다.
+ * 두 개의 H2 인메모리 DB 를 기본 DB 와 읽기 복제본으로 사용하며, 복제는 테스트에서 직접 실행합니다. (replicate 호출 전까지는 복제 지연 상태)
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:rr_primary;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "lemontree.read-replica.enabled=true",
+        "lemontree.read-replica.sticky-window=1m",
+        "lemontree.read-replica.datasource.driver-class-name=org.h2.Driver",
+        "lemontree.read-replica.datasource.url=jdbc:h2:mem:rr_replica;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "lemontree.read-replica.datasource.username=sa",
+        "lemontree.read-replica.datasource.password=",
+        "lemontree.lookup-cache.enabled=false"
+})
+class ReadReplicaTest {
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TradeRepository tradeRepository;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    TradeService tradeService;
+
+    @Autowired
+    PaymentFacade paymentFacade;
+
+    @Autowired
+    ReadReplicaProperties readReplicaProperties;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    @Qualifier("dataSource")
+    DataSource primaryDataSource;
+
+    @Autowired
+    @Qualifier("replicaDataSource")
+    DataSource replicaDataSource;
+
+    Member savedMember;
+
+    @BeforeEach
+    void setUp() {
+        savedMember = memberRepository.save(Member.builder()
+                .name("정승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(100_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(15_000L))
+                .isDeleted(Boolean.FALSE)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        readReplicaProperties.setReadYourWrites(true);
+        tradeRepository.deleteAllInBatch();
+        memberRepository.deleteAll();
+        replicate();
+    }
+
+    @Test
+    @DisplayName("읽기 전용 트랜잭션은 읽기 복제본, 쓰기 트랜잭션은 기본 DB 커넥션을 사용한다.")
+    void route_by_transaction() {
+
+        // given
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        TransactionTemplate readWrite = new TransactionTemplate(transactionManager);
+
+        // when
+        String readOnlyDatabase = readOnly.execute(status -> currentDatabase());
+        String readWriteDatabase = readWrite.execute(status -> currentDatabase());
+        String forcedDatabase = ReadReplicaRoutingDataSource.usePrimary(() -> readOnly.execute(status -> currentDatabase()));
+
+        // then
+        assertEquals("RR_REPLICA", readOnlyDatabase);
+        assertEquals("RR_PRIMARY", readWriteDatabase);
+        assertEquals("RR_PRIMARY", forcedDatabase);
+    }
+
+    @Test
+    @DisplayName("회원 조회는 읽기 복제본에서 처리되므로, 복제되기 전에는 조회되지 않는다.")
+    void read_from_replica() {
+
+        // expected (복제 지연)
+        assertThrows(MemberNotFoundException.class, () -> memberService.getMember(savedMember.getId()));
+
+        replicate();
+        assertEquals(savedMember.getId(), memberService.getMember(savedMember.getId()).getMemberId());
+    }
+
+    @Test
+    @DisplayName("회원이 결제한 직후에는 복제 지연과 관계없이 기본 DB 에서 조회하여 결제 결과를 읽는다. (read-your-writes)")
+    void read_your_writes() {
+
+        // given
+        Member otherMember = memberRepository.save(Member.builder()
+                .name("다른회원")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(100_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(15_000L))
+                .isDeleted(Boolean.FALSE)
+                .build());
+
+        TradeRequest request = new TradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(1_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(100L));
+        Long tradeId = tradeService.requestTrade(savedMember.getId(), request);
+        replicate();
+
+        // when (결제는 복제되지 않은 상태)
+        paymentFacade.processPayment(tradeId);
+        jdbcTemplate.update("UPDATE member SET balance = 1 WHERE member_id = ?", otherMember.getId());
+
+        // then
+        assertEquals(0, memberService.getMember(savedMember.getId()).getBalance().compareTo(Money.of(9_000L)));
+        assertEquals(PaymentStatus.DONE, tradeService.getTrade(tradeId).getPaymentStatus());
+        assertEquals(List.of(tradeId), tradeService.getTrades(List.of(tradeId)).getTrades().stream()
+                .filter(trade -> trade.getPaymentStatus() == PaymentStatus.DONE)
+                .map(trade -> trade.getTradeId())
+                .toList());
+
+        // 변경 이벤트가 없는 회원은 읽기 복제본(복제 지연된 값)에서 조회
+        assertEquals(0, memberService.getMember(otherMember.getId()).getBalance().compareTo(Money.of(10_000L)));
+
+        // read-your-writes 를 사용하지 않으면 결제한 회원도 읽기 복제본에서 조회
+        readReplicaProperties.setReadYourWrites(false);
+        assertEquals(0, memberService.getMember(savedMember.getId()).getBalance().compareTo(Money.of(10_000L)));
+        assertEquals(PaymentStatus.WAIT, tradeService.getTrade(tradeId).getPaymentStatus());
+    }
+
+    @Test
+    @DisplayName("회원/거래를 생성한 직후에는 복제 지연과 관계없이 기본 DB 에서 조회한다. (read-your-writes)")
+    void read_your_creates() {
+
+        // given
+        MemberCreate memberCreate = new MemberCreate();
+        ReflectionTestUtils.setField(memberCreate, "name", "새회원");
+        ReflectionTestUtils.setField(memberCreate, "balance", Money.of(10_000L));
+        ReflectionTestUtils.setField(memberCreate, "balanceLimit", Money.of(100_000L));
+        ReflectionTestUtils.setField(memberCreate, "onceLimit", Money.of(5_000L));
+        ReflectionTestUtils.setField(memberCreate, "dailyLimit", Money.of(10_000L));
+        ReflectionTestUtils.setField(memberCreate, "monthlyLimit", Money.of(15_000L));
+        ReflectionTestUtils.setField(memberCreate, "isDeleted", Boolean.FALSE);
+
+        TradeRequest request = new TradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(1_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(100L));
+
+        TradeBatchRequest.Item item = new TradeBatchRequest.Item();
+        ReflectionTestUtils.setField(item, "memberId", savedMember.getId());
+        ReflectionTestUtils.setField(item, "paymentAmount", Money.of(2_000L));
+        ReflectionTestUtils.setField(item, "paybackAmount", Money.of(200L));
+
+        // when (생성된 회원/거래는 복제되지 않은 상태)
+        Long memberId = memberService.createMember(memberCreate);
+        Long tradeId = tradeService.requestTrade(memberId, request);
+        Long batchTradeId = tradeService.requestTrades(List.of(item)).getResults().get(0).getTradeId();
+
+        // then
+        assertEquals(memberId, memberService.getMember(memberId).getMemberId());
+        assertEquals(PaymentStatus.WAIT, tradeService.getTrade(tradeId).getPaymentStatus());
+        assertEquals(PaymentStatus.WAIT, tradeService.getTrade(batchTradeId).getPaymentStatus());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT DATABASE()", String.class);
+    }
+
+    /**
+     * 기본 DB 의 스키마와 데이터를 읽기 복제본에 그대로 복사합니다.
+     */
+    private void replicate() {
+        List<String> script = new JdbcTemplate(primaryDataSource).queryForList("SCRIPT NOPASSWORDS NOSETTINGS", String.class);
+        JdbcTemplate replica = new JdbcTemplate(replicaDataSource);
+        replica.execute("DROP ALL OBJECTS");
+        script.stream()
+                .filter(statement -> !statement.startsWith("CREATE USER"))
+                .forEach(replica::execute);
+    }
+}
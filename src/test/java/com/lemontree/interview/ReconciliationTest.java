@@ -0,0 +1,245 @@
+package com.lemontree.interview;
+
+import com.lemontree.interview.config.ClockConfig;
+import com.lemontree.interview.config.ReconciliationProperties;
+import com.lemontree.interview.entity.LedgerEntry;
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.enums.LedgerEntryType;
+import com.lemontree.interview.facade.PaybackFacade;
+import com.lemontree.interview.facade.PaymentFacade;
+import com.lemontree.interview.repository.BalanceSnapshotRepository;
+import com.lemontree.interview.repository.LedgerEntryRepository;
+import com.lemontree.interview.repository.LedgerEntryWriter;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.MemberCreate;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.scheduler.ReconciliationJob;
+import com.lemontree.interview.scheduler.ReconciliationJob.Summary;
+import com.lemontree.interview.service.MemberService;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 잔액/누적 금액 대사 작업 테스트입니다.
+ * 회원 행을 직접 변경하여 차이를 만든 뒤, 대사 작업이 차이를 발견하고 보정하는지 확인합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class ReconciliationTest {
+
+    static final int MEMBER_COUNT = 10;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TradeRepository tradeRepository;
+
+    @Autowired
+    LedgerEntryRepository ledgerEntryRepository;
+
+    @Autowired
+    LedgerEntryWriter ledgerEntryWriter;
+
+    @Autowired
+    BalanceSnapshotRepository balanceSnapshotRepository;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    TradeService tradeService;
+
+    @Autowired
+    PaymentFacade paymentFacade;
+
+    @Autowired
+    PaybackFacade paybackFacade;
+
+    @Autowired
+    ReconciliationJob reconciliationJob;
+
+    @Autowired
+    ReconciliationProperties reconciliationProperties;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    List<Long> memberIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        // 회원마다 결제 + 페이백 1건, 결제 후 취소 1건, 결제 대기 1건
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            Long memberId = memberService.createMember(createMemberRequest());
+            memberIds.add(memberId);
+
+            Long paidTradeId = tradeService.requestTrade(memberId, createTradeRequest());
+            paymentFacade.processPayment(paidTradeId);
+            paybackFacade.processPayback(paidTradeId);
+
+            Long canceledTradeId = tradeService.requestTrade(memberId, createTradeRequest());
+            paymentFacade.processPayment(canceledTradeId);
+            paymentFacade.cancelPayment(canceledTradeId);
+
+            tradeService.requestTrade(memberId, createTradeRequest());
+        }
+
+        // 구간을 여러 개로 나누어 포크/조인 풀에서 처리되도록 합니다.
+        reconciliationProperties.setRangeSize(3);
+    }
+
+    @AfterEach
+    void tearDown() {
+        reconciliationProperties.setRangeSize(10_000);
+        reconciliationProperties.setRepair(false);
+        balanceSnapshotRepository.deleteAll();
+        ledgerEntryRepository.deleteAll();
+        tradeRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("거래로 다시 계산한 잔액/누적 금액이 같으면 차이가 없다.")
+    void no_drift() {
+
+        // when
+        Summary summary = reconciliationJob.run();
+
+        // then
+        assertEquals(MEMBER_COUNT, summary.members());
+        assertEquals(0, summary.drifts());
+        assertEquals(0, summary.unverifiedBalances());
+    }
+
+    @Test
+    @DisplayName("회원의 잔액/누적 금액이 거래와 다르면 보고하고, 보정이 활성화된 경우 계산한 값으로 보정한다.")
+    void drift_reported_and_repaired() {
+
+        // given (잔액, 일간 누적 금액이 어긋난 회원 2명)
+        Long balanceDrifted = memberIds.get(0);
+        Long accumulateDrifted = memberIds.get(MEMBER_COUNT - 1);
+        jdbcTemplate.update("UPDATE member SET balance = balance + 500 WHERE member_id = ?", balanceDrifted);
+        jdbcTemplate.update("UPDATE member SET daily_accumulate = 0 WHERE member_id = ?", accumulateDrifted);
+
+        // when (보고만 합니다.)
+        Summary reported = reconciliationJob.run();
+
+        // then
+        assertEquals(2, reported.drifts());
+        assertEquals(0, reported.repaired());
+        assertEquals(0, memberRepository.findById(balanceDrifted).get().getBalance().compareTo(Money.of(9_600L)));
+
+        // when (보정합니다.)
+        reconciliationProperties.setRepair(true);
+        Summary repaired = reconciliationJob.run();
+
+        // then
+        assertEquals(2, repaired.repaired());
+
+        Member balanceRepaired = memberRepository.findById(balanceDrifted).get();
+        assertEquals(0, balanceRepaired.getBalance().compareTo(Money.of(9_100L)));
+
+        Member accumulateRepaired = memberRepository.findById(accumulateDrifted).get();
+        assertEquals(0, accumulateRepaired.getDailyAccumulate().compareTo(Money.of(1_000L)));
+        assertEquals(0, accumulateRepaired.getMonthlyAccumulate().compareTo(Money.of(1_000L)));
+
+        assertEquals(0, reconciliationJob.run().drifts());
+
+        // 보정한 잔액만큼 원장에 대사 보정 항목이 기록됩니다.
+        List<LedgerEntry> entries = ledgerEntryRepository.findByMemberIdOrderById(balanceDrifted);
+        LedgerEntry adjustment = entries.get(entries.size() - 1);
+        assertEquals(LedgerEntryType.ADJUSTMENT, adjustment.getEntryType());
+        assertEquals(Money.of(-500L), adjustment.getAmount());
+
+        // 누적 금액만 보정한 회원은 대사 보정 항목을 기록하지 않습니다.
+        assertEquals(LedgerEntryType.PAYMENT_CANCEL, ledgerEntryRepository.findByMemberIdOrderById(accumulateDrifted)
+                .stream().reduce((first, second) -> second).get().getEntryType());
+    }
+
+    @Test
+    @DisplayName("결제가 취소되었는데 페이백이 완료된 거래는 페이백을 잔액에 포함하지 않고 차이로 보고한다.")
+    void payback_of_canceled_payment() {
+
+        // given (결제 취소와 페이백이 경합하여 취소된 결제의 페이백이 완료된 상태)
+        Long memberId = memberIds.get(0);
+        jdbcTemplate.update("UPDATE trade SET payback_status = 'DONE' WHERE member_id = ? AND payment_status = 'CANCEL'", memberId);
+        jdbcTemplate.update("UPDATE member SET balance = balance + 100 WHERE member_id = ?", memberId);
+        ledgerEntryWriter.append(LedgerEntry.of(memberId, null, LedgerEntryType.PAYBACK, Money.of(100L), LocalDateTime.now(ClockConfig.ZONE)));
+
+        // when (보고만 합니다.)
+        Summary reported = reconciliationJob.run();
+
+        // then
+        assertEquals(1, reported.drifts());
+
+        // when (보정합니다.)
+        reconciliationProperties.setRepair(true);
+        Summary repaired = reconciliationJob.run();
+
+        // then (잔액은 보정되지만, 거래 상태는 그대로이므로 다음 대사에서도 보고합니다.)
+        assertEquals(1, repaired.repaired());
+
+        Member member = memberRepository.findById(memberId).get();
+        assertEquals(Money.of(9_100L), member.getBalance());
+        assertEquals(member.getBalance(), ledgerEntryRepository.findTail(memberId, 0L).get().amount());
+
+        Summary again = reconciliationJob.run();
+        assertEquals(1, again.drifts());
+        assertEquals(0, again.repaired());
+    }
+
+    @Test
+    @DisplayName("계좌 개설 항목이 중복되어도 회원은 한 번만 대사한다.")
+    void duplicate_opening_entry() {
+
+        // given
+        Long memberId = memberIds.get(0);
+        ledgerEntryWriter.append(LedgerEntry.opening(memberId, Money.of(999L), LocalDateTime.now(ClockConfig.ZONE)));
+
+        // when
+        Summary summary = reconciliationJob.run();
+
+        // then (가장 먼저 기록된 개설 항목으로 계산합니다.)
+        assertEquals(MEMBER_COUNT, summary.members());
+        assertEquals(0, summary.drifts());
+    }
+
+    private MemberCreate createMemberRequest() {
+        MemberCreate request = new MemberCreate();
+        ReflectionTestUtils.setField(request, "name", "정승조");
+        ReflectionTestUtils.setField(request, "balance", Money.of(10_000L));
+        ReflectionTestUtils.setField(request, "balanceLimit", Money.of(100_000L));
+        ReflectionTestUtils.setField(request, "onceLimit", Money.of(5_000L));
+        ReflectionTestUtils.setField(request, "dailyLimit", Money.of(10_000L));
+        ReflectionTestUtils.setField(request, "monthlyLimit", Money.of(15_000L));
+        ReflectionTestUtils.setField(request, "isDeleted", Boolean.FALSE);
+        return request;
+    }
+
+    private TradeRequest createTradeRequest() {
+        TradeRequest request = new TradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(1_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(100L));
+        return request;
+    }
+}
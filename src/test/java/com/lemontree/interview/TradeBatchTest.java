@@ -0,0 +1,149 @@
+package com.lemontree.interview;
+
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.event.TradeChangedEvent;
+import com.lemontree.interview.event.TradesCreatedEvent;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.TradeBatchRequest;
+import com.lemontree.interview.response.TradeBatchResponse;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 거래 일괄 생성 테스트입니다.
+ * 단건 생성 경로와 일괄 생성(JDBC 배치 INSERT) 경로의 처리량 비교는 benchmark.TradeBatchBenchmark 에서 측정합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+@RecordApplicationEvents
+class TradeBatchTest {
+
+    static final int TRADE_COUNT = 5_000;
+    static final int MEMBER_COUNT = 10;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TradeRepository tradeRepository;
+
+    @Autowired
+    TradeService tradeService;
+
+    @Autowired
+    ApplicationEvents events;
+
+    List<Long> memberIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            Member member = Member.builder()
+                    .name("정승조")
+                    .balance(Money.of(10_000L))
+                    .balanceLimit(Money.of(100_000L))
+                    .onceLimit(Money.of(5_000L))
+                    .dailyLimit(Money.of(10_000L))
+                    .monthlyLimit(Money.of(15_000L))
+                    .isDeleted(Boolean.FALSE)
+                    .build();
+
+            memberIds.add(memberRepository.save(member).getId());
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        tradeRepository.deleteAllInBatch();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("일괄 생성 시 존재하지 않는 회원의 거래만 실패하고, 나머지는 요청 순서대로 생성된다.")
+    void request_trades() {
+
+        // given
+        Long notExistsMemberId = -1L;
+        List<TradeBatchRequest.Item> items = List.of(
+                createItem(memberIds.get(0)),
+                createItem(notExistsMemberId),
+                createItem(memberIds.get(1)));
+
+        // when
+        TradeBatchResponse response = tradeService.requestTrades(items);
+
+        // then
+        assertEquals(3, response.getRequested());
+        assertEquals(2, response.getCreated());
+        assertEquals(1, response.getFailed());
+
+        assertNotNull(response.getResults().get(0).getTradeId());
+        assertNull(response.getResults().get(1).getTradeId());
+        assertEquals("해당 유저를 찾을 수 없습니다.", response.getResults().get(1).getMessage());
+        assertNotNull(response.getResults().get(2).getTradeId());
+
+        assertEquals(memberIds.get(1),
+                tradeRepository.findById(response.getResults().get(2).getTradeId()).get().getMemberId());
+        assertEquals(2, tradeRepository.count());
+    }
+
+    @Test
+    @DisplayName("대량 일괄 생성 시 모든 거래가 서로 다른 ID 로 생성된다.")
+    void request_trades_bulk() {
+
+        // given
+        List<TradeBatchRequest.Item> items = new ArrayList<>();
+        for (int i = 0; i < TRADE_COUNT; i++) {
+            items.add(createItem(memberIds.get(i % MEMBER_COUNT)));
+        }
+
+        // when
+        TradeBatchResponse response = tradeService.requestTrades(items);
+
+        // then
+        assertEquals(TRADE_COUNT, response.getCreated());
+        assertEquals(TRADE_COUNT, tradeRepository.count());
+
+        HashSet<Long> tradeIds = new HashSet<>();
+        response.getResults().forEach(result -> tradeIds.add(result.getTradeId()));
+        assertEquals(TRADE_COUNT, tradeIds.size());
+        assertTrue(tradeIds.stream().allMatch(tradeId -> tradeId > 0));
+
+        // 생성 이벤트는 요청마다 한 번만 발행하고, 거래 상태 변경 이벤트는 발행하지 않습니다.
+        List<TradesCreatedEvent> created = events.stream(TradesCreatedEvent.class).toList();
+        assertEquals(1, created.size());
+        assertEquals(tradeIds, new HashSet<>(created.get(0).tradeIds()));
+        assertEquals(0, events.stream(TradeChangedEvent.class).count());
+    }
+
+    private TradeBatchRequest.Item createItem(Long memberId) {
+        TradeBatchRequest.Item item = new TradeBatchRequest.Item();
+        ReflectionTestUtils.setField(item, "memberId", memberId);
+        ReflectionTestUtils.setField(item, "paymentAmount", Money.of(1_000L));
+        ReflectionTestUtils.setField(item, "paybackAmount", Money.of(100L));
+        return item;
+    }
+}
@@ -0,0 +1,176 @@
+package com.lemontree.interview;
+
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.facade.PaybackFacade;
+import com.lemontree.interview.facade.PaymentFacade;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.sse.TradeEventBroker;
+import com.lemontree.interview.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.Disposable;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 거래 상태 변경 스트림(SSE) 테스트입니다.
+ * 실제 HTTP 로 구독한 뒤 결제/페이백이 커밋되면 상태 변경 이벤트가 전달되는지 확인합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+class TradeEventStreamTest {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> EVENT_TYPE = new ParameterizedTypeReference<>() {
+    };
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TradeRepository tradeRepository;
+
+    @Autowired
+    TradeService tradeService;
+
+    @Autowired
+    PaymentFacade paymentFacade;
+
+    @Autowired
+    PaybackFacade paybackFacade;
+
+    @Autowired
+    TradeEventBroker tradeEventBroker;
+
+    Member savedMember;
+
+    @BeforeEach
+    void setUp() {
+        Member member = Member.builder()
+                .name("정승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(100_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(15_000L))
+                .isDeleted(Boolean.FALSE)
+                .build();
+
+        savedMember = memberRepository.save(member);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tradeRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("거래를 구독하면 현재 상태를 받은 뒤, 결제와 페이백이 커밋될 때마다 변경된 상태를 받는다.")
+    void trade_stream() throws Exception {
+
+        // given
+        Long tradeId = tradeService.requestTrade(savedMember.getId(), createRequest());
+        BlockingQueue<ServerSentEvent<String>> events = new LinkedBlockingQueue<>();
+        Disposable subscription = subscribe("/api/v1/trades/" + tradeId + "/events", events);
+
+        try {
+            ServerSentEvent<String> initial = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(initial);
+            assertEquals("trade-status", initial.event());
+            assertTrue(initial.data().contains("\"status\":\"WAIT\""));
+
+            // when & then
+            paymentFacade.processPayment(tradeId);
+            ServerSentEvent<String> paid = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(paid);
+            assertTrue(paid.data().contains("\"paymentStatus\":{\"description\":\"결제 완료\",\"status\":\"DONE\"}"), paid.data());
+
+            paybackFacade.processPayback(tradeId);
+            ServerSentEvent<String> paidBack = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(paidBack);
+            assertTrue(paidBack.data().contains("\"paybackStatus\":{\"description\":\"페이백 완료\",\"status\":\"DONE\"}"), paidBack.data());
+            assertNotEquals(paid.id(), paidBack.id());
+        } finally {
+            subscription.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("회원을 구독하면 회원이 생성한 거래의 결제 상태 변경을 받는다.")
+    void member_stream() throws Exception {
+
+        // given
+        Long firstTradeId = tradeService.requestTrade(savedMember.getId(), createRequest());
+        Long secondTradeId = tradeService.requestTrade(savedMember.getId(), createRequest());
+        BlockingQueue<ServerSentEvent<String>> events = new LinkedBlockingQueue<>();
+        int subscribers = tradeEventBroker.getSubscriberCount();
+        Disposable subscription = subscribe("/api/v1/members/" + savedMember.getId() + "/trades/events", events);
+
+        try {
+            waitForSubscriber(subscribers + 1);
+
+            // when
+            paymentFacade.processPayment(firstTradeId);
+            paymentFacade.processPayment(secondTradeId);
+
+            // then
+            ServerSentEvent<String> first = events.poll(10, TimeUnit.SECONDS);
+            ServerSentEvent<String> second = events.poll(10, TimeUnit.SECONDS);
+            assertNotNull(first);
+            assertNotNull(second);
+            assertTrue(first.data().contains("\"tradeId\":" + firstTradeId));
+            assertTrue(second.data().contains("\"tradeId\":" + secondTradeId));
+        } finally {
+            subscription.dispose();
+        }
+    }
+
+    private Disposable subscribe(String path, BlockingQueue<ServerSentEvent<String>> events) {
+        return WebClient.create("http://localhost:" + port)
+                .get()
+                .uri(path)
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .retrieve()
+                .bodyToFlux(EVENT_TYPE)
+                .subscribe(events::add);
+    }
+
+    private void waitForSubscriber(int expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (tradeEventBroker.getSubscriberCount() < expected && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertEquals(expected, tradeEventBroker.getSubscriberCount());
+    }
+
+    private TradeRequest createRequest() {
+        TradeRequest request = new TradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(1_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(100L));
+        return request;
+    }
+}
@@ -0,0 +1,225 @@
+package com.lemontree.interview;
+
+import com.lemontree.interview.config.ClockConfig;
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.entity.Trade;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.exception.member.MemberNotFoundException;
+import com.lemontree.interview.exception.trade.InvalidTradeCursorException;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.TradeHistoryRequest;
+import com.lemontree.interview.response.TradeHistoryItemResponse;
+import com.lemontree.interview.response.TradeHistoryResponse;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 회원 거래 내역 키셋 페이지네이션 테스트입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles("test")
+@SpringBootTest
+class TradeHistoryTest {
+
+    static final int TRADE_COUNT = 300;
+
+    static final LocalDateTime BASE = LocalDateTime.of(2024, 7, 25, 0, 0);
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TradeRepository tradeRepository;
+
+    @Autowired
+    TradeService tradeService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    Long memberId;
+
+    List<Trade> approvedTrades = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        memberId = memberRepository.save(member()).getId();
+        Long otherMemberId = memberRepository.save(member()).getId();
+
+        List<Trade> trades = new ArrayList<>();
+        for (int i = 0; i < TRADE_COUNT; i++) {
+            Trade trade = trade(memberId);
+
+            // 결제 대기 거래는 결제 승인 일시가 없으므로 내역에 포함되지 않습니다.
+            if (i % 10 != 9) {
+                trade.completePayment(LocalDateTime.now(ClockConfig.ZONE));
+                // 3건씩 같은 승인 일시를 갖도록 하여 거래 ID 로 순서가 정해지는지 확인합니다.
+                ReflectionTestUtils.setField(trade, "paymentApprovedAt", BASE.plusHours((i / 3) * 6L));
+                if (i % 4 == 0) {
+                    trade.cancelPayment(LocalDateTime.now(ClockConfig.ZONE));
+                }
+                approvedTrades.add(trade);
+            }
+            trades.add(trade);
+
+            Trade other = trade(otherMemberId);
+            other.completePayment(LocalDateTime.now(ClockConfig.ZONE));
+            trades.add(other);
+        }
+        tradeRepository.saveAll(trades);
+    }
+
+    @AfterEach
+    void tearDown() {
+        tradeRepository.deleteAllInBatch();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("커서로 끝까지 조회하면 결제 승인 일시, 거래 ID 내림차순으로 모든 거래를 중복/누락 없이 조회한다.")
+    void walk_all_pages() {
+
+        // when
+        List<Long> actual = walk(new TradeHistoryRequest());
+
+        // then
+        assertEquals(expected(approvedTrades), actual);
+        assertEquals(actual.size(), new HashSet<>(actual).size());
+    }
+
+    @Test
+    @DisplayName("결제 상태와 기간(2024년 8월)으로 필터링한다.")
+    void filter_by_status_and_period() {
+
+        // given
+        TradeHistoryRequest request = new TradeHistoryRequest();
+        request.setPaymentStatus(PaymentStatus.CANCEL);
+        request.setFrom(LocalDate.of(2024, 8, 1));
+        request.setTo(LocalDate.of(2024, 9, 1));
+        request.setSize(7);
+
+        LocalDateTime from = LocalDateTime.of(2024, 8, 1, 0, 0);
+        LocalDateTime to = LocalDateTime.of(2024, 9, 1, 0, 0);
+        List<Trade> filtered = approvedTrades.stream()
+                .filter(trade -> trade.getPaymentStatus() == PaymentStatus.CANCEL)
+                .filter(trade -> !trade.getPaymentApprovedAt().isBefore(from) && trade.getPaymentApprovedAt().isBefore(to))
+                .toList();
+
+        // when
+        List<Long> actual = walk(request);
+
+        // then
+        assertFalse(filtered.isEmpty());
+        assertEquals(expected(filtered), actual);
+    }
+
+    @Test
+    @DisplayName("다음 페이지 조회는 OFFSET 없이 복합 인덱스 범위 탐색으로 처리된다.")
+    void seek_uses_composite_index() {
+
+        // given (마지막 페이지 근처의 커서)
+        Trade cursor = approvedTrades.get(5);
+
+        // when
+        String plan = jdbcTemplate.queryForObject(
+                "EXPLAIN SELECT trade_id FROM trade "
+                        + "WHERE member_id = ? AND payment_approved_at >= ? AND payment_approved_at < ? "
+                        + "AND payment_approved_at <= ? AND (payment_approved_at < ? OR trade_id < ?) "
+                        + "ORDER BY payment_approved_at DESC, trade_id DESC LIMIT 21",
+                String.class,
+                memberId, BASE.minusYears(1), BASE.plusYears(1),
+                cursor.getPaymentApprovedAt(), cursor.getPaymentApprovedAt(), cursor.getId());
+
+        // then
+        assertNotNull(plan);
+        assertTrue(plan.toUpperCase().contains("IDX_TRADE_MEMBER_APPROVED_AT"), plan);
+        assertFalse(plan.toUpperCase().contains("OFFSET"), plan);
+    }
+
+    @Test
+    @DisplayName("잘못된 커서는 예외가 발생한다.")
+    void invalid_cursor() {
+
+        // given
+        TradeHistoryRequest request = new TradeHistoryRequest();
+        request.setCursor("not-a-cursor");
+
+        // expected
+        assertThrows(InvalidTradeCursorException.class, () -> tradeService.getTradeHistory(memberId, request));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 회원의 거래 내역은 조회할 수 없다.")
+    void member_not_found() {
+
+        // expected
+        assertThrows(MemberNotFoundException.class,
+                () -> tradeService.getTradeHistory(Long.MAX_VALUE, new TradeHistoryRequest()));
+    }
+
+    /**
+     * 커서를 따라 마지막 페이지까지 조회한 거래 ID 를 반환합니다.
+     */
+    private List<Long> walk(TradeHistoryRequest request) {
+        List<Long> tradeIds = new ArrayList<>();
+        while (true) {
+            TradeHistoryResponse page = tradeService.getTradeHistory(memberId, request);
+            assertTrue(page.getTrades().size() <= request.getSize());
+            page.getTrades().stream().map(TradeHistoryItemResponse::getTradeId).forEach(tradeIds::add);
+
+            if (!page.isHasNext()) {
+                assertNull(page.getNextCursor());
+                return tradeIds;
+            }
+            request.setCursor(page.getNextCursor());
+        }
+    }
+
+    private List<Long> expected(List<Trade> trades) {
+        return trades.stream()
+                .sorted(Comparator.comparing(Trade::getPaymentApprovedAt).thenComparing(Trade::getId).reversed())
+                .map(Trade::getId)
+                .toList();
+    }
+
+    private Member member() {
+        return Member.builder()
+                .name("정승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(100_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(15_000L))
+                .isDeleted(Boolean.FALSE)
+                .build();
+    }
+
+    private Trade trade(Long memberId) {
+        return Trade.builder()
+                .memberId(memberId)
+                .paymentAmount(Money.of(1_000L))
+                .paybackAmount(Money.of(100L))
+                .build();
+    }
+}
@@ -1,12 +1,17 @@
 package com.lemontree.interview;
 
 import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.entity.Trade;
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.exception.member.DailyLimitExceedException;
 import com.lemontree.interview.repository.MemberRepository;
 import com.lemontree.interview.repository.TradeRepository;
 import com.lemontree.interview.request.TradeRequest;
 import com.lemontree.interview.service.PaybackService;
 import com.lemontree.interview.service.PaymentService;
 import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,13 +21,13 @@ import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.math.BigDecimal;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 /**
  * 거래 통합 테스트입니다.
@@ -56,11 +61,11 @@ class TradeTest {
     void setUp() {
         Member member = Member.builder()
                 .name("정승조")
-                .balance(BigDecimal.valueOf(10_000L))
-                .balanceLimit(BigDecimal.valueOf(100_000L))
-                .onceLimit(BigDecimal.valueOf(5_000L))
-                .dailyLimit(BigDecimal.valueOf(1_0000L))
-                .monthlyLimit(BigDecimal.valueOf(15_000L))
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(100_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(1_0000L))
+                .monthlyLimit(Money.of(15_000L))
                 .isDeleted(Boolean.FALSE)
                 .build();
 
@@ -80,8 +85,8 @@ class TradeTest {
 
         // 5000원 결제 요청
         TradeRequest paymentRequest = new TradeRequest();
-        ReflectionTestUtils.setField(paymentRequest, "paymentAmount", BigDecimal.valueOf(500L));
-        ReflectionTestUtils.setField(paymentRequest, "paybackAmount", BigDecimal.valueOf(10L));
+        ReflectionTestUtils.setField(paymentRequest, "paymentAmount", Money.of(500L));
+        ReflectionTestUtils.setField(paymentRequest, "paybackAmount", Money.of(10L));
 
         Long tradeId = tradeService.requestTrade(savedMember.getId(), paymentRequest);
 
@@ -113,9 +118,9 @@ class TradeTest {
 
         // then
         Member findMember = memberRepository.findById(savedMember.getId()).get();
-        assertEquals(0, findMember.getBalance().compareTo(BigDecimal.valueOf(9_500L)));
-        assertEquals(0, findMember.getDailyAccumulate().compareTo(BigDecimal.valueOf(500L)));
-        assertEquals(0, findMember.getMonthlyAccumulate().compareTo(BigDecimal.valueOf(500L)));
+        assertEquals(0, findMember.getBalance().compareTo(Money.of(9_500L)));
+        assertEquals(0, findMember.getDailyAccumulate().compareTo(Money.of(500L)));
+        assertEquals(0, findMember.getMonthlyAccumulate().compareTo(Money.of(500L)));
 
         assertEquals(1, success.intValue());
         assertEquals(99, fail.intValue());
@@ -127,8 +132,8 @@ class TradeTest {
     void payment_lock2() throws Exception {
 
         TradeRequest paymentRequest = new TradeRequest();
-        ReflectionTestUtils.setField(paymentRequest, "paymentAmount", BigDecimal.valueOf(5L));
-        ReflectionTestUtils.setField(paymentRequest, "paybackAmount", BigDecimal.valueOf(1L));
+        ReflectionTestUtils.setField(paymentRequest, "paymentAmount", Money.of(5L));
+        ReflectionTestUtils.setField(paymentRequest, "paybackAmount", Money.of(1L));
 
         Long tradeId = tradeService.requestTrade(savedMember.getId(), paymentRequest);
 
@@ -170,8 +175,8 @@ class TradeTest {
     void payback() throws InterruptedException {
 
         TradeRequest paymentRequest = new TradeRequest();
-        ReflectionTestUtils.setField(paymentRequest, "paymentAmount", BigDecimal.valueOf(500L));
-        ReflectionTestUtils.setField(paymentRequest, "paybackAmount", BigDecimal.valueOf(100L));
+        ReflectionTestUtils.setField(paymentRequest, "paymentAmount", Money.of(500L));
+        ReflectionTestUtils.setField(paymentRequest, "paybackAmount", Money.of(100L));
 
         Long tradeId = tradeService.requestTrade(savedMember.getId(), paymentRequest);
 
@@ -205,7 +210,7 @@ class TradeTest {
 
         // then
         Member findMember = memberRepository.findById(savedMember.getId()).get();
-        assertEquals(0, findMember.getBalance().compareTo(BigDecimal.valueOf(9_600L)));
+        assertEquals(0, findMember.getBalance().compareTo(Money.of(9_600L)));
 
         assertEquals(1, success.intValue());
         assertEquals(threadCount - 1, fail.intValue());
@@ -216,8 +221,8 @@ class TradeTest {
     void cancel_payback() throws InterruptedException {
 
         TradeRequest paymentRequest = new TradeRequest();
-        ReflectionTestUtils.setField(paymentRequest, "paymentAmount", BigDecimal.valueOf(500L));
-        ReflectionTestUtils.setField(paymentRequest, "paybackAmount", BigDecimal.valueOf(100L));
+        ReflectionTestUtils.setField(paymentRequest, "paymentAmount", Money.of(500L));
+        ReflectionTestUtils.setField(paymentRequest, "paybackAmount", Money.of(100L));
 
         Long tradeId = tradeService.requestTrade(savedMember.getId(), paymentRequest);
 
@@ -252,7 +257,176 @@ class TradeTest {
 
         // then
         Member findMember = memberRepository.findById(savedMember.getId()).get();
-        assertEquals(0, findMember.getBalance().compareTo(BigDecimal.valueOf(9_500L)));
+        assertEquals(0, findMember.getBalance().compareTo(Money.of(9_500L)));
+
+        assertEquals(1, success.intValue());
+        assertEquals(threadCount - 1, fail.intValue());
+    }
+
+    @Test
+    @DisplayName("결제 조건부 UPDATE 테스트 - 1000번 동시에 결제해도 1번만 결제된다.")
+    void payment_atomic() throws Exception {
+
+        TradeRequest paymentRequest = new TradeRequest();
+        ReflectionTestUtils.setField(paymentRequest, "paymentAmount", Money.of(500L));
+        ReflectionTestUtils.setField(paymentRequest, "paybackAmount", Money.of(10L));
+
+        Long tradeId = tradeService.requestTrade(savedMember.getId(), paymentRequest);
+
+        AtomicInteger success = new AtomicInteger(0);
+        AtomicInteger fail = new AtomicInteger(0);
+        int threadCount = 1000;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    paymentService.processPaymentAtomically(tradeId);
+                    success.incrementAndGet();
+                } catch (Exception e) {
+                    fail.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        latch.await();
+
+        // then
+        Member findMember = memberRepository.findById(savedMember.getId()).get();
+        assertEquals(0, findMember.getBalance().compareTo(Money.of(9_500L)));
+        assertEquals(0, findMember.getDailyAccumulate().compareTo(Money.of(500L)));
+        assertEquals(0, findMember.getMonthlyAccumulate().compareTo(Money.of(500L)));
+
+        assertEquals(1, success.intValue());
+        assertEquals(threadCount - 1, fail.intValue());
+
+        executorService.shutdown();
+    }
+
+    @Test
+    @DisplayName("결제 조건부 UPDATE 테스트 - 1일 한도를 넘는 결제는 반영되지 않고 원인에 맞는 예외가 발생한다.")
+    void payment_atomic_daily_limit() {
+
+        TradeRequest paymentRequest = new TradeRequest();
+        ReflectionTestUtils.setField(paymentRequest, "paymentAmount", Money.of(5_000L));
+        ReflectionTestUtils.setField(paymentRequest, "paybackAmount", Money.of(10L));
+
+        // 5,000원씩 2번 결제하면 1일 한도(10,000원)에 도달합니다.
+        paymentService.processPaymentAtomically(tradeService.requestTrade(savedMember.getId(), paymentRequest));
+        paymentService.processPaymentAtomically(tradeService.requestTrade(savedMember.getId(), paymentRequest));
+
+        Long tradeId = tradeService.requestTrade(savedMember.getId(), paymentRequest);
+
+        // expected
+        assertThrows(DailyLimitExceedException.class,
+                () -> paymentService.processPaymentAtomically(tradeId));
+
+        Member findMember = memberRepository.findById(savedMember.getId()).get();
+        assertEquals(0, findMember.getBalance().compareTo(Money.ZERO));
+        assertEquals(0, findMember.getDailyAccumulate().compareTo(Money.of(10_000L)));
+    }
+
+    @Test
+    @DisplayName("(Atomic) 동일 거래의 페이백을 100번 요청해도 1번만 성공한다.")
+    void payback_atomic() throws InterruptedException {
+
+        TradeRequest paymentRequest = new TradeRequest();
+        ReflectionTestUtils.setField(paymentRequest, "paymentAmount", Money.of(500L));
+        ReflectionTestUtils.setField(paymentRequest, "paybackAmount", Money.of(100L));
+
+        Long tradeId = tradeService.requestTrade(savedMember.getId(), paymentRequest);
+
+        paymentService.processPaymentAtomically(tradeId);
+
+        AtomicInteger success = new AtomicInteger(0);
+        AtomicInteger fail = new AtomicInteger(0);
+        int threadCount = 100;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    paybackService.processPaybackAtomically(tradeId);
+                    success.incrementAndGet();
+                } catch (Exception e) {
+                    fail.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        Member findMember = memberRepository.findById(savedMember.getId()).get();
+        assertEquals(0, findMember.getBalance().compareTo(Money.of(9_600L)));
+
+        assertEquals(1, success.intValue());
+        assertEquals(threadCount - 1, fail.intValue());
+    }
+
+    @Test
+    @DisplayName("(Atomic) 결제 취소를 100번 요청해도 1번만 성공하고, 페이백도 함께 취소된다.")
+    void cancel_payment_atomic() throws InterruptedException {
+
+        TradeRequest paymentRequest = new TradeRequest();
+        ReflectionTestUtils.setField(paymentRequest, "paymentAmount", Money.of(500L));
+        ReflectionTestUtils.setField(paymentRequest, "paybackAmount", Money.of(100L));
+
+        Long tradeId = tradeService.requestTrade(savedMember.getId(), paymentRequest);
+
+        paymentService.processPaymentAtomically(tradeId);
+        paybackService.processPaybackAtomically(tradeId);
+
+        AtomicInteger success = new AtomicInteger(0);
+        AtomicInteger fail = new AtomicInteger(0);
+        int threadCount = 100;
+
+        ExecutorService executorService = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threadCount);
+
+        for (int i = 0; i < threadCount; i++) {
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    paymentService.cancelPaymentAtomically(tradeId);
+                    success.incrementAndGet();
+                } catch (Exception e) {
+                    fail.incrementAndGet();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        latch.await();
+        executorService.shutdown();
+
+        // then
+        Member findMember = memberRepository.findById(savedMember.getId()).get();
+        assertEquals(0, findMember.getBalance().compareTo(Money.of(10_000L)));
+        assertEquals(0, findMember.getDailyAccumulate().compareTo(Money.ZERO));
+        assertEquals(0, findMember.getMonthlyAccumulate().compareTo(Money.ZERO));
+
+        Trade findTrade = paymentRepository.findById(tradeId).get();
+        assertEquals(PaymentStatus.CANCEL, findTrade.getPaymentStatus());
+        assertEquals(PaybackStatus.CANCEL, findTrade.getPaybackStatus());
 
         assertEquals(1, success.intValue());
         assertEquals(threadCount - 1, fail.intValue());
@@ -0,0 +1,133 @@
+package com.lemontree.interview;
+
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.facade.PaymentFacade;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.TradePaymentRequest;
+import com.lemontree.interview.vo.Money;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * 가상 스레드 실행 모드 부하 테스트입니다.
+ * 회원 행을 잠그는 거래 생성 및 결제를 요청당 가상 스레드에서 실행하며, 커넥션 획득 제한(세마포어)을 거쳐 커넥션 풀에 접근합니다.
+ * 플랫폼 스레드 풀과의 소요 시간 비교는 benchmark.VirtualThreadBenchmark 에서 측정합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = {"lemontree.connection-limiter.enabled=true", "lemontree.connection-limiter.permits=8"})
+@EnabledForJreRange(min = JRE.JAVA_21)
+class VirtualThreadTest {
+
+    private static final int MEMBER_COUNT = 50;
+    private static final int REQUEST_COUNT = 5_000;
+
+    @Autowired
+    MemberRepository memberRepository;
+
+    @Autowired
+    TradeRepository tradeRepository;
+
+    @Autowired
+    PaymentFacade paymentFacade;
+
+    List<Member> members = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            members.add(memberRepository.save(Member.builder()
+                    .name("회원" + i)
+                    .balance(Money.of(1_000_000L))
+                    .balanceLimit(Money.of(10_000_000L))
+                    .onceLimit(Money.of(5_000L))
+                    .dailyLimit(Money.of(1_000_000L))
+                    .monthlyLimit(Money.of(1_000_000L))
+                    .isDeleted(Boolean.FALSE)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        tradeRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("가상 스레드에서도 회원 잔액은 성공한 결제 건수와 일치한다.")
+    void virtual_threads() throws Exception {
+
+        // when
+        AtomicInteger success = new AtomicInteger();
+        run(newVirtualThreadPerTaskExecutor(), success);
+
+        // then
+        Money paid = members.stream()
+                .map(member -> memberRepository.findById(member.getId()).get().getBalance())
+                .map(Money.of(1_000_000L)::minus)
+                .reduce(Money.ZERO, Money::plus);
+
+        assertEquals(0, paid.compareTo(Money.of(success.get() * 10L)));
+    }
+
+    /**
+     * 회원을 돌아가며 거래 생성 및 결제를 동시에 요청합니다.
+     */
+    private void run(ExecutorService executorService, AtomicInteger success) throws InterruptedException {
+
+        TradePaymentRequest request = new TradePaymentRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(10L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.ZERO);
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(REQUEST_COUNT);
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            Long memberId = members.get(i % MEMBER_COUNT).getId();
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    paymentFacade.requestTradeAndPay(memberId, request);
+                    success.incrementAndGet();
+                } catch (Exception ignored) {
+                    // H2 는 락 대기 시간 초과/교착 상태 감지로 일부 요청을 실패시킬 수 있습니다.
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        latch.await();
+
+        executorService.shutdown();
+    }
+
+    /**
+     * Java 17 로도 컴파일되도록 Executors.newVirtualThreadPerTaskExecutor() 를 리플렉션으로 호출합니다.
+     */
+    private static ExecutorService newVirtualThreadPerTaskExecutor() throws Exception {
+        return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+    }
+}
@@ -0,0 +1,32 @@
+package com.lemontree.interview.benchmark;
+
+import com.lemontree.interview.InterviewApplication;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+/**
+ * 벤치마크에서 애플리케이션을 test 프로파일(H2 인메모리 DB)로 실행하는 유틸리티 클래스입니다.
+ * 웹 서버는 띄우지 않고 서비스/퍼사드를 직접 호출합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+        throw new IllegalStateException("유틸리티 클래스는 인스턴스를 금지합니다.");
+    }
+
+    /**
+     * @param properties 추가 설정 (key=value)
+     * @return 애플리케이션 컨텍스트
+     */
+    static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(InterviewApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(properties)
+                .run();
+    }
+}
@@ -0,0 +1,123 @@
+package com.lemontree.interview.benchmark;
+
+import com.lemontree.interview.config.ConcurrencyMode;
+import com.lemontree.interview.config.ConcurrencyProperties;
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.facade.PaymentFacade;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시성 제어 방식(비관적 락 / 낙관적 락 / 조건부 UPDATE)별로 서로 다른 거래의 결제를 동시에 요청할 때의 소요 시간을 비교하는 JMH 벤치마크입니다.
+ * 회원별로 거래가 분산된 경우(저경합)와 한 회원에게 거래가 몰린 경우(고경합)를 함께 측정합니다.
+ * 실행 방법은 MoneyBenchmark 와 같습니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ConcurrencyModeBenchmark {
+
+    private static final int THREAD_COUNT = 100;
+
+    @Param({"PESSIMISTIC", "OPTIMISTIC", "ATOMIC"})
+    private ConcurrencyMode mode;
+
+    @Param({"false", "true"})
+    private boolean hotMember;
+
+    private ConfigurableApplicationContext context;
+    private TradeService tradeService;
+    private PaymentFacade paymentFacade;
+    private ExecutorService executorService;
+    private final List<Long> memberIds = new ArrayList<>();
+    private final List<Long> tradeIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        tradeService = context.getBean(TradeService.class);
+        paymentFacade = context.getBean(PaymentFacade.class);
+        context.getBean(ConcurrencyProperties.class).setMode(mode);
+
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        int memberCount = hotMember ? 1 : THREAD_COUNT;
+        for (int i = 0; i < memberCount; i++) {
+            memberIds.add(memberRepository.save(Member.builder()
+                    .name("정승조")
+                    .balance(Money.of(10_000_000L))
+                    .balanceLimit(Money.of(100_000_000L))
+                    .onceLimit(Money.of(5_000L))
+                    .dailyLimit(Money.of(10_000_000L))
+                    .monthlyLimit(Money.of(10_000_000L))
+                    .build()).getId());
+        }
+
+        executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+    }
+
+    @Setup(Level.Invocation)
+    public void createTrades() {
+        tradeIds.clear();
+        for (int i = 0; i < THREAD_COUNT; i++) {
+            TradeRequest request = new TradeRequest();
+            ReflectionTestUtils.setField(request, "paymentAmount", Money.of(5L));
+            ReflectionTestUtils.setField(request, "paybackAmount", Money.of(1L));
+            tradeIds.add(tradeService.requestTrade(memberIds.get(i % memberIds.size()), request));
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdown();
+        context.close();
+    }
+
+    @Benchmark
+    public void concurrentPayments() throws InterruptedException {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(tradeIds.size());
+
+        for (Long tradeId : tradeIds) {
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    paymentFacade.processPayment(tradeId);
+                } catch (Exception ignored) {
+                    // 고경합에서는 재시도 횟수 초과, 교착 상태 감지로 일부 요청이 실패할 수 있습니다.
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        latch.await();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ConcurrencyModeBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
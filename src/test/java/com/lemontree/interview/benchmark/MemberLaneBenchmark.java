@@ -0,0 +1,115 @@
+package com.lemontree.interview.benchmark;
+
+import com.lemontree.interview.config.MemberLaneProperties;
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.facade.PaymentFacade;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 같은 거래에 동시에 결제를 요청할 때, 비관적 락 경로와 회원 단위 실행 레인 경로의 소요 시간을 비교하는 JMH 벤치마크입니다.
+ * 호출마다 새 거래를 만들고 스레드 수만큼 동시에 결제를 요청한 뒤, 모든 요청이 끝날 때까지의 시간을 측정합니다.
+ * 실행 방법은 MoneyBenchmark 와 같습니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class MemberLaneBenchmark {
+
+    @Param({"false", "true"})
+    private boolean laneEnabled;
+
+    @Param({"100", "1000"})
+    private int threads;
+
+    private ConfigurableApplicationContext context;
+    private TradeService tradeService;
+    private PaymentFacade paymentFacade;
+    private ExecutorService executorService;
+    private Long memberId;
+    private Long tradeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        tradeService = context.getBean(TradeService.class);
+        paymentFacade = context.getBean(PaymentFacade.class);
+
+        MemberLaneProperties properties = context.getBean(MemberLaneProperties.class);
+        properties.setEnabled(laneEnabled);
+        properties.setWaitTimeout(Duration.ofSeconds(30));
+
+        memberId = context.getBean(MemberRepository.class).save(Member.builder()
+                .name("정승조")
+                .balance(Money.of(10_000_000L))
+                .balanceLimit(Money.of(100_000_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000_000L))
+                .monthlyLimit(Money.of(10_000_000L))
+                .build()).getId();
+
+        executorService = Executors.newFixedThreadPool(threads);
+    }
+
+    @Setup(Level.Invocation)
+    public void createTrade() {
+        TradeRequest request = new TradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(5L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(1L));
+        tradeId = tradeService.requestTrade(memberId, request);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdown();
+        context.close();
+    }
+
+    @Benchmark
+    public void concurrentPayments() throws InterruptedException {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    paymentFacade.processPayment(tradeId);
+                } catch (Exception ignored) {
+                    // 한 요청만 결제되고 나머지는 이미 결제된 거래 예외로 실패합니다.
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        latch.await();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MemberLaneBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
@@ -0,0 +1,149 @@
+package com.lemontree.interview.benchmark;
+
+import com.lemontree.interview.vo.Money;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 한 건의 한도/잔액 검증 및 잔액/누적 금액 변경을 BigDecimal 과 Money 로 비교하는 JMH 벤치마크입니다.
+ * <p>
+ * PaymentService.checkLimitAndBalance + Member.pay 와 같은 연산(덧셈 4회, 뺄셈 2회, 비교 5회)을 수행하며,
+ * BigDecimal 쪽은 Money 도입 전과 같이 비교마다 래퍼(BigDecimalUtils.is)를 생성합니다.
+ * 테스트(surefire) 대상이 아니며, 다음과 같이 실행합니다. (GC 프로파일러로 연산당 할당량(gc.alloc.rate.norm)을 함께 측정합니다.)
+ * <pre>
+ * mvn test-compile dependency:build-classpath -Dmdep.outputFile=target/cp.txt -Dmdep.includeScope=test
+ * java -cp target/test-classes:target/classes:$(cat target/cp.txt) com.lemontree.interview.benchmark.MoneyBenchmark
+ * </pre>
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MoneyBenchmark {
+
+    private long amount = 1_000L;
+
+    private BigDecimal bigDecimalAmount;
+    private BigDecimal bigDecimalBalance;
+    private BigDecimal bigDecimalOnceLimit;
+    private BigDecimal bigDecimalDailyLimit;
+    private BigDecimal bigDecimalMonthlyLimit;
+    private BigDecimal bigDecimalDailyAccumulate;
+    private BigDecimal bigDecimalMonthlyAccumulate;
+
+    private Money moneyAmount;
+    private Money moneyBalance;
+    private Money moneyOnceLimit;
+    private Money moneyDailyLimit;
+    private Money moneyMonthlyLimit;
+    private Money moneyDailyAccumulate;
+    private Money moneyMonthlyAccumulate;
+
+    /**
+     * 반복마다 회원 상태를 초기화합니다. (DB 에서 읽은 DECIMAL(12,0) 값과 같이 scale 0 인 BigDecimal 을 사용합니다.)
+     */
+    @Setup(Level.Iteration)
+    public void setUp() {
+        bigDecimalAmount = BigDecimal.valueOf(amount);
+        bigDecimalBalance = BigDecimal.valueOf(Long.MAX_VALUE / 2);
+        bigDecimalOnceLimit = BigDecimal.valueOf(5_000L);
+        bigDecimalDailyLimit = BigDecimal.valueOf(Long.MAX_VALUE / 2);
+        bigDecimalMonthlyLimit = BigDecimal.valueOf(Long.MAX_VALUE / 2);
+        bigDecimalDailyAccumulate = BigDecimal.ZERO;
+        bigDecimalMonthlyAccumulate = BigDecimal.ZERO;
+
+        moneyAmount = Money.of(amount);
+        moneyBalance = Money.of(Long.MAX_VALUE / 2);
+        moneyOnceLimit = Money.of(5_000L);
+        moneyDailyLimit = Money.of(Long.MAX_VALUE / 2);
+        moneyMonthlyLimit = Money.of(Long.MAX_VALUE / 2);
+        moneyDailyAccumulate = Money.ZERO;
+        moneyMonthlyAccumulate = Money.ZERO;
+    }
+
+    @Benchmark
+    public BigDecimal bigDecimal() {
+        BigDecimal amount = bigDecimalAmount;
+        if (is(amount).greaterThan(bigDecimalOnceLimit)) {
+            throw new IllegalStateException();
+        }
+        if (is(bigDecimalDailyAccumulate.add(amount)).greaterThan(bigDecimalDailyLimit)) {
+            throw new IllegalStateException();
+        }
+        if (is(bigDecimalMonthlyAccumulate.add(amount)).greaterThan(bigDecimalMonthlyLimit)) {
+            throw new IllegalStateException();
+        }
+        if (is(bigDecimalBalance).lessThan(amount)) {
+            throw new IllegalStateException();
+        }
+        if (is(bigDecimalBalance.subtract(amount)).lessThan(BigDecimal.ZERO)) {
+            throw new IllegalStateException();
+        }
+
+        bigDecimalDailyAccumulate = bigDecimalDailyAccumulate.add(amount);
+        bigDecimalMonthlyAccumulate = bigDecimalMonthlyAccumulate.add(amount);
+        bigDecimalBalance = bigDecimalBalance.subtract(amount);
+        return bigDecimalBalance;
+    }
+
+    @Benchmark
+    public Money money() {
+        Money amount = moneyAmount;
+        if (amount.isGreaterThan(moneyOnceLimit)) {
+            throw new IllegalStateException();
+        }
+        if (moneyDailyAccumulate.plus(amount).isGreaterThan(moneyDailyLimit)) {
+            throw new IllegalStateException();
+        }
+        if (moneyMonthlyAccumulate.plus(amount).isGreaterThan(moneyMonthlyLimit)) {
+            throw new IllegalStateException();
+        }
+        if (moneyBalance.isLessThan(amount)) {
+            throw new IllegalStateException();
+        }
+        if (moneyBalance.minus(amount).isNegative()) {
+            throw new IllegalStateException();
+        }
+
+        moneyDailyAccumulate = moneyDailyAccumulate.plus(amount);
+        moneyMonthlyAccumulate = moneyMonthlyAccumulate.plus(amount);
+        moneyBalance = moneyBalance.minus(amount);
+        return moneyBalance;
+    }
+
+    /**
+     * Money 도입 전 BigDecimalUtils.is(...) 와 같이 비교마다 래퍼를 생성합니다.
+     */
+    private static Comparison is(BigDecimal value) {
+        return new Comparison(value);
+    }
+
+    private record Comparison(BigDecimal value) {
+
+        private boolean greaterThan(BigDecimal target) {
+            return value.compareTo(target) > 0;
+        }
+
+        private boolean lessThan(BigDecimal target) {
+            return value.compareTo(target) < 0;
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(MoneyBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
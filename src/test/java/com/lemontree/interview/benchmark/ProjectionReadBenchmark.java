@@ -0,0 +1,94 @@
+package com.lemontree.interview.benchmark;
+
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.response.MemberResponse;
+import com.lemontree.interview.response.TradeResponse;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원/거래 단건 조회에서 엔티티 조회 후 응답 DTO로 변환하는 방식과 응답 DTO 직접 조회(생성자 표현식)의 소요 시간을 비교하는 JMH 벤치마크입니다.
+ * 실행 방법은 MoneyBenchmark 와 같으며, GC 프로파일러로 조회당 할당량(gc.alloc.rate.norm)을 함께 측정합니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectionReadBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private MemberRepository memberRepository;
+    private TradeRepository tradeRepository;
+    private Long memberId;
+    private Long tradeId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        memberRepository = context.getBean(MemberRepository.class);
+        tradeRepository = context.getBean(TradeRepository.class);
+
+        memberId = memberRepository.save(Member.builder()
+                .name("정승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(100_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(15_000L))
+                .build()).getId();
+
+        TradeRequest request = new TradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(1_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(100L));
+        tradeId = context.getBean(TradeService.class).requestTrade(memberId, request);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MemberResponse memberEntity() {
+        return new MemberResponse(memberRepository.findById(memberId).get());
+    }
+
+    @Benchmark
+    public MemberResponse memberProjection() {
+        return memberRepository.findResponseById(memberId).get();
+    }
+
+    @Benchmark
+    public TradeResponse tradeEntity() {
+        return new TradeResponse(tradeRepository.findById(tradeId).get());
+    }
+
+    @Benchmark
+    public TradeResponse tradeProjection() {
+        return tradeRepository.findResponseById(tradeId).get();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ProjectionReadBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,100 @@
+package com.lemontree.interview.benchmark;
+
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.response.MemberResponse;
+import com.lemontree.interview.service.MemberService;
+import com.lemontree.interview.service.ReactiveMemberService;
+import com.lemontree.interview.vo.Money;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import reactor.core.publisher.Flux;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * 회원 조회를 MVC(JPA, 스레드당 1요청) 경로와 리액티브(이벤트 루프 + R2DBC 커넥션 풀) 경로로 실행할 때의 소요 시간을 비교하는 JMH 벤치마크입니다.
+ * 두 경로 모두 같은 동시 요청 수로 READ_COUNT 건을 DB 에서 조회하도록 조회 캐시를 끄고, 애플리케이션은 reactive 프로파일로 실행합니다.
+ * 실행 방법은 MoneyBenchmark 와 같습니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 10)
+@Fork(1)
+public class ReactiveReadBenchmark {
+
+    private static final int READ_COUNT = 20_000;
+    private static final int CONCURRENCY = 64;
+
+    private ConfigurableApplicationContext context;
+    private MemberService memberService;
+    private ReactiveMemberService reactiveMemberService;
+    private ExecutorService executorService;
+    private Long memberId;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start("spring.profiles.active=reactive", "lemontree.lookup-cache.enabled=false");
+        memberService = context.getBean(MemberService.class);
+        reactiveMemberService = context.getBean(ReactiveMemberService.class);
+
+        memberId = context.getBean(MemberRepository.class).save(Member.builder()
+                .name("정승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(100_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(15_000L))
+                .build()).getId();
+
+        executorService = Executors.newFixedThreadPool(CONCURRENCY);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdown();
+        context.close();
+    }
+
+    @Benchmark
+    public void blocking() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(READ_COUNT);
+        for (int i = 0; i < READ_COUNT; i++) {
+            executorService.execute(() -> {
+                try {
+                    memberService.getMember(memberId);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+    }
+
+    @Benchmark
+    public List<MemberResponse> reactive() {
+        return Flux.fromStream(IntStream.range(0, READ_COUNT).boxed())
+                .flatMap(i -> reactiveMemberService.getMember(memberId), CONCURRENCY)
+                .collectList()
+                .block();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(ReactiveReadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
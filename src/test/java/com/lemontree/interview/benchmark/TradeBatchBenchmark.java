@@ -0,0 +1,106 @@
+package com.lemontree.interview.benchmark;
+
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.request.TradeBatchRequest;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.response.TradeBatchResponse;
+import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 거래 생성의 단건 생성 경로와 일괄 생성(JDBC 배치 INSERT) 경로의 소요 시간을 비교하는 JMH 벤치마크입니다.
+ * 호출마다 같은 요청 목록으로 거래를 생성하며, 반복마다 생성된 거래를 삭제합니다.
+ * 실행 방법은 MoneyBenchmark 와 같습니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@Fork(1)
+public class TradeBatchBenchmark {
+
+    private static final int MEMBER_COUNT = 10;
+
+    @Param({"1000", "5000"})
+    private int trades;
+
+    private ConfigurableApplicationContext context;
+    private TradeService tradeService;
+    private TradeRepository tradeRepository;
+    private final List<TradeBatchRequest.Item> items = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        tradeService = context.getBean(TradeService.class);
+        tradeRepository = context.getBean(TradeRepository.class);
+
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            memberIds.add(memberRepository.save(Member.builder()
+                    .name("정승조")
+                    .balance(Money.of(10_000L))
+                    .balanceLimit(Money.of(100_000L))
+                    .onceLimit(Money.of(5_000L))
+                    .dailyLimit(Money.of(10_000L))
+                    .monthlyLimit(Money.of(15_000L))
+                    .build()).getId());
+        }
+
+        for (int i = 0; i < trades; i++) {
+            TradeBatchRequest.Item item = new TradeBatchRequest.Item();
+            ReflectionTestUtils.setField(item, "memberId", memberIds.get(i % MEMBER_COUNT));
+            ReflectionTestUtils.setField(item, "paymentAmount", Money.of(1_000L));
+            ReflectionTestUtils.setField(item, "paybackAmount", Money.of(100L));
+            items.add(item);
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void deleteTrades() {
+        tradeRepository.deleteAllInBatch();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void single() {
+        for (TradeBatchRequest.Item item : items) {
+            TradeRequest request = new TradeRequest();
+            ReflectionTestUtils.setField(request, "paymentAmount", item.getPaymentAmount());
+            ReflectionTestUtils.setField(request, "paybackAmount", item.getPaybackAmount());
+            tradeService.requestTrade(item.getMemberId(), request);
+        }
+    }
+
+    @Benchmark
+    public TradeBatchResponse batch() {
+        return tradeService.requestTrades(items);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(TradeBatchBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
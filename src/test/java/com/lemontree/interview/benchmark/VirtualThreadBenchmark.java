@@ -0,0 +1,113 @@
+package com.lemontree.interview.benchmark;
+
+import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.facade.PaymentFacade;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.request.TradePaymentRequest;
+import com.lemontree.interview.vo.Money;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 회원 행을 잠그는 거래 생성 및 결제를 플랫폼 스레드 풀(Tomcat 기본 200개)과 요청당 가상 스레드에서 각각 실행할 때의 소요 시간을 비교하는 JMH 벤치마크입니다.
+ * 두 경우 모두 커넥션 획득 제한(세마포어)을 거쳐 커넥션 풀에 접근합니다.
+ * 가상 스레드는 Java 21 이상에서만 측정할 수 있으며, 실행 방법은 MoneyBenchmark 와 같습니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class VirtualThreadBenchmark {
+
+    private static final int MEMBER_COUNT = 50;
+    private static final int REQUEST_COUNT = 5_000;
+    private static final int PLATFORM_THREADS = 200;
+
+    @Param({"false", "true"})
+    private boolean virtual;
+
+    private ConfigurableApplicationContext context;
+    private PaymentFacade paymentFacade;
+    private ExecutorService executorService;
+    private TradePaymentRequest request;
+    private final List<Long> memberIds = new ArrayList<>();
+
+    @Setup(Level.Trial)
+    public void setUp() throws Exception {
+        context = BenchmarkApplication.start(
+                "lemontree.connection-limiter.enabled=true", "lemontree.connection-limiter.permits=8");
+        paymentFacade = context.getBean(PaymentFacade.class);
+
+        MemberRepository memberRepository = context.getBean(MemberRepository.class);
+        for (int i = 0; i < MEMBER_COUNT; i++) {
+            memberIds.add(memberRepository.save(Member.builder()
+                    .name("회원" + i)
+                    .balance(Money.of(100_000_000L))
+                    .balanceLimit(Money.of(1_000_000_000L))
+                    .onceLimit(Money.of(5_000L))
+                    .dailyLimit(Money.of(100_000_000L))
+                    .monthlyLimit(Money.of(100_000_000L))
+                    .build()).getId());
+        }
+
+        request = new TradePaymentRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(10L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.ZERO);
+
+        // Java 17 로도 컴파일되도록 Executors.newVirtualThreadPerTaskExecutor() 를 리플렉션으로 호출합니다.
+        executorService = virtual
+                ? (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null)
+                : Executors.newFixedThreadPool(PLATFORM_THREADS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executorService.shutdown();
+        context.close();
+    }
+
+    @Benchmark
+    public void requestTradeAndPay() throws InterruptedException {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch latch = new CountDownLatch(REQUEST_COUNT);
+
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            Long memberId = memberIds.get(i % MEMBER_COUNT);
+            executorService.execute(() -> {
+                try {
+                    startLatch.await();
+                    paymentFacade.requestTradeAndPay(memberId, request);
+                } catch (Exception ignored) {
+                    // H2 는 락 대기 시간 초과/교착 상태 감지로 일부 요청을 실패시킬 수 있습니다.
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+
+        startLatch.countDown();
+        latch.await();
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(VirtualThreadBenchmark.class.getSimpleName())
+                .build()).run();
+    }
+}
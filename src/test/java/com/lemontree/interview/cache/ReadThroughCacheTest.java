@@ -0,0 +1,108 @@
+package com.lemontree.interview.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * 읽기 관통(read-through) 캐시 테스트입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+class ReadThroughCacheTest {
+
+    @Test
+    @DisplayName("캐시에 없으면 원본에서 조회하여 저장하고, 이후에는 캐시에서 조회한다.")
+    void load_once() {
+
+        // given
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, Duration.ofMinutes(1), 16);
+        AtomicInteger loads = new AtomicInteger();
+
+        // when
+        cache.get(1L, () -> "v" + loads.incrementAndGet());
+        String actual = cache.get(1L, () -> "v" + loads.incrementAndGet());
+
+        // then
+        assertEquals("v1", actual);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("원본 조회 도중 무효화되면 조회한 값을 캐시에 저장하지 않는다.")
+    void skip_put_when_invalidated_during_load() {
+
+        // given
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, Duration.ofMinutes(1), 16);
+
+        // when (커밋 전의 값을 읽는 도중 변경이 커밋되고 무효화됨)
+        String stale = cache.get(1L, () -> {
+            cache.invalidate(1L);
+            return "stale";
+        });
+        String actual = cache.get(1L, () -> "fresh");
+
+        // then
+        assertEquals("stale", stale);
+        assertEquals("fresh", actual);
+        assertEquals(1, cache.invalidationCount());
+    }
+
+    @Test
+    @DisplayName("전체 무효화 이후에는 모든 키를 원본에서 다시 조회한다.")
+    void invalidate_all() {
+
+        // given
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, Duration.ofMinutes(1), 16);
+        cache.get(1L, () -> "a");
+        cache.get(2L, () -> "b");
+
+        // when
+        cache.invalidateAll();
+
+        // then
+        assertEquals(0, cache.size());
+        assertEquals("a2", cache.get(1L, () -> "a2"));
+        assertEquals("b2", cache.get(2L, () -> "b2"));
+    }
+
+    @Test
+    @DisplayName("일괄 조회 시 캐시에 없는 키만 모아 원본에서 한 번에 조회한다.")
+    void get_all_loads_missing_keys_once() {
+
+        // given
+        ReadThroughCache<Long, String> cache = new ReadThroughCache<>(10, Duration.ofMinutes(1), 16);
+        cache.get(1L, () -> "a");
+        AtomicInteger loads = new AtomicInteger();
+        AtomicReference<Set<Long>> requested = new AtomicReference<>();
+
+        // when (3번 키는 원본에도 없음)
+        Map<Long, String> actual = cache.getAll(List.of(1L, 2L, 3L, 2L), keys -> {
+            loads.incrementAndGet();
+            requested.set(Set.copyOf(keys));
+            return keys.stream().filter(key -> key != 3L).collect(Collectors.toMap(key -> key, key -> "v" + key));
+        });
+
+        // then
+        assertEquals(Map.of(1L, "a", 2L, "v2"), actual);
+        assertEquals(1, loads.get());
+        assertEquals(Set.of(2L, 3L), requested.get());
+        assertEquals("v2", cache.getIfPresent(2L));
+        assertFalse(cache.getAll(List.of(1L, 2L), keys -> {
+            throw new AssertionError("모든 키가 캐시에 있으면 원본을 조회하지 않는다.");
+        }).isEmpty());
+    }
+}
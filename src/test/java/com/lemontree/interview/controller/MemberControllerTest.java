@@ -1,29 +1,40 @@
 package com.lemontree.interview.controller;
 
 import com.lemontree.interview.config.AbstractRestDocsTest;
+import com.lemontree.interview.config.ClockConfig;
 import com.lemontree.interview.entity.Member;
 import com.lemontree.interview.request.MemberCreate;
+import com.lemontree.interview.response.MemberBalanceResponse;
+import com.lemontree.interview.response.MemberListResponse;
 import com.lemontree.interview.response.MemberResponse;
+import com.lemontree.interview.service.LedgerService;
 import com.lemontree.interview.service.MemberService;
+import com.lemontree.interview.vo.Money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
+import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
  * 유저 컨트롤러 테스트입니다.
@@ -33,11 +44,15 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  */
 
 @WebMvcTest(MemberController.class)
+@Import(ClockConfig.class)
 class MemberControllerTest extends AbstractRestDocsTest {
 
     @MockBean
     MemberService memberService;
 
+    @MockBean
+    LedgerService ledgerService;
+
     @Test
     @DisplayName("유저 생성 테스트")
     void 유저_생성() throws Exception {
@@ -47,11 +62,11 @@ class MemberControllerTest extends AbstractRestDocsTest {
 
         MemberCreate request = new MemberCreate();
         ReflectionTestUtils.setField(request, "name", "정승조");
-        ReflectionTestUtils.setField(request, "balance", BigDecimal.valueOf(10000L));
-        ReflectionTestUtils.setField(request, "balanceLimit", BigDecimal.valueOf(100000L));
-        ReflectionTestUtils.setField(request, "onceLimit", BigDecimal.valueOf(5000L));
-        ReflectionTestUtils.setField(request, "dailyLimit", BigDecimal.valueOf(10000L));
-        ReflectionTestUtils.setField(request, "monthlyLimit", BigDecimal.valueOf(15000L));
+        ReflectionTestUtils.setField(request, "balance", Money.of(10000L));
+        ReflectionTestUtils.setField(request, "balanceLimit", Money.of(100000L));
+        ReflectionTestUtils.setField(request, "onceLimit", Money.of(5000L));
+        ReflectionTestUtils.setField(request, "dailyLimit", Money.of(10000L));
+        ReflectionTestUtils.setField(request, "monthlyLimit", Money.of(15000L));
         ReflectionTestUtils.setField(request, "isDeleted", Boolean.FALSE);
 
         String json = objectMapper.writeValueAsString(request);
@@ -86,15 +101,16 @@ class MemberControllerTest extends AbstractRestDocsTest {
         // given
         Member member = Member.builder()
                 .name("정승조")
-                .balance(BigDecimal.valueOf(10000L))
-                .balanceLimit(BigDecimal.valueOf(100000L))
-                .onceLimit(BigDecimal.valueOf(5000L))
-                .dailyLimit(BigDecimal.valueOf(10000L))
-                .monthlyLimit(BigDecimal.valueOf(15000L))
+                .balance(Money.of(10000L))
+                .balanceLimit(Money.of(100000L))
+                .onceLimit(Money.of(5000L))
+                .dailyLimit(Money.of(10000L))
+                .monthlyLimit(Money.of(15000L))
                 .isDeleted(Boolean.FALSE)
                 .build();
 
         ReflectionTestUtils.setField(member, "id", 1L);
+        ReflectionTestUtils.setField(member, "version", 3L);
         MemberResponse response = new MemberResponse(member);
 
         when(memberService.getMember(anyLong())).thenReturn(response);
@@ -104,6 +120,7 @@ class MemberControllerTest extends AbstractRestDocsTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpectAll(
                         status().isOk(),
+                        header().string(HttpHeaders.ETAG, "\"" + eTag(3L) + "\""),
                         jsonPath("$.name").value("정승조"),
                         jsonPath("$.balance").value(10000),
                         jsonPath("$.balanceLimit").value(100000),
@@ -114,6 +131,8 @@ class MemberControllerTest extends AbstractRestDocsTest {
                 .andDo(restDocs.document(
                         pathParameters(
                                 parameterWithName("memberId").description("유저 ID")),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.ETAG).description("유저 정보 버전-조회 일자 (변경되거나 날짜가 바뀔 때마다 바뀝니다.)")),
                         responseFields(
                                 fieldWithPath("memberId").description("유저 ID"),
                                 fieldWithPath("name").description("유저 이름"),
@@ -130,4 +149,105 @@ class MemberControllerTest extends AbstractRestDocsTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("유저 조회 테스트 - 변경 없음 (If-None-Match)")
+    void 유저_조회_변경없음() throws Exception {
+
+        // given
+        when(memberService.getMemberVersion(anyLong())).thenReturn(3L);
+
+        // expected
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/members/{memberId}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"" + eTag(3L) + "\""))
+                .andExpectAll(
+                        status().isNotModified(),
+                        header().string(HttpHeaders.ETAG, "\"" + eTag(3L) + "\""),
+                        content().string(""))
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("memberId").description("유저 ID")),
+                        requestHeaders(
+                                headerWithName(HttpHeaders.IF_NONE_MATCH).description("이전 조회 응답의 ETag")),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.ETAG).description("유저 정보 버전-조회 일자"))
+                ));
+
+        verify(memberService, never()).getMember(anyLong());
+    }
+
+    @Test
+    @DisplayName("유저 일괄 조회 - 성공 (요청한 ID 순서, 존재하지 않는 ID 별도 반환)")
+    void 유저_일괄조회() throws Exception {
+
+        // given
+        Member member = Member.builder()
+                .name("정승조")
+                .balance(Money.of(10000L))
+                .balanceLimit(Money.of(100000L))
+                .onceLimit(Money.of(5000L))
+                .dailyLimit(Money.of(10000L))
+                .monthlyLimit(Money.of(15000L))
+                .isDeleted(Boolean.FALSE)
+                .build();
+        ReflectionTestUtils.setField(member, "id", 2L);
+
+        when(memberService.getMembers(anyList()))
+                .thenReturn(new MemberListResponse(List.of(new MemberResponse(member)), List.of(1L)));
+
+        // expected
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/members")
+                        .param("ids", "2", "1"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.members[0].memberId").value(2L),
+                        jsonPath("$.members[0].name").value("정승조"),
+                        jsonPath("$.missingIds[0]").value(1L))
+                .andDo(restDocs.document(
+                        queryParameters(
+                                parameterWithName("ids").description("조회할 유저 ID 목록 (쉼표로 구분하거나 반복 지정, 최대 500개)")),
+                        responseFields(
+                                fieldWithPath("members[].memberId").description("유저 ID"),
+                                fieldWithPath("members[].name").description("유저 이름"),
+                                fieldWithPath("members[].balance").description("잔액"),
+                                fieldWithPath("members[].balanceLimit").description("잔액 한도"),
+                                fieldWithPath("members[].onceLimit").description("한번 결제 한도"),
+                                fieldWithPath("members[].dailyLimit").description("일일 결제 한도"),
+                                fieldWithPath("members[].monthlyLimit").description("월 결제 한도"),
+                                fieldWithPath("members[].dailyAccumulate").description("일 사용 누적 금액"),
+                                fieldWithPath("members[].monthlyAccumulate").description("월 사용 누적 금액"),
+                                fieldWithPath("members[].isDeleted").description("탈퇴 여부"),
+                                fieldWithPath("missingIds").description("존재하지 않는 유저 ID 목록 (요청한 순서)"))
+                ));
+
+        verify(memberService, times(1)).getMembers(List.of(2L, 1L));
+    }
+
+    @Test
+    @DisplayName("유저 잔액 조회 테스트 (원장 기준)")
+    void 유저_잔액조회() throws Exception {
+
+        // given
+        when(ledgerService.getBalance(anyLong()))
+                .thenReturn(new MemberBalanceResponse(1L, Money.of(9_500L), 42L));
+
+        // expected
+        mockMvc.perform(RestDocumentationRequestBuilders.get("/api/v1/members/{memberId}/balance", 1L))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.memberId").value(1L),
+                        jsonPath("$.balance").value(9_500L),
+                        jsonPath("$.lastEntryId").value(42L))
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("memberId").description("유저 ID")),
+                        responseFields(
+                                fieldWithPath("memberId").description("유저 ID"),
+                                fieldWithPath("balance").description("잔액 (잔액 스냅샷 + 이후 원장 항목 합계)"),
+                                fieldWithPath("lastEntryId").description("잔액에 반영된 마지막 원장 항목 ID"))
+                ));
+    }
+
+    private static String eTag(Long version) {
+        return version + "-" + LocalDate.now(ClockConfig.ZONE).format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+}
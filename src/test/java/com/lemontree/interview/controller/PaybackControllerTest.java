@@ -2,7 +2,7 @@ package com.lemontree.interview.controller;
 
 import com.lemontree.interview.config.AbstractRestDocsTest;
 import com.lemontree.interview.exception.trade.TradeNotFoundException;
-import com.lemontree.interview.service.PaybackService;
+import com.lemontree.interview.facade.PaybackFacade;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.restdocs.AutoConfigureRestDocs;
@@ -32,7 +32,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class PaybackControllerTest extends AbstractRestDocsTest {
 
     @MockBean
-    PaybackService paybackService;
+    PaybackFacade paybackFacade;
 
     @Test
     @DisplayName("페이백 요청 - 성공")
@@ -47,7 +47,7 @@ class PaybackControllerTest extends AbstractRestDocsTest {
                         ))
                 );
 
-        verify(paybackService).processPayback(1L);
+        verify(paybackFacade).processPayback(1L);
     }
 
     @Test
@@ -55,7 +55,7 @@ class PaybackControllerTest extends AbstractRestDocsTest {
     void 페이백_실패_존재하지않는거래() throws Exception {
 
         // given
-        doThrow(new TradeNotFoundException()).when(paybackService).processPayback(anyLong());
+        doThrow(new TradeNotFoundException()).when(paybackFacade).processPayback(anyLong());
 
         // expected
         mockMvc.perform(post("/api/v1/trades/{tradeId}/paybacks", 1L)
@@ -86,6 +86,6 @@ class PaybackControllerTest extends AbstractRestDocsTest {
                         )
                 ));
 
-        verify(paybackService).cancelPayback(1L);
+        verify(paybackFacade).cancelPayback(1L);
     }
 }
\ No newline at end of file
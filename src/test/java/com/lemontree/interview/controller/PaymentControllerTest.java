@@ -1,17 +1,32 @@
 package com.lemontree.interview.controller;
 
 import com.lemontree.interview.config.AbstractRestDocsTest;
-import com.lemontree.interview.service.PaymentService;
+import com.lemontree.interview.exception.member.DailyLimitExceedException;
+import com.lemontree.interview.facade.PaymentFacade;
+import com.lemontree.interview.request.PaymentBatchRequest;
+import com.lemontree.interview.request.TradePaymentRequest;
+import com.lemontree.interview.response.PaymentBatchResponse;
+import com.lemontree.interview.vo.Money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
 
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.delete;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 /**
@@ -24,7 +39,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 class PaymentControllerTest extends AbstractRestDocsTest {
 
     @MockBean
-    PaymentService paymentService;
+    PaymentFacade paymentFacade;
 
     @Test
     @DisplayName("걸제 처리 - 성공")
@@ -61,4 +76,82 @@ class PaymentControllerTest extends AbstractRestDocsTest {
                         )
                 ));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("결제 일괄 처리 - 성공 (일부 실패 포함)")
+    void 결제일괄처리_성공() throws Exception {
+
+        // given
+        PaymentBatchRequest request = new PaymentBatchRequest();
+        ReflectionTestUtils.setField(request, "tradeIds", List.of(1L, 2L));
+        String json = objectMapper.writeValueAsString(request);
+
+        PaymentBatchResponse response = new PaymentBatchResponse(List.of(
+                PaymentBatchResponse.Result.succeeded(1L),
+                PaymentBatchResponse.Result.failed(2L, new DailyLimitExceedException())));
+
+        when(paymentFacade.processPayments(anyList())).thenReturn(response);
+
+        // expected
+        mockMvc.perform(post("/api/v1/payments/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.requested").value(2),
+                        jsonPath("$.succeeded").value(1),
+                        jsonPath("$.failed").value(1),
+                        jsonPath("$.results[0].status").value("OK"),
+                        jsonPath("$.results[1].status").value("BAD_REQUEST"))
+                .andDo(restDocs.document(
+                        requestFields(
+                                fieldWithPath("tradeIds").description("결제할 거래 ID 목록 (처리 순서)")
+                        ),
+                        responseFields(
+                                fieldWithPath("requested").description("요청 건수"),
+                                fieldWithPath("succeeded").description("결제 성공 건수"),
+                                fieldWithPath("failed").description("결제 실패 건수"),
+                                fieldWithPath("results[].tradeId").description("거래 ID"),
+                                fieldWithPath("results[].status").description("결제 결과 상태 (실패 시 단건 결제 API 의 에러 상태)"),
+                                fieldWithPath("results[].message").description("실패 사유 (성공 시 null)").optional()
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("거래 생성 및 결제 - 성공")
+    void 거래생성및결제_성공() throws Exception {
+
+        // given
+        Long memberId = 1L;
+
+        TradePaymentRequest request = new TradePaymentRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(5_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(500L));
+        ReflectionTestUtils.setField(request, "payback", true);
+        String json = objectMapper.writeValueAsString(request);
+
+        when(paymentFacade.requestTradeAndPay(anyLong(), any())).thenReturn(1L);
+
+        // expected
+        mockMvc.perform(post("/api/v1/members/{memberId}/payments", memberId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpectAll(
+                        status().isCreated(),
+                        jsonPath("$.tradeId").value(1L))
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("memberId").description("결제 요청 유저 ID")
+                        ),
+                        requestFields(
+                                fieldWithPath("paymentAmount").description("결제 금액"),
+                                fieldWithPath("paybackAmount").description("페이백 금액"),
+                                fieldWithPath("payback").description("페이백까지 함께 완료할지 여부 (기본값: false)").optional()
+                        ),
+                        responseFields(
+                                fieldWithPath("tradeId").description("생성된 거래 ID (결제 완료 상태)")
+                        )
+                ));
+    }
+}
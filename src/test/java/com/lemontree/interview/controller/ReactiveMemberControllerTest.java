@@ -0,0 +1,108 @@
+package com.lemontree.interview.controller;
+
+import com.lemontree.interview.config.AbstractRestDocsTest;
+import com.lemontree.interview.entity.MemberRow;
+import com.lemontree.interview.exception.member.MemberNotFoundException;
+import com.lemontree.interview.response.MemberResponse;
+import com.lemontree.interview.service.ReactiveMemberService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.BeanUtils;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
+import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 유저 리액티브 컨트롤러 테스트입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles("reactive")
+@WebMvcTest(ReactiveMemberController.class)
+class ReactiveMemberControllerTest extends AbstractRestDocsTest {
+
+    @MockBean
+    ReactiveMemberService reactiveMemberService;
+
+    @Test
+    @DisplayName("리액티브 유저 조회 - 성공")
+    void 리액티브_유저조회_성공() throws Exception {
+
+        // given
+        MemberRow member = BeanUtils.instantiateClass(MemberRow.class);
+        ReflectionTestUtils.setField(member, "id", 1L);
+        ReflectionTestUtils.setField(member, "name", "정승조");
+        ReflectionTestUtils.setField(member, "balance", BigDecimal.valueOf(10_000L));
+        ReflectionTestUtils.setField(member, "balanceLimit", BigDecimal.valueOf(100_000L));
+        ReflectionTestUtils.setField(member, "onceLimit", BigDecimal.valueOf(5_000L));
+        ReflectionTestUtils.setField(member, "dailyLimit", BigDecimal.valueOf(10_000L));
+        ReflectionTestUtils.setField(member, "monthlyLimit", BigDecimal.valueOf(15_000L));
+        ReflectionTestUtils.setField(member, "dailyAccumulate", BigDecimal.ZERO);
+        ReflectionTestUtils.setField(member, "monthlyAccumulate", BigDecimal.ZERO);
+        ReflectionTestUtils.setField(member, "isDeleted", Boolean.FALSE);
+
+        when(reactiveMemberService.getMember(anyLong())).thenReturn(Mono.just(new MemberResponse(member)));
+
+        // expected
+        MvcResult started = mockMvc.perform(get("/api/v1/reactive/members/{memberId}", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.memberId").value(1L),
+                        jsonPath("$.balance").value(10_000L))
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("memberId").description("유저 ID")
+                        ),
+                        responseFields(
+                                fieldWithPath("memberId").description("유저 ID"),
+                                fieldWithPath("name").description("유저 이름"),
+                                fieldWithPath("balance").description("잔액"),
+                                fieldWithPath("balanceLimit").description("잔액 한도"),
+                                fieldWithPath("onceLimit").description("한번 결제 한도"),
+                                fieldWithPath("dailyLimit").description("일일 결제 한도"),
+                                fieldWithPath("monthlyLimit").description("월 결제 한도"),
+                                fieldWithPath("dailyAccumulate").description("일 사용 누적 금액"),
+                                fieldWithPath("monthlyAccumulate").description("월 사용 누적 금액"),
+                                fieldWithPath("isDeleted").description("탈퇴 여부")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("리액티브 유저 조회 - 실패 (존재하지 않는 유저)")
+    void 리액티브_유저조회_실패() throws Exception {
+
+        // given
+        when(reactiveMemberService.getMember(anyLong())).thenReturn(Mono.error(new MemberNotFoundException()));
+
+        // expected
+        MvcResult started = mockMvc.perform(get("/api/v1/reactive/members/{memberId}", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpectAll(
+                        status().isNotFound(),
+                        jsonPath("$.message").value(new MemberNotFoundException().getMessage()));
+    }
+}
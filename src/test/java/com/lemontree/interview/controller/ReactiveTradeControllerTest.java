@@ -0,0 +1,123 @@
+package com.lemontree.interview.controller;
+
+import com.lemontree.interview.config.AbstractRestDocsTest;
+import com.lemontree.interview.entity.TradeRow;
+import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.response.TradeResponse;
+import com.lemontree.interview.service.ReactiveTradeService;
+import com.lemontree.interview.vo.Money;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MvcResult;
+import reactor.core.publisher.Mono;
+
+import java.math.BigDecimal;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
+import static org.springframework.restdocs.payload.PayloadDocumentation.*;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 거래 리액티브 컨트롤러 테스트입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ActiveProfiles("reactive")
+@WebMvcTest(ReactiveTradeController.class)
+class ReactiveTradeControllerTest extends AbstractRestDocsTest {
+
+    @MockBean
+    ReactiveTradeService reactiveTradeService;
+
+    @Test
+    @DisplayName("리액티브 거래 생성 - 성공")
+    void 리액티브_거래생성_성공() throws Exception {
+
+        // given
+        TradeRequest request = new TradeRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(10_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(1_000L));
+        String json = objectMapper.writeValueAsString(request);
+
+        when(reactiveTradeService.requestTrade(anyLong(), any())).thenReturn(Mono.just(1L));
+
+        // expected
+        MvcResult started = mockMvc.perform(post("/api/v1/reactive/members/{memberId}/trades", 1L)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpectAll(
+                        status().isCreated(),
+                        jsonPath("$.tradeId").value(1L))
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("memberId").description("결제 요청 유저 ID")
+                        ),
+                        requestFields(
+                                fieldWithPath("paymentAmount").description("결제 금액"),
+                                fieldWithPath("paybackAmount").description("페이백 금액")
+                        ),
+                        responseFields(
+                                fieldWithPath("tradeId").description("생성된 거래 ID")
+                        )
+                ));
+    }
+
+    @Test
+    @DisplayName("리액티브 거래 조회 - 성공")
+    void 리액티브_거래조회_성공() throws Exception {
+
+        // given
+        TradeRow trade = TradeRow.builder()
+                .id(1L)
+                .memberId(1L)
+                .paymentAmount(BigDecimal.valueOf(10_000L))
+                .paybackAmount(BigDecimal.valueOf(1_000L))
+                .build();
+
+        when(reactiveTradeService.getTrade(anyLong())).thenReturn(Mono.just(new TradeResponse(trade)));
+
+        // expected
+        MvcResult started = mockMvc.perform(get("/api/v1/reactive/trades/{tradeId}", 1L))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(started))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.tradeId").value(1L),
+                        jsonPath("$.paymentStatus.status").value("WAIT"),
+                        jsonPath("$.paybackStatus.status").value("WAIT"))
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("tradeId").description("거래 ID")
+                        ),
+                        responseFields(
+                                fieldWithPath("tradeId").description("거래 ID"),
+                                fieldWithPath("memberId").description("유저 ID"),
+                                fieldWithPath("paymentAmount").description("결제 금액"),
+                                fieldWithPath("paymentStatus.description").description("결제 상태 설명"),
+                                fieldWithPath("paymentStatus.status").description("결제 상태"),
+                                fieldWithPath("paybackAmount").description("페이백 금액"),
+                                fieldWithPath("paybackStatus.description").description("페이백 상태 설명"),
+                                fieldWithPath("paybackStatus.status").description("페이백 상태")
+                        )
+                ));
+    }
+}
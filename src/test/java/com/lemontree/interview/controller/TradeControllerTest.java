@@ -2,30 +2,42 @@ package com.lemontree.interview.controller;
 
 import com.lemontree.interview.config.AbstractRestDocsTest;
 import com.lemontree.interview.entity.Trade;
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
 import com.lemontree.interview.exception.member.MemberNotFoundException;
 import com.lemontree.interview.exception.trade.TradeNotFoundException;
+import com.lemontree.interview.request.TradeBatchRequest;
 import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.response.TradeBatchResponse;
+import com.lemontree.interview.response.TradeHistoryItemResponse;
+import com.lemontree.interview.response.TradeHistoryResponse;
+import com.lemontree.interview.response.TradeListResponse;
 import com.lemontree.interview.response.TradeResponse;
 import com.lemontree.interview.service.TradeService;
+import com.lemontree.interview.vo.Money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
+import static org.springframework.restdocs.headers.HeaderDocumentation.*;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
 import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.post;
 import static org.springframework.restdocs.payload.PayloadDocumentation.*;
 import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
 import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
-import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
  * 거래 컨트롤러 테스트입니다.
@@ -48,8 +60,8 @@ class TradeControllerTest extends AbstractRestDocsTest {
         Long memberId = 1L;
 
         TradeRequest request = new TradeRequest();
-        ReflectionTestUtils.setField(request, "paymentAmount", BigDecimal.valueOf(10_000L));
-        ReflectionTestUtils.setField(request, "paybackAmount", BigDecimal.valueOf(1_000L));
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(10_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(1_000L));
         String json = objectMapper.writeValueAsString(request);
 
         when(tradeService.requestTrade(anyLong(), any())).thenReturn(1L);
@@ -83,8 +95,8 @@ class TradeControllerTest extends AbstractRestDocsTest {
         Long notExistsMemberId = 10L;
 
         TradeRequest request = new TradeRequest();
-        ReflectionTestUtils.setField(request, "paymentAmount", BigDecimal.valueOf(10_000L));
-        ReflectionTestUtils.setField(request, "paybackAmount", BigDecimal.valueOf(1_000L));
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(10_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(1_000L));
         String json = objectMapper.writeValueAsString(request);
 
         when(tradeService.requestTrade(anyLong(), any()))
@@ -109,6 +121,35 @@ class TradeControllerTest extends AbstractRestDocsTest {
                 ));
     }
 
+    @Test
+    @DisplayName("거래 생성 요청 - 실패 (원 단위가 아닌 금액)")
+    void 거래생성_실패_소수점금액() throws Exception {
+
+        // given
+        Long memberId = 1L;
+        String json = "{\"paymentAmount\": 1000.5, \"paybackAmount\": 100}";
+
+        // expected
+        mockMvc.perform(post("/api/v1/members/{memberId}/trades", memberId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpectAll(
+                        status().isBadRequest(),
+                        jsonPath("$.status").value("BAD_REQUEST"),
+                        jsonPath("$.message").value("잘못된 요청입니다."))
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("memberId").description("결제 요청 유저 ID")),
+                        responseFields(
+                                fieldWithPath("status").description("에러 상태"),
+                                fieldWithPath("message").description("에러 메시지"),
+                                fieldWithPath("validation").description("유효성 검사 오류")
+                        )
+                ));
+
+        verify(tradeService, never()).requestTrade(anyLong(), any(TradeRequest.class));
+    }
+
     @Test
     @DisplayName("거래 생성 요청 - 실패 (결제 및 페이백 금액 미입력)")
     void 거래생성_실패_금액미입력() throws Exception {
@@ -147,8 +188,8 @@ class TradeControllerTest extends AbstractRestDocsTest {
         // given
         Long memberId = 1L;
         TradeRequest request = new TradeRequest();
-        ReflectionTestUtils.setField(request, "paymentAmount", BigDecimal.valueOf(-10000L));
-        ReflectionTestUtils.setField(request, "paybackAmount", BigDecimal.valueOf(-1000L));
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(-10000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(-1000L));
 
         String json = objectMapper.writeValueAsString(request);
 
@@ -174,6 +215,59 @@ class TradeControllerTest extends AbstractRestDocsTest {
                 ));
     }
 
+    @Test
+    @DisplayName("거래 일괄 생성 요청 - 성공 (일부 실패 포함)")
+    void 거래일괄생성_성공() throws Exception {
+
+        // given
+        TradeBatchRequest.Item item = new TradeBatchRequest.Item();
+        ReflectionTestUtils.setField(item, "memberId", 1L);
+        ReflectionTestUtils.setField(item, "paymentAmount", Money.of(10_000L));
+        ReflectionTestUtils.setField(item, "paybackAmount", Money.of(1_000L));
+
+        TradeBatchRequest.Item notExistsMemberItem = new TradeBatchRequest.Item();
+        ReflectionTestUtils.setField(notExistsMemberItem, "memberId", 10L);
+        ReflectionTestUtils.setField(notExistsMemberItem, "paymentAmount", Money.of(5_000L));
+        ReflectionTestUtils.setField(notExistsMemberItem, "paybackAmount", Money.of(500L));
+
+        TradeBatchRequest request = new TradeBatchRequest();
+        ReflectionTestUtils.setField(request, "trades", List.of(item, notExistsMemberItem));
+        String json = objectMapper.writeValueAsString(request);
+
+        TradeBatchResponse response = new TradeBatchResponse(List.of(
+                TradeBatchResponse.Result.created(0, 1L),
+                TradeBatchResponse.Result.failed(1, new MemberNotFoundException().getMessage())));
+
+        when(tradeService.requestTrades(anyList())).thenReturn(response);
+
+        // expected
+        mockMvc.perform(post("/api/v1/trades/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(json))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.requested").value(2),
+                        jsonPath("$.created").value(1),
+                        jsonPath("$.failed").value(1),
+                        jsonPath("$.results[0].tradeId").value(1L),
+                        jsonPath("$.results[1].message").value("해당 유저를 찾을 수 없습니다."))
+                .andDo(restDocs.document(
+                        requestFields(
+                                fieldWithPath("trades[].memberId").description("거래를 생성할 유저 ID"),
+                                fieldWithPath("trades[].paymentAmount").description("결제 금액"),
+                                fieldWithPath("trades[].paybackAmount").description("페이백 금액")
+                        ),
+                        responseFields(
+                                fieldWithPath("requested").description("요청 건수"),
+                                fieldWithPath("created").description("생성 건수"),
+                                fieldWithPath("failed").description("실패 건수"),
+                                fieldWithPath("results[].index").description("요청 순서 (0부터 시작)"),
+                                fieldWithPath("results[].tradeId").description("생성된 거래 ID (실패 시 null)").optional(),
+                                fieldWithPath("results[].message").description("실패 사유 (성공 시 null)").optional()
+                        )
+                ));
+    }
+
     @Test
     @DisplayName("거래 조회 - 성공")
     void 거래조회_성공() throws Exception {
@@ -181,11 +275,12 @@ class TradeControllerTest extends AbstractRestDocsTest {
         // given
         Trade payment = Trade.builder()
                 .memberId(1L)
-                .paymentAmount(BigDecimal.valueOf(10000L))
-                .paybackAmount(BigDecimal.valueOf(1000L))
+                .paymentAmount(Money.of(10000L))
+                .paybackAmount(Money.of(1000L))
                 .build();
 
         ReflectionTestUtils.setField(payment, "id", 1L);
+        ReflectionTestUtils.setField(payment, "version", 0L);
 
         TradeResponse response = new TradeResponse(payment);
 
@@ -197,6 +292,7 @@ class TradeControllerTest extends AbstractRestDocsTest {
                         .contentType(MediaType.APPLICATION_JSON))
                 .andExpectAll(
                         status().isOk(),
+                        header().string(HttpHeaders.ETAG, "\"0\""),
                         jsonPath("$.tradeId").value(1L),
                         jsonPath("$.memberId").value(1L),
                         jsonPath("$.paymentAmount").value(10000),
@@ -209,6 +305,9 @@ class TradeControllerTest extends AbstractRestDocsTest {
                         pathParameters(
                                 parameterWithName("tradeId").description("조회 요청 거래 ID")
                         ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.ETAG).description("거래 정보 버전 (결제/페이백 상태가 바뀔 때마다 바뀝니다.)")
+                        ),
                         responseFields(
                                 fieldWithPath("tradeId").description("거래 ID"),
                                 fieldWithPath("memberId").description("유저 ID"),
@@ -222,6 +321,178 @@ class TradeControllerTest extends AbstractRestDocsTest {
                 );
     }
 
+    @Test
+    @DisplayName("거래 일괄 조회 - 성공 (요청한 ID 순서, 존재하지 않는 ID 별도 반환)")
+    void 거래_일괄조회() throws Exception {
+
+        // given
+        Trade first = Trade.builder()
+                .memberId(1L)
+                .paymentAmount(Money.of(10000L))
+                .paybackAmount(Money.of(1000L))
+                .build();
+        ReflectionTestUtils.setField(first, "id", 3L);
+
+        Trade second = Trade.builder()
+                .memberId(2L)
+                .paymentAmount(Money.of(5000L))
+                .paybackAmount(Money.of(500L))
+                .build();
+        ReflectionTestUtils.setField(second, "id", 1L);
+
+        when(tradeService.getTrades(anyList()))
+                .thenReturn(new TradeListResponse(
+                        List.of(new TradeResponse(first), new TradeResponse(second)), List.of(2L)));
+
+        // expected
+        mockMvc.perform(get("/api/v1/trades")
+                        .param("ids", "3,2,1"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.trades[0].tradeId").value(3L),
+                        jsonPath("$.trades[1].tradeId").value(1L),
+                        jsonPath("$.missingIds[0]").value(2L))
+                .andDo(restDocs.document(
+                        queryParameters(
+                                parameterWithName("ids").description("조회할 거래 ID 목록 (쉼표로 구분, 최대 500개)")
+                        ),
+                        responseFields(
+                                fieldWithPath("trades[].tradeId").description("거래 ID"),
+                                fieldWithPath("trades[].memberId").description("유저 ID"),
+                                fieldWithPath("trades[].paymentAmount").description("결제 금액"),
+                                fieldWithPath("trades[].paymentStatus.description").description("결제 상태 설명"),
+                                fieldWithPath("trades[].paymentStatus.status").description("결제 상태"),
+                                fieldWithPath("trades[].paybackAmount").description("페이백 금액"),
+                                fieldWithPath("trades[].paybackStatus.description").description("페이백 상태 설명"),
+                                fieldWithPath("trades[].paybackStatus.status").description("페이백 상태"),
+                                fieldWithPath("missingIds").description("존재하지 않는 거래 ID 목록 (요청한 순서)")
+                        ))
+                );
+
+        verify(tradeService, times(1)).getTrades(List.of(3L, 2L, 1L));
+    }
+
+    @Test
+    @DisplayName("거래 일괄 조회 - 실패 (조회할 ID 누락)")
+    void 거래_일괄조회_실패_ID누락() throws Exception {
+
+        // expected
+        mockMvc.perform(get("/api/v1/trades"))
+                .andExpectAll(
+                        status().isBadRequest(),
+                        jsonPath("$.status").value("BAD_REQUEST"),
+                        jsonPath("$.message").value("잘못된 요청입니다."),
+                        jsonPath("$.validation.ids").value("조회할 ID를 입력해주세요."))
+                .andDo(restDocs.document(
+                        responseFields(
+                                fieldWithPath("status").description("에러 상태"),
+                                fieldWithPath("message").description("에러 메시지"),
+                                fieldWithPath("validation.ids").description("거래 ID 목록 오류")
+                        ))
+                );
+
+        verify(tradeService, never()).getTrades(anyList());
+    }
+
+    @Test
+    @DisplayName("회원 거래 내역 조회 - 성공 (키셋 페이지네이션)")
+    void 회원_거래내역조회() throws Exception {
+
+        // given
+        LocalDateTime approvedAt = LocalDateTime.of(2024, 8, 31, 12, 0);
+        List<TradeHistoryItemResponse> trades = List.of(
+                new TradeHistoryItemResponse(12L, Money.of(10000L), PaymentStatus.DONE,
+                        Money.of(1000L), PaybackStatus.DONE, approvedAt),
+                new TradeHistoryItemResponse(11L, Money.of(5000L), PaymentStatus.DONE,
+                        Money.of(500L), PaybackStatus.WAIT, approvedAt));
+
+        when(tradeService.getTradeHistory(anyLong(), any()))
+                .thenReturn(new TradeHistoryResponse(trades, true, "MjAyNC0wOC0zMVQxMjowMHwxMQ"));
+
+        // expected
+        mockMvc.perform(get("/api/v1/members/{memberId}/trades", 1L)
+                        .param("paymentStatus", "DONE")
+                        .param("from", "2024-08-01")
+                        .param("to", "2024-09-01")
+                        .param("size", "2"))
+                .andExpectAll(
+                        status().isOk(),
+                        jsonPath("$.trades[0].tradeId").value(12L),
+                        jsonPath("$.trades[1].tradeId").value(11L),
+                        jsonPath("$.hasNext").value(true),
+                        jsonPath("$.nextCursor").value("MjAyNC0wOC0zMVQxMjowMHwxMQ"))
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("memberId").description("유저 ID")
+                        ),
+                        queryParameters(
+                                parameterWithName("paymentStatus").optional().description("결제 상태 (DONE, CANCEL)"),
+                                parameterWithName("paybackStatus").optional().description("페이백 상태 (WAIT, DONE, CANCEL)"),
+                                parameterWithName("from").optional().description("조회 시작일 (결제 승인 일자, 포함)"),
+                                parameterWithName("to").optional().description("조회 종료일 (결제 승인 일자, 미포함)"),
+                                parameterWithName("size").optional().description("조회 건수 (기본 20, 최대 100)"),
+                                parameterWithName("cursor").optional().description("이전 페이지 응답의 nextCursor (첫 페이지는 생략)")
+                        ),
+                        responseFields(
+                                fieldWithPath("trades[].tradeId").description("거래 ID"),
+                                fieldWithPath("trades[].paymentAmount").description("결제 금액"),
+                                fieldWithPath("trades[].paymentStatus.description").description("결제 상태 설명"),
+                                fieldWithPath("trades[].paymentStatus.status").description("결제 상태"),
+                                fieldWithPath("trades[].paybackAmount").description("페이백 금액"),
+                                fieldWithPath("trades[].paybackStatus.description").description("페이백 상태 설명"),
+                                fieldWithPath("trades[].paybackStatus.status").description("페이백 상태"),
+                                fieldWithPath("trades[].paymentApprovedAt").description("결제 승인 일시"),
+                                fieldWithPath("hasNext").description("다음 페이지 존재 여부"),
+                                fieldWithPath("nextCursor").description("다음 페이지 커서 (다음 페이지가 없으면 null)")
+                        ))
+                );
+    }
+
+    @Test
+    @DisplayName("회원 거래 내역 조회 - 실패 (조회 건수 초과)")
+    void 회원_거래내역조회_실패_조회건수초과() throws Exception {
+
+        // expected
+        mockMvc.perform(get("/api/v1/members/{memberId}/trades", 1L)
+                        .param("size", "101"))
+                .andExpectAll(
+                        status().isBadRequest(),
+                        jsonPath("$.status").value("BAD_REQUEST"),
+                        jsonPath("$.validation.size").value("한 번에 조회할 수 있는 거래는 최대 100건 입니다."));
+
+        verify(tradeService, never()).getTradeHistory(anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("거래 조회 - 변경 없음 (If-None-Match)")
+    void 거래조회_변경없음() throws Exception {
+
+        // given
+        when(tradeService.getTradeVersion(anyLong()))
+                .thenReturn(2L);
+
+        // expected
+        mockMvc.perform(get("/api/v1/trades/{tradeId}", 1L)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"2\""))
+                .andExpectAll(
+                        status().isNotModified(),
+                        header().string(HttpHeaders.ETAG, "\"2\""),
+                        content().string(""))
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("tradeId").description("조회 요청 거래 ID")
+                        ),
+                        requestHeaders(
+                                headerWithName(HttpHeaders.IF_NONE_MATCH).description("이전 조회 응답의 ETag")
+                        ),
+                        responseHeaders(
+                                headerWithName(HttpHeaders.ETAG).description("거래 정보 버전")
+                        ))
+                );
+
+        verify(tradeService, never()).getTrade(anyLong());
+    }
+
     @Test
     @DisplayName("거래 조회 - 실패 (존재하지 않는 거래)")
     void 거래조회_실패_존재하지않는거래() throws Exception {
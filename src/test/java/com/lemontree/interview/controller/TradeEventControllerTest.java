@@ -0,0 +1,88 @@
+package com.lemontree.interview.controller;
+
+import com.lemontree.interview.config.AbstractRestDocsTest;
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.response.TradeStatusResponse;
+import com.lemontree.interview.sse.TradeEventBroker;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.when;
+import static org.springframework.restdocs.mockmvc.RestDocumentationRequestBuilders.get;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.pathParameters;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * 거래 상태 변경 스트림 컨트롤러 테스트입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@WebMvcTest(TradeEventController.class)
+class TradeEventControllerTest extends AbstractRestDocsTest {
+
+    @MockBean
+    TradeEventBroker tradeEventBroker;
+
+    @Test
+    @DisplayName("거래 상태 구독 - 성공")
+    void 거래상태구독_성공() throws Exception {
+
+        // given
+        SseEmitter emitter = new SseEmitter();
+        when(tradeEventBroker.subscribeTrade(1L)).thenReturn(emitter);
+
+        // when
+        MvcResult result = mockMvc.perform(get("/api/v1/trades/{tradeId}/events", 1L)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        emitter.send(SseEmitter.event()
+                .name("trade-status")
+                .id("1-1")
+                .data(new TradeStatusResponse(1L, 1L, PaymentStatus.DONE, PaybackStatus.WAIT, 1L), MediaType.APPLICATION_JSON));
+        emitter.complete();
+
+        // then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpectAll(
+                        status().isOk(),
+                        content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM),
+                        content().string(containsString("event:trade-status")),
+                        content().string(containsString("\"status\":\"DONE\"")))
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("tradeId").description("구독할 거래 ID"))
+                ));
+    }
+
+    @Test
+    @DisplayName("회원 거래 상태 구독 - 성공")
+    void 회원거래상태구독_성공() throws Exception {
+
+        // given
+        SseEmitter emitter = new SseEmitter();
+        when(tradeEventBroker.subscribeMember(1L)).thenReturn(emitter);
+
+        // expected
+        mockMvc.perform(get("/api/v1/members/{memberId}/trades/events", 1L)
+                        .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpectAll(
+                        request().asyncStarted(),
+                        status().isOk())
+                .andDo(restDocs.document(
+                        pathParameters(
+                                parameterWithName("memberId").description("구독할 회원 ID"))
+                ));
+    }
+}
@@ -0,0 +1,97 @@
+package com.lemontree.interview.datasource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.*;
+
+/**
+ * 커넥션 획득 동시성 제한 DataSource 테스트입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+class ConcurrencyLimitedDataSourceTest {
+
+    @Test
+    @DisplayName("허가 수만큼 커넥션을 점유하면, 반납 전까지 다른 스레드의 요청은 대기 시간 초과로 실패한다.")
+    void limit_and_release() throws Exception {
+
+        // given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+
+        // when
+        Connection connection = dataSource.getConnection();
+
+        // then
+        assertEquals(0, dataSource.availablePermits());
+        ExecutionException timeout = assertThrows(ExecutionException.class,
+                () -> CompletableFuture.runAsync(() -> getAndClose(dataSource)).get());
+        assertInstanceOf(SQLTransientConnectionException.class, timeout.getCause().getCause());
+
+        connection.close();
+        connection.close(); // 중복 반납 시에도 허가는 한 번만 반환됩니다.
+        assertEquals(1, dataSource.availablePermits());
+
+        dataSource.getConnection().close();
+        verify(target, times(2)).getConnection();
+    }
+
+    private static void getAndClose(DataSource dataSource) {
+        try {
+            dataSource.getConnection().close();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Test
+    @DisplayName("커넥션 풀에서 커넥션을 얻지 못하면 허가를 즉시 반환한다.")
+    void release_on_failure() throws Exception {
+
+        // given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenThrow(new SQLTransientConnectionException("pool exhausted"));
+
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+
+        // expected
+        assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+        assertEquals(1, dataSource.availablePermits());
+    }
+
+    @Test
+    @DisplayName("허가를 가진 스레드가 추가로 얻는 커넥션은 허가를 기다리지 않는다. (ID 생성기의 별도 트랜잭션 등)")
+    void nested_connection() throws Exception {
+
+        // given
+        DataSource target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+
+        ConcurrencyLimitedDataSource dataSource = new ConcurrencyLimitedDataSource(target, 1, Duration.ofMillis(50));
+
+        // when
+        Connection outer = dataSource.getConnection();
+        Connection nested = dataSource.getConnection();
+        nested.close();
+
+        // then
+        assertEquals(0, dataSource.availablePermits());
+        outer.close();
+        assertEquals(1, dataSource.availablePermits());
+    }
+}
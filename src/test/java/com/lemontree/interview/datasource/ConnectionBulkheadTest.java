@@ -0,0 +1,91 @@
+package com.lemontree.interview.datasource;
+
+import com.lemontree.interview.config.BulkheadProperties;
+import com.lemontree.interview.exception.datasource.BulkheadFullException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 작업 유형별 DB 커넥션 격벽 테스트입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+class ConnectionBulkheadTest {
+
+    @Test
+    @DisplayName("결제 허가를 모두 사용 중이어도 조회는 처리되고, 추가 결제는 대기 시간 초과로 거절된다.")
+    void isolate_workloads() throws Exception {
+
+        // given
+        ConnectionBulkhead bulkhead = new ConnectionBulkhead(properties());
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        bulkhead.bindTo(registry);
+
+        CountDownLatch holding = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> payment = CompletableFuture.runAsync(() -> bulkhead.run(Workload.PAYMENT, () -> {
+            holding.countDown();
+            await(release);
+        }));
+        holding.await();
+
+        // when
+        String read = bulkhead.call(Workload.READ, () -> "member");
+        ExecutionException rejected = assertThrows(ExecutionException.class,
+                () -> CompletableFuture.runAsync(() -> bulkhead.run(Workload.PAYMENT, () -> { })).get());
+
+        // then
+        assertEquals("member", read);
+        assertInstanceOf(BulkheadFullException.class, rejected.getCause());
+        assertEquals(1.0, registry.get("bulkhead.saturation").tag("workload", "payment").gauge().value());
+        assertEquals(0.0, registry.get("bulkhead.saturation").tag("workload", "read").gauge().value());
+        assertEquals(1.0, registry.get("bulkhead.rejections").tag("workload", "payment").functionCounter().count());
+        assertEquals(1L, registry.get("bulkhead.wait").tag("workload", "read").functionTimer().count());
+
+        release.countDown();
+        payment.get();
+        assertEquals(1, bulkhead.availablePermits(Workload.PAYMENT));
+    }
+
+    @Test
+    @DisplayName("허가를 가진 스레드가 실행하는 작업은 다른 유형이어도 허가를 기다리지 않는다. (일괄 결제 안의 결제 등)")
+    void nested_call() {
+
+        // given
+        ConnectionBulkhead bulkhead = new ConnectionBulkhead(properties());
+
+        // when
+        int nested = bulkhead.call(Workload.BATCH,
+                () -> bulkhead.call(Workload.PAYMENT, () -> bulkhead.availablePermits(Workload.PAYMENT)));
+
+        // then
+        assertEquals(1, nested);
+        assertEquals(1, bulkhead.availablePermits(Workload.BATCH));
+    }
+
+    private static BulkheadProperties properties() {
+        BulkheadProperties properties = new BulkheadProperties();
+        properties.setEnabled(true);
+        properties.setPayment(new BulkheadProperties.Compartment(1, Duration.ofMillis(50)));
+        properties.setRead(new BulkheadProperties.Compartment(1, Duration.ofMillis(50)));
+        properties.setBatch(new BulkheadProperties.Compartment(1, Duration.ofMillis(50)));
+        return properties;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.lemontree.interview.facade;
+
+import com.lemontree.interview.config.CoalescingProperties;
+import com.lemontree.interview.exception.member.DailyLimitExceedException;
+import com.lemontree.interview.exception.payment.PaymentAlreadyDoneException;
+import com.lemontree.interview.facade.TradeRequestCoalescer.Operation;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 중복 거래 요청 병합 테스트입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+class TradeRequestCoalescerTest {
+
+    static final int THREAD_COUNT = 100;
+
+    TradeRequestCoalescer coalescer = new TradeRequestCoalescer(new CoalescingProperties());
+
+    @Test
+    @DisplayName("동일 거래의 결제 요청이 동시에 들어오면 1번만 실행되고, 나머지는 이미 완료된 결제 예외를 받는다.")
+    void coalesce_success() throws Exception {
+
+        // given
+        AtomicInteger executed = new AtomicInteger(0);
+        AtomicInteger success = new AtomicInteger(0);
+        AtomicInteger duplicated = new AtomicInteger(0);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Runnable task = () -> {
+            executed.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+        };
+
+        // when
+        CountDownLatch done = runConcurrently(() -> {
+            try {
+                coalescer.execute(1L, Operation.PAYMENT, task);
+                success.incrementAndGet();
+            } catch (PaymentAlreadyDoneException e) {
+                duplicated.incrementAndGet();
+            }
+        }, leaderStarted, release);
+
+        // then
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(1, executed.intValue());
+        assertEquals(1, success.intValue());
+        assertEquals(THREAD_COUNT - 1, duplicated.intValue());
+    }
+
+    @Test
+    @DisplayName("먼저 실행된 요청이 실패하면, 병합된 요청도 같은 예외를 받는다.")
+    void coalesce_failure() throws Exception {
+
+        // given
+        AtomicInteger executed = new AtomicInteger(0);
+        AtomicInteger failed = new AtomicInteger(0);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Runnable task = () -> {
+            executed.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            throw new DailyLimitExceedException();
+        };
+
+        // when
+        CountDownLatch done = runConcurrently(() -> {
+            try {
+                coalescer.execute(1L, Operation.PAYMENT, task);
+            } catch (DailyLimitExceedException e) {
+                failed.incrementAndGet();
+            }
+        }, leaderStarted, release);
+
+        // then
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(1, executed.intValue());
+        assertEquals(THREAD_COUNT, failed.intValue());
+    }
+
+    @Test
+    @DisplayName("먼저 실행된 요청에서 Error 가 발생해도, 병합된 요청은 기다리지 않고 같은 Error 를 받는다.")
+    void coalesce_error() throws Exception {
+
+        // given
+        AtomicInteger failed = new AtomicInteger(0);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Runnable task = () -> {
+            leaderStarted.countDown();
+            await(release);
+            throw new StackOverflowError();
+        };
+
+        // when
+        CountDownLatch done = runConcurrently(() -> {
+            try {
+                coalescer.execute(1L, Operation.PAYMENT, task);
+            } catch (StackOverflowError e) {
+                failed.incrementAndGet();
+            }
+        }, leaderStarted, release);
+
+        // then
+        assertTrue(done.await(10, TimeUnit.SECONDS));
+        assertEquals(THREAD_COUNT, failed.intValue());
+    }
+
+    @Test
+    @DisplayName("실행이 끝난 뒤 들어온 요청은 병합되지 않고 새로 실행된다.")
+    void not_coalesced_after_completion() {
+
+        // given
+        AtomicInteger executed = new AtomicInteger(0);
+
+        // when
+        coalescer.execute(1L, Operation.PAYMENT, executed::incrementAndGet);
+        coalescer.execute(1L, Operation.PAYMENT, executed::incrementAndGet);
+        coalescer.execute(1L, Operation.PAYMENT_CANCEL, executed::incrementAndGet);
+
+        // then
+        assertEquals(3, executed.intValue());
+    }
+
+    /**
+     * Leader 가 실행 중인 동안 나머지 요청을 모두 진입시킨 뒤 Leader 를 완료시킵니다.
+     */
+    private CountDownLatch runConcurrently(Runnable request, CountDownLatch leaderStarted, CountDownLatch release)
+            throws InterruptedException {
+
+        ExecutorService executorService = Executors.newFixedThreadPool(THREAD_COUNT);
+        CountDownLatch entered = new CountDownLatch(THREAD_COUNT - 1);
+        CountDownLatch done = new CountDownLatch(THREAD_COUNT);
+
+        executorService.execute(() -> {
+            request.run();
+            done.countDown();
+        });
+        leaderStarted.await();
+
+        for (int i = 1; i < THREAD_COUNT; i++) {
+            executorService.execute(() -> {
+                entered.countDown();
+                request.run();
+                done.countDown();
+            });
+        }
+
+        entered.await();
+        // Follower 들이 Leader 의 결과를 기다리기 시작할 시간을 줍니다.
+        Thread.sleep(200);
+        release.countDown();
+
+        executorService.shutdown();
+        return done;
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package com.lemontree.interview.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.lemontree.interview.service.IdempotencyService;
+import com.lemontree.interview.service.IdempotencyService.StoredResponse;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Idempotency-Key 필터의 응답 저장/키 해제 테스트입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdempotencyKeyFilterTest {
+
+    static final String KEY = "payment-key-1";
+
+    @Mock
+    IdempotencyService idempotencyService;
+
+    IdempotencyKeyFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyKeyFilter(idempotencyService, new ObjectMapper());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {200, 201, 400, 404, 422})
+    @DisplayName("성공 응답과 다시 요청해도 결과가 같은 요청 오류는 저장한다.")
+    void store_replayable(int status) throws Exception {
+
+        // given
+        when(idempotencyService.reserve(eq(KEY), anyString())).thenReturn(true);
+
+        // when
+        MockHttpServletResponse response = perform((request, res) -> ((HttpServletResponse) res).setStatus(status));
+
+        // then
+        assertEquals(status, response.getStatus());
+        verify(idempotencyService, times(1)).complete(eq(KEY), any(StoredResponse.class));
+        verify(idempotencyService, never()).release(anyString());
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {409, 429, 500, 503})
+    @DisplayName("다시 요청하면 처리될 수 있는 응답(409, 429, 5xx)은 저장하지 않고 키를 해제한다.")
+    void release_transient(int status) throws Exception {
+
+        // given
+        when(idempotencyService.reserve(eq(KEY), anyString())).thenReturn(true);
+
+        // when
+        MockHttpServletResponse response = perform((request, res) -> ((HttpServletResponse) res).setStatus(status));
+
+        // then
+        assertEquals(status, response.getStatus());
+        verify(idempotencyService, times(1)).release(KEY);
+        verify(idempotencyService, never()).complete(anyString(), any());
+    }
+
+    @Test
+    @DisplayName("처리 중 Error 가 발생해도 키를 해제한다.")
+    void release_on_error() {
+
+        // given
+        when(idempotencyService.reserve(eq(KEY), anyString())).thenReturn(true);
+
+        // expected
+        assertThrows(StackOverflowError.class, () -> perform((request, response) -> {
+            throw new StackOverflowError();
+        }));
+
+        verify(idempotencyService, times(1)).release(KEY);
+        verify(idempotencyService, never()).complete(anyString(), any());
+    }
+
+    private MockHttpServletResponse perform(FilterChain filterChain) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/trades/1/payments");
+        request.addHeader(IdempotencyKeyFilter.HEADER, KEY);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, filterChain);
+        return response;
+    }
+}
@@ -1,22 +1,36 @@
 package com.lemontree.interview.service;
 
+import com.lemontree.interview.cache.LookupCache;
+import com.lemontree.interview.config.BulkheadProperties;
+import com.lemontree.interview.config.ClockConfig;
+import com.lemontree.interview.config.LookupCacheProperties;
+import com.lemontree.interview.config.ReadReplicaProperties;
+import com.lemontree.interview.datasource.ConnectionBulkhead;
+import com.lemontree.interview.datasource.ReadReplicaRouter;
 import com.lemontree.interview.entity.Member;
+import com.lemontree.interview.event.MemberChangedEvent;
 import com.lemontree.interview.exception.member.BalanceExceededException;
 import com.lemontree.interview.exception.member.DailyLimitExceedsMonthlyLimitException;
 import com.lemontree.interview.exception.member.MemberNotFoundException;
 import com.lemontree.interview.exception.member.OnceLimitExceedsDailyLimitException;
+import com.lemontree.interview.repository.LedgerEntryWriter;
 import com.lemontree.interview.repository.MemberRepository;
 import com.lemontree.interview.request.MemberCreate;
+import com.lemontree.interview.response.MemberListResponse;
 import com.lemontree.interview.response.MemberResponse;
+import com.lemontree.interview.vo.Money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.math.BigDecimal;
+import java.time.Clock;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -38,6 +52,24 @@ class MemberServiceTest {
     @Mock
     MemberRepository memberRepository;
 
+    @Mock
+    LedgerEntryWriter ledgerEntryWriter;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    LookupCache lookupCache = new LookupCache(new LookupCacheProperties());
+
+    @Spy
+    ReadReplicaRouter readReplicaRouter = new ReadReplicaRouter(new ReadReplicaProperties());
+
+    @Spy
+    ConnectionBulkhead connectionBulkhead = new ConnectionBulkhead(new BulkheadProperties());
+
+    @Spy
+    Clock clock = Clock.system(ClockConfig.ZONE);
+
     @Test
     @DisplayName("유저 생성 - 실패 (잔액이 한도보다 많은 경우)")
     void 유저생성_실패_잔액() {
@@ -45,11 +77,11 @@ class MemberServiceTest {
         // given
         MemberCreate member = new MemberCreate();
         ReflectionTestUtils.setField(member, "name", "정승조");
-        ReflectionTestUtils.setField(member, "balance", BigDecimal.valueOf(10_000L));
-        ReflectionTestUtils.setField(member, "balanceLimit", BigDecimal.valueOf(5_000L));
-        ReflectionTestUtils.setField(member, "onceLimit", BigDecimal.valueOf(1_000L));
-        ReflectionTestUtils.setField(member, "dailyLimit", BigDecimal.valueOf(2_000L));
-        ReflectionTestUtils.setField(member, "monthlyLimit", BigDecimal.valueOf(5_000L));
+        ReflectionTestUtils.setField(member, "balance", Money.of(10_000L));
+        ReflectionTestUtils.setField(member, "balanceLimit", Money.of(5_000L));
+        ReflectionTestUtils.setField(member, "onceLimit", Money.of(1_000L));
+        ReflectionTestUtils.setField(member, "dailyLimit", Money.of(2_000L));
+        ReflectionTestUtils.setField(member, "monthlyLimit", Money.of(5_000L));
 
         // expected
         assertThrows(BalanceExceededException.class,
@@ -65,11 +97,11 @@ class MemberServiceTest {
         // given
         MemberCreate member = new MemberCreate();
         ReflectionTestUtils.setField(member, "name", "정승조");
-        ReflectionTestUtils.setField(member, "balance", BigDecimal.valueOf(10_000L));
-        ReflectionTestUtils.setField(member, "balanceLimit", BigDecimal.valueOf(50_000L));
-        ReflectionTestUtils.setField(member, "onceLimit", BigDecimal.valueOf(5_000L));
-        ReflectionTestUtils.setField(member, "dailyLimit", BigDecimal.valueOf(1_000L));
-        ReflectionTestUtils.setField(member, "monthlyLimit", BigDecimal.valueOf(3_000L));
+        ReflectionTestUtils.setField(member, "balance", Money.of(10_000L));
+        ReflectionTestUtils.setField(member, "balanceLimit", Money.of(50_000L));
+        ReflectionTestUtils.setField(member, "onceLimit", Money.of(5_000L));
+        ReflectionTestUtils.setField(member, "dailyLimit", Money.of(1_000L));
+        ReflectionTestUtils.setField(member, "monthlyLimit", Money.of(3_000L));
 
         // expected
         assertThrows(OnceLimitExceedsDailyLimitException.class,
@@ -86,11 +118,11 @@ class MemberServiceTest {
         // given
         MemberCreate member = new MemberCreate();
         ReflectionTestUtils.setField(member, "name", "정승조");
-        ReflectionTestUtils.setField(member, "balance", BigDecimal.valueOf(10_000L));
-        ReflectionTestUtils.setField(member, "balanceLimit", BigDecimal.valueOf(50_000L));
-        ReflectionTestUtils.setField(member, "onceLimit", BigDecimal.valueOf(5_000L));
-        ReflectionTestUtils.setField(member, "dailyLimit", BigDecimal.valueOf(10_000L));
-        ReflectionTestUtils.setField(member, "monthlyLimit", BigDecimal.valueOf(3_000L));
+        ReflectionTestUtils.setField(member, "balance", Money.of(10_000L));
+        ReflectionTestUtils.setField(member, "balanceLimit", Money.of(50_000L));
+        ReflectionTestUtils.setField(member, "onceLimit", Money.of(5_000L));
+        ReflectionTestUtils.setField(member, "dailyLimit", Money.of(10_000L));
+        ReflectionTestUtils.setField(member, "monthlyLimit", Money.of(3_000L));
 
         // expected
         assertThrows(DailyLimitExceedsMonthlyLimitException.class,
@@ -106,19 +138,19 @@ class MemberServiceTest {
         // given
         MemberCreate member = new MemberCreate();
         ReflectionTestUtils.setField(member, "name", "정승조");
-        ReflectionTestUtils.setField(member, "balance", BigDecimal.valueOf(10_000L));
-        ReflectionTestUtils.setField(member, "balanceLimit", BigDecimal.valueOf(50_000L));
-        ReflectionTestUtils.setField(member, "onceLimit", BigDecimal.valueOf(5_000L));
-        ReflectionTestUtils.setField(member, "dailyLimit", BigDecimal.valueOf(10_000L));
-        ReflectionTestUtils.setField(member, "monthlyLimit", BigDecimal.valueOf(30_000L));
+        ReflectionTestUtils.setField(member, "balance", Money.of(10_000L));
+        ReflectionTestUtils.setField(member, "balanceLimit", Money.of(50_000L));
+        ReflectionTestUtils.setField(member, "onceLimit", Money.of(5_000L));
+        ReflectionTestUtils.setField(member, "dailyLimit", Money.of(10_000L));
+        ReflectionTestUtils.setField(member, "monthlyLimit", Money.of(30_000L));
 
         Member expected = Member.builder()
                 .name("정승조")
-                .balance(BigDecimal.valueOf(10_000L))
-                .balanceLimit(BigDecimal.valueOf(50_000L))
-                .onceLimit(BigDecimal.valueOf(5_000L))
-                .dailyLimit(BigDecimal.valueOf(10_000L))
-                .monthlyLimit(BigDecimal.valueOf(30_000L))
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
                 .isDeleted(false)
                 .build();
         ReflectionTestUtils.setField(expected, "id", 1L);
@@ -131,6 +163,7 @@ class MemberServiceTest {
 
         assertEquals(1L, memberId);
         verify(memberRepository, times(1)).save(any());
+        verify(eventPublisher, times(1)).publishEvent(new MemberChangedEvent(1L));
     }
 
     @Test
@@ -140,14 +173,14 @@ class MemberServiceTest {
         // given
         Long notExistsMemberId = 1L;
 
-        when(memberRepository.findById(notExistsMemberId))
+        when(memberRepository.findResponseById(notExistsMemberId))
                 .thenReturn(Optional.empty());
 
         // expected
         assertThrows(MemberNotFoundException.class,
                 () -> memberService.getMember(notExistsMemberId));
 
-        verify(memberRepository, times(1)).findById(notExistsMemberId);
+        verify(memberRepository, times(1)).findResponseById(notExistsMemberId);
     }
 
     @Test
@@ -159,17 +192,17 @@ class MemberServiceTest {
 
         Member member = Member.builder()
                 .name("정승조")
-                .balance(BigDecimal.valueOf(10_000L))
-                .balanceLimit(BigDecimal.valueOf(50_000L))
-                .onceLimit(BigDecimal.valueOf(5_000L))
-                .dailyLimit(BigDecimal.valueOf(10_000L))
-                .monthlyLimit(BigDecimal.valueOf(30_000L))
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
                 .isDeleted(false)
                 .build();
         ReflectionTestUtils.setField(member, "id", memberId);
 
-        when(memberRepository.findById(memberId))
-                .thenReturn(Optional.of(member));
+        when(memberRepository.findResponseById(memberId))
+                .thenReturn(Optional.of(new MemberResponse(member)));
 
         // expected
         MemberResponse actual = memberService.getMember(memberId);
@@ -177,12 +210,117 @@ class MemberServiceTest {
         assertAll(
                 () -> assertEquals(memberId, actual.getMemberId()),
                 () -> assertEquals("정승조", actual.getName()),
-                () -> assertEquals(BigDecimal.valueOf(10_000L), actual.getBalance()),
-                () -> assertEquals(BigDecimal.valueOf(50_000L), actual.getBalanceLimit()),
-                () -> assertEquals(BigDecimal.valueOf(5_000L), actual.getOnceLimit()),
-                () -> assertEquals(BigDecimal.valueOf(10_000L), actual.getDailyLimit()),
-                () -> assertEquals(BigDecimal.valueOf(30_000L), actual.getMonthlyLimit()),
+                () -> assertEquals(Money.of(10_000L), actual.getBalance()),
+                () -> assertEquals(Money.of(50_000L), actual.getBalanceLimit()),
+                () -> assertEquals(Money.of(5_000L), actual.getOnceLimit()),
+                () -> assertEquals(Money.of(10_000L), actual.getDailyLimit()),
+                () -> assertEquals(Money.of(30_000L), actual.getMonthlyLimit()),
                 () -> assertFalse(actual.getIsDeleted())
         );
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("유저 조회 - 두 번째 조회부터는 캐시에서 조회하고, 변경 이벤트 이후에는 다시 DB 에서 조회한다.")
+    void 유저조회_캐시() {
+
+        // given
+        Long memberId = 1L;
+
+        Member member = Member.builder()
+                .name("정승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
+                .isDeleted(false)
+                .build();
+        ReflectionTestUtils.setField(member, "id", memberId);
+
+        when(memberRepository.findResponseById(memberId))
+                .thenReturn(Optional.of(new MemberResponse(member)));
+
+        // when
+        memberService.getMember(memberId);
+        memberService.getMember(memberId);
+
+        lookupCache.onMemberChanged(new MemberChangedEvent(memberId));
+        memberService.getMember(memberId);
+
+        // then
+        verify(memberRepository, times(2)).findResponseById(memberId);
+        assertEquals(1L, lookupCache.members().hitCount());
+        assertEquals(2L, lookupCache.members().missCount());
+    }
+
+    @Test
+    @DisplayName("유저 버전 조회 - 캐시에 조회 응답이 있으면 DB 를 조회하지 않는다.")
+    void 유저버전조회_캐시() {
+
+        // given
+        Long memberId = 1L;
+
+        Member member = Member.builder()
+                .name("정승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
+                .isDeleted(false)
+                .build();
+        ReflectionTestUtils.setField(member, "id", memberId);
+        ReflectionTestUtils.setField(member, "version", 7L);
+
+        when(memberRepository.findResponseById(memberId))
+                .thenReturn(Optional.of(new MemberResponse(member)));
+        when(memberRepository.findVersionById(memberId))
+                .thenReturn(Optional.of(7L));
+
+        // when
+        Long beforeCached = memberService.getMemberVersion(memberId);
+        memberService.getMember(memberId);
+        Long afterCached = memberService.getMemberVersion(memberId);
+
+        // then
+        assertEquals(7L, beforeCached);
+        assertEquals(7L, afterCached);
+        verify(memberRepository, times(1)).findVersionById(memberId);
+    }
+
+    @Test
+    @DisplayName("유저 일괄 조회 - 요청한 ID 순서로 반환하고, 존재하지 않는 ID는 따로 반환한다. (캐시에 없는 유저만 한 번에 조회)")
+    void 유저일괄조회() {
+
+        // given
+        MemberResponse first = memberResponse(1L);
+        MemberResponse third = memberResponse(3L);
+
+        when(memberRepository.findResponseById(3L)).thenReturn(Optional.of(third));
+        memberService.getMember(3L);
+
+        when(memberRepository.findResponsesByIdIn(any())).thenReturn(List.of(first));
+
+        // when
+        MemberListResponse actual = memberService.getMembers(List.of(3L, 2L, 1L, 3L));
+
+        // then
+        assertEquals(List.of(3L, 1L), actual.getMembers().stream().map(MemberResponse::getMemberId).toList());
+        assertEquals(List.of(2L), actual.getMissingIds());
+        verify(memberRepository, times(1)).findResponsesByIdIn(argThat(ids -> ids.size() == 2 && !ids.contains(3L)));
+    }
+
+    private MemberResponse memberResponse(Long memberId) {
+        Member member = Member.builder()
+                .name("정승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
+                .isDeleted(false)
+                .build();
+        ReflectionTestUtils.setField(member, "id", memberId);
+        return new MemberResponse(member);
+    }
+}
@@ -1,32 +1,49 @@
 package com.lemontree.interview.service;
 
+import com.lemontree.interview.config.ClockConfig;
 import com.lemontree.interview.entity.Member;
 import com.lemontree.interview.entity.Trade;
 import com.lemontree.interview.enums.PaybackStatus;
 import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.event.TradeChangedEvent;
 import com.lemontree.interview.exception.member.BalanceLackException;
 import com.lemontree.interview.exception.member.DailyLimitExceedException;
 import com.lemontree.interview.exception.member.MonthlyLimitExceedException;
 import com.lemontree.interview.exception.member.OnceLimitExceedException;
+import com.lemontree.interview.exception.payment.PaymentAlreadyDoneException;
 import com.lemontree.interview.exception.payment.PaymentNotCompleteException;
 import com.lemontree.interview.exception.trade.TradeNotFoundException;
+import com.lemontree.interview.repository.LedgerEntryWriter;
 import com.lemontree.interview.repository.MemberRepository;
 import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.repository.TradeWithMember;
+import com.lemontree.interview.request.TradePaymentRequest;
+import com.lemontree.interview.response.PaymentBatchResponse;
+import com.lemontree.interview.vo.Money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -50,6 +67,17 @@ class PaymentServiceTest {
     @Mock
     MemberRepository memberRepository;
 
+    @Mock
+    TradeStateMachine tradeStateMachine;
+
+    @Mock
+    LedgerEntryWriter ledgerEntryWriter;
+
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    Clock clock = Clock.system(ClockConfig.ZONE);
 
     @Test
     @DisplayName("결제 요청 - 실패 (1회 결제 한도 초과)")
@@ -60,35 +88,32 @@ class PaymentServiceTest {
 
         Member member = Member.builder()
                 .name("승조")
-                .balance(BigDecimal.valueOf(10_000L))
-                .balanceLimit(BigDecimal.valueOf(50_000L))
-                .onceLimit(BigDecimal.valueOf(5_000L))
-                .dailyLimit(BigDecimal.valueOf(10_000L))
-                .monthlyLimit(BigDecimal.valueOf(30_000L))
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
                 .build();
         ReflectionTestUtils.setField(member, "id", memberId);
 
-        when(memberRepository.findWithPessimisticLockById(memberId))
-                .thenReturn(Optional.of(member));
-
         Long paymentId = 1L;
 
         Trade payment = Trade.builder()
                 .memberId(memberId)
-                .paymentAmount(BigDecimal.valueOf(8_000L))
-                .paybackAmount(BigDecimal.valueOf(1_000L))
+                .paymentAmount(Money.of(8_000L))
+                .paybackAmount(Money.of(1_000L))
                 .build();
 
         ReflectionTestUtils.setField(payment, "id", paymentId);
 
-        when(tradeRepository.findWithPessimisticLockById(paymentId))
-                .thenReturn(Optional.of(payment));
+        when(tradeRepository.findWithMemberAndPessimisticLockById(paymentId))
+                .thenReturn(Optional.of(new TradeWithMember(payment, member)));
 
         // expected
         assertThrows(OnceLimitExceedException.class
                 , () -> paymentService.processPayment(paymentId));
 
-        verify(memberRepository, times(1)).findWithPessimisticLockById(memberId);
+        verify(memberRepository, never()).findWithPessimisticLockById(any());
         verify(tradeRepository, never()).save(any());
     }
 
@@ -101,37 +126,35 @@ class PaymentServiceTest {
 
         Member member = Member.builder()
                 .name("승조")
-                .balance(BigDecimal.valueOf(10_000L))
-                .balanceLimit(BigDecimal.valueOf(50_000L))
-                .onceLimit(BigDecimal.valueOf(5_000L))
-                .dailyLimit(BigDecimal.valueOf(10_000L))
-                .monthlyLimit(BigDecimal.valueOf(30_000L))
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
                 .build();
 
         ReflectionTestUtils.setField(member, "id", memberId);
-        ReflectionTestUtils.setField(member, "dailyAccumulate", BigDecimal.valueOf(8_000L));
-
-        when(memberRepository.findWithPessimisticLockById(memberId))
-                .thenReturn(Optional.of(member));
+        ReflectionTestUtils.setField(member, "dailyAccumulate", Money.of(8_000L));
+        ReflectionTestUtils.setField(member, "dailyPeriod", LocalDate.now(clock));
 
         Long paymentId = 1L;
 
         Trade payment = Trade.builder()
                 .memberId(memberId)
-                .paymentAmount(BigDecimal.valueOf(5_000L))
-                .paybackAmount(BigDecimal.valueOf(1_000L))
+                .paymentAmount(Money.of(5_000L))
+                .paybackAmount(Money.of(1_000L))
                 .build();
 
         ReflectionTestUtils.setField(payment, "id", paymentId);
 
-        when(tradeRepository.findWithPessimisticLockById(paymentId))
-                .thenReturn(Optional.of(payment));
+        when(tradeRepository.findWithMemberAndPessimisticLockById(paymentId))
+                .thenReturn(Optional.of(new TradeWithMember(payment, member)));
 
         // expected
         assertThrows(DailyLimitExceedException.class
                 , () -> paymentService.processPayment(paymentId));
 
-        verify(memberRepository, times(1)).findWithPessimisticLockById(memberId);
+        verify(memberRepository, never()).findWithPessimisticLockById(any());
         verify(tradeRepository, never()).save(any());
     }
 
@@ -144,41 +167,85 @@ class PaymentServiceTest {
 
         Member member = Member.builder()
                 .name("승조")
-                .balance(BigDecimal.valueOf(10_000L))
-                .balanceLimit(BigDecimal.valueOf(50_000L))
-                .onceLimit(BigDecimal.valueOf(5_000L))
-                .dailyLimit(BigDecimal.valueOf(10_000L))
-                .monthlyLimit(BigDecimal.valueOf(30_000L))
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
                 .build();
 
         ReflectionTestUtils.setField(member, "id", memberId);
-        ReflectionTestUtils.setField(member, "monthlyAccumulate", BigDecimal.valueOf(28_000L));
-
-        when(memberRepository.findWithPessimisticLockById(memberId))
-                .thenReturn(Optional.of(member));
+        ReflectionTestUtils.setField(member, "monthlyAccumulate", Money.of(28_000L));
+        ReflectionTestUtils.setField(member, "monthlyPeriod", Member.monthlyPeriodOf(LocalDate.now(clock)));
 
         Long paymentId = 1L;
 
         Trade payment = Trade.builder()
                 .memberId(memberId)
-                .paymentAmount(BigDecimal.valueOf(5_000L))
-                .paybackAmount(BigDecimal.valueOf(1_000L))
+                .paymentAmount(Money.of(5_000L))
+                .paybackAmount(Money.of(1_000L))
                 .build();
 
         ReflectionTestUtils.setField(payment, "id", paymentId);
 
-        when(tradeRepository.findWithPessimisticLockById(paymentId))
-                .thenReturn(Optional.of(payment));
+        when(tradeRepository.findWithMemberAndPessimisticLockById(paymentId))
+                .thenReturn(Optional.of(new TradeWithMember(payment, member)));
 
 
         // expected
         assertThrows(MonthlyLimitExceedException.class
                 , () -> paymentService.processPayment(paymentId));
 
-        verify(memberRepository, times(1)).findWithPessimisticLockById(memberId);
+        verify(memberRepository, never()).findWithPessimisticLockById(any());
         verify(tradeRepository, never()).save(any());
     }
 
+    @Test
+    @DisplayName("결제 요청 - 성공 (어제/지난달 누적 금액은 0 으로 보고, 오늘 기간으로 새로 누적)")
+    void 결제요청_성공_지난기간누적금액() {
+
+        // given
+        Long memberId = 1L;
+
+        Member member = Member.builder()
+                .name("승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
+                .build();
+
+        LocalDate today = LocalDate.now(clock);
+        ReflectionTestUtils.setField(member, "id", memberId);
+        ReflectionTestUtils.setField(member, "dailyAccumulate", Money.of(8_000L));
+        ReflectionTestUtils.setField(member, "dailyPeriod", today.minusDays(1));
+        ReflectionTestUtils.setField(member, "monthlyAccumulate", Money.of(28_000L));
+        ReflectionTestUtils.setField(member, "monthlyPeriod", Member.monthlyPeriodOf(today.minusMonths(1)));
+
+        Long paymentId = 1L;
+
+        Trade payment = Trade.builder()
+                .memberId(memberId)
+                .paymentAmount(Money.of(5_000L))
+                .paybackAmount(Money.of(1_000L))
+                .build();
+
+        ReflectionTestUtils.setField(payment, "id", paymentId);
+
+        when(tradeRepository.findWithMemberAndPessimisticLockById(paymentId))
+                .thenReturn(Optional.of(new TradeWithMember(payment, member)));
+
+        // when
+        paymentService.processPayment(paymentId);
+
+        // then
+        assertEquals(0, member.getDailyAccumulate(today).compareTo(Money.of(5_000L)));
+        assertEquals(0, member.getMonthlyAccumulate(today).compareTo(Money.of(5_000L)));
+        assertEquals(today, member.getDailyPeriod());
+        assertEquals(Member.monthlyPeriodOf(today), member.getMonthlyPeriod());
+    }
+
     @Test
     @DisplayName("결제 요청 - 실패 (잔액 부족)")
     void 결제요청_실패_잔액부족() {
@@ -188,36 +255,33 @@ class PaymentServiceTest {
 
         Member member = Member.builder()
                 .name("승조")
-                .balance(BigDecimal.valueOf(1_000L))
-                .balanceLimit(BigDecimal.valueOf(50_000L))
-                .onceLimit(BigDecimal.valueOf(5_000L))
-                .dailyLimit(BigDecimal.valueOf(10_000L))
-                .monthlyLimit(BigDecimal.valueOf(30_000L))
+                .balance(Money.of(1_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
                 .build();
 
         ReflectionTestUtils.setField(member, "id", memberId);
 
-        when(memberRepository.findWithPessimisticLockById(memberId))
-                .thenReturn(Optional.of(member));
-
         Long paymentId = 1L;
 
         Trade payment = Trade.builder()
                 .memberId(memberId)
-                .paymentAmount(BigDecimal.valueOf(5_000L))
-                .paybackAmount(BigDecimal.valueOf(1_000L))
+                .paymentAmount(Money.of(5_000L))
+                .paybackAmount(Money.of(1_000L))
                 .build();
 
         ReflectionTestUtils.setField(payment, "id", paymentId);
 
-        when(tradeRepository.findWithPessimisticLockById(paymentId))
-                .thenReturn(Optional.of(payment));
+        when(tradeRepository.findWithMemberAndPessimisticLockById(paymentId))
+                .thenReturn(Optional.of(new TradeWithMember(payment, member)));
 
         // expected
         assertThrows(BalanceLackException.class
                 , () -> paymentService.processPayment(paymentId));
 
-        verify(memberRepository, times(1)).findWithPessimisticLockById(memberId);
+        verify(memberRepository, never()).findWithPessimisticLockById(any());
         verify(tradeRepository, never()).save(any());
     }
 
@@ -230,30 +294,27 @@ class PaymentServiceTest {
 
         Member member = Member.builder()
                 .name("승조")
-                .balance(BigDecimal.valueOf(10_000L))
-                .balanceLimit(BigDecimal.valueOf(50_000L))
-                .onceLimit(BigDecimal.valueOf(5_000L))
-                .dailyLimit(BigDecimal.valueOf(10_000L))
-                .monthlyLimit(BigDecimal.valueOf(30_000L))
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
                 .build();
 
         ReflectionTestUtils.setField(member, "id", memberId);
 
-        when(memberRepository.findWithPessimisticLockById(memberId))
-                .thenReturn(Optional.of(member));
-
         Long paymentId = 1L;
 
         Trade payment = Trade.builder()
                 .memberId(memberId)
-                .paymentAmount(BigDecimal.valueOf(5_000L))
-                .paybackAmount(BigDecimal.valueOf(1_000L))
+                .paymentAmount(Money.of(5_000L))
+                .paybackAmount(Money.of(1_000L))
                 .build();
 
         ReflectionTestUtils.setField(payment, "id", paymentId);
 
-        when(tradeRepository.findWithPessimisticLockById(paymentId))
-                .thenReturn(Optional.of(payment));
+        when(tradeRepository.findWithMemberAndPessimisticLockById(paymentId))
+                .thenReturn(Optional.of(new TradeWithMember(payment, member)));
 
         // when
         paymentService.processPayment(paymentId);
@@ -261,8 +322,123 @@ class PaymentServiceTest {
         // then
         assertEquals(1L, paymentId);
 
+        verify(memberRepository, never()).findWithPessimisticLockById(any());
+        verify(tradeRepository, times(1)).findWithMemberAndPessimisticLockById(paymentId);
+        verify(eventPublisher, times(1)).publishEvent(new TradeChangedEvent(paymentId, memberId));
+    }
+
+    @Test
+    @DisplayName("결제 요청 (Atomic) - 성공 (락 없이 거래 상태 전이 후 단일 UPDATE 로 처리)")
+    void 결제요청_Atomic_성공() {
+
+        // given
+        Long memberId = 1L;
+        Long paymentId = 1L;
+
+        Trade payment = Trade.builder()
+                .memberId(memberId)
+                .paymentAmount(Money.of(5_000L))
+                .paybackAmount(Money.of(1_000L))
+                .build();
+
+        ReflectionTestUtils.setField(payment, "id", paymentId);
+
+        when(tradeRepository.findById(paymentId))
+                .thenReturn(Optional.of(payment));
+
+        when(memberRepository.payIfAllowed(eq(memberId), eq(Money.of(5_000L)), any(), any()))
+                .thenReturn(1);
+
+        // when
+        paymentService.processPaymentAtomically(paymentId);
+
+        // then
+        verify(tradeStateMachine, times(1)).completePayment(eq(paymentId), any());
+        verify(tradeRepository, never()).findWithPessimisticLockById(any());
+        verify(memberRepository, times(1)).payIfAllowed(eq(memberId), eq(Money.of(5_000L)), any(), any());
+        verify(memberRepository, never()).findWithPessimisticLockById(any());
+    }
+
+    @Test
+    @DisplayName("결제 요청 (Atomic) - 성공 (UTC 23:30 결제는 업무 시간대(KST) 다음 날의 한도로 처리)")
+    void 결제요청_Atomic_성공_KST기간() {
+
+        // given
+        ReflectionTestUtils.setField(paymentService, "clock",
+                Clock.fixed(Instant.parse("2026-10-16T23:30:00Z"), ClockConfig.ZONE));
+
+        Long memberId = 1L;
+        Long paymentId = 1L;
+
+        Trade payment = Trade.builder()
+                .memberId(memberId)
+                .paymentAmount(Money.of(5_000L))
+                .paybackAmount(Money.of(1_000L))
+                .build();
+
+        ReflectionTestUtils.setField(payment, "id", paymentId);
+
+        when(tradeRepository.findById(paymentId))
+                .thenReturn(Optional.of(payment));
+
+        when(memberRepository.payIfAllowed(eq(memberId), eq(Money.of(5_000L)), any(), any()))
+                .thenReturn(1);
+
+        // when
+        paymentService.processPaymentAtomically(paymentId);
+
+        // then
+        LocalDate today = LocalDate.of(2026, 10, 17);
+        verify(memberRepository, times(1))
+                .payIfAllowed(memberId, Money.of(5_000L), today, Member.monthlyPeriodOf(today));
+        verify(tradeStateMachine, times(1))
+                .completePayment(paymentId, LocalDateTime.of(2026, 10, 17, 8, 30));
+    }
+
+    @Test
+    @DisplayName("결제 요청 (Atomic) - 실패 (갱신된 행이 없으면 회원 정보를 조회하여 원인에 맞는 예외 발생)")
+    void 결제요청_Atomic_실패_1일한도초과() {
+
+        // given
+        Long memberId = 1L;
+
+        Member member = Member.builder()
+                .name("승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
+                .build();
+
+        ReflectionTestUtils.setField(member, "id", memberId);
+        ReflectionTestUtils.setField(member, "dailyAccumulate", Money.of(8_000L));
+        ReflectionTestUtils.setField(member, "dailyPeriod", LocalDate.now(clock));
+
+        Long paymentId = 1L;
+
+        Trade payment = Trade.builder()
+                .memberId(memberId)
+                .paymentAmount(Money.of(5_000L))
+                .paybackAmount(Money.of(1_000L))
+                .build();
+
+        ReflectionTestUtils.setField(payment, "id", paymentId);
+
+        when(tradeRepository.findById(paymentId))
+                .thenReturn(Optional.of(payment));
+
+        when(memberRepository.payIfAllowed(eq(memberId), eq(Money.of(5_000L)), any(), any()))
+                .thenReturn(0);
+
+        when(memberRepository.findWithPessimisticLockById(memberId))
+                .thenReturn(Optional.of(member));
+
+        // expected
+        assertThrows(DailyLimitExceedException.class,
+                () -> paymentService.processPaymentAtomically(paymentId));
+
         verify(memberRepository, times(1)).findWithPessimisticLockById(memberId);
-        verify(tradeRepository, times(1)).findWithPessimisticLockById(paymentId);
     }
 
     @Test
@@ -272,14 +448,14 @@ class PaymentServiceTest {
         // given
         Long notExistsPaymentId = 1L;
 
-        when(tradeRepository.findWithPessimisticLockById(notExistsPaymentId))
+        when(tradeRepository.findWithMemberAndPessimisticLockById(notExistsPaymentId))
                 .thenReturn(Optional.empty());
 
         // expected
         assertThrows(TradeNotFoundException.class,
                 () -> paymentService.cancelPayment(notExistsPaymentId));
 
-        verify(tradeRepository, times(1)).findWithPessimisticLockById(notExistsPaymentId);
+        verify(tradeRepository, times(1)).findWithMemberAndPessimisticLockById(notExistsPaymentId);
     }
 
     @Test
@@ -291,11 +467,11 @@ class PaymentServiceTest {
 
         Member member = Member.builder()
                 .name("승조")
-                .balance(BigDecimal.valueOf(10_000L))
-                .balanceLimit(BigDecimal.valueOf(50_000L))
-                .onceLimit(BigDecimal.valueOf(5_000L))
-                .dailyLimit(BigDecimal.valueOf(10_000L))
-                .monthlyLimit(BigDecimal.valueOf(30_000L))
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
                 .build();
 
         ReflectionTestUtils.setField(member, "id", memberId);
@@ -304,24 +480,21 @@ class PaymentServiceTest {
 
         Trade payment = Trade.builder()
                 .memberId(memberId)
-                .paymentAmount(BigDecimal.valueOf(5_000L))
-                .paybackAmount(BigDecimal.valueOf(1_000L))
+                .paymentAmount(Money.of(5_000L))
+                .paybackAmount(Money.of(1_000L))
                 .build();
 
         ReflectionTestUtils.setField(payment, "id", paymentId);
         ReflectionTestUtils.setField(payment, "paymentStatus", PaymentStatus.WAIT);
 
-        when(memberRepository.findWithPessimisticLockById(memberId))
-                .thenReturn(Optional.of(member));
-
-        when(tradeRepository.findWithPessimisticLockById(paymentId))
-                .thenReturn(Optional.of(payment));
+        when(tradeRepository.findWithMemberAndPessimisticLockById(paymentId))
+                .thenReturn(Optional.of(new TradeWithMember(payment, member)));
 
         // expected
         assertThrows(PaymentNotCompleteException.class,
                 () -> paymentService.cancelPayment(paymentId));
 
-        verify(tradeRepository, times(1)).findWithPessimisticLockById(paymentId);
+        verify(tradeRepository, times(1)).findWithMemberAndPessimisticLockById(paymentId);
     }
 
     @Test
@@ -333,11 +506,11 @@ class PaymentServiceTest {
 
         Member member = Member.builder()
                 .name("승조")
-                .balance(BigDecimal.valueOf(10_000L))
-                .balanceLimit(BigDecimal.valueOf(50_000L))
-                .onceLimit(BigDecimal.valueOf(5_000L))
-                .dailyLimit(BigDecimal.valueOf(10_000L))
-                .monthlyLimit(BigDecimal.valueOf(30_000L))
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
                 .build();
 
         ReflectionTestUtils.setField(member, "id", memberId);
@@ -346,8 +519,8 @@ class PaymentServiceTest {
 
         Trade payment = Trade.builder()
                 .memberId(memberId)
-                .paymentAmount(BigDecimal.valueOf(5_000L))
-                .paybackAmount(BigDecimal.valueOf(1_000L))
+                .paymentAmount(Money.of(5_000L))
+                .paybackAmount(Money.of(1_000L))
                 .build();
 
         ReflectionTestUtils.setField(payment, "id", paymentId);
@@ -357,18 +530,15 @@ class PaymentServiceTest {
         ReflectionTestUtils.setField(payment, "paybackApprovedAt", LocalDateTime.of(2024, 8, 12, 0, 5, 0));
 
 
-        when(memberRepository.findWithPessimisticLockById(memberId))
-                .thenReturn(Optional.of(member));
-
-        when(tradeRepository.findWithPessimisticLockById(paymentId))
-                .thenReturn(Optional.of(payment));
+        when(tradeRepository.findWithMemberAndPessimisticLockById(paymentId))
+                .thenReturn(Optional.of(new TradeWithMember(payment, member)));
 
         // when
         paymentService.cancelPayment(paymentId);
 
         // then
-        verify(memberRepository, times(1)).findWithPessimisticLockById(memberId);
-        verify(tradeRepository, times(1)).findWithPessimisticLockById(paymentId);
+        verify(memberRepository, never()).findWithPessimisticLockById(any());
+        verify(tradeRepository, times(1)).findWithMemberAndPessimisticLockById(paymentId);
         verify(paybackService, times(1)).cancelPayback(any());
     }
 
@@ -381,11 +551,11 @@ class PaymentServiceTest {
 
         Member member = Member.builder()
                 .name("승조")
-                .balance(BigDecimal.valueOf(10_000L))
-                .balanceLimit(BigDecimal.valueOf(50_000L))
-                .onceLimit(BigDecimal.valueOf(5_000L))
-                .dailyLimit(BigDecimal.valueOf(10_000L))
-                .monthlyLimit(BigDecimal.valueOf(30_000L))
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
                 .build();
 
         ReflectionTestUtils.setField(member, "id", memberId);
@@ -394,8 +564,8 @@ class PaymentServiceTest {
 
         Trade payment = Trade.builder()
                 .memberId(memberId)
-                .paymentAmount(BigDecimal.valueOf(5_000L))
-                .paybackAmount(BigDecimal.valueOf(1_000L))
+                .paymentAmount(Money.of(5_000L))
+                .paybackAmount(Money.of(1_000L))
                 .build();
 
         ReflectionTestUtils.setField(payment, "id", paymentId);
@@ -404,18 +574,191 @@ class PaymentServiceTest {
         ReflectionTestUtils.setField(payment, "paybackStatus", PaybackStatus.WAIT);
 
 
+        when(tradeRepository.findWithMemberAndPessimisticLockById(paymentId))
+                .thenReturn(Optional.of(new TradeWithMember(payment, member)));
+
+        // when
+        paymentService.cancelPayment(paymentId);
+
+        // then
+        verify(memberRepository, never()).findWithPessimisticLockById(any());
+        verify(tradeRepository, times(1)).findWithMemberAndPessimisticLockById(paymentId);
+        verify(paybackService, never()).cancelPayback(any());
+    }
+
+    @Test
+    @DisplayName("결제 일괄 처리 - 같은 회원의 거래는 회원을 한 번만 잠그고, 요청 순서대로 한도를 검증한다.")
+    void 결제일괄처리_회원별_순차검증() {
+
+        // given
+        Long memberId = 1L;
+
+        Member member = Member.builder()
+                .name("승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
+                .build();
+
+        ReflectionTestUtils.setField(member, "id", memberId);
+
+        List<Trade> trades = new ArrayList<>();
+        for (long tradeId = 1L; tradeId <= 3L; tradeId++) {
+            Trade trade = Trade.builder()
+                    .memberId(memberId)
+                    .paymentAmount(Money.of(5_000L))
+                    .paybackAmount(Money.of(1_000L))
+                    .build();
+            ReflectionTestUtils.setField(trade, "id", tradeId);
+            trades.add(trade);
+        }
+
+        when(tradeRepository.findAllWithPessimisticLockByIdIn(any()))
+                .thenReturn(trades);
+
+        when(memberRepository.findAllWithPessimisticLockByIdIn(List.of(memberId)))
+                .thenReturn(List.of(member));
+
+        // when (5,000원씩 3건 결제 시 3번째 거래는 1일 한도 초과, 존재하지 않는 거래 포함)
+        List<PaymentBatchResponse.Result> results = paymentService.processPayments(List.of(1L, 2L, 3L, 4L));
+
+        // then
+        assertEquals(HttpStatus.OK, results.get(0).getStatus());
+        assertEquals(HttpStatus.OK, results.get(1).getStatus());
+        assertEquals(HttpStatus.BAD_REQUEST, results.get(2).getStatus());
+        assertEquals(new DailyLimitExceedException().getMessage(), results.get(2).getMessage());
+        assertEquals(HttpStatus.NOT_FOUND, results.get(3).getStatus());
+
+        assertEquals(0, member.getBalance().compareTo(Money.ZERO));
+        assertEquals(PaymentStatus.DONE, trades.get(1).getPaymentStatus());
+        assertEquals(PaymentStatus.WAIT, trades.get(2).getPaymentStatus());
+
+        verify(memberRepository, times(1)).findAllWithPessimisticLockByIdIn(any());
+        verify(memberRepository, never()).findWithPessimisticLockById(any());
+    }
+
+    @Test
+    @DisplayName("결제 일괄 처리 - 같은 거래 ID가 중복되면 두 번째 요청은 이미 완료된 결제로 실패한다.")
+    void 결제일괄처리_중복거래() {
+
+        // given
+        Long memberId = 1L;
+
+        Member member = Member.builder()
+                .name("승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
+                .build();
+
+        ReflectionTestUtils.setField(member, "id", memberId);
+
+        Trade trade = Trade.builder()
+                .memberId(memberId)
+                .paymentAmount(Money.of(1_000L))
+                .paybackAmount(Money.of(100L))
+                .build();
+        ReflectionTestUtils.setField(trade, "id", 1L);
+
+        when(tradeRepository.findAllWithPessimisticLockByIdIn(any()))
+                .thenReturn(List.of(trade));
+
+        when(memberRepository.findAllWithPessimisticLockByIdIn(List.of(memberId)))
+                .thenReturn(List.of(member));
+
+        // when
+        List<PaymentBatchResponse.Result> results = paymentService.processPayments(List.of(1L, 1L));
+
+        // then
+        assertEquals(HttpStatus.OK, results.get(0).getStatus());
+        assertEquals(new PaymentAlreadyDoneException().getMessage(), results.get(1).getMessage());
+        assertEquals(0, member.getBalance().compareTo(Money.of(9_000L)));
+    }
+
+    @Test
+    @DisplayName("거래 생성 및 결제 - 회원을 한 번만 잠그고, 결제와 페이백이 완료된 거래를 저장한다.")
+    void 거래생성및결제_성공() {
+
+        // given
+        Long memberId = 1L;
+
+        Member member = Member.builder()
+                .name("승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
+                .build();
+
+        ReflectionTestUtils.setField(member, "id", memberId);
+
+        TradePaymentRequest request = new TradePaymentRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(5_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(1_000L));
+        ReflectionTestUtils.setField(request, "payback", true);
+
         when(memberRepository.findWithPessimisticLockById(memberId))
                 .thenReturn(Optional.of(member));
 
-        when(tradeRepository.findWithPessimisticLockById(paymentId))
-                .thenReturn(Optional.of(payment));
+        when(tradeRepository.save(any(Trade.class)))
+                .thenAnswer(invocation -> {
+                    Trade trade = invocation.getArgument(0);
+                    ReflectionTestUtils.setField(trade, "id", 1L);
+                    return trade;
+                });
 
         // when
-        paymentService.cancelPayment(paymentId);
+        Long tradeId = paymentService.requestTradeAndPay(memberId, request);
 
         // then
+        ArgumentCaptor<Trade> captor = ArgumentCaptor.forClass(Trade.class);
+        verify(tradeRepository, times(1)).save(captor.capture());
+
+        Trade saved = captor.getValue();
+        assertEquals(1L, tradeId);
+        assertEquals(PaymentStatus.DONE, saved.getPaymentStatus());
+        assertEquals(PaybackStatus.DONE, saved.getPaybackStatus());
+        assertEquals(0, member.getBalance().compareTo(Money.of(6_000L)));
+
         verify(memberRepository, times(1)).findWithPessimisticLockById(memberId);
-        verify(tradeRepository, times(1)).findWithPessimisticLockById(paymentId);
-        verify(paybackService, never()).cancelPayback(any());
+        verify(memberRepository, never()).existsById(any());
+        verify(eventPublisher, times(1)).publishEvent(new TradeChangedEvent(tradeId, memberId));
+    }
+
+    @Test
+    @DisplayName("거래 생성 및 결제 - 한도를 초과하면 거래를 생성하지 않는다.")
+    void 거래생성및결제_실패_1회한도초과() {
+
+        // given
+        Long memberId = 1L;
+
+        Member member = Member.builder()
+                .name("승조")
+                .balance(Money.of(10_000L))
+                .balanceLimit(Money.of(50_000L))
+                .onceLimit(Money.of(5_000L))
+                .dailyLimit(Money.of(10_000L))
+                .monthlyLimit(Money.of(30_000L))
+                .build();
+
+        ReflectionTestUtils.setField(member, "id", memberId);
+
+        TradePaymentRequest request = new TradePaymentRequest();
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(5_001L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(1_000L));
+
+        when(memberRepository.findWithPessimisticLockById(memberId))
+                .thenReturn(Optional.of(member));
+
+        // expected
+        assertThrows(OnceLimitExceedException.class, () -> paymentService.requestTradeAndPay(memberId, request));
+
+        verify(tradeRepository, never()).save(any());
+        verify(eventPublisher, never()).publishEvent(any());
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,13 @@
 package com.lemontree.interview.service;
 
+import com.lemontree.interview.cache.LookupCache;
+import com.lemontree.interview.config.BulkheadProperties;
+import com.lemontree.interview.config.LookupCacheProperties;
+import com.lemontree.interview.config.ReadReplicaProperties;
+import com.lemontree.interview.datasource.ConnectionBulkhead;
+import com.lemontree.interview.datasource.ReadReplicaRouter;
 import com.lemontree.interview.entity.Trade;
+import com.lemontree.interview.event.TradesCreatedEvent;
 import com.lemontree.interview.enums.PaybackStatus;
 import com.lemontree.interview.enums.PaymentStatus;
 import com.lemontree.interview.exception.member.MemberNotFoundException;
@@ -8,16 +15,20 @@ import com.lemontree.interview.exception.trade.TradeNotFoundException;
 import com.lemontree.interview.repository.MemberRepository;
 import com.lemontree.interview.repository.TradeRepository;
 import com.lemontree.interview.request.TradeRequest;
+import com.lemontree.interview.response.TradeListResponse;
 import com.lemontree.interview.response.TradeResponse;
+import com.lemontree.interview.vo.Money;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -41,19 +52,31 @@ class TradeServiceTest {
     @Mock
     MemberRepository memberRepository;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Spy
+    LookupCache lookupCache = new LookupCache(new LookupCacheProperties());
+
+    @Spy
+    ReadReplicaRouter readReplicaRouter = new ReadReplicaRouter(new ReadReplicaProperties());
+
+    @Spy
+    ConnectionBulkhead connectionBulkhead = new ConnectionBulkhead(new BulkheadProperties());
+
     @Test
     @DisplayName("거래 정보 조회 - 실패 (정보가 없는 경우)")
     void 거래정보조회_실패() {
 
         // given
         Long notExistTradeId = 1L;
-        when(tradeRepository.findById(notExistTradeId)).thenReturn(Optional.empty());
+        when(tradeRepository.findResponseById(notExistTradeId)).thenReturn(Optional.empty());
 
         // expected
         assertThrows(TradeNotFoundException.class,
                 () -> tradeService.getTrade((notExistTradeId)));
 
-        verify(tradeRepository, times(1)).findById(notExistTradeId);
+        verify(tradeRepository, times(1)).findResponseById(notExistTradeId);
     }
 
     @Test
@@ -66,13 +89,13 @@ class TradeServiceTest {
 
         Trade trade = Trade.builder()
                 .memberId(1L)
-                .paymentAmount(BigDecimal.valueOf(10_000L))
-                .paybackAmount(BigDecimal.valueOf(1_000L))
+                .paymentAmount(Money.of(10_000L))
+                .paybackAmount(Money.of(1_000L))
                 .build();
         ReflectionTestUtils.setField(trade, "id", tradeId);
 
-        when(tradeRepository.findById(tradeId))
-                .thenReturn(Optional.of(trade));
+        when(tradeRepository.findResponseById(tradeId))
+                .thenReturn(Optional.of(new TradeResponse(trade)));
 
         // when
         TradeResponse actual = tradeService.getTrade(tradeId);
@@ -81,13 +104,13 @@ class TradeServiceTest {
         assertAll(
                 () -> assertEquals(tradeId, actual.getTradeId()),
                 () -> assertEquals(1L, actual.getMemberId()),
-                () -> assertEquals(BigDecimal.valueOf(10_000L), actual.getPaymentAmount()),
-                () -> assertEquals(BigDecimal.valueOf(1_000L), actual.getPaybackAmount()),
+                () -> assertEquals(Money.of(10_000L), actual.getPaymentAmount()),
+                () -> assertEquals(Money.of(1_000L), actual.getPaybackAmount()),
                 () -> assertEquals(PaymentStatus.WAIT, actual.getPaymentStatus()),
                 () -> assertEquals(PaybackStatus.WAIT, actual.getPaybackStatus())
         );
 
-        verify(tradeRepository, times(1)).findById(tradeId);
+        verify(tradeRepository, times(1)).findResponseById(tradeId);
     }
 
     @Test
@@ -116,13 +139,13 @@ class TradeServiceTest {
         when(memberRepository.existsById(memberId)).thenReturn(true);
 
         TradeRequest request = new TradeRequest();
-        ReflectionTestUtils.setField(request, "paymentAmount", BigDecimal.valueOf(5_000L));
-        ReflectionTestUtils.setField(request, "paybackAmount", BigDecimal.valueOf(1_000L));
+        ReflectionTestUtils.setField(request, "paymentAmount", Money.of(5_000L));
+        ReflectionTestUtils.setField(request, "paybackAmount", Money.of(1_000L));
 
         Trade payment = Trade.builder()
                 .memberId(memberId)
-                .paymentAmount(BigDecimal.valueOf(5_000L))
-                .paybackAmount(BigDecimal.valueOf(1_000L))
+                .paymentAmount(Money.of(5_000L))
+                .paybackAmount(Money.of(1_000L))
                 .build();
 
         ReflectionTestUtils.setField(payment, "id", 1L);
@@ -137,5 +160,37 @@ class TradeServiceTest {
 
         verify(memberRepository, times(1)).existsById(memberId);
         verify(tradeRepository, times(1)).save(any());
+        verify(eventPublisher, times(1)).publishEvent(TradesCreatedEvent.of(1L, memberId));
+    }
+
+    @Test
+    @DisplayName("거래 일괄 조회 - 요청한 ID 순서로 반환하고, 존재하지 않는 ID는 따로 반환한다. (IN 조회 1회)")
+    void 거래일괄조회() {
+
+        // given
+        List<Long> tradeIds = List.of(30L, 10L, 99L, 20L, 10L);
+        when(tradeRepository.findResponsesByIdIn(any()))
+                .thenReturn(List.of(tradeResponse(10L), tradeResponse(20L), tradeResponse(30L)));
+
+        // when
+        TradeListResponse actual = tradeService.getTrades(tradeIds);
+        TradeListResponse cached = tradeService.getTrades(List.of(20L, 10L));
+
+        // then
+        assertEquals(List.of(30L, 10L, 20L), actual.getTrades().stream().map(TradeResponse::getTradeId).toList());
+        assertEquals(List.of(99L), actual.getMissingIds());
+        assertEquals(List.of(20L, 10L), cached.getTrades().stream().map(TradeResponse::getTradeId).toList());
+        assertTrue(cached.getMissingIds().isEmpty());
+        verify(tradeRepository, times(1)).findResponsesByIdIn(any());
+    }
+
+    private TradeResponse tradeResponse(Long tradeId) {
+        Trade trade = Trade.builder()
+                .memberId(1L)
+                .paymentAmount(Money.of(10_000L))
+                .paybackAmount(Money.of(1_000L))
+                .build();
+        ReflectionTestUtils.setField(trade, "id", tradeId);
+        return new TradeResponse(trade);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,227 @@
+package com.lemontree.interview.sse;
+
+import com.lemontree.interview.config.ReadReplicaProperties;
+import com.lemontree.interview.config.TradeEventProperties;
+import com.lemontree.interview.datasource.ReadReplicaRouter;
+import com.lemontree.interview.enums.PaybackStatus;
+import com.lemontree.interview.enums.PaymentStatus;
+import com.lemontree.interview.event.TradeChangedEvent;
+import com.lemontree.interview.exception.trade.TradeEventSubscriberLimitException;
+import com.lemontree.interview.exception.trade.TradeNotFoundException;
+import com.lemontree.interview.repository.MemberRepository;
+import com.lemontree.interview.repository.TradeRepository;
+import com.lemontree.interview.response.TradeStatusResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayDeque;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+/**
+ * 거래 상태 변경 스트림 테스트입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+@ExtendWith(MockitoExtension.class)
+class TradeEventBrokerTest {
+
+    @Mock
+    TradeRepository tradeRepository;
+
+    @Mock
+    MemberRepository memberRepository;
+
+    TradeEventProperties properties;
+
+    /**
+     * 작업을 바로 실행하지 않고 모아두는 Executor (전송 스레드가 밀린 상황을 재현합니다.)
+     */
+    Queue<Runnable> pendingTasks;
+
+    TradeEventBroker broker;
+
+    @BeforeEach
+    void setUp() {
+        properties = new TradeEventProperties();
+        pendingTasks = new ArrayDeque<>();
+        broker = new TradeEventBroker(properties, tradeRepository, memberRepository,
+                new ReadReplicaRouter(new ReadReplicaProperties()), pendingTasks::add);
+    }
+
+    @Test
+    @DisplayName("버퍼가 가득 찰 만큼 수신이 느린 구독자는 구독이 종료된다.")
+    void evict_slow_consumer() {
+
+        // given
+        properties.setBufferSize(2);
+        when(tradeRepository.existsById(1L)).thenReturn(true);
+        when(tradeRepository.findStatusResponseById(1L))
+                .thenReturn(Optional.of(status(0L)))
+                .thenReturn(Optional.of(status(1L)))
+                .thenReturn(Optional.of(status(2L)));
+
+        broker.subscribeTrade(1L);
+        assertEquals(1, broker.getSubscriberCount());
+
+        // when (구독 직후 상태 + 변경 2건을 조회하지만, 전송은 진행되지 않음)
+        broker.onTradeChanged(new TradeChangedEvent(1L, 10L));
+        broker.onTradeChanged(new TradeChangedEvent(1L, 10L));
+        runQueryTasks(3);
+
+        // then
+        assertEquals(0, broker.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("구독자가 없으면 거래 상태를 조회하지 않는다.")
+    void skip_without_subscribers() {
+
+        // when
+        broker.onTradeChanged(new TradeChangedEvent(1L, 10L));
+
+        // then
+        assertEquals(0, pendingTasks.size());
+        verify(tradeRepository, never()).findStatusResponseById(anyLong());
+    }
+
+    @Test
+    @DisplayName("회원 구독자는 회원의 거래 상태 변경을 전달받는다.")
+    void deliver_to_member_subscriber() {
+
+        // given
+        when(memberRepository.existsById(10L)).thenReturn(true);
+        when(tradeRepository.findStatusResponseById(1L)).thenReturn(Optional.of(status(1L)));
+        broker.subscribeMember(10L);
+
+        // when
+        broker.onTradeChanged(new TradeChangedEvent(1L, 10L));
+        broker.onTradeChanged(new TradeChangedEvent(2L, 20L));
+
+        // then
+        assertEquals(1, pendingTasks.size());
+        runQueryTasks(1);
+        verify(tradeRepository, times(1)).findStatusResponseById(1L);
+        verify(tradeRepository, never()).findStatusResponseById(2L);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 거래는 구독할 수 없다.")
+    void subscribe_not_found() {
+
+        // given
+        when(tradeRepository.existsById(1L)).thenReturn(false);
+
+        // expected
+        assertThrows(TradeNotFoundException.class, () -> broker.subscribeTrade(1L));
+        assertEquals(0, broker.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("최대 구독 수를 넘으면 구독할 수 없다.")
+    void subscriber_limit() {
+
+        // given
+        properties.setMaxSubscribers(1);
+        when(memberRepository.existsById(10L)).thenReturn(true);
+        broker.subscribeMember(10L);
+
+        // expected
+        assertThrows(TradeEventSubscriberLimitException.class, () -> broker.subscribeMember(10L));
+        assertEquals(1, broker.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("전송 스레드 풀의 대기열이 가득 차면 새 작업을 거부한다.")
+    void sender_executor_bounded() throws Exception {
+
+        // given
+        properties.setSenderThreads(1);
+        properties.setSenderQueueSize(1);
+        ThreadPoolExecutor executor = TradeEventBroker.newSenderExecutor(properties);
+        CountDownLatch release = new CountDownLatch(1);
+
+        try {
+            // when (스레드 1개가 작업 중이고, 대기열 1칸이 찬 상태)
+            executor.execute(() -> await(release));
+            executor.execute(() -> {
+            });
+
+            // then
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> {
+            }));
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("전송 작업이 거부되어도 구독 및 결제 커밋 후 이벤트 처리는 실패하지 않는다.")
+    void sender_rejected() {
+
+        // given
+        properties.setSenderThreads(1);
+        properties.setSenderQueueSize(1);
+        ThreadPoolExecutor executor = TradeEventBroker.newSenderExecutor(properties);
+        CountDownLatch release = new CountDownLatch(1);
+        TradeEventBroker rejectingBroker = new TradeEventBroker(properties, tradeRepository, memberRepository,
+                new ReadReplicaRouter(new ReadReplicaProperties()), executor);
+
+        when(tradeRepository.existsById(1L)).thenReturn(true);
+        when(memberRepository.existsById(10L)).thenReturn(true);
+
+        try {
+            executor.execute(() -> await(release));
+            executor.execute(() -> {
+            });
+
+            // expected
+            assertDoesNotThrow(() -> rejectingBroker.subscribeTrade(1L));
+            assertDoesNotThrow(() -> rejectingBroker.subscribeMember(10L));
+            assertDoesNotThrow(() -> rejectingBroker.onTradeChanged(new TradeChangedEvent(1L, 10L)));
+            assertEquals(2, rejectingBroker.getSubscriberCount());
+            verify(tradeRepository, never()).findStatusResponseById(anyLong());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * 모아둔 작업 중 앞에서부터 상태 조회 작업만 실행합니다. (그 사이 예약된 전송 작업은 실행하지 않습니다.)
+     */
+    private void runQueryTasks(int count) {
+        Queue<Runnable> queryTasks = new ArrayDeque<>(pendingTasks);
+        pendingTasks.clear();
+        for (int i = 0; i < count; i++) {
+            queryTasks.poll().run();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private TradeStatusResponse status(Long version) {
+        return new TradeStatusResponse(1L, 10L, PaymentStatus.DONE, PaybackStatus.WAIT, version);
+    }
+}
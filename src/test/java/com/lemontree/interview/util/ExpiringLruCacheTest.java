@@ -0,0 +1,81 @@
+package com.lemontree.interview.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+/**
+ * LRU/TTL 캐시 테스트입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+class ExpiringLruCacheTest {
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 가장 오래 사용되지 않은 항목이 제거된다.")
+    void evict_least_recently_used() {
+
+        // given
+        ExpiringLruCache<String, Integer> cache = new ExpiringLruCache<>(2, Duration.ofMinutes(1));
+        cache.put("a", 1);
+        cache.put("b", 2);
+
+        // when
+        cache.get("a");
+        cache.put("c", 3);
+
+        // then
+        assertEquals(1, cache.get("a"));
+        assertNull(cache.get("b"));
+        assertEquals(3, cache.get("c"));
+        assertEquals(2, cache.size());
+        assertEquals(1, cache.evictionCount());
+        assertEquals(3, cache.hitCount());
+        assertEquals(1, cache.missCount());
+    }
+
+    @Test
+    @DisplayName("만료 시간이 지난 항목은 조회되지 않는다.")
+    void expire_after_ttl() {
+
+        // given
+        AtomicLong now = new AtomicLong(0L);
+        Clock clock = new Clock() {
+            @Override
+            public ZoneId getZone() {
+                return ZoneId.of("UTC");
+            }
+
+            @Override
+            public Clock withZone(ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return Instant.ofEpochMilli(now.get());
+            }
+        };
+
+        ExpiringLruCache<String, Integer> cache = new ExpiringLruCache<>(10, Duration.ofSeconds(1), clock);
+        cache.put("a", 1);
+
+        // when & then
+        now.set(999L);
+        assertEquals(1, cache.get("a"));
+
+        now.set(1_000L);
+        assertNull(cache.get("a"));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.evictionCount());
+    }
+}
@@ -0,0 +1,67 @@
+package com.lemontree.interview.vo;
+
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 금액 값 타입 테스트입니다.
+ *
+ * @author 정승조
+ * @version 2026. 10. 17.
+ */
+class MoneyTest {
+
+    final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    @DisplayName("더하기/빼기 결과가 long 범위를 넘으면 예외가 발생한다.")
+    void overflow() {
+
+        // given
+        Money max = Money.of(Long.MAX_VALUE);
+        Money min = Money.of(Long.MIN_VALUE);
+
+        // expected
+        assertEquals(Money.of(1_500L), Money.of(1_000L).plus(Money.of(500L)));
+        assertSame(Money.ZERO, Money.of(1_000L).minus(Money.of(1_000L)));
+        assertThrows(ArithmeticException.class, () -> max.plus(Money.of(1L)));
+        assertThrows(ArithmeticException.class, () -> min.minus(Money.of(1L)));
+        assertThrows(ArithmeticException.class, min::negate);
+    }
+
+    @Test
+    @DisplayName("BigDecimal 금액은 소수점 이하가 없는 경우에만 변환한다.")
+    void of_big_decimal() {
+
+        // expected
+        assertEquals(Money.of(10_000L), Money.of(new BigDecimal("10000")));
+        assertEquals(Money.of(10_000L), Money.of(new BigDecimal("10000.00")));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("100.5")));
+        assertThrows(ArithmeticException.class, () -> Money.of(new BigDecimal("1e19")));
+    }
+
+    @Test
+    @DisplayName("JSON 으로는 BigDecimal 금액과 같은 숫자로 직렬화/역직렬화한다.")
+    void json() throws Exception {
+
+        // given
+        Money amount = Money.of(10_000L);
+
+        // expected
+        assertEquals(objectMapper.writeValueAsString(BigDecimal.valueOf(10_000L)), objectMapper.writeValueAsString(amount));
+        assertEquals(amount, objectMapper.readValue("10000", Money.class));
+        assertTrue(objectMapper.readValue("-1", Money.class).isNegative());
+
+        JsonMappingException e = assertThrows(JsonMappingException.class, () -> objectMapper.readValue("100.5", Money.class));
+        assertTrue(e.getCause() instanceof ArithmeticException);
+    }
+}